@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+
+# Microbenchmarks JMH do hot path (segurança + roteamento de tenant).
+#
+# Uso:
+#   scripts/bench.sh                      # roda tudo
+#   scripts/bench.sh 'Jwt.*'              # filtra benchmarks (regex JMH)
+#   BASELINE=bench-results/<sha>.json scripts/bench.sh
+#
+# Saída (JSON do JMH, um arquivo por commit):
+#   bench-results/<git-sha>[-dirty].json
+# Com BASELINE (requer jq), imprime a variação de score por benchmark.
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+INCLUDES="${1:-.*}"
+OUT_DIR="bench-results"
+SHA="$(git rev-parse --short HEAD 2>/dev/null || echo nogit)"
+if [ -n "$(git status --porcelain --untracked-files=no 2>/dev/null || true)" ]; then
+  SHA="${SHA}-dirty"
+fi
+
+mkdir -p "$OUT_DIR"
+RESULT="$OUT_DIR/$SHA.json"
+
+./mvnw -B -q -Pbench verify -DskipTests \
+  -Djmh.includes="$INCLUDES" \
+  -Djmh.result="$ROOT/$RESULT"
+
+echo "📊 resultado: $RESULT"
+
+if [ -n "${BASELINE:-}" ]; then
+  if ! command -v jq >/dev/null 2>&1; then
+    echo "⚠️ jq não encontrado; comparação ignorada"
+    exit 0
+  fi
+
+  echo "📈 comparação com $BASELINE (score médio; menor é melhor em AverageTime)"
+  jq -r -n --slurpfile base "$BASELINE" --slurpfile cur "$RESULT" '
+    ($base[0] | map({key: (.benchmark + (.params // {} | tostring)), value: .primaryMetric.score}) | from_entries) as $b
+    | $cur[0][]
+    | (.benchmark + (.params // {} | tostring)) as $k
+    | [$k, ($b[$k] // "n/a"), .primaryMetric.score, .primaryMetric.scoreUnit,
+       (if $b[$k] then (((.primaryMetric.score - $b[$k]) / $b[$k] * 100) | floor | tostring) + "%" else "-" end)]
+    | @tsv' | column -t -s $'\t'
+fi
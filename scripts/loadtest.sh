@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+
+# Harness de carga multi-tenant (Postgres embarcado, sem Docker, offline).
+#
+# Uso:
+#   scripts/loadtest.sh                                   # defaults (5 tenants, 50 rps, 60s)
+#   scripts/loadtest.sh tenants=20 rps=300 duration=120 skew=1.0
+#   scripts/loadtest.sh baseUrl=http://localhost:8080    # contra app já rodando
+#
+# Parâmetros: ver LoadTestConfig (src/bench/java/.../bench/load).
+# Saída: target/load-report.json (percentis por endpoint e por tenant).
+# Para comparar releases, copie o relatório: bench-results/load-<git-sha>.json
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+cd "$ROOT"
+
+SHA="$(git rev-parse --short HEAD 2>/dev/null || echo nogit)"
+mkdir -p bench-results
+
+./mvnw -B -q -Pbench test-compile exec:exec@load-test -Dlt.args="$* report=$ROOT/bench-results/load-$SHA.json"
+
+echo "📄 relatório: bench-results/load-$SHA.json"
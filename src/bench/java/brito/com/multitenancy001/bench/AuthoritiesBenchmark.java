@@ -0,0 +1,56 @@
+package brito.com.multitenancy001.bench;
+
+import brito.com.multitenancy001.infrastructure.security.authorities.AuthoritiesFactory;
+import brito.com.multitenancy001.shared.security.PermissionScopeValidator;
+import brito.com.multitenancy001.tenant.security.TenantPermission;
+import brito.com.multitenancy001.tenant.users.domain.TenantUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem de authorities e normalização de permissões (por request/login).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthoritiesBenchmark {
+
+    private TenantUser user;
+    private List<String> rawTenantPermissions;
+
+    @Setup
+    public void setup() {
+        user = BenchFixtures.tenantUser();
+        // como chega de claims/DTOs: códigos com espaços ao redor
+        rawTenantPermissions = Arrays.stream(TenantPermission.values())
+                .map(p -> " " + p.asAuthority() + " ")
+                .toList();
+    }
+
+    @Benchmark
+    public Set<GrantedAuthority> authoritiesForTenant() {
+        return AuthoritiesFactory.forTenant(user);
+    }
+
+    @Benchmark
+    public Set<String> normalizeTenantPermissions() {
+        return PermissionScopeValidator.normalizeTenant(rawTenantPermissions);
+    }
+}
@@ -0,0 +1,60 @@
+package brito.com.multitenancy001.bench;
+
+import brito.com.multitenancy001.infrastructure.security.AuthenticatedUserContext;
+import brito.com.multitenancy001.infrastructure.security.authorities.AuthoritiesFactory;
+import brito.com.multitenancy001.infrastructure.security.jwt.JwtTokenProvider;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.security.TenantPermission;
+import brito.com.multitenancy001.tenant.security.TenantRole;
+import brito.com.multitenancy001.tenant.users.domain.TenantUser;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.util.EnumSet;
+
+/**
+ * Fixtures compartilhadas pelos benchmarks (sem Spring context).
+ */
+final class BenchFixtures {
+
+    static final String TENANT_SCHEMA = "t_bench_0001";
+    static final Long ACCOUNT_ID = 1001L;
+    static final String EMAIL = "owner@bench.local";
+
+    static final AppClock CLOCK = Clock::systemUTC;
+
+    private BenchFixtures() {
+    }
+
+    static TenantUser tenantUser() {
+        return TenantUser.builder()
+                .id(42L)
+                .accountId(ACCOUNT_ID)
+                .name("Bench Owner")
+                .email(EMAIL)
+                .role(TenantRole.TENANT_ADMIN)
+                .password("{noop}bench")
+                .permissions(EnumSet.of(TenantPermission.TEN_USER_READ, TenantPermission.TEN_USER_CREATE))
+                .build();
+    }
+
+    static AuthenticatedUserContext tenantPrincipal(TenantUser user) {
+        return AuthenticatedUserContext.fromTenantUser(
+                user, TENANT_SCHEMA, CLOCK.instant(), AuthoritiesFactory.forTenant(user));
+    }
+
+    static JwtTokenProvider jwtTokenProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider(CLOCK);
+        ReflectionTestUtils.setField(provider, "jwtSecret", "bench-secret-bench-secret-bench-secret-bench-secret-0123456789");
+        ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshExpirationInMs", 86_400_000L);
+        provider.init();
+        return provider;
+    }
+
+    static String tenantToken(JwtTokenProvider provider, AuthenticatedUserContext principal) {
+        var auth = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        return provider.generateTenantToken(auth, ACCOUNT_ID, TENANT_SCHEMA, principal.getUserId());
+    }
+}
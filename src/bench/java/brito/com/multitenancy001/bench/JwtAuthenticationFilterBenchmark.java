@@ -0,0 +1,77 @@
+package brito.com.multitenancy001.bench;
+
+import brito.com.multitenancy001.infrastructure.security.AuthenticatedUserContext;
+import brito.com.multitenancy001.infrastructure.security.config.RestAccessDeniedHandler;
+import brito.com.multitenancy001.infrastructure.security.config.RestAuthenticationEntryPoint;
+import brito.com.multitenancy001.infrastructure.security.filter.JwtAuthenticationFilter;
+import brito.com.multitenancy001.infrastructure.security.jwt.JwtTokenProvider;
+import brito.com.multitenancy001.infrastructure.security.userdetails.MultiContextUserDetailsService;
+import brito.com.multitenancy001.shared.context.TenantContext;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * {@link JwtAuthenticationFilter} ponta a ponta para uma rota tenant, com o loader de
+ * usuário mockado (sem banco): mede parse de claims + montagem do principal + SecurityContext.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String bearer;
+
+    @Setup
+    public void setup() {
+        JwtTokenProvider provider = BenchFixtures.jwtTokenProvider();
+        AuthenticatedUserContext principal = BenchFixtures.tenantPrincipal(BenchFixtures.tenantUser());
+        bearer = "Bearer " + BenchFixtures.tenantToken(provider, principal);
+
+        MultiContextUserDetailsService userDetailsService = Mockito.mock(MultiContextUserDetailsService.class);
+        Mockito.when(userDetailsService.loadTenantAuthenticatedUserByEmail(anyString(), any(), anyString()))
+                .thenReturn(principal);
+
+        filter = new JwtAuthenticationFilter(
+                provider,
+                userDetailsService,
+                Mockito.mock(RestAuthenticationEntryPoint.class),
+                Mockito.mock(RestAccessDeniedHandler.class)
+        );
+    }
+
+    @Benchmark
+    public int tenantRequest() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/tenant/products");
+        req.addHeader("Authorization", bearer);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+
+        try (TenantContext.Scope ignored = TenantContext.scope(BenchFixtures.TENANT_SCHEMA)) {
+            filter.doFilter(req, res, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return res.getStatus();
+    }
+}
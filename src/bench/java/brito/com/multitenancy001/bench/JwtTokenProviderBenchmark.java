@@ -0,0 +1,60 @@
+package brito.com.multitenancy001.bench;
+
+import brito.com.multitenancy001.infrastructure.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse/verify de JWT como feito pelo {@code JwtAuthenticationFilter} a cada request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        provider = BenchFixtures.jwtTokenProvider();
+        token = BenchFixtures.tenantToken(provider, BenchFixtures.tenantPrincipal(BenchFixtures.tenantUser()));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims parseAllClaims() {
+        return provider.getAllClaimsFromToken(token);
+    }
+
+    /**
+     * Sequência de leituras do filtro JWT (cada getter re-parseia o token hoje).
+     */
+    @Benchmark
+    public void filterClaimSequence(Blackhole bh) {
+        bh.consume(provider.validateToken(token));
+        bh.consume(provider.getAuthDomainEnum(token));
+        bh.consume(provider.getEmailFromToken(token));
+        bh.consume(provider.getTenantSchemaFromToken(token));
+        bh.consume(provider.getAccountIdFromToken(token));
+    }
+}
@@ -0,0 +1,53 @@
+package brito.com.multitenancy001.bench;
+
+import brito.com.multitenancy001.infrastructure.security.filter.TenantHeaderTenantContextFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TenantHeaderTenantContextFilter}: validação (regex) do X-Tenant e bind do contexto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantHeaderFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean bearer;
+
+    private TenantHeaderTenantContextFilter filter;
+
+    @Setup
+    public void setup() {
+        filter = new TenantHeaderTenantContextFilter();
+    }
+
+    @Benchmark
+    public int tenantHeaderRequest() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/tenant/products");
+        req.addHeader(TenantHeaderTenantContextFilter.TENANT_HEADER, BenchFixtures.TENANT_SCHEMA);
+        if (bearer) {
+            req.addHeader("Authorization", "Bearer x");
+        }
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(req, res, new MockFilterChain());
+        return res.getStatus();
+    }
+}
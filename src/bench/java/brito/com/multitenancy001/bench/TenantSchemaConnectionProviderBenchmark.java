@@ -0,0 +1,85 @@
+package brito.com.multitenancy001.bench;
+
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TenantMetrics;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionBulkhead;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionBulkheadProperties;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.hibernate.TenantSchemaConnectionProvider;
+import brito.com.multitenancy001.shared.context.TenantContext;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkout + {@code SET search_path} + release no {@link TenantSchemaConnectionProvider}
+ * contra um Postgres embarcado, com Hikari na frente (como em produção).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantSchemaConnectionProviderBenchmark {
+
+    @Param({"tenant", "public"})
+    public String target;
+
+    private EmbeddedPostgres postgres;
+    private HikariDataSource dataSource;
+    private TenantSchemaConnectionProvider provider;
+    private String tenantIdentifier;
+
+    @Setup
+    public void setup() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+
+        HikariConfig config = new HikariConfig();
+        config.setDataSource(postgres.getPostgresDatabase());
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TenantMetrics tenantMetrics = new TenantMetrics(meterRegistry, 20, 1000);
+
+        // bulkhead desligado: mede só checkout + search_path (sem plano/fila)
+        TenantConnectionBulkheadProperties bulkheadProperties = new TenantConnectionBulkheadProperties();
+        bulkheadProperties.setEnabled(false);
+        TenantConnectionBulkhead bulkhead =
+                new TenantConnectionBulkhead(bulkheadProperties, null, tenantMetrics, meterRegistry);
+
+        provider = new TenantSchemaConnectionProvider(dataSource, tenantMetrics, bulkhead);
+        tenantIdentifier = "tenant".equals(target) ? BenchFixtures.TENANT_SCHEMA : "";
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        dataSource.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public boolean checkoutAndRelease() throws Exception {
+        try (TenantContext.Scope ignored = TenantContext.scope(tenantIdentifier.isEmpty() ? null : tenantIdentifier)) {
+            Connection connection = provider.getConnection(tenantIdentifier);
+            boolean valid = !connection.isClosed();
+            provider.releaseConnection(tenantIdentifier, connection);
+            return valid;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package brito.com.multitenancy001.bench.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acumula latências (em micros) por chave (endpoint ou tenant) e calcula percentis.
+ *
+ * <p>Guarda todas as amostras (execuções limitadas em duração), então os percentis são
+ * exatos. Latência medida a partir do instante <b>planejado</b> do envio, corrigindo
+ * coordinated omission quando o sistema atrasa.</p>
+ *
+ * <p>Envios descartados pelo gerador (limite de requisições em voo) só incrementam
+ * {@code dropped}: não entram nos percentis nem no throughput, que refletem apenas
+ * respostas recebidas.</p>
+ */
+final class LatencyRecorder {
+
+    private final ConcurrentHashMap<String, Series> series = new ConcurrentHashMap<>();
+
+    void record(String key, long latencyMicros, int status) {
+        series.computeIfAbsent(key, k -> new Series()).add(latencyMicros, status);
+    }
+
+    void recordDropped(String key) {
+        series.computeIfAbsent(key, k -> new Series()).drop();
+    }
+
+    Map<String, Summary> summarize() {
+        Map<String, Summary> out = new TreeMap<>();
+        series.forEach((k, v) -> out.put(k, v.summary()));
+        return out;
+    }
+
+    record Summary(long count, long errors, long dropped, long p50, long p90, long p99, long p999, long max,
+                   Map<Integer, Long> statuses) {
+
+        Map<String, Object> toMap(double seconds) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("count", count);
+            m.put("errors", errors);
+            m.put("dropped", dropped);
+            m.put("throughputRps", seconds > 0 ? Math.round(count / seconds * 10.0) / 10.0 : 0.0);
+            m.put("p50Ms", count == 0 ? 0 : p50 / 1000.0);
+            m.put("p90Ms", count == 0 ? 0 : p90 / 1000.0);
+            m.put("p99Ms", count == 0 ? 0 : p99 / 1000.0);
+            m.put("p999Ms", count == 0 ? 0 : p999 / 1000.0);
+            m.put("maxMs", count == 0 ? 0 : max / 1000.0);
+            m.put("statuses", statuses);
+            return m;
+        }
+    }
+
+    private static final class Series {
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+        private long dropped;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        synchronized void add(long micros, int status) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = micros;
+            if (status <= 0 || status >= 400) {
+                errors++;
+            }
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        synchronized void drop() {
+            dropped++;
+        }
+
+        synchronized Summary summary() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return new Summary(size, errors, dropped,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90),
+                    percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    size == 0 ? 0 : sorted[size - 1],
+                    new TreeMap<>(statuses));
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int idx = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package brito.com.multitenancy001.bench.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP do harness (JDK HttpClient + Jackson), síncrono para seed e
+ * assíncrono para a carga.
+ */
+final class LoadHttpClient {
+
+    static final ObjectMapper JSON = new ObjectMapper().findAndRegisterModules();
+
+    private final String baseUrl;
+    private final HttpClient http;
+
+    LoadHttpClient(String baseUrl, int ioThreads) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(ioThreads))
+                .build();
+    }
+
+    HttpRequest.Builder request(String method, String path, String bearer, Object body) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (bearer != null) {
+            b.header("Authorization", "Bearer " + bearer);
+        }
+        if (body != null) {
+            b.header("Content-Type", "application/json");
+            b.method(method, HttpRequest.BodyPublishers.ofString(write(body)));
+        } else {
+            b.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return b;
+    }
+
+    /**
+     * Chamada síncrona (seed); falha com mensagem clara se status não for 2xx.
+     */
+    JsonNode call(String method, String path, String bearer, Object body) {
+        try {
+            HttpResponse<String> res = http.send(request(method, path, bearer, body).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (res.statusCode() / 100 != 2) {
+                throw new IllegalStateException(method + " " + path + " -> " + res.statusCode() + " " + res.body());
+            }
+            return res.body() == null || res.body().isBlank() ? JSON.nullNode() : JSON.readTree(res.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new IllegalStateException(method + " " + path + " falhou: " + e.getMessage(), e);
+        }
+    }
+
+    CompletableFuture<Integer> send(HttpRequest request) {
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+
+    private static String write(Object body) {
+        try {
+            return JSON.writeValueAsString(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package brito.com.multitenancy001.bench.load;
+
+import java.net.http.HttpRequest;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Operações do workload misto.
+ */
+enum LoadOperation {
+
+    LOGIN("login") {
+        @Override
+        HttpRequest build(LoadHttpClient client, TenantFixture t, long seq) {
+            return client.request("POST", "/api/tenant/auth/login", null,
+                    Map.of("email", t.email(), "password", t.password())).build();
+        }
+    },
+    PRODUCT_SEARCH("search") {
+        @Override
+        HttpRequest build(LoadHttpClient client, TenantFixture t, long seq) {
+            return client.request("GET", "/api/tenant/products/search?name=Produto%20" + t.label() + "%20" + (seq % 10),
+                    t.accessToken(), null).build();
+        }
+    },
+    CATALOG("catalog") {
+        @Override
+        HttpRequest build(LoadHttpClient client, TenantFixture t, long seq) {
+            return client.request("GET", "/api/tenant/products/catalog?size=20", t.accessToken(), null).build();
+        }
+    },
+    SALE_CREATE("saleCreate") {
+        @Override
+        HttpRequest build(LoadHttpClient client, TenantFixture t, long seq) {
+            return client.request("POST", "/api/tenant/sales", t.accessToken(), TenantSeeder.saleBody(t, seq)).build();
+        }
+    },
+    SALE_LIST("saleList") {
+        @Override
+        HttpRequest build(LoadHttpClient client, TenantFixture t, long seq) {
+            return client.request("GET", "/api/tenant/sales", t.accessToken(), null).build();
+        }
+    };
+
+    static final String DEFAULT_MIX = "login=5,search=35,catalog=20,saleCreate=15,saleList=25";
+
+    private final String key;
+
+    LoadOperation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract HttpRequest build(LoadHttpClient client, TenantFixture tenant, long seq);
+
+    static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> out = new EnumMap<>(LoadOperation.class);
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split("=");
+            if (kv.length != 2) continue;
+            for (LoadOperation op : values()) {
+                if (op.key.equalsIgnoreCase(kv[0].trim())) {
+                    out.put(op, Integer.parseInt(kv[1].trim()));
+                }
+            }
+        }
+        if (out.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix sem pesos positivos: " + mix);
+        }
+        return out;
+    }
+}
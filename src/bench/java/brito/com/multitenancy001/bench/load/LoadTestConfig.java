@@ -0,0 +1,87 @@
+package brito.com.multitenancy001.bench.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros da execução ({@code chave=valor} nos args ou {@code -Dlt.chave=valor}).
+ *
+ * <ul>
+ *   <li>{@code tenants}, {@code products}, {@code customers}, {@code sales}: tamanho do seed.</li>
+ *   <li>{@code rps}: taxa alvo (open model, chegada em intervalo fixo).</li>
+ *   <li>{@code warmup}/{@code duration}: segundos de aquecimento (descartado) e medição.</li>
+ *   <li>{@code mix}: pesos por operação (ex.: {@code login=5,search=35,catalog=20,saleCreate=15,saleList=25}).</li>
+ *   <li>{@code skew}: expoente zipf da escolha de tenant (0 = uniforme; 1 = poucos tenants quentes).</li>
+ *   <li>{@code baseUrl}: usa uma aplicação já rodando em vez de subir app + Postgres embarcado.</li>
+ * </ul>
+ */
+record LoadTestConfig(
+        int tenants,
+        int productsPerTenant,
+        int customersPerTenant,
+        int salesPerTenant,
+        int rps,
+        int warmupSeconds,
+        int durationSeconds,
+        int maxInFlight,
+        double skew,
+        long seed,
+        Map<LoadOperation, Integer> mix,
+        String baseUrl,
+        String report
+) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> kv = new LinkedHashMap<>();
+        System.getProperties().forEach((k, v) -> {
+            String key = k.toString();
+            if (key.startsWith("lt.")) kv.put(key.substring(3), v.toString());
+        });
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                int eq = token.indexOf('=');
+                if (eq > 0) kv.put(token.substring(0, eq), token.substring(eq + 1));
+            }
+        }
+
+        return new LoadTestConfig(
+                intOf(kv, "tenants", 5),
+                intOf(kv, "products", 50),
+                intOf(kv, "customers", 20),
+                intOf(kv, "sales", 20),
+                intOf(kv, "rps", 50),
+                intOf(kv, "warmup", 10),
+                intOf(kv, "duration", 60),
+                intOf(kv, "maxInFlight", 512),
+                Double.parseDouble(kv.getOrDefault("skew", "0")),
+                Long.parseLong(kv.getOrDefault("seed", "42")),
+                LoadOperation.parseMix(kv.getOrDefault("mix", LoadOperation.DEFAULT_MIX)),
+                kv.get("baseUrl"),
+                kv.getOrDefault("report", "target/load-report.json")
+        );
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("tenants", tenants);
+        m.put("productsPerTenant", productsPerTenant);
+        m.put("customersPerTenant", customersPerTenant);
+        m.put("salesPerTenant", salesPerTenant);
+        m.put("targetRps", rps);
+        m.put("warmupSeconds", warmupSeconds);
+        m.put("durationSeconds", durationSeconds);
+        m.put("maxInFlight", maxInFlight);
+        m.put("skew", skew);
+        m.put("seed", seed);
+        Map<String, Integer> mixOut = new LinkedHashMap<>();
+        mix.forEach((op, w) -> mixOut.put(op.key(), w));
+        m.put("mix", mixOut);
+        m.put("embedded", baseUrl == null);
+        return m;
+    }
+
+    private static int intOf(Map<String, String> kv, String key, int def) {
+        String v = kv.get(key);
+        return v == null || v.isBlank() ? def : Integer.parseInt(v.trim());
+    }
+}
@@ -0,0 +1,127 @@
+package brito.com.multitenancy001.bench.load;
+
+import brito.com.multitenancy001.Multitenancy001Application;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Harness de carga multi-tenant (offline, uma máquina).
+ *
+ * <p>Fluxo:</p>
+ * <ol>
+ *   <li>Sobe Postgres embarcado (binário zonky, sem Docker) e a aplicação na porta aleatória.</li>
+ *   <li>Provisiona N tenants via API (signup síncrono, login, catálogo, clientes, vendas).</li>
+ *   <li>Executa o workload misto em modelo aberto na taxa alvo.</li>
+ *   <li>Imprime e grava em JSON os percentis por endpoint e por tenant.</li>
+ * </ol>
+ *
+ * <p>O rate limit de requisições fica desligado na aplicação embarcada: toda
+ * a carga sai de um só IP e estouraria os limites do plano FREE, e o relatório
+ * mediria 429 em vez do servidor. Com {@code baseUrl} externo, desligar
+ * ({@code app.ratelimit.enabled=false}) no alvo.</p>
+ *
+ * <p>Uso: {@code scripts/loadtest.sh tenants=10 rps=200 duration=120}</p>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.println("⚙️ configuração: " + config.toMap());
+
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext app = null;
+        try {
+            String baseUrl = config.baseUrl();
+            if (baseUrl == null) {
+                postgres = EmbeddedPostgres.builder().start();
+                app = startApplication(postgres);
+                baseUrl = "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+            }
+
+            LoadHttpClient client = new LoadHttpClient(baseUrl, Math.max(4, Runtime.getRuntime().availableProcessors()));
+            List<TenantFixture> tenants = new TenantSeeder(client, config).seed();
+
+            System.out.printf("🚀 carga: %d rps por %ds (+%ds aquecimento)%n",
+                    config.rps(), config.durationSeconds(), config.warmupSeconds());
+            OpenLoopDriver driver = new OpenLoopDriver(client, config, tenants);
+            driver.run();
+
+            writeReport(config, tenants, driver);
+        } finally {
+            if (app != null) app.close();
+            if (postgres != null) postgres.close();
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres) {
+        return new SpringApplicationBuilder(Multitenancy001Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=",
+                        "app.signup.async.enabled=false",
+                        "app.ratelimit.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework.security=WARN",
+                        "logging.level.org.springframework.security.web.FilterChainProxy=WARN",
+                        "logging.level.brito.com.multitenancy001=WARN",
+                        "logging.level.brito.com.multitenancy001.trace=INFO"
+                )
+                .run();
+    }
+
+    private static void writeReport(LoadTestConfig config, List<TenantFixture> tenants, OpenLoopDriver driver)
+            throws Exception {
+        double seconds = config.durationSeconds();
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        driver.byEndpoint().summarize().forEach((k, s) -> endpoints.put(k, s.toMap(seconds)));
+
+        Map<String, Object> perTenant = new LinkedHashMap<>();
+        driver.byTenant().summarize().forEach((k, s) -> perTenant.put(k, s.toMap(seconds)));
+
+        Map<String, Object> seeded = new LinkedHashMap<>();
+        for (TenantFixture t : tenants) {
+            seeded.put(t.label(), Map.of(
+                    "tenantSchema", t.tenantSchema(),
+                    "products", t.products().size(),
+                    "customers", t.customerIds().size()));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("config", config.toMap());
+        report.put("seeded", seeded);
+        report.put("endpoints", endpoints);
+        report.put("tenants", perTenant);
+
+        Path out = Path.of(config.report());
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        LoadHttpClient.JSON.writerWithDefaultPrettyPrinter().writeValue(out.toFile(), report);
+
+        System.out.println();
+        System.out.printf("%-14s %8s %7s %8s %9s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "dropped", "rps", "p50ms", "p90ms", "p99ms", "maxms");
+        endpoints.forEach((k, v) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> m = (Map<String, Object>) v;
+            System.out.printf("%-14s %8s %7s %8s %9s %9s %9s %9s %9s%n", k,
+                    m.get("count"), m.get("errors"), m.get("dropped"), m.get("throughputRps"),
+                    m.get("p50Ms"), m.get("p90Ms"), m.get("p99Ms"), m.get("maxMs"));
+        });
+        System.out.println("📄 relatório: " + out.toAbsolutePath());
+    }
+}
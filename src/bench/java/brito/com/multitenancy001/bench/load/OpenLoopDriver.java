@@ -0,0 +1,137 @@
+package brito.com.multitenancy001.bench.load;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em modelo aberto: envia na taxa alvo independente da latência.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Instante planejado do i-ésimo envio = início + i/rps; a latência é medida desse
+ *       instante até a resposta (atrasos do próprio sistema entram na conta).</li>
+ *   <li>Limite de requisições em voo ({@code maxInFlight}); excedentes são descartadas
+ *       em vez de atrasar o relógio e contadas à parte ({@code dropped}), fora das
+ *       amostras de latência e do throughput.</li>
+ *   <li>Amostras do aquecimento são descartadas.</li>
+ *   <li>Escolha de operação pelo mix e de tenant por zipf({@code skew}), com seed fixa.</li>
+ * </ul>
+ */
+final class OpenLoopDriver {
+
+    private final LoadHttpClient client;
+    private final LoadTestConfig config;
+    private final List<TenantFixture> tenants;
+    private final LatencyRecorder byEndpoint = new LatencyRecorder();
+    private final LatencyRecorder byTenant = new LatencyRecorder();
+
+    private final LoadOperation[] opTable;
+    private final double[] tenantCdf;
+
+    OpenLoopDriver(LoadHttpClient client, LoadTestConfig config, List<TenantFixture> tenants) {
+        this.client = client;
+        this.config = config;
+        this.tenants = tenants;
+        this.opTable = buildOpTable(config.mix());
+        this.tenantCdf = buildZipfCdf(tenants.size(), config.skew());
+    }
+
+    LatencyRecorder byEndpoint() {
+        return byEndpoint;
+    }
+
+    LatencyRecorder byTenant() {
+        return byTenant;
+    }
+
+    void run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(config.seed());
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+
+        long periodNanos = 1_000_000_000L / Math.max(1, config.rps());
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+
+        for (long seq = 0; ; seq++) {
+            long intended = start + seq * periodNanos;
+            if (intended >= end) break;
+
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            TenantFixture tenant = tenants.get(pickTenant(random));
+            LoadOperation op = opTable[random.nextInt(opTable.length)];
+            if (op == LoadOperation.SALE_CREATE && tenant.products().isEmpty()) {
+                op = LoadOperation.SALE_LIST;
+            }
+            boolean measured = intended >= measureFrom;
+
+            if (!inFlight.tryAcquire()) {
+                if (measured) recordDropped(op, tenant);
+                continue;
+            }
+
+            HttpRequest request = op.build(client, tenant, seq);
+            final LoadOperation sentOp = op;
+            client.send(request).whenComplete((status, error) -> {
+                try {
+                    if (measured) {
+                        record(sentOp, tenant, (System.nanoTime() - intended) / 1_000L, error != null ? 0 : status);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        // drena requisições em voo
+        if (!inFlight.tryAcquire(config.maxInFlight(), 60, TimeUnit.SECONDS)) {
+            System.out.println("⚠️ requisições ainda em voo após 60s; relatório parcial");
+        }
+    }
+
+    private void record(LoadOperation op, TenantFixture tenant, long micros, int status) {
+        byEndpoint.record(op.key(), micros, status);
+        byTenant.record(tenant.label(), micros, status);
+    }
+
+    private void recordDropped(LoadOperation op, TenantFixture tenant) {
+        byEndpoint.recordDropped(op.key());
+        byTenant.recordDropped(tenant.label());
+    }
+
+    private int pickTenant(SplittableRandom random) {
+        double u = random.nextDouble();
+        for (int i = 0; i < tenantCdf.length; i++) {
+            if (u <= tenantCdf[i]) return i;
+        }
+        return tenantCdf.length - 1;
+    }
+
+    private static LoadOperation[] buildOpTable(Map<LoadOperation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        LoadOperation[] table = new LoadOperation[total];
+        int i = 0;
+        for (Map.Entry<LoadOperation, Integer> e : mix.entrySet()) {
+            for (int w = 0; w < e.getValue(); w++) table[i++] = e.getKey();
+        }
+        return table;
+    }
+
+    private static double[] buildZipfCdf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) cdf[i] /= sum;
+        return cdf;
+    }
+}
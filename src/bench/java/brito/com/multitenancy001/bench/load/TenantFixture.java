@@ -0,0 +1,23 @@
+package brito.com.multitenancy001.bench.load;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tenant sintético provisionado pelo {@link TenantSeeder}.
+ */
+record TenantFixture(
+        String label,
+        String email,
+        String password,
+        String accessToken,
+        Long accountId,
+        String tenantSchema,
+        List<ProductRef> products,
+        List<UUID> customerIds
+) {
+
+    record ProductRef(UUID id, String name, BigDecimal price) {
+    }
+}
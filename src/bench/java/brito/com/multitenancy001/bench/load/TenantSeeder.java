@@ -0,0 +1,159 @@
+package brito.com.multitenancy001.bench.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Provisiona tenants sintéticos via API pública (signup síncrono + login) e popula
+ * catálogo, clientes e vendas de cada um.
+ *
+ * <p>Falhas de quota do plano (ex.: limite de produtos) encerram o seed daquele tipo
+ * sem abortar a execução; o total efetivo vai para o relatório.</p>
+ */
+final class TenantSeeder {
+
+    static final String PASSWORD = "LoadTest#2026";
+
+    private final LoadHttpClient client;
+    private final LoadTestConfig config;
+
+    TenantSeeder(LoadHttpClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+    }
+
+    List<TenantFixture> seed() {
+        List<TenantFixture> tenants = new ArrayList<>();
+        for (int i = 0; i < config.tenants(); i++) {
+            tenants.add(seedTenant(i));
+            System.out.printf("🌱 tenant %d/%d provisionado%n", i + 1, config.tenants());
+        }
+        return tenants;
+    }
+
+    private TenantFixture seedTenant(int index) {
+        String label = String.format("lt%03d", index);
+        String email = label + "@loadtest.local";
+
+        Map<String, Object> signup = new LinkedHashMap<>();
+        signup.put("displayName", "Load Test " + label);
+        signup.put("loginEmail", email);
+        signup.put("taxIdType", "CNPJ");
+        signup.put("taxIdNumber", cnpj(config.seed() * 1_000 + index));
+        signup.put("password", PASSWORD);
+        signup.put("confirmPassword", PASSWORD);
+        client.call("POST", "/api/signup", null, signup);
+
+        JsonNode jwt = client.call("POST", "/api/tenant/auth/login", null, Map.of("email", email, "password", PASSWORD));
+        String token = jwt.path("accessToken").asText();
+        Long accountId = jwt.path("accountId").asLong();
+        String schema = jwt.path("tenantSchema").asText();
+
+        long categoryId = client.call("POST", "/api/tenant/categories", token, Map.of("name", "Categoria " + label))
+                .path("id").asLong();
+
+        List<TenantFixture.ProductRef> products = new ArrayList<>();
+        for (int p = 0; p < config.productsPerTenant(); p++) {
+            String name = "Produto " + label + " " + p;
+            BigDecimal price = BigDecimal.valueOf(10 + (p % 90)).add(new BigDecimal("0.90"));
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("name", name);
+            body.put("sku", label.toUpperCase() + "-" + p);
+            body.put("price", price);
+            body.put("stockQuantity", 1_000_000);
+            body.put("brand", "Marca " + (p % 5));
+            body.put("categoryId", categoryId);
+
+            JsonNode created = tryCall("POST", "/api/tenant/products/detailed", token, body);
+            if (created == null) break;
+            products.add(new TenantFixture.ProductRef(UUID.fromString(created.path("id").asText()), name, price));
+        }
+
+        List<UUID> customers = new ArrayList<>();
+        for (int c = 0; c < config.customersPerTenant(); c++) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("name", "Cliente " + label + " " + c);
+            body.put("email", "cliente" + c + "." + label + "@loadtest.local");
+            body.put("phone", "11999999999");
+
+            JsonNode created = tryCall("POST", "/api/tenant/customers", token, body);
+            if (created == null) break;
+            customers.add(UUID.fromString(created.path("id").asText()));
+        }
+
+        TenantFixture fixture = new TenantFixture(label, email, PASSWORD, token, accountId, schema, products, customers);
+        for (int s = 0; s < config.salesPerTenant() && !products.isEmpty(); s++) {
+            tryCall("POST", "/api/tenant/sales", token, saleBody(fixture, s));
+        }
+        return fixture;
+    }
+
+    private JsonNode tryCall(String method, String path, String token, Object body) {
+        try {
+            return client.call(method, path, token, body);
+        } catch (IllegalStateException e) {
+            System.out.println("⚠️ seed interrompido: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Corpo de venda com 1-3 itens determinísticos.
+     */
+    static Map<String, Object> saleBody(TenantFixture tenant, long seq) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        int itemCount = 1 + (int) (seq % 3);
+        for (int i = 0; i < itemCount; i++) {
+            TenantFixture.ProductRef p = tenant.products().get((int) ((seq + i) % tenant.products().size()));
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("productId", p.id());
+            item.put("productName", p.name());
+            item.put("quantity", 1);
+            item.put("unitPrice", p.price());
+            items.add(item);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("saleDate", Instant.now().toString());
+        if (!tenant.customerIds().isEmpty()) {
+            body.put("customerId", tenant.customerIds().get((int) (seq % tenant.customerIds().size())));
+        }
+        body.put("status", "OPEN");
+        body.put("items", items);
+        return body;
+    }
+
+    /**
+     * CNPJ sintético válido (dígitos verificadores corretos) a partir de um número base.
+     */
+    static String cnpj(long base) {
+        int[] d = new int[14];
+        String digits = String.format("%08d0001", Math.abs(base) % 100_000_000L);
+        for (int i = 0; i < 12; i++) {
+            d[i] = digits.charAt(i) - '0';
+        }
+        d[12] = checkDigit(d, 12, new int[]{5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2});
+        d[13] = checkDigit(d, 13, new int[]{6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2});
+
+        StringBuilder sb = new StringBuilder(14);
+        for (int x : d) sb.append(x);
+        return sb.toString();
+    }
+
+    private static int checkDigit(int[] d, int len, int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < len; i++) {
+            sum += d[i] * weights[i];
+        }
+        int r = sum % 11;
+        return r < 2 ? 0 : 11 - r;
+    }
+}
@@ -6,6 +6,7 @@ import brito.com.multitenancy001.controlplane.accounts.app.command.AccountStatus
 import brito.com.multitenancy001.controlplane.accounts.app.dto.AccountStatusChangeResult;
 import brito.com.multitenancy001.controlplane.signup.app.AccountOnboardingService;
 import brito.com.multitenancy001.controlplane.signup.app.command.SignupCommand;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupAcceptedResult;
 import brito.com.multitenancy001.controlplane.signup.app.dto.SignupResult;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.validation.RequiredValidator;
@@ -34,6 +35,17 @@ public class ControlPlaneAccountCommandService {
         return accountOnboardingService.createAccount(signupCommand);
     }
 
+    public SignupAcceptedResult acceptAccount(SignupCommand signupCommand) {
+        RequiredValidator.requirePayload(
+                signupCommand,
+                ApiErrorCode.INVALID_REQUEST,
+                "signupCommand é obrigatório"
+        );
+
+        log.info("Iniciando acceptAccount via onboarding assíncrono.");
+        return accountOnboardingService.acceptAccount(signupCommand);
+    }
+
     public AccountStatusChangeResult changeAccountStatus(
             Long accountId,
             AccountStatusChangeCommand accountStatusChangeCommand
@@ -2,6 +2,7 @@ package brito.com.multitenancy001.controlplane.accounts.app;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,7 +13,10 @@ import brito.com.multitenancy001.controlplane.accounts.app.dto.AccountAdminDetai
 import brito.com.multitenancy001.controlplane.accounts.app.dto.AccountStatusChangeResult;
 import brito.com.multitenancy001.controlplane.accounts.domain.Account;
 import brito.com.multitenancy001.controlplane.accounts.domain.AccountStatus;
+import brito.com.multitenancy001.controlplane.signup.app.AccountOnboardingService;
 import brito.com.multitenancy001.controlplane.signup.app.command.SignupCommand;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupAcceptedResult;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupProvisioningStatusData;
 import brito.com.multitenancy001.controlplane.signup.app.dto.SignupResult;
 import brito.com.multitenancy001.shared.contracts.UserSummaryData;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +50,7 @@ public class ControlPlaneAccountFacade {
     private final ControlPlaneAccountCommandService controlPlaneAccountCommandService;
     private final ControlPlaneAccountQueryService controlPlaneAccountQueryService;
     private final ControlPlaneAccountTenantUserAdminService controlPlaneAccountTenantUserAdminService;
+    private final AccountOnboardingService accountOnboardingService;
 
     /**
      * Cria uma nova account via fluxo de signup/onboarding.
@@ -58,6 +63,27 @@ public class ControlPlaneAccountFacade {
         return controlPlaneAccountCommandService.createAccount(signupCommand);
     }
 
+    /**
+     * Aceita uma nova account para provisionamento assíncrono.
+     *
+     * @param signupCommand comando de signup
+     * @return provisioningId e account em PROVISIONING
+     */
+    public SignupAcceptedResult acceptAccount(SignupCommand signupCommand) {
+        log.info("Delegando acceptAccount para command service.");
+        return controlPlaneAccountCommandService.acceptAccount(signupCommand);
+    }
+
+    /**
+     * Consulta o status de um provisionamento assíncrono de signup.
+     *
+     * @param provisioningId id opaco do provisioning
+     * @return status consolidado
+     */
+    public SignupProvisioningStatusData getSignupProvisioningStatus(UUID provisioningId) {
+        return accountOnboardingService.getProvisioningStatus(provisioningId);
+    }
+
     /**
      * Lista contas não deletadas.
      *
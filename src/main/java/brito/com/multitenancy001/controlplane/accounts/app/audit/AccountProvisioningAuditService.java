@@ -2,12 +2,14 @@ package brito.com.multitenancy001.controlplane.accounts.app.audit;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import brito.com.multitenancy001.controlplane.accounts.domain.AccountProvisioningEvent;
 import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningFailureCode;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStage;
 import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStatus;
 import brito.com.multitenancy001.controlplane.accounts.persistence.AccountProvisioningEventRepository;
 import brito.com.multitenancy001.shared.executor.PublicSchemaUnitOfWork;
@@ -23,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
  * <p>Objetivos deste serviço:</p>
  * <ul>
  *   <li>Persistir eventos STARTED, SUCCESS e FAILED do fluxo de onboarding/provisioning.</li>
+ *   <li>Persistir eventos por etapa (QUEUED, STAGE_COMPLETED, RETRYING) do pipeline assíncrono.</li>
  *   <li>Garantir transação de escrita no public schema.</li>
  *   <li>Normalizar {@code detailsJson} para evitar persistência de conteúdo textual
  *       solto fora de um JSON válido.</li>
@@ -73,6 +76,29 @@ public class AccountProvisioningAuditService {
         record(accountId, ProvisioningStatus.FAILED, failureCode, message, detailsJson);
     }
 
+    /**
+     * Registra evento do pipeline assíncrono de signup.
+     *
+     * @param accountId identificador da conta
+     * @param provisioningId id opaco do provisioning (polling)
+     * @param stage etapa do pipeline, quando aplicável
+     * @param status status do evento
+     * @param failureCode código de falha, quando aplicável
+     * @param message mensagem de auditoria
+     * @param detailsJson detalhes adicionais em JSON ou texto simples
+     */
+    public void pipelineEvent(
+            Long accountId,
+            UUID provisioningId,
+            ProvisioningStage stage,
+            ProvisioningStatus status,
+            ProvisioningFailureCode failureCode,
+            String message,
+            String detailsJson
+    ) {
+        record(accountId, provisioningId, stage, status, failureCode, message, detailsJson);
+    }
+
     /**
      * Persiste o evento de auditoria do provisioning.
      *
@@ -88,13 +114,27 @@ public class AccountProvisioningAuditService {
             ProvisioningFailureCode failureCode,
             String message,
             String detailsJson
+    ) {
+        record(accountId, null, null, status, failureCode, message, detailsJson);
+    }
+
+    private void record(
+            Long accountId,
+            UUID provisioningId,
+            ProvisioningStage stage,
+            ProvisioningStatus status,
+            ProvisioningFailureCode failureCode,
+            String message,
+            String detailsJson
     ) {
         final String normalizedMessage = trimOrNull(message);
         final String normalizedDetailsJson = normalizeDetailsJson(detailsJson);
 
         log.info(
-                "Registrando auditoria de provisioning. accountId={} status={} failureCode={} message={}",
+                "Registrando auditoria de provisioning. accountId={} provisioningId={} stage={} status={} failureCode={} message={}",
                 accountId,
+                provisioningId,
+                stage,
                 status,
                 failureCode,
                 normalizedMessage
@@ -103,6 +143,8 @@ public class AccountProvisioningAuditService {
         publicSchemaUnitOfWork.tx(() -> {
             AccountProvisioningEvent event = new AccountProvisioningEvent(
                     accountId,
+                    provisioningId,
+                    stage,
                     status,
                     failureCode,
                     normalizedMessage,
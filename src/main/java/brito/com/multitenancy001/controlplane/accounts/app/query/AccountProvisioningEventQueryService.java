@@ -1,6 +1,8 @@
 package brito.com.multitenancy001.controlplane.accounts.app.query;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -45,6 +47,15 @@ public class AccountProvisioningEventQueryService {
         });
     }
 
+    public List<AccountProvisioningEventData> listByProvisioningId(UUID provisioningId) {
+        return publicSchemaUnitOfWork.readOnly(() ->
+                accountProvisioningEventRepository.findByProvisioningIdOrderByCreatedAtAscIdAsc(provisioningId)
+                        .stream()
+                        .map(this::toData)
+                        .toList()
+        );
+    }
+
     private AccountProvisioningEventData toData(AccountProvisioningEvent e) {
         return new AccountProvisioningEventData(
                 e.getId(),
@@ -53,7 +64,9 @@ public class AccountProvisioningEventQueryService {
                 parseFailureCodeOrNull(e.getFailureCode()),
                 e.getMessage(),
                 e.getDetailsJson(),
-                e.getCreatedAt()
+                e.getCreatedAt(),
+                e.getProvisioningId(),
+                e.getStage()
         );
     }
 
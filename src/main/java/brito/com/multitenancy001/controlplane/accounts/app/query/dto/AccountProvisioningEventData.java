@@ -1,8 +1,10 @@
 package brito.com.multitenancy001.controlplane.accounts.app.query.dto;
 
 import java.time.Instant;
+import java.util.UUID;
 
 import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningFailureCode;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStage;
 import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStatus;
 
 public record AccountProvisioningEventData(
@@ -12,6 +14,8 @@ public record AccountProvisioningEventData(
         ProvisioningFailureCode failureCode,
         String message,
         String detailsJson,
-        Instant createdAt
+        Instant createdAt,
+        UUID provisioningId,
+        ProvisioningStage stage
 ) {}
 
@@ -3,6 +3,9 @@ package brito.com.multitenancy001.controlplane.accounts.app.subscription;
 import brito.com.multitenancy001.controlplane.accounts.domain.Account;
 import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
 import brito.com.multitenancy001.controlplane.accounts.persistence.AccountRepository;
+import brito.com.multitenancy001.infrastructure.cache.CacheInvalidation;
+import brito.com.multitenancy001.infrastructure.cache.CacheInvalidationBus;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionPlanDirectory;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.executor.PublicSchemaUnitOfWork;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
@@ -24,6 +27,7 @@ public class AccountPlanChangeService {
     private final AccountPlanUsageService accountPlanUsageService;
     private final PlanChangePolicy planChangePolicy;
     private final AccountEntitlementsSynchronizationService entitlementsSynchronizationService;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public PlanEligibilityResult previewChange(ChangeAccountPlanCommand command) {
         validateCommand(command);
@@ -113,6 +117,11 @@ public class AccountPlanChangeService {
         account.setSubscriptionPlan(newPlan);
         accountRepository.save(account);
 
+        // bulkhead de conexões usa o plano do tenant: novo teto vale após o commit, em todos os nós
+        cacheInvalidationBus.publishAfterCommit(
+                CacheInvalidation.tenant(account.getTenantSchema(), TenantConnectionPlanDirectory.CACHE_NAME)
+        );
+
         entitlementsSynchronizationService.synchronizeToCurrentPlan(account);
 
         log.info(
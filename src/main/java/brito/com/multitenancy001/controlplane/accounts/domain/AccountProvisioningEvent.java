@@ -1,6 +1,7 @@
 package brito.com.multitenancy001.controlplane.accounts.domain;
 
 import java.time.Instant;
+import java.util.UUID;
 
 import jakarta.persistence.*;
 
@@ -31,6 +32,13 @@ public class AccountProvisioningEvent {
     @Column(name = "created_at", nullable = false, columnDefinition = "timestamptz")
     private Instant createdAt;
 
+    @Column(name = "provisioning_id", columnDefinition = "uuid")
+    private UUID provisioningId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", length = 50)
+    private ProvisioningStage stage;
+
     protected AccountProvisioningEvent() { }
 
     public AccountProvisioningEvent(
@@ -49,6 +57,21 @@ public class AccountProvisioningEvent {
         this.createdAt = createdAt;
     }
 
+    public AccountProvisioningEvent(
+            Long accountId,
+            UUID provisioningId,
+            ProvisioningStage stage,
+            ProvisioningStatus status,
+            ProvisioningFailureCode failureCode,
+            String message,
+            String detailsJson,
+            Instant createdAt
+    ) {
+        this(accountId, status, failureCode, message, detailsJson, createdAt);
+        this.provisioningId = provisioningId;
+        this.stage = stage;
+    }
+
     public Long getId() { return id; }
     public Long getAccountId() { return accountId; }
     public ProvisioningStatus getStatus() { return status; }
@@ -56,5 +79,7 @@ public class AccountProvisioningEvent {
     public String getMessage() { return message; }
     public String getDetailsJson() { return detailsJson; }
     public Instant getCreatedAt() { return createdAt; }
+    public UUID getProvisioningId() { return provisioningId; }
+    public ProvisioningStage getStage() { return stage; }
 }
 
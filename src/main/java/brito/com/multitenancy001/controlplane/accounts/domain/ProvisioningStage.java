@@ -0,0 +1,11 @@
+package brito.com.multitenancy001.controlplane.accounts.domain;
+
+/**
+ * Etapas do pipeline de provisionamento de signup, na ordem de execução.
+ */
+public enum ProvisioningStage {
+    TENANT_SCHEMA,
+    TENANT_OWNER,
+    LOGIN_IDENTITY,
+    FINALIZE
+}
@@ -1,8 +1,10 @@
 package brito.com.multitenancy001.controlplane.accounts.domain;
 
 public enum ProvisioningStatus {
+    QUEUED,
     STARTED,
+    STAGE_COMPLETED,
+    RETRYING,
     SUCCESS,
     FAILED
 }
-
@@ -1,6 +1,8 @@
 package brito.com.multitenancy001.controlplane.accounts.persistence;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,5 +21,7 @@ public interface AccountProvisioningEventRepository extends JpaRepository<Accoun
             Long accountId,
             ProvisioningStatus status
     );
+
+    List<AccountProvisioningEvent> findByProvisioningIdOrderByCreatedAtAscIdAsc(UUID provisioningId);
 }
 
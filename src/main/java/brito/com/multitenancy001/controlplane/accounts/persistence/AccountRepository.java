@@ -2,6 +2,7 @@ package brito.com.multitenancy001.controlplane.accounts.persistence;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +32,8 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<AccountSummary> findProjectionByIdAndDeletedFalse(Long id);
 
+    List<AccountSummary> findProjectionByIdInAndDeletedFalse(Collection<Long> ids);
+
     Optional<AccountSummary> findProjectionBySlugAndDeletedFalseIgnoreCase(String slug);
 
     Optional<Account> findByIdAndDeletedFalse(Long id);
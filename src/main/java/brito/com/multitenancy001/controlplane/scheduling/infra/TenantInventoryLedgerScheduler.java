@@ -0,0 +1,65 @@
+package brito.com.multitenancy001.controlplane.scheduling.infra;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.controlplane.accounts.app.subscription.AccountUsageSyncTarget;
+import brito.com.multitenancy001.controlplane.accounts.persistence.AccountUsageSyncQueryRepository;
+import brito.com.multitenancy001.integration.tenant.inventory.TenantInventoryLedgerIntegrationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler da manutenção do ledger de estoque (partições mensais + checkpoints).
+ *
+ * Regras:
+ * - Nunca pode derrubar a aplicação
+ * - Falha de um tenant não interrompe os demais
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantInventoryLedgerScheduler {
+
+    private final AccountUsageSyncQueryRepository accountUsageSyncQueryRepository;
+    private final TenantInventoryLedgerIntegrationService tenantInventoryLedgerIntegrationService;
+
+    /**
+     * Percorre os tenants operacionais.
+     *
+     * <p>Default: a cada hora. Ajustável por propriedade.</p>
+     */
+    @Scheduled(
+            initialDelayString = "${app.inventory.ledger.initial-delay-ms:60000}",
+            fixedDelayString = "${app.inventory.ledger.maintenance-delay-ms:3600000}"
+    )
+    public void maintainLedgers() {
+        List<AccountUsageSyncTarget> targets;
+        try {
+            targets = accountUsageSyncQueryRepository.findAllUsageSyncTargets();
+        } catch (Exception ex) {
+            log.warn("Manutenção do ledger ignorada (lista de tenants indisponível). Motivo: {}", ex.getMessage());
+            return;
+        }
+
+        int failures = 0;
+        for (AccountUsageSyncTarget target : targets) {
+            try {
+                tenantInventoryLedgerIntegrationService.maintainLedger(target.tenantSchema());
+            } catch (Exception ex) {
+                failures++;
+                log.warn(
+                        "Erro na manutenção do ledger de estoque. accountId={}, tenantSchema={}, exType={}, message={}",
+                        target.accountId(),
+                        target.tenantSchema(),
+                        ex.getClass().getName(),
+                        ex.getMessage()
+                );
+            }
+        }
+
+        log.info("Manutenção do ledger de estoque concluída. totalTargets={}, failures={}", targets.size(), failures);
+    }
+}
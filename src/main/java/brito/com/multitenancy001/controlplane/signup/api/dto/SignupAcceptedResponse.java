@@ -0,0 +1,10 @@
+package brito.com.multitenancy001.controlplane.signup.api.dto;
+
+import java.util.UUID;
+
+public record SignupAcceptedResponse(
+        UUID provisioningId,
+        Long accountId,
+        String status,
+        String statusUrl
+) {}
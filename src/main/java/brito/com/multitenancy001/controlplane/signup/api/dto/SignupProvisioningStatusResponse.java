@@ -0,0 +1,14 @@
+package brito.com.multitenancy001.controlplane.signup.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record SignupProvisioningStatusResponse(
+        UUID provisioningId,
+        String state,
+        String currentStage,
+        List<String> completedStages,
+        String failureCode,
+        Instant updatedAt
+) {}
@@ -1,15 +1,23 @@
 package brito.com.multitenancy001.controlplane.signup.api.publicweb;
 
+import java.net.URI;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import brito.com.multitenancy001.controlplane.accounts.api.mapper.AccountApiMapper;
 import brito.com.multitenancy001.controlplane.accounts.app.ControlPlaneAccountFacade;
+import brito.com.multitenancy001.controlplane.signup.api.dto.SignupAcceptedResponse;
+import brito.com.multitenancy001.controlplane.signup.api.dto.SignupProvisioningStatusResponse;
 import brito.com.multitenancy001.controlplane.signup.api.dto.SignupRequest;
 import brito.com.multitenancy001.controlplane.signup.api.dto.SignupResponse;
 import brito.com.multitenancy001.controlplane.signup.api.dto.TenantAdminResponse;
 import brito.com.multitenancy001.controlplane.signup.app.command.SignupCommand;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupAcceptedResult;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupProvisioningStatusData;
 import brito.com.multitenancy001.controlplane.signup.app.dto.SignupResult;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,20 +27,49 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AccountSignupController {
 
+    private static final String STATUS_PATH = "/api/signup/provisioning/";
+
     private final ControlPlaneAccountFacade controlPlaneAccountFacade;
     private final AccountApiMapper accountApiMapper;
 
+    @Value("${app.signup.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    /**
+     * Signup público.
+     *
+     * <p>Com {@code app.signup.async.enabled=true} responde 202 assim que a
+     * Account é criada em PROVISIONING; o provisionamento do tenant segue em
+     * background e é acompanhado via {@code GET /api/signup/provisioning/{id}}.
+     * Caso contrário, mantém o fluxo síncrono (201).</p>
+     */
     @PostMapping
-    public ResponseEntity<SignupResponse> signup(@Valid @RequestBody SignupRequest req) {
+    public ResponseEntity<?> signup(@Valid @RequestBody SignupRequest req) {
 
-        SignupResult result = controlPlaneAccountFacade.createAccount(new SignupCommand(
+        SignupCommand command = new SignupCommand(
                 req.displayName(),
                 req.loginEmail(),
                 req.taxIdType(),
                 req.taxIdNumber(),
                 req.password(),
                 req.confirmPassword()
-        ));
+        );
+
+        if (asyncEnabled) {
+            SignupAcceptedResult accepted = controlPlaneAccountFacade.acceptAccount(command);
+            String statusUrl = STATUS_PATH + accepted.provisioningId();
+
+            SignupAcceptedResponse http = new SignupAcceptedResponse(
+                    accepted.provisioningId(),
+                    accepted.account().getId(),
+                    accepted.account().getStatus().name(),
+                    statusUrl
+            );
+
+            return ResponseEntity.accepted().location(URI.create(statusUrl)).body(http);
+        }
+
+        SignupResult result = controlPlaneAccountFacade.createAccount(command);
 
         SignupResponse http = new SignupResponse(
                 accountApiMapper.toResponse(result.account()),
@@ -45,4 +82,23 @@ public class AccountSignupController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(http);
     }
-}
\ No newline at end of file
+
+    /**
+     * Status do provisionamento assíncrono (polling).
+     */
+    @GetMapping("/provisioning/{provisioningId}")
+    public ResponseEntity<SignupProvisioningStatusResponse> provisioningStatus(
+            @PathVariable UUID provisioningId
+    ) {
+        SignupProvisioningStatusData status = controlPlaneAccountFacade.getSignupProvisioningStatus(provisioningId);
+
+        return ResponseEntity.ok(new SignupProvisioningStatusResponse(
+                status.provisioningId(),
+                status.state().name(),
+                status.currentStage() != null ? status.currentStage().name() : null,
+                status.completedStages().stream().map(Enum::name).toList(),
+                status.failureCode() != null ? status.failureCode().name() : null,
+                status.updatedAt()
+        ));
+    }
+}
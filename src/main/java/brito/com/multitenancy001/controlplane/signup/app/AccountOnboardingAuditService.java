@@ -1,10 +1,14 @@
 package brito.com.multitenancy001.controlplane.signup.app;
 
+import java.util.UUID;
+
 import org.springframework.stereotype.Service;
 
 import brito.com.multitenancy001.controlplane.accounts.app.audit.AccountProvisioningAuditService;
 import brito.com.multitenancy001.controlplane.accounts.domain.Account;
 import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningFailureCode;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStage;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStatus;
 import brito.com.multitenancy001.shared.json.JsonDetailsMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Registrar início do provisioning.</li>
  *   <li>Registrar sucesso do provisioning.</li>
  *   <li>Registrar falha com details estruturados.</li>
+ *   <li>Registrar eventos por etapa do pipeline assíncrono (com provisioningId).</li>
  * </ul>
  */
 @Slf4j
@@ -120,4 +125,49 @@ public class AccountOnboardingAuditService {
                 account.getTenantSchema(),
                 code);
     }
-}
\ No newline at end of file
+
+    /**
+     * Registra evento do pipeline assíncrono de signup.
+     *
+     * @param account account alvo
+     * @param signupData dados normalizados
+     * @param provisioningId id opaco do provisioning
+     * @param stage etapa do pipeline (null para eventos do job como um todo)
+     * @param status status do evento
+     * @param code código de falha, quando houver
+     * @param cause causa técnica/funcional, quando houver
+     */
+    public void recordPipelineEvent(
+            Account account,
+            AccountOnboardingHelper.SignupData signupData,
+            UUID provisioningId,
+            ProvisioningStage stage,
+            ProvisioningStatus status,
+            ProvisioningFailureCode code,
+            Throwable cause
+    ) {
+        accountProvisioningAuditService.pipelineEvent(
+                account.getId(),
+                provisioningId,
+                stage,
+                status,
+                code,
+                cause != null ? accountOnboardingHelper.safeMessage(cause) : "Provisioning " + status,
+                jsonDetailsMapper.toJson(
+                        accountOnboardingHelper.buildDetails(
+                                account,
+                                signupData,
+                                stage != null ? stage.name() : status.name(),
+                                code,
+                                cause
+                        )
+                )
+        );
+
+        log.debug("Auditoria de pipeline registrada | accountId={} | provisioningId={} | stage={} | status={}",
+                account.getId(),
+                provisioningId,
+                stage,
+                status);
+    }
+}
@@ -1,13 +1,19 @@
 package brito.com.multitenancy001.controlplane.signup.app;
 
+import java.util.UUID;
+
 import org.springframework.stereotype.Service;
 
 import brito.com.multitenancy001.controlplane.accounts.domain.Account;
 import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningFailureCode;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStatus;
 import brito.com.multitenancy001.controlplane.signup.app.command.SignupCommand;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupAcceptedResult;
 import brito.com.multitenancy001.controlplane.signup.app.dto.SignupResult;
 import brito.com.multitenancy001.controlplane.signup.app.dto.TenantAdminResult;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.contracts.UserSummaryData;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Acionar provisionamento de tenant e usuário owner.</li>
  *   <li>Finalizar provisioning no public schema.</li>
  *   <li>Registrar auditoria de início, sucesso e falha.</li>
+ *   <li>Aceitar signup assíncrono, delegando as etapas ao pipeline.</li>
  * </ul>
  */
 @Slf4j
@@ -33,6 +40,50 @@ public class AccountOnboardingCommandService {
     private final AccountTenantProvisioningService accountTenantProvisioningService;
     private final AccountOnboardingAuditService accountOnboardingAuditService;
     private final AccountOnboardingHelper accountOnboardingHelper;
+    private final AccountProvisioningPipeline accountProvisioningPipeline;
+
+    /**
+     * Aceita um signup para provisionamento assíncrono.
+     *
+     * <p>Apenas valida, cria a Account em PROVISIONING e enfileira as etapas
+     * técnicas. O resultado final é consultado pelo {@code provisioningId}.</p>
+     *
+     * @param signupCommand comando de signup
+     * @return provisioningId e account em PROVISIONING
+     */
+    public SignupAcceptedResult acceptAccount(SignupCommand signupCommand) {
+        AccountOnboardingHelper.SignupData signupData =
+                accountOnboardingValidator.validateAndNormalize(signupCommand);
+
+        if (!accountProvisioningPipeline.tryReserve()) {
+            log.warn("Signup recusado: pipeline de provisioning sem capacidade | loginEmail={}",
+                    signupData.loginEmail());
+            throw new ApiException(ApiErrorCode.SIGNUP_PROVISIONING_BUSY);
+        }
+
+        boolean submitted = false;
+        try {
+            Account account = accountProvisioningLifecycleService.createProvisioningAccount(signupData);
+            UUID provisioningId = UUID.randomUUID();
+
+            log.info("✅ Signup aceito | accountId={} | tenantSchema={} | provisioningId={}",
+                    account.getId(),
+                    account.getTenantSchema(),
+                    provisioningId);
+
+            accountOnboardingAuditService.recordPipelineEvent(
+                    account, signupData, provisioningId, null, ProvisioningStatus.QUEUED, null, null);
+
+            accountProvisioningPipeline.submit(provisioningId, account, signupData);
+            submitted = true;
+
+            return new SignupAcceptedResult(provisioningId, account);
+        } finally {
+            if (!submitted) {
+                accountProvisioningPipeline.release();
+            }
+        }
+    }
 
     /**
      * Executa o fluxo de criação e provisionamento de uma Account.
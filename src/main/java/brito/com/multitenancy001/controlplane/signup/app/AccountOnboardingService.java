@@ -1,8 +1,12 @@
 package brito.com.multitenancy001.controlplane.signup.app;
 
+import java.util.UUID;
+
 import org.springframework.stereotype.Service;
 
 import brito.com.multitenancy001.controlplane.signup.app.command.SignupCommand;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupAcceptedResult;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupProvisioningStatusData;
 import brito.com.multitenancy001.controlplane.signup.app.dto.SignupResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AccountOnboardingService {
 
     private final AccountOnboardingCommandService accountOnboardingCommandService;
+    private final AccountProvisioningStatusQueryService accountProvisioningStatusQueryService;
 
     /**
      * Executa o fluxo de criação e provisionamento de uma account.
@@ -40,4 +45,25 @@ public class AccountOnboardingService {
         log.info("Delegando createAccount para accountOnboardingCommandService.");
         return accountOnboardingCommandService.createAccount(signupCommand);
     }
-}
\ No newline at end of file
+
+    /**
+     * Aceita um signup para provisionamento assíncrono.
+     *
+     * @param signupCommand comando de signup
+     * @return provisioningId e account em PROVISIONING
+     */
+    public SignupAcceptedResult acceptAccount(SignupCommand signupCommand) {
+        log.info("Delegando acceptAccount para accountOnboardingCommandService.");
+        return accountOnboardingCommandService.acceptAccount(signupCommand);
+    }
+
+    /**
+     * Consulta o status de um provisionamento assíncrono.
+     *
+     * @param provisioningId id opaco do provisioning
+     * @return status consolidado
+     */
+    public SignupProvisioningStatusData getProvisioningStatus(UUID provisioningId) {
+        return accountProvisioningStatusQueryService.getStatus(provisioningId);
+    }
+}
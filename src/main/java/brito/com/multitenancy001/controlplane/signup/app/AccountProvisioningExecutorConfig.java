@@ -0,0 +1,45 @@
+package brito.com.multitenancy001.controlplane.signup.app;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor dedicado ao pipeline assíncrono de provisionamento de signup.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Pool fixo de workers: cada job cria schema e roda migrations, então
+ *       mais threads só disputam o banco.</li>
+ *   <li>Fila limitada; a admissão é feita antes, por semáforo com a mesma
+ *       capacidade (ver {@link AccountProvisioningPipeline#tryReserve()}).</li>
+ *   <li>No shutdown, aguarda os jobs em andamento terminarem.</li>
+ * </ul>
+ */
+@Configuration
+public class AccountProvisioningExecutorConfig {
+
+    /**
+     * Executor do pipeline de provisioning.
+     *
+     * @param workers quantidade de workers
+     * @param queueCapacity capacidade da fila
+     * @return executor configurado
+     */
+    @Bean(name = "signupProvisioningExecutor")
+    public ThreadPoolTaskExecutor signupProvisioningExecutor(
+            @Value("${app.signup.provisioning.workers:4}") int workers,
+            @Value("${app.signup.provisioning.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setThreadNamePrefix("signup-provisioning-");
+        exec.setCorePoolSize(workers);
+        exec.setMaxPoolSize(workers);
+        exec.setQueueCapacity(queueCapacity);
+        exec.setWaitForTasksToCompleteOnShutdown(true);
+        exec.setAwaitTerminationSeconds(30);
+        exec.initialize();
+        return exec;
+    }
+}
@@ -0,0 +1,247 @@
+package brito.com.multitenancy001.controlplane.signup.app;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.Account;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningFailureCode;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStage;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStatus;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pipeline assíncrono de provisionamento de signup.
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Executar as etapas TENANT_SCHEMA, TENANT_OWNER, LOGIN_IDENTITY e FINALIZE
+ *       fora da thread HTTP, em um pool limitado de workers.</li>
+ *   <li>Aplicar retry com backoff exponencial por etapa (falhas funcionais,
+ *       {@link ApiException}, não são reexecutadas).</li>
+ *   <li>Registrar cada transição em {@code account_provisioning_events} com o
+ *       {@code provisioningId}, que é o que o cliente consulta via polling.</li>
+ * </ul>
+ *
+ * <p>Admissão:</p>
+ * <ul>
+ *   <li>Os jobs rodam no executor {@code signupProvisioningExecutor}
+ *       ({@link AccountProvisioningExecutorConfig}).</li>
+ *   <li>A capacidade total (workers + fila) é controlada por semáforo.</li>
+ *   <li>O chamador reserva uma vaga com {@link #tryReserve()} antes de criar a
+ *       Account; sem vaga, o signup é recusado sem efeitos colaterais.</li>
+ * </ul>
+ *
+ * <p>Importante: a fila é em memória (a senha em claro não pode ser persistida).
+ * Se o nó cair com jobs pendentes, a Account permanece em PROVISIONING, como já
+ * acontecia com falhas no fluxo síncrono.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountProvisioningPipeline {
+
+    private static final ProvisioningStage[] STAGES = {
+            ProvisioningStage.TENANT_SCHEMA,
+            ProvisioningStage.TENANT_OWNER,
+            ProvisioningStage.LOGIN_IDENTITY,
+            ProvisioningStage.FINALIZE
+    };
+
+    private final AccountTenantProvisioningService accountTenantProvisioningService;
+    private final AccountProvisioningLifecycleService accountProvisioningLifecycleService;
+    private final AccountOnboardingAuditService accountOnboardingAuditService;
+    private final AccountOnboardingHelper accountOnboardingHelper;
+
+    @Qualifier("signupProvisioningExecutor")
+    private final ThreadPoolTaskExecutor signupProvisioningExecutor;
+
+    @Value("${app.signup.provisioning.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.signup.provisioning.initial-backoff:PT0.5S}")
+    private Duration initialBackoff;
+
+    private Semaphore slots;
+
+    @PostConstruct
+    void start() {
+        int workers = signupProvisioningExecutor.getMaxPoolSize();
+        int queueCapacity = signupProvisioningExecutor.getQueueCapacity();
+
+        slots = new Semaphore(workers + queueCapacity);
+
+        log.info("Pipeline de provisioning iniciado | workers={} | queueCapacity={} | maxAttempts={}",
+                workers, queueCapacity, maxAttempts);
+    }
+
+    /**
+     * Tenta reservar uma vaga no pipeline.
+     *
+     * @return true quando há capacidade para mais um job
+     */
+    public boolean tryReserve() {
+        return slots.tryAcquire();
+    }
+
+    /**
+     * Libera uma vaga reservada que não chegou a ser submetida.
+     */
+    public void release() {
+        slots.release();
+    }
+
+    /**
+     * Submete o provisionamento de uma Account já criada em PROVISIONING.
+     *
+     * <p>Exige vaga previamente reservada via {@link #tryReserve()}; a vaga é
+     * liberada ao final do job.</p>
+     *
+     * @param provisioningId id opaco do provisioning
+     * @param account account criada no public schema
+     * @param signupData dados de signup normalizados
+     */
+    public void submit(
+            UUID provisioningId,
+            Account account,
+            AccountOnboardingHelper.SignupData signupData
+    ) {
+        signupProvisioningExecutor.execute(() -> {
+            try {
+                run(provisioningId, account, signupData);
+            } finally {
+                slots.release();
+            }
+        });
+    }
+
+    private void run(
+            UUID provisioningId,
+            Account account,
+            AccountOnboardingHelper.SignupData signupData
+    ) {
+        accountOnboardingAuditService.recordPipelineEvent(
+                account, signupData, provisioningId, null, ProvisioningStatus.STARTED, null, null);
+
+        Account current = account;
+        for (ProvisioningStage stage : STAGES) {
+            try {
+                current = runStageWithRetry(provisioningId, current, signupData, stage);
+            } catch (AccountOnboardingHelper.ProvisioningFailedException ex) {
+                fail(provisioningId, current, signupData, stage, ex.code(), ex.getCause());
+                return;
+            } catch (RuntimeException ex) {
+                fail(provisioningId, current, signupData, stage, ProvisioningFailureCode.UNKNOWN, ex);
+                return;
+            }
+
+            accountOnboardingAuditService.recordPipelineEvent(
+                    current, signupData, provisioningId, stage, ProvisioningStatus.STAGE_COMPLETED, null, null);
+        }
+
+        accountOnboardingAuditService.recordPipelineEvent(
+                current, signupData, provisioningId, null, ProvisioningStatus.SUCCESS, null, null);
+
+        log.info("✅ Provisioning concluído | provisioningId={} | accountId={} | tenantSchema={} | status={}",
+                provisioningId,
+                current.getId(),
+                current.getTenantSchema(),
+                current.getStatus());
+    }
+
+    private Account runStageWithRetry(
+            UUID provisioningId,
+            Account account,
+            AccountOnboardingHelper.SignupData signupData,
+            ProvisioningStage stage
+    ) {
+        Duration backoff = initialBackoff;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return runStage(account, signupData, stage);
+            } catch (RuntimeException ex) {
+                if (attempt >= maxAttempts || !isRetryable(ex)) {
+                    throw ex;
+                }
+
+                ProvisioningFailureCode code = (ex instanceof AccountOnboardingHelper.ProvisioningFailedException pfe)
+                        ? pfe.code()
+                        : ProvisioningFailureCode.UNKNOWN;
+
+                log.warn("Etapa de provisioning falhou; nova tentativa | provisioningId={} | stage={} | attempt={} | backoffMs={}",
+                        provisioningId, stage, attempt, backoff.toMillis(), ex);
+
+                accountOnboardingAuditService.recordPipelineEvent(
+                        account, signupData, provisioningId, stage, ProvisioningStatus.RETRYING, code, rootCause(ex));
+
+                sleep(backoff);
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private Account runStage(
+            Account account,
+            AccountOnboardingHelper.SignupData signupData,
+            ProvisioningStage stage
+    ) {
+        switch (stage) {
+            case TENANT_SCHEMA -> accountTenantProvisioningService.provisionSchema(account);
+            case TENANT_OWNER -> accountTenantProvisioningService.createOwner(account, signupData);
+            case LOGIN_IDENTITY -> accountTenantProvisioningService.ensureLoginIdentity(account, signupData);
+            case FINALIZE -> {
+                return accountProvisioningLifecycleService.finalizeProvisioning(account.getId());
+            }
+        }
+        return account;
+    }
+
+    private void fail(
+            UUID provisioningId,
+            Account account,
+            AccountOnboardingHelper.SignupData signupData,
+            ProvisioningStage stage,
+            ProvisioningFailureCode code,
+            Throwable cause
+    ) {
+        log.error("❌ Falha no provisioning | provisioningId={} | accountId={} | stage={} | code={} | message={}",
+                provisioningId,
+                account.getId(),
+                stage,
+                code,
+                accountOnboardingHelper.safeMessage(cause),
+                cause);
+
+        accountOnboardingAuditService.recordPipelineEvent(
+                account, signupData, provisioningId, stage, ProvisioningStatus.FAILED, code, cause);
+    }
+
+    private static boolean isRetryable(RuntimeException ex) {
+        return !(rootCause(ex) instanceof ApiException);
+    }
+
+    private static Throwable rootCause(RuntimeException ex) {
+        if (ex instanceof AccountOnboardingHelper.ProvisioningFailedException && ex.getCause() != null) {
+            return ex.getCause();
+        }
+        return ex;
+    }
+
+    private static void sleep(Duration backoff) {
+        try {
+            Thread.sleep(backoff.toMillis());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Provisioning interrompido", ie);
+        }
+    }
+}
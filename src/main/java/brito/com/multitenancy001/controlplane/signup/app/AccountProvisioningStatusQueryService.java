@@ -0,0 +1,92 @@
+package brito.com.multitenancy001.controlplane.signup.app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import brito.com.multitenancy001.controlplane.accounts.app.query.AccountProvisioningEventQueryService;
+import brito.com.multitenancy001.controlplane.accounts.app.query.dto.AccountProvisioningEventData;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningFailureCode;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStage;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupProvisioningState;
+import brito.com.multitenancy001.controlplane.signup.app.dto.SignupProvisioningStatusData;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Consulta de status do provisionamento assíncrono de signup.
+ *
+ * <p>O status é derivado dos eventos em {@code account_provisioning_events}
+ * do {@code provisioningId}. Apenas estado, etapas e código de falha são
+ * expostos: details/mensagens (que contêm email e dados fiscais) não saem
+ * deste serviço, já que o endpoint de polling é público.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountProvisioningStatusQueryService {
+
+    private final AccountProvisioningEventQueryService accountProvisioningEventQueryService;
+
+    /**
+     * Retorna o status consolidado de um provisionamento.
+     *
+     * @param provisioningId id opaco devolvido no signup
+     * @return status consolidado
+     */
+    public SignupProvisioningStatusData getStatus(UUID provisioningId) {
+        if (provisioningId == null) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST, "provisioningId é obrigatório");
+        }
+
+        List<AccountProvisioningEventData> events =
+                accountProvisioningEventQueryService.listByProvisioningId(provisioningId);
+
+        if (events.isEmpty()) {
+            throw new ApiException(ApiErrorCode.PROVISIONING_NOT_FOUND);
+        }
+
+        SignupProvisioningState state = SignupProvisioningState.QUEUED;
+        ProvisioningStage currentStage = null;
+        ProvisioningFailureCode failureCode = null;
+        List<ProvisioningStage> completed = new ArrayList<>();
+
+        for (AccountProvisioningEventData event : events) {
+            switch (event.status()) {
+                case QUEUED -> state = SignupProvisioningState.QUEUED;
+                case STARTED -> state = SignupProvisioningState.RUNNING;
+                case RETRYING -> {
+                    state = SignupProvisioningState.RUNNING;
+                    currentStage = event.stage();
+                }
+                case STAGE_COMPLETED -> {
+                    state = SignupProvisioningState.RUNNING;
+                    if (event.stage() != null) {
+                        completed.add(event.stage());
+                    }
+                    currentStage = null;
+                }
+                case SUCCESS -> {
+                    state = SignupProvisioningState.SUCCEEDED;
+                    currentStage = null;
+                }
+                case FAILED -> {
+                    state = SignupProvisioningState.FAILED;
+                    currentStage = event.stage();
+                    failureCode = event.failureCode();
+                }
+            }
+        }
+
+        return new SignupProvisioningStatusData(
+                provisioningId,
+                state,
+                currentStage,
+                List.copyOf(completed),
+                failureCode,
+                events.get(events.size() - 1).createdAt()
+        );
+    }
+}
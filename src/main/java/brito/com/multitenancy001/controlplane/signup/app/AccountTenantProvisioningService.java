@@ -39,6 +39,9 @@ public class AccountTenantProvisioningService {
     /**
      * Provisiona schema tenant, owner inicial e login identity.
      *
+     * <p>Fluxo síncrono completo; o pipeline assíncrono chama cada etapa
+     * separadamente para poder aplicar retry por etapa.</p>
+     *
      * @param account account já criada no public schema
      * @param signupData dados de signup normalizados
      * @return usuário owner do tenant
@@ -47,6 +50,18 @@ public class AccountTenantProvisioningService {
             Account account,
             AccountOnboardingHelper.SignupData signupData
     ) {
+        provisionSchema(account);
+        UserSummaryData tenantOwner = createOwner(account, signupData);
+        ensureLoginIdentity(account, signupData);
+        return tenantOwner;
+    }
+
+    /**
+     * Etapa TENANT_SCHEMA: cria/migra o schema tenant (idempotente).
+     *
+     * @param account account já criada no public schema
+     */
+    public void provisionSchema(Account account) {
         String tenantSchema = account.getTenantSchema();
 
         log.info("Iniciando provisionamento do schema | tenantSchema={}", tenantSchema);
@@ -74,6 +89,20 @@ public class AccountTenantProvisioningService {
             log.error("❌ Falha no provisionamento do schema | tenantSchema={}", tenantSchema, ex);
             throw accountOnboardingHelper.provisioningFailed(code, ex);
         }
+    }
+
+    /**
+     * Etapa TENANT_OWNER: cria o usuário owner inicial no tenant.
+     *
+     * @param account account já criada no public schema
+     * @param signupData dados de signup normalizados
+     * @return usuário owner do tenant
+     */
+    public UserSummaryData createOwner(
+            Account account,
+            AccountOnboardingHelper.SignupData signupData
+    ) {
+        String tenantSchema = account.getTenantSchema();
 
         UserSummaryData tenantOwner;
         log.info("Criando tenant owner | tenantSchema={} accountId={} email={}",
@@ -98,6 +127,19 @@ public class AccountTenantProvisioningService {
             );
         }
 
+        return tenantOwner;
+    }
+
+    /**
+     * Etapa LOGIN_IDENTITY: garante a identidade de login no public schema (idempotente).
+     *
+     * @param account account já criada no public schema
+     * @param signupData dados de signup normalizados
+     */
+    public void ensureLoginIdentity(
+            Account account,
+            AccountOnboardingHelper.SignupData signupData
+    ) {
         log.info("Garantindo identidade de login no PUBLIC | email={} accountId={}",
                 signupData.loginEmail(),
                 account.getId());
@@ -120,7 +162,5 @@ public class AccountTenantProvisioningService {
                     ex
             );
         }
-
-        return tenantOwner;
     }
-}
\ No newline at end of file
+}
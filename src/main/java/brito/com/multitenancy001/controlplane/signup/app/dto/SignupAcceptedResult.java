@@ -0,0 +1,10 @@
+package brito.com.multitenancy001.controlplane.signup.app.dto;
+
+import java.util.UUID;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.Account;
+
+public record SignupAcceptedResult(
+        UUID provisioningId,
+        Account account
+) {}
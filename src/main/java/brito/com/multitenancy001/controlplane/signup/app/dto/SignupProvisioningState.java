@@ -0,0 +1,11 @@
+package brito.com.multitenancy001.controlplane.signup.app.dto;
+
+/**
+ * Estado resumido de um provisionamento de signup, exposto no polling.
+ */
+public enum SignupProvisioningState {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
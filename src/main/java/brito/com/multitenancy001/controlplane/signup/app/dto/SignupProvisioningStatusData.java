@@ -0,0 +1,17 @@
+package brito.com.multitenancy001.controlplane.signup.app.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningFailureCode;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStage;
+
+public record SignupProvisioningStatusData(
+        UUID provisioningId,
+        SignupProvisioningState state,
+        ProvisioningStage currentStage,
+        List<ProvisioningStage> completedStages,
+        ProvisioningFailureCode failureCode,
+        Instant updatedAt
+) {}
@@ -14,6 +14,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -270,6 +271,13 @@ public class ControlPlaneUser implements Auditable, SoftDeletable {
         return getExplicitPermissions();
     }
 
+    /**
+     * Visão somente-leitura das permissões explícitas, sem cópia (caminho quente de authorities).
+     */
+    public Set<ControlPlanePermission> explicitPermissionsView() {
+        return explicitPermissions == null ? Set.of() : Collections.unmodifiableSet(explicitPermissions);
+    }
+
     public void grantExplicitPermission(ControlPlanePermission p) {
         PermissionScopeValidator.requireControlPlanePermission(p);
         if (this.explicitPermissions == null) this.explicitPermissions = new LinkedHashSet<>();
@@ -0,0 +1,36 @@
+package brito.com.multitenancy001.infrastructure.cache;
+
+/**
+ * Mensagem tipada de invalidação de cache em memória.
+ *
+ * <p>Escopo:</p>
+ * <ul>
+ *   <li>{@code tenantSchema == null}: todos os tenants do cache.</li>
+ *   <li>{@code key == null}: todas as chaves do tenant no cache.</li>
+ * </ul>
+ *
+ * @param tenantSchema schema do tenant (ou null)
+ * @param cacheName nome do cache ({@link InvalidatableCache#cacheName()})
+ * @param key chave dentro do tenant (ou null)
+ */
+public record CacheInvalidation(String tenantSchema, String cacheName, String key) {
+
+    public CacheInvalidation {
+        if (cacheName == null || cacheName.isBlank()) {
+            throw new IllegalArgumentException("cacheName é obrigatório");
+        }
+        tenantSchema = tenantSchema == null || tenantSchema.isBlank() ? null : tenantSchema;
+        key = key == null || key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Invalidação de todas as chaves de um tenant em um cache.
+     *
+     * @param tenantSchema schema do tenant
+     * @param cacheName nome do cache
+     * @return mensagem
+     */
+    public static CacheInvalidation tenant(String tenantSchema, String cacheName) {
+        return new CacheInvalidation(tenantSchema, cacheName, null);
+    }
+}
@@ -0,0 +1,473 @@
+package brito.com.multitenancy001.infrastructure.cache;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.infrastructure.persistence.tx.AfterCommit;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bus de invalidação de caches em memória entre nós, sobre LISTEN/NOTIFY do Postgres.
+ *
+ * <p>Fluxo:</p>
+ * <ul>
+ *   <li>{@link #publish(CacheInvalidation)} aplica a invalidação no nó local na hora
+ *       e a enfileira para os demais nós. {@link #publishAfterCommit(CacheInvalidation)}
+ *       faz o mesmo só após o commit da TX corrente.</li>
+ *   <li>Uma thread de envio coalesce a fila (mensagens repetidas viram uma) e
+ *       publica em lote via {@code pg_notify} usando conexões do pool.</li>
+ *   <li>Uma thread de escuta mantém uma conexão dedicada (fora do pool, mesmas
+ *       propriedades de conexão do datasource/Hikari) com {@code LISTEN}, recebe as mensagens na ordem de commit, descarta as do
+ *       próprio nó, coalesce o que chegou junto e aplica em série nos caches
+ *       registrados (ordem por chave preservada).</li>
+ *   <li>Queda da conexão de escuta: reconecta com backoff exponencial e, ao
+ *       voltar, invalida todos os caches locais (mensagens do intervalo foram perdidas).</li>
+ *   <li>Fila de envio cheia: as mensagens pendentes viram uma única invalidação
+ *       total ({@value #ALL_CACHES}), nunca um descarte silencioso.</li>
+ * </ul>
+ *
+ * <p>Com {@code app.cache.invalidation.enabled=false} o bus só aplica localmente
+ * (nó único).</p>
+ *
+ * <p>Métricas: {@value #MESSAGES_METRIC}{@code {outcome=published|failed|received}}
+ * e {@value #RECONNECTS_METRIC}.</p>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    public static final String MESSAGES_METRIC = "app.cache.invalidation.messages";
+    public static final String RECONNECTS_METRIC = "app.cache.invalidation.reconnects";
+
+    /** Nome de cache reservado: invalida todos os caches registrados. */
+    public static final String ALL_CACHES = "*";
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final String PAYLOAD_VERSION = "v1";
+    private static final int MAX_PAYLOAD_CHARS = 7000;
+
+    private final DataSource dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final boolean enabled;
+    private final String channel;
+    private final int capacity;
+    private final long flushIntervalMs;
+    private final int pollTimeoutMs;
+    private final long reconnectMinMs;
+    private final long reconnectMaxMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, InvalidatableCache> caches = new ConcurrentHashMap<>();
+
+    private final Object outboundLock = new Object();
+    private Set<CacheInvalidation> outbound = new LinkedHashSet<>();
+    private boolean overflowed;
+
+    private final Counter published;
+    private final Counter failed;
+    private final Counter received;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private Thread sender;
+    private Thread listener;
+
+    public CacheInvalidationBus(
+            DataSource dataSource,
+            DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${app.cache.invalidation.channel:app_cache_invalidation}") String channel,
+            @Value("${app.cache.invalidation.capacity:10000}") int capacity,
+            @Value("${app.cache.invalidation.flush-interval-ms:20}") long flushIntervalMs,
+            @Value("${app.cache.invalidation.poll-timeout-ms:500}") int pollTimeoutMs,
+            @Value("${app.cache.invalidation.reconnect-min-ms:500}") long reconnectMinMs,
+            @Value("${app.cache.invalidation.reconnect-max-ms:30000}") long reconnectMaxMs
+    ) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("app.cache.invalidation.channel inválido: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.capacity = Math.max(1, capacity);
+        this.flushIntervalMs = Math.max(0L, flushIntervalMs);
+        this.pollTimeoutMs = Math.max(50, pollTimeoutMs);
+        this.reconnectMinMs = Math.max(1L, reconnectMinMs);
+        this.reconnectMaxMs = Math.max(this.reconnectMinMs, reconnectMaxMs);
+
+        this.published = Counter.builder(MESSAGES_METRIC).tag("outcome", "published").register(meterRegistry);
+        this.failed = Counter.builder(MESSAGES_METRIC).tag("outcome", "failed").register(meterRegistry);
+        this.received = Counter.builder(MESSAGES_METRIC).tag("outcome", "received").register(meterRegistry);
+        this.reconnects = Counter.builder(RECONNECTS_METRIC).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Bus de invalidação de cache desabilitado (somente local)");
+            return;
+        }
+        running = true;
+        sender = Thread.ofPlatform().name("cache-invalidation-sender").daemon(true).start(this::sendLoop);
+        listener = Thread.ofPlatform().name("cache-invalidation-listener").daemon(true).start(this::listenLoop);
+        log.info("Bus de invalidação de cache iniciado | channel={} | nodeId={}", channel, nodeId);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        synchronized (outboundLock) {
+            outboundLock.notifyAll();
+        }
+        sender.join(TimeUnit.SECONDS.toMillis(5));
+        listener.join(pollTimeoutMs + TimeUnit.SECONDS.toMillis(1));
+        log.info("Bus de invalidação de cache encerrado | published={} | received={} | failed={}",
+                (long) published.count(), (long) received.count(), (long) failed.count());
+    }
+
+    /**
+     * Registra um cache para receber invalidações (locais e de outros nós).
+     *
+     * @param cache cache
+     */
+    public void register(InvalidatableCache cache) {
+        InvalidatableCache previous = caches.putIfAbsent(cache.cacheName(), cache);
+        if (previous != null && previous != cache) {
+            throw new IllegalStateException("Cache já registrado no bus: " + cache.cacheName());
+        }
+    }
+
+    /**
+     * Aplica a invalidação localmente e a propaga aos demais nós.
+     *
+     * @param invalidation mensagem
+     */
+    public void publish(CacheInvalidation invalidation) {
+        dispatch(invalidation);
+
+        if (!enabled) {
+            return;
+        }
+        synchronized (outboundLock) {
+            if (outbound.size() >= capacity && !outbound.contains(invalidation)) {
+                overflowed = true;
+            } else {
+                outbound.add(invalidation);
+            }
+            outboundLock.notifyAll();
+        }
+    }
+
+    /**
+     * Como {@link #publish(CacheInvalidation)}, mas só após o commit da TX corrente
+     * (imediato sem TX): outro nó não pode recarregar dados ainda não commitados.
+     *
+     * @param invalidation mensagem
+     */
+    public void publishAfterCommit(CacheInvalidation invalidation) {
+        AfterCommit.runNowOrAfterCommit(() -> publish(invalidation));
+    }
+
+    private void dispatch(CacheInvalidation invalidation) {
+        if (ALL_CACHES.equals(invalidation.cacheName())) {
+            invalidateAllLocal();
+            return;
+        }
+
+        InvalidatableCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            log.debug("Invalidação para cache não registrado neste nó | cache={}", invalidation.cacheName());
+            return;
+        }
+        try {
+            cache.invalidate(invalidation);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [CACHE] falha aplicando invalidação | invalidation={}", invalidation, e);
+        }
+    }
+
+    private void invalidateAllLocal() {
+        for (InvalidatableCache cache : caches.values()) {
+            try {
+                cache.invalidateAll();
+            } catch (RuntimeException e) {
+                log.warn("⚠️ [CACHE] falha invalidando cache | cache={}", cache.cacheName(), e);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // envio
+    // ---------------------------------------------------------------------
+
+    private void sendLoop() {
+        long backoffMs = reconnectMinMs;
+
+        while (true) {
+            Set<CacheInvalidation> batch;
+            try {
+                synchronized (outboundLock) {
+                    while (running && outbound.isEmpty() && !overflowed) {
+                        outboundLock.wait();
+                    }
+                    if (!running && outbound.isEmpty() && !overflowed) {
+                        return;
+                    }
+                }
+
+                // janela de coalescência: rajadas viram um único NOTIFY
+                if (running && flushIntervalMs > 0) {
+                    Thread.sleep(flushIntervalMs);
+                }
+
+                batch = takeOutbound();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                send(batch);
+                published.increment(batch.size());
+                backoffMs = reconnectMinMs;
+            } catch (SQLException | RuntimeException e) {
+                failed.increment(batch.size());
+                log.warn("⚠️ [CACHE] falha publicando invalidações; nova tentativa em {}ms | size={}",
+                        backoffMs, batch.size(), e);
+                requeue(batch);
+                if (!running) {
+                    return;
+                }
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(reconnectMaxMs, backoffMs * 2);
+            }
+        }
+    }
+
+    private Set<CacheInvalidation> takeOutbound() {
+        synchronized (outboundLock) {
+            Set<CacheInvalidation> batch;
+            if (overflowed) {
+                log.warn("⚠️ [CACHE] fila de invalidação cheia; publicando invalidação total | pending={}", outbound.size());
+                batch = new LinkedHashSet<>();
+                batch.add(new CacheInvalidation(null, ALL_CACHES, null));
+                outbound.clear();
+                overflowed = false;
+            } else {
+                batch = outbound;
+                outbound = new LinkedHashSet<>();
+            }
+            return batch;
+        }
+    }
+
+    private void requeue(Set<CacheInvalidation> batch) {
+        synchronized (outboundLock) {
+            Set<CacheInvalidation> merged = new LinkedHashSet<>(batch);
+            merged.addAll(outbound);
+            if (merged.size() > capacity) {
+                overflowed = true;
+                merged.clear();
+            }
+            outbound = merged;
+        }
+    }
+
+    private void send(Set<CacheInvalidation> batch) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : encode(batch)) {
+                ps.setString(1, channel);
+                ps.setString(2, payload);
+                ps.execute();
+            }
+            if (!conn.getAutoCommit()) {
+                conn.commit();
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // escuta
+    // ---------------------------------------------------------------------
+
+    private void listenLoop() {
+        long backoffMs = reconnectMinMs;
+        boolean connectedBefore = false;
+
+        while (running) {
+            try (Connection conn = openListenerConnection()) {
+                try (Statement st = conn.createStatement()) {
+                    st.execute("LISTEN " + channel);
+                }
+                PGConnection pg = conn.unwrap(PGConnection.class);
+
+                if (connectedBefore) {
+                    reconnects.increment();
+                    log.info("Conexão de escuta de invalidação restabelecida; invalidando caches locais");
+                    invalidateAllLocal();
+                }
+                connectedBefore = true;
+                backoffMs = reconnectMinMs;
+
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(pollTimeoutMs);
+                    if (notifications == null || notifications.length == 0) {
+                        continue;
+                    }
+
+                    Set<CacheInvalidation> batch = new LinkedHashSet<>();
+                    for (PGNotification n : notifications) {
+                        if (channel.equals(n.getName())) {
+                            decodeInto(n.getParameter(), batch);
+                        }
+                    }
+                    received.increment(batch.size());
+                    for (CacheInvalidation invalidation : batch) {
+                        dispatch(invalidation);
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("⚠️ [CACHE] conexão de escuta de invalidação perdida; reconectando em {}ms", backoffMs, e);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(reconnectMaxMs, backoffMs * 2);
+            }
+        }
+    }
+
+    /**
+     * Abre a conexão de escuta com as mesmas propriedades do datasource: URL e
+     * credenciais de {@code spring.datasource.*} e, com Hikari, as
+     * {@code data-source-properties} (SSL, timeouts, ApplicationName, ...) e o
+     * {@code connection-timeout} como timeout de login.
+     */
+    private Connection openListenerConnection() throws SQLException {
+        Properties props = new Properties();
+
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            props.putAll(hikari.getDataSourceProperties());
+            long loginTimeoutSeconds = Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(hikari.getConnectionTimeout()));
+            props.putIfAbsent("loginTimeout", Long.toString(loginTimeoutSeconds));
+            props.putIfAbsent("connectTimeout", Long.toString(loginTimeoutSeconds));
+        }
+
+        String username = dataSourceProperties.determineUsername();
+        if (username != null && !username.isEmpty()) {
+            props.setProperty("user", username);
+        }
+        String password = dataSourceProperties.determinePassword();
+        if (password != null && !password.isEmpty()) {
+            props.setProperty("password", password);
+        }
+        props.putIfAbsent("ApplicationName", "cache-invalidation-listener");
+        props.putIfAbsent("tcpKeepAlive", "true");
+
+        Connection conn = DriverManager.getConnection(dataSourceProperties.determineUrl(), props);
+        conn.setAutoCommit(true);
+        return conn;
+    }
+
+    // ---------------------------------------------------------------------
+    // payload: "v1 <nodeId>" + uma linha por mensagem "tenant cache key" (URL-encoded)
+    // ---------------------------------------------------------------------
+
+    private List<String> encode(Set<CacheInvalidation> batch) {
+        String header = PAYLOAD_VERSION + ' ' + nodeId;
+        List<String> payloads = new ArrayList<>();
+        StringBuilder sb = new StringBuilder(header);
+
+        for (CacheInvalidation invalidation : batch) {
+            String line = enc(invalidation.tenantSchema()) + ' '
+                    + enc(invalidation.cacheName()) + ' '
+                    + enc(invalidation.key());
+
+            if (sb.length() > header.length() && sb.length() + 1 + line.length() > MAX_PAYLOAD_CHARS) {
+                payloads.add(sb.toString());
+                sb = new StringBuilder(header);
+            }
+            sb.append('\n').append(line);
+        }
+        payloads.add(sb.toString());
+        return payloads;
+    }
+
+    private void decodeInto(String payload, Set<CacheInvalidation> out) {
+        if (payload == null) {
+            return;
+        }
+        String[] lines = payload.split("\n");
+        String[] header = lines[0].split(" ", -1);
+        if (header.length != 2 || !PAYLOAD_VERSION.equals(header[0])) {
+            log.warn("⚠️ [CACHE] payload de invalidação desconhecido ignorado | header={}", lines[0]);
+            return;
+        }
+        if (nodeId.equals(header[1])) {
+            return;
+        }
+
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split(" ", -1);
+            if (fields.length != 3 || fields[1].isEmpty()) {
+                log.warn("⚠️ [CACHE] linha de invalidação inválida ignorada | line={}", lines[i]);
+                continue;
+            }
+            out.add(new CacheInvalidation(dec(fields[0]), dec(fields[1]), dec(fields[2])));
+        }
+    }
+
+    private static String enc(String value) {
+        return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String dec(String value) {
+        return value.isEmpty() ? null : URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
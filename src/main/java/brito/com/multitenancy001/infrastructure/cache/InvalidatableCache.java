@@ -0,0 +1,28 @@
+package brito.com.multitenancy001.infrastructure.cache;
+
+/**
+ * Cache em memória que aceita invalidações do {@link CacheInvalidationBus}.
+ *
+ * <p>Implementações se registram no bus ({@link CacheInvalidationBus#register})
+ * e devem ser idempotentes: a mesma invalidação pode chegar mais de uma vez.</p>
+ */
+public interface InvalidatableCache {
+
+    /**
+     * @return nome único do cache no bus
+     */
+    String cacheName();
+
+    /**
+     * Aplica uma invalidação (tenant inteiro quando {@code key} é null;
+     * todos os tenants quando {@code tenantSchema} é null).
+     *
+     * @param invalidation mensagem
+     */
+    void invalidate(CacheInvalidation invalidation);
+
+    /**
+     * Descarta tudo (ex.: mensagens possivelmente perdidas durante reconexão).
+     */
+    void invalidateAll();
+}
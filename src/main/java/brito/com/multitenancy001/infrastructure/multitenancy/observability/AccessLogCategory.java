@@ -0,0 +1,39 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+/**
+ * Categoria de amostragem do access log.
+ *
+ * <p>Uma requisição cai em uma única categoria, na ordem: erro de servidor,
+ * lenta, erro de cliente, sucesso.</p>
+ */
+public enum AccessLogCategory {
+
+    SERVER_ERROR("server-error"),
+    SLOW("slow"),
+    CLIENT_ERROR("client-error"),
+    SUCCESS("success");
+
+    private final String key;
+
+    AccessLogCategory(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static AccessLogCategory of(int status, long durationNanos, long slowThresholdNanos) {
+        if (status >= 500) return SERVER_ERROR;
+        if (durationNanos >= slowThresholdNanos) return SLOW;
+        if (status >= 400) return CLIENT_ERROR;
+        return SUCCESS;
+    }
+
+    public static AccessLogCategory fromKey(String key) {
+        for (AccessLogCategory c : values()) {
+            if (c.key.equalsIgnoreCase(key) || c.name().equalsIgnoreCase(key)) return c;
+        }
+        throw new IllegalArgumentException("categoria de access log desconhecida: " + key);
+    }
+}
@@ -0,0 +1,60 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/accesslog}: consulta e ajuste em runtime do access log.
+ *
+ * <p>Exemplos:</p>
+ * <ul>
+ *   <li>{@code GET /actuator/accesslog}</li>
+ *   <li>{@code POST /actuator/accesslog {"verbosity":"ALL"}}</li>
+ *   <li>{@code POST /actuator/accesslog {"category":"success","sampleRate":0.05}}</li>
+ * </ul>
+ *
+ * <p>O nível de loggers de diagnóstico (ex.: provider de conexão em DEBUG) continua
+ * em {@code /actuator/loggers}.</p>
+ */
+@Component
+@Endpoint(id = "accesslog")
+@RequiredArgsConstructor
+public class AccessLogEndpoint {
+
+    private final AccessLogWriter accessLogWriter;
+
+    @ReadOperation
+    public Map<String, Object> read() {
+        Map<String, Object> m = new LinkedHashMap<>(accessLogWriter.settings().snapshot());
+        m.put("stats", accessLogWriter.stats());
+        return m;
+    }
+
+    @WriteOperation
+    public Map<String, Object> write(
+            @Nullable String verbosity,
+            @Nullable Long slowThresholdMs,
+            @Nullable String category,
+            @Nullable Double sampleRate
+    ) {
+        AccessLogSettings settings = accessLogWriter.settings();
+
+        if (verbosity != null) {
+            settings.verbosity(AccessLogSettings.Verbosity.valueOf(verbosity.trim().toUpperCase()));
+        }
+        if (slowThresholdMs != null) {
+            settings.slowThresholdMs(slowThresholdMs);
+        }
+        if (category != null && sampleRate != null) {
+            settings.sampleRate(AccessLogCategory.fromKey(category.trim()), sampleRate);
+        }
+        return read();
+    }
+}
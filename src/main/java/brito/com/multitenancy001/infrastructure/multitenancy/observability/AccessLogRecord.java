@@ -0,0 +1,39 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+/**
+ * Registro estruturado de uma requisição (uma linha no access log).
+ *
+ * @param epochMillis instante de término
+ * @param method método HTTP
+ * @param route pattern do handler (ou URI quando não houver)
+ * @param status status HTTP
+ * @param tenant tenantSchema efetivo (null = PUBLIC)
+ * @param durationNanos duração medida no filtro
+ * @param ip IP do cliente
+ * @param requestId id da requisição
+ * @param category categoria de amostragem
+ */
+public record AccessLogRecord(
+        long epochMillis,
+        String method,
+        String route,
+        int status,
+        String tenant,
+        long durationNanos,
+        String ip,
+        String requestId,
+        AccessLogCategory category
+) {
+
+    void appendTo(StringBuilder sb) {
+        sb.append("ts=").append(epochMillis)
+                .append(" method=").append(method)
+                .append(" route=").append(route)
+                .append(" status=").append(status)
+                .append(" tenant=").append(tenant != null ? tenant : "PUBLIC")
+                .append(" durationMs=").append(RequestTrace.millis(durationNanos))
+                .append(" ip=").append(ip != null ? ip : "-")
+                .append(" requestId=").append(requestId != null ? requestId : "-")
+                .append(" category=").append(category.key());
+    }
+}
@@ -0,0 +1,98 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Verbosidade e amostragem do access log, ajustáveis em runtime.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>{@link Verbosity#OFF}: nada é registrado.</li>
+ *   <li>{@link Verbosity#ERRORS}: só {@code SERVER_ERROR}, {@code SLOW} e {@code CLIENT_ERROR}.</li>
+ *   <li>{@link Verbosity#SAMPLED}: toda categoria, filtrada pela taxa da categoria.</li>
+ *   <li>{@link Verbosity#ALL}: tudo, sem amostragem.</li>
+ * </ul>
+ *
+ * <p>Leitura no hot path é um campo volatile + um sorteio; sem lock.</p>
+ */
+public final class AccessLogSettings {
+
+    public enum Verbosity { OFF, ERRORS, SAMPLED, ALL }
+
+    private volatile Verbosity verbosity;
+    private volatile long slowThresholdNanos;
+    private final double[] sampleRates = new double[AccessLogCategory.values().length];
+
+    public AccessLogSettings(Verbosity verbosity, long slowThresholdMs, Map<AccessLogCategory, Double> sampleRates) {
+        this.verbosity = verbosity;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000L;
+        for (AccessLogCategory c : AccessLogCategory.values()) {
+            this.sampleRates[c.ordinal()] = clamp(sampleRates.getOrDefault(c, 1.0));
+        }
+    }
+
+    /**
+     * Decide se a requisição da categoria deve ser registrada.
+     *
+     * @param category categoria
+     * @return true quando deve entrar no access log
+     */
+    public boolean shouldLog(AccessLogCategory category) {
+        Verbosity v = verbosity;
+        if (v == Verbosity.OFF) return false;
+        if (v == Verbosity.ALL) return true;
+        if (v == Verbosity.ERRORS && category == AccessLogCategory.SUCCESS) return false;
+
+        double rate = sampleRates[category.ordinal()];
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    public Verbosity verbosity() {
+        return verbosity;
+    }
+
+    public void verbosity(Verbosity verbosity) {
+        this.verbosity = verbosity;
+    }
+
+    public long slowThresholdNanos() {
+        return slowThresholdNanos;
+    }
+
+    public void slowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdNanos = Math.max(0L, slowThresholdMs) * 1_000_000L;
+    }
+
+    public void sampleRate(AccessLogCategory category, double rate) {
+        sampleRates[category.ordinal()] = clamp(rate);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (AccessLogCategory c : AccessLogCategory.values()) {
+            rates.put(c.key(), sampleRates[c.ordinal()]);
+        }
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("verbosity", verbosity.name());
+        m.put("slowThresholdMs", slowThresholdNanos / 1_000_000L);
+        m.put("sampleRates", rates);
+        return m;
+    }
+
+    static Map<AccessLogCategory, Double> rates(double success, double clientError, double serverError, double slow) {
+        Map<AccessLogCategory, Double> m = new EnumMap<>(AccessLogCategory.class);
+        m.put(AccessLogCategory.SUCCESS, success);
+        m.put(AccessLogCategory.CLIENT_ERROR, clientError);
+        m.put(AccessLogCategory.SERVER_ERROR, serverError);
+        m.put(AccessLogCategory.SLOW, slow);
+        return m;
+    }
+
+    private static double clamp(double rate) {
+        if (Double.isNaN(rate)) return 0.0;
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+}
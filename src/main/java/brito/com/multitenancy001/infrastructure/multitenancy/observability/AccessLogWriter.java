@@ -0,0 +1,180 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access log assíncrono e em lote: um registro estruturado por requisição.
+ *
+ * <p>Fluxo:</p>
+ * <ul>
+ *   <li>A thread HTTP só classifica/amostra ({@link AccessLogSettings}) e faz
+ *       {@code offer} numa fila limitada; nunca formata texto nem toca appender.</li>
+ *   <li>Fila cheia = registro descartado e contado ({@value #RECORDS_METRIC}{@code {outcome=dropped}});
+ *       a requisição nunca espera pelo log.</li>
+ *   <li>Uma thread dedicada drena até {@code batch-size} registros e emite um único
+ *       evento de log multi-linha no logger {@code brito.com.multitenancy001.access}.</li>
+ *   <li>No shutdown a fila é drenada antes de encerrar.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    public static final String RECORDS_METRIC = "app.access_log.records";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("brito.com.multitenancy001.access");
+
+    private final AccessLogSettings settings;
+    private final BlockingQueue<AccessLogRecord> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter sampledOut;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AccessLogWriter(
+            MeterRegistry meterRegistry,
+            @Value("${app.access-log.verbosity:SAMPLED}") AccessLogSettings.Verbosity verbosity,
+            @Value("${app.access-log.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${app.access-log.sample.success:0.1}") double successRate,
+            @Value("${app.access-log.sample.client-error:1.0}") double clientErrorRate,
+            @Value("${app.access-log.sample.server-error:1.0}") double serverErrorRate,
+            @Value("${app.access-log.sample.slow:1.0}") double slowRate,
+            @Value("${app.access-log.queue-capacity:8192}") int queueCapacity,
+            @Value("${app.access-log.batch-size:256}") int batchSize,
+            @Value("${app.access-log.flush-interval-ms:200}") long flushIntervalMs
+    ) {
+        this.settings = new AccessLogSettings(verbosity, slowThresholdMs,
+                AccessLogSettings.rates(successRate, clientErrorRate, serverErrorRate, slowRate));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1L, flushIntervalMs);
+
+        this.written = Counter.builder(RECORDS_METRIC).tag("outcome", "written").register(meterRegistry);
+        this.dropped = Counter.builder(RECORDS_METRIC).tag("outcome", "dropped").register(meterRegistry);
+        this.sampledOut = Counter.builder(RECORDS_METRIC).tag("outcome", "sampled_out").register(meterRegistry);
+        Gauge.builder("app.access_log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("access-log-writer").daemon(true).start(this::drainLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        flushRemaining();
+    }
+
+    public AccessLogSettings settings() {
+        return settings;
+    }
+
+    /**
+     * Categoria da requisição pelos limites atuais.
+     */
+    public AccessLogCategory categorize(int status, long durationNanos) {
+        return AccessLogCategory.of(status, durationNanos, settings.slowThresholdNanos());
+    }
+
+    /**
+     * Verificação barata (antes de montar o registro).
+     *
+     * @param category categoria da requisição
+     * @return true quando o registro deve ser montado e enviado
+     */
+    public boolean shouldLog(AccessLogCategory category) {
+        if (settings.shouldLog(category)) {
+            return true;
+        }
+        sampledOut.increment();
+        return false;
+    }
+
+    /**
+     * Enfileira o registro sem bloquear.
+     *
+     * @param record registro da requisição
+     */
+    public void submit(AccessLogRecord record) {
+        if (!queue.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("queued", queue.size());
+        m.put("written", (long) written.count());
+        m.put("dropped", (long) dropped.count());
+        m.put("sampledOut", (long) sampledOut.count());
+        return m;
+    }
+
+    private void drainLoop() {
+        List<AccessLogRecord> batch = new ArrayList<>(batchSize);
+        StringBuilder sb = new StringBuilder(batchSize * 160);
+
+        while (running) {
+            try {
+                AccessLogRecord first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                emit(batch, sb);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.warn("⚠️ [ACCESS] falha ao emitir lote | size={}", batch.size(), e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<AccessLogRecord> batch = new ArrayList<>(batchSize);
+        StringBuilder sb = new StringBuilder();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            emit(batch, sb);
+        }
+    }
+
+    private void emit(List<AccessLogRecord> batch, StringBuilder sb) {
+        if (accessLog.isInfoEnabled()) {
+            sb.setLength(0);
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) sb.append('\n');
+                batch.get(i).appendTo(sb);
+            }
+            accessLog.info(sb.toString());
+        }
+        written.increment(batch.size());
+        batch.clear();
+    }
+}
@@ -0,0 +1,151 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Trace leve de uma requisição: spans aninhados em ring buffer + contador de SQL.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Uma instância por thread, reaproveitada entre requisições (sem alocação no hot path).</li>
+ *   <li>Spans guardam apenas referência ao nome (ex.: {@code Signature}) e dois {@code nanoTime};
+ *       a renderização em texto só acontece quando a requisição é emitida.</li>
+ *   <li>Buffer circular de {@value #CAPACITY} spans: em requisições muito longas ficam os
+ *       mais recentes e a quantidade descartada é reportada.</li>
+ *   <li>Fora de uma requisição rastreada ({@link #currentOrNull()} == null) nada é registrado.</li>
+ * </ul>
+ */
+public final class RequestTrace {
+
+    static final int CAPACITY = 128;
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<RequestTrace> POOL = ThreadLocal.withInitial(RequestTrace::new);
+
+    private final Object[] names = new Object[CAPACITY];
+    private final long[] starts = new long[CAPACITY];
+    private final long[] ends = new long[CAPACITY];
+    private final int[] depths = new int[CAPACITY];
+
+    private long startNanos;
+    private int spanCount;
+    private int depth;
+    private int sqlCount;
+
+    private RequestTrace() {
+    }
+
+    /**
+     * Inicia o trace da requisição no thread atual.
+     *
+     * @return trace ativo
+     */
+    static RequestTrace begin() {
+        RequestTrace trace = POOL.get();
+        trace.reset();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * Encerra o trace do thread atual (a instância volta para reuso).
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return trace ativo no thread atual ou null
+     */
+    public static RequestTrace currentOrNull() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Conta uma instrução SQL no trace ativo (no-op fora de requisição).
+     */
+    public static void countSql() {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.sqlCount++;
+        }
+    }
+
+    private void reset() {
+        startNanos = System.nanoTime();
+        spanCount = 0;
+        depth = 0;
+        sqlCount = 0;
+        Arrays.fill(names, null);
+    }
+
+    /**
+     * Abre um span.
+     *
+     * @param name nome do span (renderizado via {@code toString()} apenas na emissão)
+     * @return id do span para {@link #exit(int)}
+     */
+    public int enter(Object name) {
+        int slot = spanCount % CAPACITY;
+        names[slot] = name;
+        starts[slot] = System.nanoTime();
+        ends[slot] = 0L;
+        depths[slot] = depth++;
+        return spanCount++;
+    }
+
+    /**
+     * Fecha o span aberto por {@link #enter(Object)}.
+     *
+     * @param spanId id retornado pelo enter
+     */
+    public void exit(int spanId) {
+        depth--;
+        if (spanCount - spanId <= CAPACITY) {
+            ends[spanId % CAPACITY] = System.nanoTime();
+        }
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    int sqlCount() {
+        return sqlCount;
+    }
+
+    int spanCount() {
+        return spanCount;
+    }
+
+    int droppedSpans() {
+        return Math.max(0, spanCount - CAPACITY);
+    }
+
+    /**
+     * Renderiza os spans retidos: {@code depth:nome@offsetMs+duraçãoMs}.
+     *
+     * @param sb destino
+     */
+    void appendSpans(StringBuilder sb) {
+        int retained = Math.min(spanCount, CAPACITY);
+        int first = spanCount - retained;
+
+        sb.append('[');
+        for (int i = 0; i < retained; i++) {
+            int slot = (first + i) % CAPACITY;
+            if (i > 0) sb.append(" ; ");
+
+            long end = ends[slot];
+            sb.append(depths[slot]).append(':').append(names[slot])
+                    .append('@').append(millis(starts[slot] - startNanos))
+                    .append('+').append(end == 0L ? "open" : millis(end - starts[slot]));
+        }
+        sb.append(']');
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,29 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registro do {@link RequestTraceFilter} antes da cadeia do Spring Security,
+ * para que o trace cubra autenticação, filtros e handler.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.trace.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTraceConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestTraceFilter> requestTraceFilterRegistration(
+            @Value("${app.trace.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${app.trace.sample-rate:0.01}") double sampleRate
+    ) {
+        FilterRegistrationBean<RequestTraceFilter> registration =
+                new FilterRegistrationBean<>(new RequestTraceFilter(slowThresholdMs, sampleRate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
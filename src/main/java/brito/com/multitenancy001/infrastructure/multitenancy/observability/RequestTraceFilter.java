@@ -0,0 +1,91 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Abre o {@link RequestTrace} da requisição e emite o trace apenas quando vale a pena.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Toda requisição registra spans (custo: {@code nanoTime} + escrita em array).</li>
+ *   <li>Emite somente se a requisição for lenta ({@code app.trace.slow-threshold-ms})
+ *       ou sorteada ({@code app.trace.sample-rate}); as demais não geram texto nem log.</li>
+ *   <li>Linha estruturada (key=value) no logger {@code brito.com.multitenancy001.trace}:
+ *       rota (pattern), status, tenant, duração, contagem de SQL e spans.</li>
+ * </ul>
+ */
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private static final Logger traceLog = LoggerFactory.getLogger("brito.com.multitenancy001.trace");
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+
+    public RequestTraceFilter(long slowThresholdMs, double sampleRate) {
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000L;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+
+        RequestTrace trace = RequestTrace.begin();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            try {
+                long elapsed = trace.elapsedNanos();
+                boolean slow = elapsed >= slowThresholdNanos;
+                boolean sampled = !slow && sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+
+                if ((slow || sampled) && traceLog.isInfoEnabled()) {
+                    traceLog.info(render(req, res, trace, elapsed, slow));
+                }
+            } finally {
+                RequestTrace.end();
+            }
+        }
+    }
+
+    private static String render(HttpServletRequest req, HttpServletResponse res, RequestTrace trace,
+                                 long elapsedNanos, boolean slow) {
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object tenant = req.getAttribute(TenantMetrics.REQUEST_TENANT_ATTRIBUTE);
+        String requestId = res.getHeader("X-Request-Id");
+
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(slow ? "🐢 [TRACE] reason=slow" : "🔎 [TRACE] reason=sampled")
+                .append(" | method=").append(req.getMethod())
+                .append(" | route=").append(pattern != null ? pattern : req.getRequestURI())
+                .append(" | status=").append(res.getStatus())
+                .append(" | tenant=").append(tenant != null ? tenant : "PUBLIC")
+                .append(" | duration=").append(RequestTrace.millis(elapsedNanos))
+                .append(" | sql=").append(trace.sqlCount())
+                .append(" | spanCount=").append(trace.spanCount())
+                .append(" | droppedSpans=").append(trace.droppedSpans())
+                .append(" | requestId=").append(requestId != null ? requestId : "-")
+                .append(" | spans=");
+        trace.appendSpans(sb);
+        return sb.toString();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.startsWith("/actuator")
+                || path.startsWith("/swagger")
+                || path.startsWith("/v3/api-docs")
+                || path.startsWith("/favicon.ico");
+    }
+}
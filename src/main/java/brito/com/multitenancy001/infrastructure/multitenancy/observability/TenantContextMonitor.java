@@ -7,71 +7,74 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 /**
- * Monitor de observabilidade do TenantContext em services.
+ * Monitor de services: spans no {@link RequestTrace} e classificação de falhas.
  *
  * <p>Objetivos:</p>
  * <ul>
- *   <li>Logar tenant bound/effective antes e depois da execução.</li>
- *   <li>Classificar falhas esperadas e inesperadas.</li>
+ *   <li>Registrar um span por método de {@code @Service} (referência à {@code Signature} +
+ *       {@code nanoTime}); nada de strings/log no caminho feliz.</li>
+ *   <li>Classificar falhas esperadas e inesperadas (só paga o custo quando há exceção).</li>
  *   <li>Dar mensagem clara para erro clássico de bind indevido de tenant.</li>
  * </ul>
+ *
+ * <p>Pode ser desligado com {@code app.trace.service-spans.enabled=false}.</p>
  */
 @Aspect
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "app.trace.service-spans.enabled", havingValue = "true", matchIfMissing = true)
 public class TenantContextMonitor {
 
     @Around("@within(org.springframework.stereotype.Service)")
     public Object monitorServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodName = joinPoint.getSignature().toShortString();
-        String boundTenant = TenantContext.getOrNull();
-        String effectiveTenant = TenantContext.getOrDefaultPublic();
-
-        long startTime = System.currentTimeMillis();
-
-        log.debug("🏁 INÍCIO {} | tenant(bound={}, effective={})",
-                methodName, boundTenant, effectiveTenant);
+        RequestTrace trace = RequestTrace.currentOrNull();
+        int spanId = trace != null ? trace.enter(joinPoint.getStaticPart().getSignature()) : -1;
+        long startNanos = System.nanoTime();
 
         try {
-            Object result = joinPoint.proceed();
-            long duration = System.currentTimeMillis() - startTime;
-
-            log.debug("✅ FIM {} ({}ms) | tenant(bound={}, effective={})",
-                    methodName, duration, TenantContext.getOrNull(), TenantContext.getOrDefaultPublic());
-
-            return result;
-
+            return joinPoint.proceed();
         } catch (Throwable e) {
-            long duration = System.currentTimeMillis() - startTime;
-
-            if (isTenantContextError(e)) {
-                log.warn("🏷️ CONTEXTO_TENANT {} ({}ms) | tenant(bound={}, effective={}) | detalhe: {}",
-                        methodName, duration, boundTenant, effectiveTenant, getTenantContextErrorMessage(e));
-                throw e;
+            onFailure(joinPoint, e, (System.nanoTime() - startNanos) / 1_000_000L);
+            throw e;
+        } finally {
+            if (trace != null) {
+                trace.exit(spanId);
             }
+        }
+    }
 
-            if (isInvalidLogin(e)) {
-                log.info("🔐 AUTENTICACAO {} ({}ms) | tenant(bound={}, effective={}) | motivo: {}",
-                        methodName, duration, boundTenant, effectiveTenant, safeMsg(e));
-                throw e;
-            }
+    private void onFailure(ProceedingJoinPoint joinPoint, Throwable e, long duration) {
+        String methodName = joinPoint.getSignature().toShortString();
+        String boundTenant = TenantContext.getOrNull();
+        String effectiveTenant = TenantContext.getOrDefaultPublic();
 
-            ApiException apiEx = findApiException(e);
-            if (apiEx != null) {
-                logApiException(apiEx, methodName, duration, boundTenant, effectiveTenant, e);
-                throw e;
-            }
+        if (isTenantContextError(e)) {
+            log.warn("🏷️ CONTEXTO_TENANT {} ({}ms) | tenant(bound={}, effective={}) | detalhe: {}",
+                    methodName, duration, boundTenant, effectiveTenant, getTenantContextErrorMessage(e));
+            return;
+        }
 
-            log.error("❌ ERRO_INESPERADO {} ({}ms) | tenant(bound={}, effective={}) | tipo={} | motivo: {}",
-                    methodName, duration, boundTenant, effectiveTenant,
-                    e.getClass().getSimpleName(), safeMsg(e), e);
-            throw e;
+        if (isInvalidLogin(e)) {
+            log.info("🔐 AUTENTICACAO {} ({}ms) | tenant(bound={}, effective={}) | motivo: {}",
+                    methodName, duration, boundTenant, effectiveTenant, safeMsg(e));
+            return;
+        }
+
+        ApiException apiEx = findApiException(e);
+        if (apiEx != null) {
+            logApiException(apiEx, methodName, duration, boundTenant, effectiveTenant, e);
+            return;
         }
+
+        log.error("❌ ERRO_INESPERADO {} ({}ms) | tenant(bound={}, effective={}) | tipo={} | motivo: {}",
+                methodName, duration, boundTenant, effectiveTenant,
+                e.getClass().getSimpleName(), safeMsg(e), e);
     }
 
     private boolean isTenantContextError(Throwable e) {
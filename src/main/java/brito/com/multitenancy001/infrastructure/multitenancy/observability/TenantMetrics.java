@@ -0,0 +1,184 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Métricas por tenant (Micrometer) com tag {@code tenant} de cardinalidade limitada.
+ *
+ * <p>Meters publicados:</p>
+ * <ul>
+ *   <li>{@value #CONNECTION_CHECKOUT}: tempo de {@code DataSource.getConnection()} no provider multi-tenant.</li>
+ *   <li>{@value #CONNECTION_SEARCH_PATH}: tempo de preparar o schema e executar {@code SET search_path}.</li>
+ *   <li>{@value #CONNECTION_BULKHEAD_WAIT}: espera na fila do bulkhead de conexões por tenant (outcome granted/timeout).</li>
+ *   <li>{@value #UOW_DURATION}: duração das unidades de trabalho (TENANT/PUBLIC) por modo e resultado.</li>
+ *   <li>{@value #PASSWORD_HASH}: tempo de bcrypt (encode/matches).</li>
+ *   <li>{@code http.server.requests}: ganha a tag {@code tenant} via
+ *       {@link TenantServerRequestObservationConvention}.</li>
+ * </ul>
+ *
+ * <p>A tag {@code tenant} segue a {@link TenantTagPolicy} (top-N + "other"); meters de
+ * tenants rebaixados são removidos do registry no rebalance, mantendo o total limitado.</p>
+ */
+@Slf4j
+@Component
+public class TenantMetrics {
+
+    public static final String TENANT_TAG = "tenant";
+
+    /** Atributo do request com o tenantSchema efetivo (preenchido no fim da cadeia de filtros). */
+    public static final String REQUEST_TENANT_ATTRIBUTE = TenantMetrics.class.getName() + ".tenantSchema";
+
+    public static final String CONNECTION_CHECKOUT = "tenant.connection.checkout";
+    public static final String CONNECTION_SEARCH_PATH = "tenant.connection.search_path";
+    public static final String CONNECTION_BULKHEAD_WAIT = "tenant.connection.bulkhead.wait";
+    public static final String UOW_DURATION = "app.uow.duration";
+    public static final String PASSWORD_HASH = "auth.password.hash";
+    public static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    private static final List<String> TENANT_TAGGED_METERS = List.of(
+            CONNECTION_CHECKOUT, CONNECTION_SEARCH_PATH, CONNECTION_BULKHEAD_WAIT, UOW_DURATION, PASSWORD_HASH, HTTP_SERVER_REQUESTS
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final TenantTagPolicy tagPolicy;
+
+    private final Meter.MeterProvider<Timer> connectionCheckout;
+    private final Meter.MeterProvider<Timer> connectionSearchPath;
+    private final Meter.MeterProvider<Timer> connectionBulkheadWait;
+    private final Meter.MeterProvider<Timer> uowDuration;
+    private final Meter.MeterProvider<Timer> passwordHash;
+
+    public TenantMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.tenant-tag.top-n:20}") int topN,
+            @Value("${app.metrics.tenant-tag.max-tracked:1000}") int maxTracked
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.tagPolicy = new TenantTagPolicy(topN, maxTracked);
+
+        this.connectionCheckout = Timer.builder(CONNECTION_CHECKOUT)
+                .description("Tempo de checkout de conexão no provider multi-tenant")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+
+        this.connectionSearchPath = Timer.builder(CONNECTION_SEARCH_PATH)
+                .description("Tempo de preparo de schema + SET search_path")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+
+        this.connectionBulkheadWait = Timer.builder(CONNECTION_BULKHEAD_WAIT)
+                .description("Espera por vaga no bulkhead de conexões do tenant")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+
+        this.uowDuration = Timer.builder(UOW_DURATION)
+                .description("Duração das unidades de trabalho transacionais")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .withRegistry(meterRegistry);
+
+        this.passwordHash = Timer.builder(PASSWORD_HASH)
+                .description("Tempo de hash/verificação de senha (bcrypt)")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Tag limitada para o tenant informado (conta atividade para o ranking).
+     *
+     * @param tenantSchema schema do tenant (null = PUBLIC)
+     * @return valor da tag {@code tenant}
+     */
+    public String tenantTag(String tenantSchema) {
+        return tagPolicy.tagFor(tenantSchema);
+    }
+
+    public void recordConnectionCheckout(String tenantSchema, long nanos) {
+        connectionCheckout.withTags(TENANT_TAG, tenantTag(tenantSchema))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSearchPath(String tenantSchema, long nanos) {
+        connectionSearchPath.withTags(TENANT_TAG, tenantTag(tenantSchema))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBulkheadWait(String tenantSchema, String outcome, long nanos) {
+        connectionBulkheadWait.withTags("outcome", outcome, TENANT_TAG, tenantTag(tenantSchema))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPasswordHash(String operation, String tenantSchema, long nanos) {
+        passwordHash.withTags("op", operation, TENANT_TAG, tenantTag(tenantSchema))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cronometra uma unidade de trabalho.
+     *
+     * @param scope TENANT ou PUBLIC
+     * @param mode modo transacional (tx, readOnly, requiresNew...)
+     * @param tenantSchema schema do tenant (null = PUBLIC)
+     * @param fn bloco
+     * @return resultado do bloco
+     */
+    public <T> T timeUnitOfWork(String scope, String mode, String tenantSchema, Supplier<T> fn) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = fn.get();
+            outcome = "success";
+            return result;
+        } finally {
+            recordUnitOfWork(scope, mode, tenantSchema, outcome, System.nanoTime() - start);
+        }
+    }
+
+    public void timeUnitOfWork(String scope, String mode, String tenantSchema, Runnable fn) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            fn.run();
+            outcome = "success";
+        } finally {
+            recordUnitOfWork(scope, mode, tenantSchema, outcome, System.nanoTime() - start);
+        }
+    }
+
+    private void recordUnitOfWork(String scope, String mode, String tenantSchema, String outcome, long nanos) {
+        uowDuration.withTags("scope", scope, "mode", mode, "outcome", outcome, TENANT_TAG, tenantTag(tenantSchema))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Recalcula o top-N e remove meters de tenants que perderam a tag própria.
+     */
+    @Scheduled(fixedDelayString = "${app.metrics.tenant-tag.rebalance-delay-ms:60000}")
+    public void rebalanceTenantTags() {
+        Set<String> demoted = tagPolicy.rebalance();
+        if (demoted.isEmpty()) {
+            return;
+        }
+
+        int removed = 0;
+        for (String tenant : demoted) {
+            for (String name : TENANT_TAGGED_METERS) {
+                for (Meter meter : meterRegistry.find(name).tag(TENANT_TAG, tenant).meters()) {
+                    removed += meterRegistry.remove(meter) != null ? 1 : 0;
+                }
+            }
+        }
+
+        log.debug("📊 tenant tags rebalanceadas | rebaixados={} | metersRemovidos={} | topN={}",
+                demoted.size(), removed, tagPolicy.taggedTenants().size());
+    }
+}
@@ -0,0 +1,56 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Wiring das métricas de infraestrutura.
+ *
+ * <ul>
+ *   <li>Tag {@code tenant} no {@code http.server.requests}.</li>
+ *   <li>Profundidade de fila/threads ativas dos executors assíncronos
+ *       ({@code executor.queued}, {@code executor.active}, ...), tag {@code name}.</li>
+ * </ul>
+ */
+@Configuration
+public class TenantMetricsConfig {
+
+    @Bean
+    public TenantServerRequestObservationConvention tenantServerRequestObservationConvention(TenantMetrics tenantMetrics) {
+        return new TenantServerRequestObservationConvention(tenantMetrics);
+    }
+
+    /**
+     * Gauges dos executors dedicados (after-commit, verificação de senha e
+     * provisioning de signup).
+     */
+    @Bean
+    public MeterBinder asyncExecutorMetrics(
+            @Qualifier("afterTxCompletionExecutor") TaskExecutor afterTxCompletionExecutor,
+            @Qualifier("tenantPasswordVerificationExecutor") ThreadPoolTaskExecutor tenantPasswordVerificationExecutor,
+            @Qualifier("signupProvisioningExecutor") ThreadPoolTaskExecutor signupProvisioningExecutor
+    ) {
+        return registry -> {
+            if (afterTxCompletionExecutor instanceof ThreadPoolTaskExecutor pool) {
+                new ExecutorServiceMetrics(pool.getThreadPoolExecutor(), "afterTxCompletionExecutor", Tags.empty())
+                        .bindTo(registry);
+            }
+            new ExecutorServiceMetrics(
+                    tenantPasswordVerificationExecutor.getThreadPoolExecutor(),
+                    "tenantPasswordVerificationExecutor",
+                    Tags.empty()
+            ).bindTo(registry);
+            new ExecutorServiceMetrics(
+                    signupProvisioningExecutor.getThreadPoolExecutor(),
+                    "signupProvisioningExecutor",
+                    Tags.empty()
+            ).bindTo(registry);
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Convenção de observação HTTP que adiciona a tag {@code tenant} ao
+ * {@code http.server.requests} (latência por rota e por tenant).
+ *
+ * <p>O TenantContext já foi limpo quando a observação fecha; por isso o tenant
+ * efetivo é lido do atributo {@link TenantMetrics#REQUEST_TENANT_ATTRIBUTE},
+ * preenchido pelo {@code RequestLoggingFilter} (último filtro da cadeia).</p>
+ */
+public class TenantServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private final TenantMetrics tenantMetrics;
+
+    public TenantServerRequestObservationConvention(TenantMetrics tenantMetrics) {
+        this.tenantMetrics = tenantMetrics;
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object tenantSchema = context.getCarrier() != null
+                ? context.getCarrier().getAttribute(TenantMetrics.REQUEST_TENANT_ATTRIBUTE)
+                : null;
+
+        String tag = tenantMetrics.tenantTag(tenantSchema instanceof String s ? s : null);
+        return super.getLowCardinalityKeyValues(context).and(KeyValue.of(TenantMetrics.TENANT_TAG, tag));
+    }
+}
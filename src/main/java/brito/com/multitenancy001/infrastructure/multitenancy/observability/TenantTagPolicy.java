@@ -0,0 +1,135 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Política de cardinalidade da tag {@code tenant} das métricas.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>No máximo {@code topN} tenants recebem tag própria; o resto vira {@value #OTHER}.</li>
+ *   <li>PUBLIC (tenantSchema null) tem tag fixa {@value #PUBLIC}.</li>
+ *   <li>Atividade por tenant é contada em {@link LongAdder} (hot path sem lock) e o
+ *       conjunto top-N é recalculado periodicamente em {@link #rebalance()}, com
+ *       decaimento (metade do score anterior) para refletir a janela recente.</li>
+ *   <li>Enquanto houver vaga, um tenant novo é admitido na hora (sem esperar o rebalance).</li>
+ *   <li>O rastreamento também é limitado ({@code maxTracked}): tenants excedentes
+ *       não são contados até a próxima limpeza.</li>
+ * </ul>
+ */
+public final class TenantTagPolicy {
+
+    public static final String OTHER = "other";
+    public static final String PUBLIC = "public";
+
+    private final int topN;
+    private final int maxTracked;
+
+    private final ConcurrentHashMap<String, LongAdder> activity = new ConcurrentHashMap<>();
+
+    /** Scores decaídos; acessado apenas por {@link #rebalance()} (sincronizado). */
+    private final Map<String, Long> scores = new HashMap<>();
+
+    private volatile Set<String> tagged = Set.of();
+
+    public TenantTagPolicy(int topN, int maxTracked) {
+        if (topN < 0) {
+            throw new IllegalArgumentException("topN deve ser >= 0");
+        }
+        this.topN = topN;
+        this.maxTracked = Math.max(maxTracked, topN);
+    }
+
+    /**
+     * Resolve a tag do tenant e contabiliza a atividade.
+     *
+     * @param tenantSchema schema do tenant (null = PUBLIC)
+     * @return tenantSchema, {@value #PUBLIC} ou {@value #OTHER}
+     */
+    public String tagFor(String tenantSchema) {
+        if (tenantSchema == null || tenantSchema.isBlank()) {
+            return PUBLIC;
+        }
+
+        LongAdder counter = activity.get(tenantSchema);
+        if (counter == null && activity.size() < maxTracked) {
+            counter = activity.computeIfAbsent(tenantSchema, k -> new LongAdder());
+        }
+        if (counter != null) {
+            counter.increment();
+        }
+
+        Set<String> current = tagged;
+        if (current.contains(tenantSchema)) {
+            return tenantSchema;
+        }
+        if (current.size() < topN && admit(tenantSchema)) {
+            return tenantSchema;
+        }
+        return OTHER;
+    }
+
+    private synchronized boolean admit(String tenantSchema) {
+        Set<String> current = tagged;
+        if (current.contains(tenantSchema)) {
+            return true;
+        }
+        if (current.size() >= topN) {
+            return false;
+        }
+        Set<String> next = new HashSet<>(current);
+        next.add(tenantSchema);
+        tagged = Collections.unmodifiableSet(next);
+        return true;
+    }
+
+    /**
+     * Recalcula o conjunto top-N pela atividade recente.
+     *
+     * @return tenants que perderam a tag própria (para remoção dos meters)
+     */
+    public synchronized Set<String> rebalance() {
+        for (Map.Entry<String, LongAdder> e : activity.entrySet()) {
+            long recent = e.getValue().sumThenReset();
+            long previous = scores.getOrDefault(e.getKey(), 0L);
+            long score = (previous / 2) + recent;
+
+            if (score == 0L) {
+                scores.remove(e.getKey());
+                activity.remove(e.getKey(), e.getValue());
+            } else {
+                scores.put(e.getKey(), score);
+            }
+        }
+        scores.keySet().retainAll(activity.keySet());
+
+        List<Map.Entry<String, Long>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        Set<String> next = new HashSet<>();
+        for (int i = 0; i < ranked.size() && i < topN; i++) {
+            next.add(ranked.get(i).getKey());
+        }
+
+        Set<String> demoted = new HashSet<>(tagged);
+        demoted.removeAll(next);
+
+        tagged = Collections.unmodifiableSet(next);
+        return demoted;
+    }
+
+    /**
+     * @return tenants com tag própria no momento
+     */
+    public Set<String> taggedTenants() {
+        return tagged;
+    }
+}
@@ -0,0 +1,45 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import brito.com.multitenancy001.shared.context.TenantContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} que mede o tempo de hash/verificação (bcrypt) por tenant.
+ *
+ * <p>Apenas decora o encoder real; não altera o formato do hash.</p>
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final TenantMetrics tenantMetrics;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, TenantMetrics tenantMetrics) {
+        this.delegate = delegate;
+        this.tenantMetrics = tenantMetrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            tenantMetrics.recordPasswordHash("encode", TenantContext.getOrNull(), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            tenantMetrics.recordPasswordHash("matches", TenantContext.getOrNull(), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
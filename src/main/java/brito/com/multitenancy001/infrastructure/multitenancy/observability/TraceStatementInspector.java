@@ -0,0 +1,19 @@
+package brito.com.multitenancy001.infrastructure.multitenancy.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta as instruções SQL preparadas pelo Hibernate no {@link RequestTrace} ativo.
+ *
+ * <p>Não altera o SQL; fora de requisição rastreada é no-op.</p>
+ */
+public class TraceStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        RequestTrace.countSql();
+        return sql;
+    }
+}
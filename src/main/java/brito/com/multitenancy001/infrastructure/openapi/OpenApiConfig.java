@@ -64,7 +64,7 @@ public GroupedOpenApi tenantApi() {
 public GroupedOpenApi publicApi() {
     return GroupedOpenApi.builder()
         .group("public")
-        .pathsToMatch("/api/signup", "/api/accounts/auth/**")
+        .pathsToMatch("/api/signup", "/api/signup/provisioning/*", "/api/accounts/auth/**")
         .build();
 }
 
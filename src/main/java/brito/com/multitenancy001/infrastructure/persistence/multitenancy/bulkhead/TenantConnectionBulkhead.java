@@ -0,0 +1,307 @@
+package brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TenantMetrics;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionBulkheadProperties.PlanPolicy;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admissão de checkout de conexões de tenant sobre o pool compartilhado.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Cada tenant tem um teto de conexões simultâneas conforme o plano
+ *       ({@code app.db.bulkhead.plans.<plano>.max-connections}).</li>
+ *   <li>O total de conexões de tenant no nó é limitado por
+ *       {@code app.db.bulkhead.global-permits}, abaixo do tamanho do pool,
+ *       para que o PUBLIC nunca fique sem conexão.</li>
+ *   <li>Quem não é admitido espera na fila do próprio tenant. Ao liberar uma
+ *       vaga, ela vai para o tenant elegível (abaixo do teto) de menor tempo
+ *       virtual; cada concessão avança o tempo virtual do tenant em
+ *       {@code 1/weight} (weighted fair queuing). Um tenant barulhento só
+ *       atrasa a própria fila.</li>
+ *   <li>A espera é limitada por {@code queue-timeout} do plano; esgotado o
+ *       prazo, falha com {@link ApiErrorCode#TENANT_DB_BUSY} (503).</li>
+ *   <li>Checkout aninhado na mesma thread e tenant (ex.: REQUIRES_NEW) não
+ *       disputa a fila do tenant (travaria contra a própria vaga): usa a
+ *       reserva {@code app.db.bulkhead.nested-permits}, contada à parte. Assim
+ *       o total de conexões de tenant nunca passa de
+ *       {@code global-permits + nested-permits}. Reserva esgotada espera até o
+ *       {@code queue-timeout} do plano e falha com
+ *       {@link ApiErrorCode#TENANT_DB_BUSY}.</li>
+ * </ul>
+ *
+ * <p>Métricas: {@value TenantMetrics#CONNECTION_BULKHEAD_WAIT}{@code {tenant,outcome}}
+ * e gauges de conexões em uso/espera.</p>
+ */
+@Slf4j
+@Component
+public class TenantConnectionBulkhead {
+
+    private final TenantConnectionBulkheadProperties properties;
+    private final TenantConnectionPlanDirectory planDirectory;
+    private final TenantMetrics tenantMetrics;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final Set<Lane> backlogged = new LinkedHashSet<>();
+    private final Condition nestedFree = lock.newCondition();
+    private int globalInUse;
+    private int nestedInUse;
+    private int waiting;
+    private double virtualClock;
+
+    private final ThreadLocal<Map<String, Integer>> held = ThreadLocal.withInitial(HashMap::new);
+
+    public TenantConnectionBulkhead(
+            TenantConnectionBulkheadProperties properties,
+            TenantConnectionPlanDirectory planDirectory,
+            TenantMetrics tenantMetrics,
+            MeterRegistry meterRegistry
+    ) {
+        properties.validate();
+        this.properties = properties;
+        this.planDirectory = planDirectory;
+        this.tenantMetrics = tenantMetrics;
+
+        Gauge.builder("tenant.connection.bulkhead.in_use", this, b -> b.snapshot(true)).register(meterRegistry);
+        Gauge.builder("tenant.connection.bulkhead.waiting", this, b -> b.snapshot(false)).register(meterRegistry);
+    }
+
+    /**
+     * Admite um checkout de conexão para o tenant, esperando na fila se preciso.
+     *
+     * @param tenantSchema schema do tenant
+     * @throws ApiException {@link ApiErrorCode#TENANT_DB_BUSY} se o prazo de fila esgotar
+     */
+    public void acquire(String tenantSchema) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Map<String, Integer> mine = held.get();
+        boolean nested = mine.getOrDefault(tenantSchema, 0) > 0;
+
+        SubscriptionPlan plan = nested ? null : planDirectory.planOf(tenantSchema);
+        PlanPolicy policy = nested ? null : properties.policyFor(plan);
+
+        long start = System.nanoTime();
+
+        lock.lock();
+        try {
+            Lane lane = lanes.computeIfAbsent(tenantSchema, key -> new Lane());
+            if (policy != null) {
+                lane.policy = policy;
+            }
+
+            if (nested) {
+                awaitNested(lane, tenantSchema, start);
+            } else if (lane.waiters.isEmpty()
+                    && lane.inUse < lane.policy.getMaxConnections()
+                    && globalInUse < properties.getGlobalPermits()) {
+                grant(lane);
+            } else {
+                awaitTurn(lane, tenantSchema, plan, start);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        mine.merge(tenantSchema, 1, Integer::sum);
+        tenantMetrics.recordBulkheadWait(tenantSchema, "granted", System.nanoTime() - start);
+    }
+
+    /**
+     * Libera a vaga do tenant e repassa à próxima fila na ordem justa.
+     *
+     * @param tenantSchema schema do tenant
+     */
+    public void release(String tenantSchema) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Map<String, Integer> mine = held.get();
+        Integer count = mine.get(tenantSchema);
+        boolean nested = count != null && count > 1;
+        if (count != null) {
+            if (count <= 1) {
+                mine.remove(tenantSchema);
+            } else {
+                mine.put(tenantSchema, count - 1);
+            }
+        }
+
+        lock.lock();
+        try {
+            if (nested) {
+                nestedInUse--;
+                nestedFree.signal();
+                return;
+            }
+
+            Lane lane = lanes.get(tenantSchema);
+            if (lane == null || lane.inUse == 0) {
+                log.warn("⚠️ [MT] release do bulkhead sem checkout correspondente | tenantSchema={}", tenantSchema);
+                return;
+            }
+
+            lane.inUse--;
+            globalInUse--;
+            dispatch();
+
+            if (lane.inUse == 0 && lane.waiters.isEmpty()) {
+                lanes.remove(tenantSchema);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitTurn(Lane lane, String tenantSchema, SubscriptionPlan plan, long start) {
+        Waiter me = new Waiter(lock.newCondition());
+        if (lane.waiters.isEmpty()) {
+            // tenant voltando a ter fila não acumula crédito do tempo ocioso
+            lane.virtualTime = Math.max(lane.virtualTime, virtualClock);
+            backlogged.add(lane);
+        }
+        lane.waiters.addLast(me);
+        waiting++;
+
+        long remaining = lane.policy.getQueueTimeout().toNanos();
+        try {
+            while (!me.granted && remaining > 0) {
+                remaining = me.condition.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (me.granted) {
+            return;
+        }
+
+        // timeout/interrupção: sai da fila sem ter recebido vaga
+        lane.waiters.remove(me);
+        waiting--;
+        if (lane.waiters.isEmpty()) {
+            backlogged.remove(lane);
+            if (lane.inUse == 0) {
+                lanes.remove(tenantSchema);
+            }
+        }
+
+        long waitedNanos = System.nanoTime() - start;
+        tenantMetrics.recordBulkheadWait(tenantSchema, "timeout", waitedNanos);
+        log.warn("⚠️ [MT] fila de conexões do tenant esgotou o prazo | tenantSchema={} | plan={} | inUse={} | waiting={} | globalInUse={} | waitedMs={}",
+                tenantSchema, plan, lane.inUse, lane.waiters.size(), globalInUse,
+                TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+
+        throw new ApiException(ApiErrorCode.TENANT_DB_BUSY);
+    }
+
+    /**
+     * Checkout aninhado: vaga da reserva própria, fora da fila justa e do teto do tenant.
+     */
+    private void awaitNested(Lane lane, String tenantSchema, long start) {
+        long remaining = lane.policy.getQueueTimeout().toNanos();
+        try {
+            while (nestedInUse >= properties.getNestedPermits() && remaining > 0) {
+                remaining = nestedFree.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (nestedInUse < properties.getNestedPermits()) {
+            nestedInUse++;
+            return;
+        }
+
+        long waitedNanos = System.nanoTime() - start;
+        tenantMetrics.recordBulkheadWait(tenantSchema, "timeout", waitedNanos);
+        log.warn("⚠️ [MT] reserva de conexões aninhadas esgotada | tenantSchema={} | nestedInUse={} | globalInUse={} | waitedMs={}",
+                tenantSchema, nestedInUse, globalInUse, TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+
+        throw new ApiException(ApiErrorCode.TENANT_DB_BUSY);
+    }
+
+    /**
+     * Entrega vagas livres às filas, por menor tempo virtual entre os tenants abaixo do teto.
+     */
+    private void dispatch() {
+        while (globalInUse < properties.getGlobalPermits() && !backlogged.isEmpty()) {
+            Lane next = null;
+            for (Lane lane : backlogged) {
+                if (lane.inUse < lane.policy.getMaxConnections()
+                        && (next == null || lane.virtualTime < next.virtualTime)) {
+                    next = lane;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+
+            Waiter waiter = next.waiters.pollFirst();
+            waiting--;
+            if (next.waiters.isEmpty()) {
+                backlogged.remove(next);
+            }
+
+            grant(next);
+            waiter.granted = true;
+            waiter.condition.signal();
+        }
+    }
+
+    private void grant(Lane lane) {
+        lane.inUse++;
+        globalInUse++;
+        virtualClock = Math.max(virtualClock, lane.virtualTime);
+        lane.virtualTime = Math.max(lane.virtualTime, virtualClock) + 1.0 / lane.policy.getWeight();
+    }
+
+    private double snapshot(boolean inUse) {
+        lock.lock();
+        try {
+            return inUse ? globalInUse + nestedInUse : waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private final class Lane {
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private PlanPolicy policy;
+        private int inUse;
+        private double virtualTime;
+
+        private Lane() {
+            this.policy = properties.policyFor(null);
+        }
+    }
+
+    private static final class Waiter {
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
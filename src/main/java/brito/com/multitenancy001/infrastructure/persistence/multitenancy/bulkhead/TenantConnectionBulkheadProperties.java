@@ -0,0 +1,152 @@
+package brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
+
+/**
+ * Propriedades do bulkhead de conexões por tenant ({@code app.db.bulkhead}).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.db.bulkhead")
+public class TenantConnectionBulkheadProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Conexões de tenant simultâneas no nó (deixar folga no pool para o PUBLIC).
+     */
+    private int globalPermits = 7;
+
+    /**
+     * Reserva à parte para checkouts aninhados (ex.: REQUIRES_NEW) de quem já
+     * tem conexão do tenant. {@code global-permits + nested-permits} deve ficar
+     * abaixo do tamanho do pool.
+     */
+    private int nestedPermits = 2;
+
+    /**
+     * Validade do plano resolvido por tenant (invalidado também na troca de plano).
+     */
+    private Duration planCacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * Mapa: "free", "pro", "enterprise", "built_in_plan" -> política.
+     */
+    private Map<String, PlanPolicy> plans = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getGlobalPermits() {
+        return globalPermits;
+    }
+
+    public void setGlobalPermits(int globalPermits) {
+        this.globalPermits = globalPermits;
+    }
+
+    public int getNestedPermits() {
+        return nestedPermits;
+    }
+
+    public void setNestedPermits(int nestedPermits) {
+        this.nestedPermits = nestedPermits;
+    }
+
+    public Duration getPlanCacheTtl() {
+        return planCacheTtl;
+    }
+
+    public void setPlanCacheTtl(Duration planCacheTtl) {
+        this.planCacheTtl = planCacheTtl;
+    }
+
+    public Map<String, PlanPolicy> getPlans() {
+        return plans;
+    }
+
+    public void setPlans(Map<String, PlanPolicy> plans) {
+        this.plans = plans;
+    }
+
+    public static class PlanPolicy {
+
+        private int maxConnections = 2;
+        private int weight = 1;
+        private Duration queueTimeout = Duration.ofSeconds(2);
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            this.weight = weight;
+        }
+
+        public Duration getQueueTimeout() {
+            return queueTimeout;
+        }
+
+        public void setQueueTimeout(Duration queueTimeout) {
+            this.queueTimeout = queueTimeout;
+        }
+    }
+
+    /**
+     * Política do plano; planos sem configuração usam a de FREE (ou o default da classe).
+     *
+     * @param plan plano (null = FREE)
+     * @return política
+     */
+    public PlanPolicy policyFor(SubscriptionPlan plan) {
+        SubscriptionPlan effective = plan != null ? plan : SubscriptionPlan.FREE;
+
+        PlanPolicy policy = plans.get(effective.name().toLowerCase());
+        if (policy == null) {
+            policy = plans.get(SubscriptionPlan.FREE.name().toLowerCase());
+        }
+        return policy != null ? policy : new PlanPolicy();
+    }
+
+    /**
+     * Fail-fast de configuração.
+     */
+    public void validate() {
+        if (globalPermits <= 0) {
+            throw new IllegalStateException("Configuração inválida: app.db.bulkhead.global-permits deve ser maior que zero.");
+        }
+        if (nestedPermits <= 0) {
+            throw new IllegalStateException("Configuração inválida: app.db.bulkhead.nested-permits deve ser maior que zero.");
+        }
+        for (Map.Entry<String, PlanPolicy> entry : plans.entrySet()) {
+            PlanPolicy policy = entry.getValue();
+            if (policy == null || policy.getMaxConnections() <= 0 || policy.getWeight() <= 0) {
+                throw new IllegalStateException("Configuração inválida: app.db.bulkhead.plans." + entry.getKey()
+                        + " exige max-connections e weight maiores que zero.");
+            }
+            if (policy.getQueueTimeout() == null || policy.getQueueTimeout().isNegative()) {
+                throw new IllegalStateException("Configuração inválida: app.db.bulkhead.plans." + entry.getKey()
+                        + ".queue-timeout inválido.");
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
+import brito.com.multitenancy001.infrastructure.cache.CacheInvalidation;
+import brito.com.multitenancy001.infrastructure.cache.CacheInvalidationBus;
+import brito.com.multitenancy001.infrastructure.cache.InvalidatableCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plano de assinatura por tenantSchema, para o bulkhead de conexões.
+ *
+ * <p>Consultado a cada checkout de conexão de tenant, por isso fica em memória:</p>
+ * <ul>
+ *   <li>Carga por uma consulta indexada em {@code public.accounts} (JDBC direto,
+ *       sem passar pelo provider multi-tenant).</li>
+ *   <li>Validade de {@code app.db.bulkhead.plan-cache-ttl}; a troca de plano
+ *       também invalida a entrada em todos os nós ({@link CacheInvalidationBus}).</li>
+ *   <li>Falha na consulta: usa FREE sem guardar (nova tentativa no próximo checkout).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantConnectionPlanDirectory implements InvalidatableCache {
+
+    public static final String CACHE_NAME = "tenant-connection-plans";
+
+    private static final String SQL = """
+            select a.subscription_plan
+              from public.accounts a
+             where a.tenant_schema = :tenantSchema
+               and a.deleted = false
+             limit 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TenantConnectionBulkheadProperties properties;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerForInvalidation() {
+        cacheInvalidationBus.register(this);
+    }
+
+    /**
+     * Plano do tenant (FREE quando a conta não existe ou o plano é desconhecido).
+     *
+     * @param tenantSchema schema do tenant
+     * @return plano
+     */
+    public SubscriptionPlan planOf(String tenantSchema) {
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(tenantSchema);
+        if (entry != null && now - entry.loadedAtNanos < properties.getPlanCacheTtl().toNanos()) {
+            return entry.plan;
+        }
+
+        SubscriptionPlan plan;
+        try {
+            plan = load(tenantSchema);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [MT] falha resolvendo plano para bulkhead; usando FREE | tenantSchema={}", tenantSchema, e);
+            return entry != null ? entry.plan : SubscriptionPlan.FREE;
+        }
+
+        entries.put(tenantSchema, new Entry(plan, now));
+        return plan;
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(CacheInvalidation invalidation) {
+        if (invalidation.tenantSchema() == null) {
+            invalidateAll();
+        } else {
+            entries.remove(invalidation.tenantSchema());
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private SubscriptionPlan load(String tenantSchema) {
+        List<String> rows = jdbcTemplate.queryForList(
+                SQL, new MapSqlParameterSource("tenantSchema", tenantSchema), String.class);
+
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return SubscriptionPlan.FREE;
+        }
+        try {
+            return SubscriptionPlan.valueOf(rows.get(0));
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ [MT] plano desconhecido para bulkhead; usando FREE | tenantSchema={} | plan={}",
+                    tenantSchema, rows.get(0));
+            return SubscriptionPlan.FREE;
+        }
+    }
+
+    private record Entry(SubscriptionPlan plan, long loadedAtNanos) {
+    }
+}
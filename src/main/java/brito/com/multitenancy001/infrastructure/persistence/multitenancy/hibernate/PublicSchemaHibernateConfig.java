@@ -1,5 +1,6 @@
 package brito.com.multitenancy001.infrastructure.persistence.multitenancy.hibernate;
 
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TraceStatementInspector;
 import brito.com.multitenancy001.shared.db.Schemas;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.cfg.AvailableSettings;
@@ -51,6 +52,9 @@ public class PublicSchemaHibernateConfig {
         Map<String, Object> props = new HashMap<>();
         props.put(AvailableSettings.DEFAULT_SCHEMA, Schemas.CONTROL_PLANE);
 
+        // Contagem de SQL por requisição (RequestTrace)
+        props.put(AvailableSettings.STATEMENT_INSPECTOR, new TraceStatementInspector());
+
         // Bean container para injeção em listeners/converters/etc
         props.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(configurableListableBeanFactory));
 
@@ -6,6 +6,8 @@ import org.hibernate.engine.jdbc.connections.spi.AbstractDataSourceBasedMultiTen
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TenantMetrics;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionBulkhead;
 import brito.com.multitenancy001.shared.context.TenantContext;
 import brito.com.multitenancy001.shared.db.Schemas;
 
@@ -26,6 +28,8 @@ public class TenantSchemaConnectionProvider
     private static final String DEFAULT_SCHEMA = Schemas.CONTROL_PLANE;
 
     private final DataSource dataSource;
+    private final TenantMetrics tenantMetrics;
+    private final TenantConnectionBulkhead tenantConnectionBulkhead;
 
     @Override
     protected DataSource selectAnyDataSource() {
@@ -42,6 +46,9 @@ public class TenantSchemaConnectionProvider
 
         long threadId = Thread.currentThread().threadId();
 
+        // diagnóstico por conexão: DEBUG, avaliado uma vez por checkout (runtime via /actuator/loggers)
+        boolean diagnostics = log.isDebugEnabled();
+
         // ✅ TenantContext guarda tenantSchema (null = PUBLIC). Aqui nunca devolve null.
         String threadTenantSchema = TenantContext.getOrDefaultPublic();
 
@@ -51,7 +58,7 @@ public class TenantSchemaConnectionProvider
                 : DEFAULT_SCHEMA;
 
         if (!StringUtils.hasText(tenantIdentifier)) {
-            if (log.isDebugEnabled()) {
+            if (diagnostics) {
                 log.debug("🏠 [MT] tenantParam vazio → usando DEFAULT ({}) | thread={} | tenantSchemaThread={}",
                         DEFAULT_SCHEMA, threadId, threadTenantSchema);
             }
@@ -62,7 +69,27 @@ public class TenantSchemaConnectionProvider
 
         validateTenantSchema(effectiveTenantSchema);
 
-        Connection connection = dataSource.getConnection();
+        // métrica: null = PUBLIC
+        String metricsTenant = DEFAULT_SCHEMA.equals(effectiveTenantSchema) ? null : effectiveTenantSchema;
+
+        // bulkhead: conexões de tenant passam pela admissão por plano (PUBLIC não)
+        boolean tenantScoped = metricsTenant != null;
+        if (tenantScoped) {
+            tenantConnectionBulkhead.acquire(effectiveTenantSchema);
+        }
+
+        long checkoutStart = System.nanoTime();
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            if (tenantScoped) {
+                tenantConnectionBulkhead.release(effectiveTenantSchema);
+            }
+            throw e;
+        }
+        long searchPathStart = System.nanoTime();
+        tenantMetrics.recordConnectionCheckout(metricsTenant, searchPathStart - checkoutStart);
 
         try (Statement stmt = connection.createStatement()) {
 
@@ -73,8 +100,10 @@ public class TenantSchemaConnectionProvider
                 String quotedDefault = quoteIdentifier(DEFAULT_SCHEMA);
 
                 String setSearchPath = "SET search_path TO " + quotedTenant + ", " + quotedDefault;
-                log.info("🎯 [MT] getConnection | thread={} | tenantSchemaParam={} | tenantSchemaThread={} | SQL={}",
-                        threadId, effectiveTenantSchema, threadTenantSchema, setSearchPath);
+                if (diagnostics) {
+                    log.debug("🎯 [MT] getConnection | thread={} | tenantSchemaParam={} | tenantSchemaThread={} | SQL={}",
+                            threadId, effectiveTenantSchema, threadTenantSchema, setSearchPath);
+                }
 
                 stmt.execute(setSearchPath);
 
@@ -82,17 +111,23 @@ public class TenantSchemaConnectionProvider
                 String quotedDefault = quoteIdentifier(DEFAULT_SCHEMA);
 
                 String setSearchPath = "SET search_path TO " + quotedDefault + ";";
-                log.info("🏠 [MT] getConnection | thread={} | tenantSchemaParam={} | tenantSchemaThread={} | SQL={}",
-                        threadId, effectiveTenantSchema, threadTenantSchema, setSearchPath);
+                if (diagnostics) {
+                    log.debug("🏠 [MT] getConnection | thread={} | tenantSchemaParam={} | tenantSchemaThread={} | SQL={}",
+                            threadId, effectiveTenantSchema, threadTenantSchema, setSearchPath);
+                }
 
                 stmt.execute(setSearchPath);
             }
 
+            tenantMetrics.recordSearchPath(metricsTenant, System.nanoTime() - searchPathStart);
             return connection;
 
         } catch (SQLException e) {
             log.error("❌ [MT] Erro configurando conexão | effectiveTenantSchema={}", effectiveTenantSchema, e);
             try { connection.close(); } catch (SQLException ignore) {}
+            if (tenantScoped) {
+                tenantConnectionBulkhead.release(effectiveTenantSchema);
+            }
             throw e;
         }
     }
@@ -114,6 +149,7 @@ public class TenantSchemaConnectionProvider
                 log.debug("🧹 [MT] releaseConnection ignorado (connection já fechada) | thread={} | tenantParam={}",
                         threadId, tenantIdentifier);
             }
+            releaseBulkhead(tenantIdentifier);
             return;
         }
 
@@ -131,7 +167,11 @@ public class TenantSchemaConnectionProvider
             log.warn("⚠️ [MT] Falha ao resetar search_path no releaseConnection | thread={} | tenantParam={}",
                     threadId, tenantIdentifier, e);
         } finally {
-            connection.close();
+            try {
+                connection.close();
+            } finally {
+                releaseBulkhead(tenantIdentifier);
+            }
 
             if (log.isDebugEnabled()) {
                 log.debug("🔒 [MT] conexão fechada | thread={} | tenantParam={}", threadId, tenantIdentifier);
@@ -139,6 +179,12 @@ public class TenantSchemaConnectionProvider
         }
     }
 
+    private void releaseBulkhead(String tenantIdentifier) {
+        if (StringUtils.hasText(tenantIdentifier) && !DEFAULT_SCHEMA.equals(tenantIdentifier.trim())) {
+            tenantConnectionBulkhead.release(tenantIdentifier.trim());
+        }
+    }
+
     private void ensureSchemaExists(Connection connection, String tenantSchema) throws SQLException {
         String quotedSchema = quoteIdentifier(tenantSchema);
 
@@ -1,9 +1,11 @@
 package brito.com.multitenancy001.infrastructure.persistence.multitenancy.hibernate;
 
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TraceStatementInspector;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.MultiTenancySettings;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +42,9 @@ public class TenantSchemaHibernateConfig {
     private final TenantSchemaResolver currentTenantSchemaResolver;
     private final ConfigurableListableBeanFactory configurableListableBeanFactory;
 
+    @Value("${app.jpa.show-sql:false}")
+    private boolean showSql;
+
     @Bean(name = "tenantEntityManagerFactory")
     public LocalContainerEntityManagerFactoryBean tenantEntityManagerFactory() {
         LocalContainerEntityManagerFactoryBean emf = new LocalContainerEntityManagerFactoryBean();
@@ -58,9 +63,9 @@ public class TenantSchemaHibernateConfig {
         // DDL sempre via Flyway (você dropa o banco e recria)
         props.put(AvailableSettings.HBM2DDL_AUTO, "none");
 
-        // Log SQL (mantenho como você está usando)
-        props.put(AvailableSettings.SHOW_SQL, true);
-        props.put(AvailableSettings.FORMAT_SQL, true);
+        // Log SQL no stdout (síncrono): só quando ligado explicitamente (ex.: profile dev)
+        props.put(AvailableSettings.SHOW_SQL, showSql);
+        props.put(AvailableSettings.FORMAT_SQL, showSql);
 
         /**
          * ✅ Multi-tenancy por SCHEMA
@@ -74,6 +79,9 @@ public class TenantSchemaHibernateConfig {
         props.put(MultiTenancySettings.MULTI_TENANT_CONNECTION_PROVIDER, tenantSchemaConnectionProvider);
         props.put(MultiTenancySettings.MULTI_TENANT_IDENTIFIER_RESOLVER, currentTenantSchemaResolver);
 
+        // Contagem de SQL por requisição (RequestTrace)
+        props.put(AvailableSettings.STATEMENT_INSPECTOR, new TraceStatementInspector());
+
         // ✅ Hibernate resolve beans do Spring (EntityListeners @Component etc.)
         props.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(configurableListableBeanFactory));
 
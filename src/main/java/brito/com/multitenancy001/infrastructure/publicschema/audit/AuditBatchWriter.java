@@ -0,0 +1,188 @@
+package brito.com.multitenancy001.infrastructure.publicschema.audit;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Escrita em lote das tabelas de auditoria do schema público via INSERT multi-linha.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Uma instrução {@code INSERT ... VALUES (...),(...)} por tabela e por bloco
+ *       de até {@value #MAX_ROWS_PER_STATEMENT} linhas, em autocommit (um commit por bloco).</li>
+ *   <li>Tabelas qualificadas com {@code public.}: independe do search_path da conexão.</li>
+ *   <li>Se o bloco falhar (ex.: details com JSON inválido), cai para inserção linha a
+ *       linha para isolar a linha problemática; com o banco indisponível o bloco
+ *       inteiro volta como falha. O retorno lista as linhas não gravadas.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditBatchWriter {
+
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String AUTH_EVENTS_INSERT = """
+            INSERT INTO public.auth_events
+                (occurred_at, request_id, method, uri, ip, user_agent, auth_domain, event_type, outcome,
+                 principal_email, principal_user_id, account_id, tenant_schema, details)
+            VALUES
+            """;
+    private static final String AUTH_EVENTS_VALUES = "(?, ?, ?, ?, CAST(? AS inet), ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb))";
+
+    private static final String SECURITY_AUDIT_INSERT = """
+            INSERT INTO public.security_audit_events
+                (occurred_at, request_id, method, uri, ip, user_agent, action_type, outcome,
+                 actor_email, actor_user_id, target_email, target_user_id, account_id, tenant_schema, details)
+            VALUES
+            """;
+    private static final String SECURITY_AUDIT_VALUES = "(?, ?, ?, ?, CAST(? AS inet), ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Resultado de um lote.
+     *
+     * @param unavailable linhas não gravadas por indisponibilidade do banco (podem ser reenviadas)
+     * @param rejected linhas recusadas pelo banco mesmo isoladas (reenviar não adianta)
+     */
+    public record Result(List<AuditRow> unavailable, List<AuditRow> rejected) {
+
+        public int notWritten() {
+            return unavailable.size() + rejected.size();
+        }
+    }
+
+    /**
+     * Persiste o lote.
+     *
+     * @param rows linhas de qualquer tabela de auditoria
+     * @return linhas que não puderam ser gravadas, por motivo
+     */
+    public Result write(List<? extends AuditRow> rows) {
+        List<AuditRow.AuthEventRow> authEvents = new ArrayList<>();
+        List<AuditRow.SecurityAuditRow> securityEvents = new ArrayList<>();
+        for (AuditRow row : rows) {
+            switch (row) {
+                case AuditRow.AuthEventRow r -> authEvents.add(r);
+                case AuditRow.SecurityAuditRow r -> securityEvents.add(r);
+            }
+        }
+
+        Result result = new Result(new ArrayList<>(), new ArrayList<>());
+        insertChunked(authEvents, AUTH_EVENTS_INSERT, AUTH_EVENTS_VALUES, AuditBatchWriter::bindAuthEvent, result);
+        insertChunked(securityEvents, SECURITY_AUDIT_INSERT, SECURITY_AUDIT_VALUES, AuditBatchWriter::bindSecurityAudit, result);
+        return result;
+    }
+
+    private <T extends AuditRow> void insertChunked(
+            List<T> rows, String insert, String values, Binder<T> binder, Result result
+    ) {
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<T> chunk = rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT));
+            try {
+                insert(chunk, insert, values, binder);
+            } catch (DataAccessResourceFailureException | TransientDataAccessException e) {
+                // banco indisponível: linha a linha falharia igual
+                log.warn("⚠️ [AUDIT] banco indisponível para auditoria | rows={} | msg={}", chunk.size(), e.getMessage());
+                result.unavailable().addAll(chunk);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ [AUDIT] INSERT em lote falhou; gravando linha a linha | rows={} | msg={}",
+                        chunk.size(), e.getMessage());
+                for (T row : chunk) {
+                    try {
+                        insert(List.of(row), insert, values, binder);
+                    } catch (DataAccessResourceFailureException | TransientDataAccessException rowError) {
+                        result.unavailable().add(row);
+                    } catch (RuntimeException rowError) {
+                        result.rejected().add(row);
+                    }
+                }
+            }
+        }
+    }
+
+    private <T> void insert(List<T> rows, String insert, String values, Binder<T> binder) {
+        StringBuilder sql = new StringBuilder(insert.length() + rows.size() * (values.length() + 2)).append(insert);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(',');
+            sql.append(values);
+        }
+
+        jdbcTemplate.update(sql.toString(), ps -> {
+            int idx = 1;
+            for (T row : rows) {
+                idx = binder.bind(ps, idx, row);
+            }
+        });
+    }
+
+    private static int bindAuthEvent(PreparedStatement ps, int i, AuditRow.AuthEventRow r) throws SQLException {
+        ps.setObject(i++, timestamp(r.occurredAt()));
+        ps.setObject(i++, r.requestId());
+        ps.setString(i++, r.method());
+        ps.setString(i++, r.uri());
+        ps.setString(i++, r.ip());
+        ps.setString(i++, r.userAgent());
+        ps.setString(i++, r.authDomain());
+        ps.setString(i++, r.eventType());
+        ps.setString(i++, r.outcome());
+        ps.setString(i++, r.principalEmail());
+        setLong(ps, i++, r.principalUserId());
+        setLong(ps, i++, r.accountId());
+        ps.setString(i++, r.tenantSchema());
+        ps.setString(i++, r.detailsJson());
+        return i;
+    }
+
+    private static int bindSecurityAudit(PreparedStatement ps, int i, AuditRow.SecurityAuditRow r) throws SQLException {
+        ps.setObject(i++, timestamp(r.occurredAt()));
+        ps.setObject(i++, r.requestId());
+        ps.setString(i++, r.method());
+        ps.setString(i++, r.uri());
+        ps.setString(i++, r.ip());
+        ps.setString(i++, r.userAgent());
+        ps.setString(i++, r.actionType());
+        ps.setString(i++, r.outcome());
+        ps.setString(i++, r.actorEmail());
+        setLong(ps, i++, r.actorUserId());
+        ps.setString(i++, r.targetEmail());
+        setLong(ps, i++, r.targetUserId());
+        setLong(ps, i++, r.accountId());
+        ps.setString(i++, r.tenantSchema());
+        ps.setString(i++, r.detailsJson());
+        return i;
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static void setLong(PreparedStatement ps, int idx, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(idx, Types.BIGINT);
+        } else {
+            ps.setLong(idx, value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder<T> {
+        int bind(PreparedStatement ps, int idx, T row) throws SQLException;
+    }
+}
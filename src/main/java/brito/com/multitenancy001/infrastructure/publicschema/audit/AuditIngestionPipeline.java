@@ -0,0 +1,209 @@
+package brito.com.multitenancy001.infrastructure.publicschema.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pipeline único de ingestão de auditoria (auth_events + security_audit_events).
+ *
+ * <p>Fluxo:</p>
+ * <ul>
+ *   <li>Produtores (threads HTTP, listeners after-completion) fazem {@link #submit(AuditRow)}:
+ *       só um {@code offer} em buffer limitado, sem transação nem conexão.</li>
+ *   <li>Uma thread escritora drena o buffer e grava em lote via {@link AuditBatchWriter}
+ *       quando o lote atinge {@code batch-size} ou quando {@code flush-interval-ms}
+ *       se passou desde o primeiro evento do lote.</li>
+ *   <li>Backpressure: com o buffer cheio o produtor espera até {@code offer-timeout-ms}
+ *       (0 = não espera); esgotado o prazo o evento vai para o {@link AuditSpillJournal}
+ *       (cópia em memória mapeada). Só é descartado se o journal também estiver cheio.</li>
+ *   <li>Lotes não gravados por indisponibilidade do banco também vão para o journal,
+ *       que os reenvia quando o banco volta.</li>
+ *   <li>No shutdown o buffer é drenado e gravado (ou enviado ao journal) antes de encerrar.</li>
+ * </ul>
+ *
+ * <p>Métricas: {@value #EVENTS_METRIC}{@code {outcome=enqueued|spilled|dropped|written|failed}},
+ * {@value #FLUSHES_METRIC}{@code {trigger=size|time|shutdown}} e tamanho do buffer.</p>
+ */
+@Slf4j
+@Component
+public class AuditIngestionPipeline {
+
+    public static final String EVENTS_METRIC = "app.audit.ingestion.events";
+    public static final String FLUSHES_METRIC = "app.audit.ingestion.flushes";
+
+    private final AuditBatchWriter batchWriter;
+    private final AuditSpillJournal spillJournal;
+    private final BlockingQueue<AuditRow> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMs;
+
+    private final Counter enqueued;
+    private final Counter spilled;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final Counter sizeFlushes;
+    private final Counter timeFlushes;
+    private final Counter shutdownFlushes;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditIngestionPipeline(
+            AuditBatchWriter batchWriter,
+            AuditSpillJournal spillJournal,
+            MeterRegistry meterRegistry,
+            @Value("${app.audit.ingestion.capacity:20000}") int capacity,
+            @Value("${app.audit.ingestion.batch-size:200}") int batchSize,
+            @Value("${app.audit.ingestion.flush-interval-ms:250}") long flushIntervalMs,
+            @Value("${app.audit.ingestion.offer-timeout-ms:0}") long offerTimeoutMs
+    ) {
+        this.batchWriter = batchWriter;
+        this.spillJournal = spillJournal;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, flushIntervalMs));
+        this.offerTimeoutMs = Math.max(0L, offerTimeoutMs);
+
+        this.enqueued = Counter.builder(EVENTS_METRIC).tag("outcome", "enqueued").register(meterRegistry);
+        this.spilled = Counter.builder(EVENTS_METRIC).tag("outcome", "spilled").register(meterRegistry);
+        this.dropped = Counter.builder(EVENTS_METRIC).tag("outcome", "dropped").register(meterRegistry);
+        this.written = Counter.builder(EVENTS_METRIC).tag("outcome", "written").register(meterRegistry);
+        this.failed = Counter.builder(EVENTS_METRIC).tag("outcome", "failed").register(meterRegistry);
+        this.sizeFlushes = Counter.builder(FLUSHES_METRIC).tag("trigger", "size").register(meterRegistry);
+        this.timeFlushes = Counter.builder(FLUSHES_METRIC).tag("trigger", "time").register(meterRegistry);
+        this.shutdownFlushes = Counter.builder(FLUSHES_METRIC).tag("trigger", "shutdown").register(meterRegistry);
+        Gauge.builder("app.audit.ingestion.buffer.size", buffer, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("audit-ingestion-writer").daemon(true).start(this::writeLoop);
+        log.info("Pipeline de auditoria iniciado | capacity={} | batchSize={} | flushIntervalMs={} | offerTimeoutMs={}",
+                buffer.remainingCapacity(), batchSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos), offerTimeoutMs);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // sem interrupt: não interromper a thread no meio de um INSERT (termina no próximo poll)
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<AuditRow> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch, shutdownFlushes);
+        }
+        log.info("Pipeline de auditoria encerrado | written={} | spilled={} | failed={} | dropped={}",
+                (long) written.count(), (long) spilled.count(), (long) failed.count(), (long) dropped.count());
+    }
+
+    /**
+     * Enfileira uma linha de auditoria (nunca lança, nunca faz I/O de banco).
+     *
+     * @param row linha normalizada
+     * @return false quando descartada (buffer e journal cheios)
+     */
+    public boolean submit(AuditRow row) {
+        if (row == null) {
+            return false;
+        }
+
+        boolean accepted;
+        try {
+            accepted = offerTimeoutMs == 0
+                    ? buffer.offer(row)
+                    : buffer.offer(row, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (accepted) {
+            enqueued.increment();
+            return true;
+        }
+        return spill(row);
+    }
+
+    private void writeLoop() {
+        List<AuditRow> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                AuditRow first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+
+                    AuditRow next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                flush(batch, batch.size() >= batchSize ? sizeFlushes : timeFlushes);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // eventos já retirados do buffer quando a interrupção chegou
+        if (!batch.isEmpty()) {
+            flush(batch, shutdownFlushes);
+        }
+    }
+
+    private void flush(List<AuditRow> batch, Counter trigger) {
+        try {
+            AuditBatchWriter.Result result = batchWriter.write(batch);
+            written.increment(batch.size() - result.notWritten());
+
+            if (!result.unavailable().isEmpty()) {
+                log.warn("⚠️ [AUDIT] banco indisponível; {} evento(s) enviados ao journal", result.unavailable().size());
+                result.unavailable().forEach(this::spill);
+            }
+            if (!result.rejected().isEmpty()) {
+                failed.increment(result.rejected().size());
+                log.error("❌ [AUDIT] {} evento(s) de auditoria recusados pelo banco", result.rejected().size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [AUDIT] falha inesperada gravando lote de auditoria; enviando ao journal | size={}", batch.size(), e);
+            batch.forEach(this::spill);
+        } finally {
+            trigger.increment();
+            batch.clear();
+        }
+    }
+
+    private boolean spill(AuditRow row) {
+        if (spillJournal.append(row)) {
+            spilled.increment();
+            return true;
+        }
+        dropped.increment();
+        log.warn("⚠️ [AUDIT] buffer e journal de auditoria cheios; evento descartado | type={}", row.getClass().getSimpleName());
+        return false;
+    }
+}
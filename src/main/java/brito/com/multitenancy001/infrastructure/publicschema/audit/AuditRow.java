@@ -0,0 +1,56 @@
+package brito.com.multitenancy001.infrastructure.publicschema.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Linha de auditoria já normalizada, pronta para o {@link AuditBatchWriter}.
+ *
+ * <p>Todos os campos são capturados na thread de origem (inclusive metadados do
+ * {@code RequestMetaContext}); a thread de escrita não depende de contexto.</p>
+ */
+public sealed interface AuditRow permits AuditRow.AuthEventRow, AuditRow.SecurityAuditRow {
+
+    /**
+     * Linha de {@code public.auth_events}.
+     */
+    record AuthEventRow(
+            Instant occurredAt,
+            UUID requestId,
+            String method,
+            String uri,
+            String ip,
+            String userAgent,
+            String authDomain,
+            String eventType,
+            String outcome,
+            String principalEmail,
+            Long principalUserId,
+            Long accountId,
+            String tenantSchema,
+            String detailsJson
+    ) implements AuditRow {
+    }
+
+    /**
+     * Linha de {@code public.security_audit_events}.
+     */
+    record SecurityAuditRow(
+            Instant occurredAt,
+            UUID requestId,
+            String method,
+            String uri,
+            String ip,
+            String userAgent,
+            String actionType,
+            String outcome,
+            String actorEmail,
+            Long actorUserId,
+            String targetEmail,
+            Long targetUserId,
+            Long accountId,
+            String tenantSchema,
+            String detailsJson
+    ) implements AuditRow {
+    }
+}
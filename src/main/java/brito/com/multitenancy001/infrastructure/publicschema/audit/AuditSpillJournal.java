@@ -0,0 +1,599 @@
+package brito.com.multitenancy001.infrastructure.publicschema.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Journal local (append-only, memory-mapped) para auditoria que não coube no caminho do banco.
+ *
+ * <p>Quando recebe eventos:</p>
+ * <ul>
+ *   <li>Buffer do {@link AuditIngestionPipeline} cheio (banco lento/saturado).</li>
+ *   <li>Lote não gravado por indisponibilidade do banco.</li>
+ * </ul>
+ *
+ * <p>Formato:</p>
+ * <ul>
+ *   <li>Segmentos {@code audit-<seq>.seg} de tamanho fixo, pré-alocados e mapeados em memória:
+ *       o append é uma cópia em memória sob lock curto, sem syscall de escrita no hot path.</li>
+ *   <li>Cabeçalho: magic + versão. Registro: {@code [int len][int crc32c][payload]},
+ *       payload = tipo (1 byte) + JSON da {@link AuditRow}. {@code len == 0} marca o fim.</li>
+ *   <li>Rotação quando o registro não cabe no segmento ativo. O {@code force()} (msync)
+ *       roda só no agendamento, fora do {@code appendLock}: o append nunca espera disco.</li>
+ * </ul>
+ *
+ * <p>Replay ({@link #replay()}, agendado):</p>
+ * <ul>
+ *   <li>Reenvia os segmentos fechados, em ordem, em lotes via {@link AuditBatchWriter}.
+ *       Só segmentos com sequência abaixo da do ativo (snapshot sob {@code appendLock})
+ *       entram no replay.</li>
+ *   <li>O segmento ativo só é fechado quando os fechados foram todos entregues: com o banco
+ *       fora, os ciclos não criam segmentos novos.</li>
+ *   <li>O progresso de cada segmento fica em {@code audit-<seq>.pos}; segmento concluído é apagado.</li>
+ *   <li>Banco ainda indisponível: para e tenta no próximo ciclo. Entrega é at-least-once
+ *       (queda entre o INSERT e a gravação do .pos reenvia o lote).</li>
+ *   <li>CRC inválido: o resto do segmento é movido para {@code .corrupt} e contado.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AuditSpillJournal {
+
+    public static final String RECORDS_METRIC = "app.audit.spill.records";
+
+    private static final int MAGIC = 0x41554431; // "AUD1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 8;
+
+    private static final byte TYPE_AUTH_EVENT = 1;
+    private static final byte TYPE_SECURITY_AUDIT = 2;
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final AuditBatchWriter batchWriter;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int segmentBytes;
+    private final long maxBytes;
+    private final int replayBatchSize;
+
+    private final Counter spilled;
+    private final Counter overflow;
+    private final Counter replayed;
+    private final Counter rejected;
+    private final Counter corrupt;
+
+    /**
+     * Bytes usados e ainda não reenviados (segmentos fechados + ativo). Alterado só sob
+     * {@code appendLock}; recalculado a cada replay a partir de {@link #sealed}.
+     */
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    /** Segmentos fechados (elegíveis para replay), por sequência. */
+    private final ConcurrentSkipListMap<Long, Segment> sealed = new ConcurrentSkipListMap<>();
+
+    /** Mapeamentos fechados na rotação e ainda não sincronizados; drenado por {@link #force()}. */
+    private final List<MappedByteBuffer> unsynced = new ArrayList<>();
+
+    private final Object appendLock = new Object();
+    private final Object replayLock = new Object();
+
+    private long nextSeq;
+    private long activeSeq;
+    private volatile Path activePath;
+    private FileChannel activeChannel;
+    private MappedByteBuffer active;
+    private boolean activeDirty;
+
+    public AuditSpillJournal(
+            AuditBatchWriter batchWriter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.audit.spill.dir:./data/audit-spill}") String directory,
+            @Value("${app.audit.spill.segment-bytes:8388608}") int segmentBytes,
+            @Value("${app.audit.spill.max-bytes:1073741824}") long maxBytes,
+            @Value("${app.audit.spill.replay-batch-size:500}") int replayBatchSize
+    ) {
+        this.batchWriter = batchWriter;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.segmentBytes = Math.max(64 * 1024, segmentBytes);
+        this.maxBytes = maxBytes;
+        this.replayBatchSize = Math.max(1, replayBatchSize);
+
+        this.spilled = Counter.builder(RECORDS_METRIC).tag("outcome", "spilled").register(meterRegistry);
+        this.overflow = Counter.builder(RECORDS_METRIC).tag("outcome", "overflow").register(meterRegistry);
+        this.replayed = Counter.builder(RECORDS_METRIC).tag("outcome", "replayed").register(meterRegistry);
+        this.rejected = Counter.builder(RECORDS_METRIC).tag("outcome", "rejected").register(meterRegistry);
+        this.corrupt = Counter.builder(RECORDS_METRIC).tag("outcome", "corrupt").register(meterRegistry);
+        Gauge.builder("app.audit.spill.pending.bytes", pendingBytes, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        Files.createDirectories(directory);
+
+        long maxSeq = 0;
+        for (Path segment : listSegments()) {
+            long seq = seqOf(segment);
+            maxSeq = Math.max(maxSeq, seq);
+            sealed.put(seq, new Segment(segment, scanEnd(segment), readPosition(segment)));
+        }
+        nextSeq = maxSeq + 1;
+        long pending = recomputePending();
+
+        if (pending > 0) {
+            log.warn("⚠️ [AUDIT-SPILL] journal com eventos pendentes de replay | dir={} | pendingBytes~={}",
+                    directory.toAbsolutePath(), pending);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        synchronized (appendLock) {
+            closeActive();
+        }
+        force();
+    }
+
+    /**
+     * Grava a linha no journal (cópia em memória mapeada; nunca lança).
+     *
+     * @param row linha de auditoria
+     * @return false quando o journal está cheio ou falhou
+     */
+    public boolean append(AuditRow row) {
+        byte[] payload;
+        try {
+            payload = encode(row);
+        } catch (IOException e) {
+            log.error("❌ [AUDIT-SPILL] falha serializando evento", e);
+            overflow.increment();
+            return false;
+        }
+
+        int recordBytes = RECORD_HEADER_BYTES + payload.length;
+        if (recordBytes + HEADER_BYTES + 4 > segmentBytes) {
+            log.error("❌ [AUDIT-SPILL] evento maior que o segmento | bytes={}", recordBytes);
+            overflow.increment();
+            return false;
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        synchronized (appendLock) {
+            if (pendingBytes.get() + recordBytes > maxBytes) {
+                overflow.increment();
+                return false;
+            }
+            try {
+                // mantém 4 bytes livres para o terminador (len == 0)
+                if (active == null || active.remaining() < recordBytes + 4) {
+                    rotate();
+                }
+                active.putInt(payload.length);
+                active.putInt((int) crc.getValue());
+                active.put(payload);
+                activeDirty = true;
+            } catch (IOException | RuntimeException e) {
+                log.error("❌ [AUDIT-SPILL] falha gravando no journal | dir={}", directory, e);
+                overflow.increment();
+                return false;
+            }
+            pendingBytes.addAndGet(recordBytes);
+        }
+
+        spilled.increment();
+        return true;
+    }
+
+    /**
+     * @return true quando há eventos aguardando replay
+     */
+    public boolean hasPending() {
+        return pendingBytes.get() > 0;
+    }
+
+    /**
+     * Sincroniza com o disco o segmento ativo e os fechados na rotação.
+     *
+     * <p>Sob o lock só captura os mapeamentos; o msync roda fora dele, sobre uma
+     * duplicata do buffer ativo, sem bloquear o append.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.audit.spill.force-delay-ms:1000}")
+    public void force() {
+        List<MappedByteBuffer> toSync;
+        synchronized (appendLock) {
+            toSync = new ArrayList<>(unsynced);
+            unsynced.clear();
+            if (active != null && activeDirty) {
+                toSync.add(active.duplicate());
+                activeDirty = false;
+            }
+        }
+
+        for (MappedByteBuffer buffer : toSync) {
+            try {
+                buffer.force();
+            } catch (RuntimeException e) {
+                log.warn("⚠️ [AUDIT-SPILL] falha sincronizando segmento | dir={} | msg={}", directory, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reenvia os eventos do journal para o banco.
+     *
+     * @return quantidade de eventos gravados neste ciclo
+     */
+    @Scheduled(fixedDelayString = "${app.audit.spill.replay-delay-ms:5000}")
+    public int replay() {
+        if (!hasPending()) {
+            return 0;
+        }
+
+        synchronized (replayLock) {
+            int total = 0;
+            try {
+                ReplayPass pass = replaySealed();
+                total += pass.written();
+
+                // só fecha o ativo depois que tudo antes dele foi entregue
+                if (pass.drained() && sealActiveWithRecords()) {
+                    total += replaySealed().written();
+                }
+            } catch (IOException e) {
+                log.warn("⚠️ [AUDIT-SPILL] falha lendo journal | dir={} | msg={}", directory, e.getMessage());
+            }
+
+            long pending = recomputePending();
+
+            if (total > 0) {
+                log.info("✅ [AUDIT-SPILL] replay concluído | eventos={} | pendingBytes={}", total, pending);
+            }
+            return total;
+        }
+    }
+
+    // =========================================================
+    // Replay
+    // =========================================================
+
+    /**
+     * Resultado de uma passada sobre os segmentos fechados.
+     *
+     * @param written eventos gravados
+     * @param drained true quando nenhum segmento ficou pendente por indisponibilidade do banco
+     */
+    private record ReplayPass(int written, boolean drained) {
+    }
+
+    /**
+     * Reenvia, em ordem, os segmentos fechados com sequência abaixo da do ativo.
+     */
+    private ReplayPass replaySealed() throws IOException {
+        long activeLimit;
+        synchronized (appendLock) {
+            activeLimit = active != null ? activeSeq : nextSeq;
+        }
+
+        int written = 0;
+        for (var entry : sealed.headMap(activeLimit).entrySet()) {
+            ReplayPass pass = replaySegment(entry.getKey(), entry.getValue());
+            written += pass.written();
+            if (!pass.drained()) {
+                return new ReplayPass(written, false); // banco indisponível
+            }
+        }
+        return new ReplayPass(written, true);
+    }
+
+    /**
+     * Fecha o segmento ativo quando há registros nele.
+     *
+     * @return true quando um segmento foi fechado
+     */
+    private boolean sealActiveWithRecords() {
+        synchronized (appendLock) {
+            if (active == null || active.position() <= HEADER_BYTES) {
+                return false;
+            }
+            closeActive();
+            return true;
+        }
+    }
+
+    /**
+     * @return eventos gravados; {@code drained == false} quando o banco ficou indisponível no meio
+     */
+    private ReplayPass replaySegment(long seq, Segment meta) throws IOException {
+        Path segment = meta.path;
+        long position = meta.position;
+        int written = 0;
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(meta.end, channel.size()));
+            if (buf.limit() < HEADER_BYTES || buf.getInt(0) != MAGIC) {
+                quarantine(seq, segment, "cabeçalho inválido");
+                return new ReplayPass(0, true);
+            }
+            buf.position((int) Math.min(position, buf.limit()));
+
+            while (true) {
+                List<AuditRow> batch = new ArrayList<>(replayBatchSize);
+                boolean broken = false;
+
+                while (batch.size() < replayBatchSize && buf.remaining() >= RECORD_HEADER_BYTES) {
+                    int mark = buf.position();
+                    int len = buf.getInt();
+                    if (len == 0) {
+                        buf.position(mark);
+                        break;
+                    }
+                    int expectedCrc = buf.getInt();
+                    if (len < 0 || len > buf.remaining()) {
+                        broken = true;
+                        break;
+                    }
+                    byte[] payload = new byte[len];
+                    buf.get(payload);
+
+                    CRC32C crc = new CRC32C();
+                    crc.update(payload);
+                    if ((int) crc.getValue() != expectedCrc) {
+                        broken = true;
+                        break;
+                    }
+                    AuditRow row = decode(payload);
+                    if (row != null) {
+                        batch.add(row);
+                    } else {
+                        rejected.increment();
+                    }
+                }
+
+                if (!batch.isEmpty() || buf.position() > meta.position) {
+                    AuditBatchWriter.Result result = batchWriter.write(batch);
+                    if (!result.unavailable().isEmpty()) {
+                        // nada avança: o lote inteiro volta no próximo ciclo
+                        log.debug("[AUDIT-SPILL] banco indisponível; replay adiado | segment={}", segment.getFileName());
+                        return new ReplayPass(written, false);
+                    }
+                    if (!result.rejected().isEmpty()) {
+                        rejected.increment(result.rejected().size());
+                        log.error("❌ [AUDIT-SPILL] {} evento(s) recusados pelo banco no replay | segment={}",
+                                result.rejected().size(), segment.getFileName());
+                    }
+
+                    int ok = batch.size() - result.notWritten();
+                    replayed.increment(ok);
+                    written += ok;
+
+                    writePosition(segment, buf.position());
+                    meta.position = buf.position();
+                }
+
+                if (broken) {
+                    corrupt.increment();
+                    quarantine(seq, segment, "CRC/tamanho inválido em offset " + buf.position());
+                    return new ReplayPass(written, true);
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+            }
+        }
+
+        Files.deleteIfExists(positionFile(segment));
+        Files.deleteIfExists(segment);
+        sealed.remove(seq);
+        return new ReplayPass(written, true);
+    }
+
+    /**
+     * Recalcula {@code pendingBytes} pelos metadados em memória (fim usado e posição
+     * de replay de cada segmento fechado + posição do ativo), sem ler os arquivos.
+     */
+    private long recomputePending() {
+        synchronized (appendLock) {
+            long pending = 0;
+            for (Segment segment : sealed.values()) {
+                pending += HEADER_BYTES + Math.max(0, segment.end - segment.position);
+            }
+            if (active != null) {
+                pending += active.position();
+            }
+            pendingBytes.set(pending);
+            return pending;
+        }
+    }
+
+    /**
+     * Offset do terminador (primeiro {@code len == 0}) ou do primeiro registro inconsistente.
+     * Usado só na recuperação (segmentos de uma execução anterior).
+     */
+    private static long scanEnd(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer len = ByteBuffer.allocate(4);
+            long pos = HEADER_BYTES;
+            while (pos + RECORD_HEADER_BYTES <= size) {
+                len.clear();
+                if (channel.read(len, pos) < 4) {
+                    break;
+                }
+                int n = len.getInt(0);
+                if (n <= 0 || pos + RECORD_HEADER_BYTES + n > size) {
+                    break;
+                }
+                pos += RECORD_HEADER_BYTES + n;
+            }
+            return Math.min(pos, size);
+        }
+    }
+
+    private void quarantine(long seq, Path segment, String reason) throws IOException {
+        Path target = segment.resolveSibling(segment.getFileName() + ".corrupt");
+        Files.move(segment, target, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(positionFile(segment));
+        sealed.remove(seq);
+        log.error("❌ [AUDIT-SPILL] segmento em quarentena | file={} | reason={}", target, reason);
+    }
+
+    // =========================================================
+    // Segmentos
+    // =========================================================
+
+    private void rotate() throws IOException {
+        closeActive();
+
+        activeSeq = nextSeq++;
+        activePath = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, activeSeq, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(activePath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        active.putInt(MAGIC);
+        active.putInt(VERSION);
+        pendingBytes.addAndGet(HEADER_BYTES);
+    }
+
+    /**
+     * Fecha o segmento ativo (fica elegível para replay). Exige {@code appendLock}.
+     * O msync fica para o próximo {@link #force()}, fora do lock.
+     */
+    private void closeActive() {
+        if (active == null) {
+            return;
+        }
+        try {
+            activeChannel.close();
+        } catch (IOException e) {
+            log.warn("⚠️ [AUDIT-SPILL] falha fechando segmento | file={} | msg={}", activePath, e.getMessage());
+        }
+        unsynced.add(active);
+        sealed.put(activeSeq, new Segment(activePath, active.position(), HEADER_BYTES));
+        active = null;
+        activeChannel = null;
+        activePath = null;
+        activeDirty = false;
+    }
+
+    /**
+     * Segmentos em disco (só na abertura, antes de existir segmento ativo).
+     */
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long seqOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static Path positionFile(Path segment) {
+        return segment.resolveSibling(segment.getFileName().toString().replace(SEGMENT_SUFFIX, ".pos"));
+    }
+
+    private static long readPosition(Path segment) throws IOException {
+        Path pos = positionFile(segment);
+        if (!Files.exists(pos)) {
+            return HEADER_BYTES;
+        }
+        String raw = Files.readString(pos, StandardCharsets.US_ASCII).trim();
+        return raw.isEmpty() ? HEADER_BYTES : Long.parseLong(raw);
+    }
+
+    private static void writePosition(Path segment, long position) throws IOException {
+        Path pos = positionFile(segment);
+        Path tmp = pos.resolveSibling(pos.getFileName() + ".tmp");
+        Files.writeString(tmp, Long.toString(position), StandardCharsets.US_ASCII);
+        Files.move(tmp, pos, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // =========================================================
+    // Codec
+    // =========================================================
+
+    private byte[] encode(AuditRow row) throws IOException {
+        byte type = switch (row) {
+            case AuditRow.AuthEventRow r -> TYPE_AUTH_EVENT;
+            case AuditRow.SecurityAuditRow r -> TYPE_SECURITY_AUDIT;
+        };
+        byte[] json = objectMapper.writeValueAsBytes(row);
+        byte[] out = new byte[json.length + 1];
+        out[0] = type;
+        System.arraycopy(json, 0, out, 1, json.length);
+        return out;
+    }
+
+    /**
+     * @return linha decodificada ou null quando o payload (com CRC válido) não é legível
+     */
+    private AuditRow decode(byte[] payload) {
+        try {
+            Class<? extends AuditRow> type = switch (payload[0]) {
+                case TYPE_AUTH_EVENT -> AuditRow.AuthEventRow.class;
+                case TYPE_SECURITY_AUDIT -> AuditRow.SecurityAuditRow.class;
+                default -> throw new IOException("tipo de registro desconhecido: " + payload[0]);
+            };
+            return objectMapper.readValue(payload, 1, payload.length - 1, type);
+        } catch (IOException e) {
+            log.error("❌ [AUDIT-SPILL] registro ilegível descartado | msg={}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Metadados de um segmento fechado.
+     */
+    private static final class Segment {
+        private final Path path;
+        /** Offset do fim usado (terminador). */
+        private final long end;
+        /** Offset já reenviado; atualizado só pelo replay. */
+        private volatile long position;
+
+        private Segment(Path path, long end, long position) {
+            this.path = path;
+            this.end = end;
+            this.position = position;
+        }
+    }
+}
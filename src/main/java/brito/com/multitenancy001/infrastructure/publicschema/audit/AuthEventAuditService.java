@@ -14,7 +14,6 @@ import brito.com.multitenancy001.shared.context.TenantContext;
 import brito.com.multitenancy001.shared.domain.audit.AuditOutcome;
 import brito.com.multitenancy001.shared.domain.audit.AuthDomain;
 import brito.com.multitenancy001.shared.domain.audit.AuthEventType;
-import brito.com.multitenancy001.shared.executor.PublicSchemaUnitOfWork;
 import brito.com.multitenancy001.shared.json.JsonDetailsMapper;
 import brito.com.multitenancy001.shared.time.AppClock;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +25,8 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>Responsabilidades:</p>
  * <ul>
- *   <li>Registrar eventos de autenticação com transação isolada no public schema.</li>
+ *   <li>Registrar eventos de autenticação via {@link AuditIngestionPipeline}: a thread
+ *       do login só enfileira; a gravação é em lote, fora da requisição.</li>
  *   <li>Capturar metadados da request corrente quando disponíveis.</li>
  *   <li>Normalizar {@code detailsJson} para evitar persistência de texto cru fora
  *       de um JSON válido.</li>
@@ -38,8 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AuthEventAuditService {
 
-    private final PublicSchemaUnitOfWork publicSchemaUnitOfWork;
-    private final AuthEventRepository authEventRepository;
+    private final AuditIngestionPipeline auditIngestionPipeline;
     private final AppClock appClock;
     private final JsonDetailsMapper jsonDetailsMapper;
 
@@ -71,7 +70,7 @@ public class AuthEventAuditService {
         String normalizedPrincipalEmail = normalizeEmailOrNull(principalEmail);
         String normalizedDetailsJson = normalizeDetailsJson(detailsJson);
 
-        log.info(
+        log.debug(
                 "Registrando auth audit. domain={} eventType={} outcome={} principalUserId={} accountId={} tenantSchema={}",
                 authDomain,
                 eventType,
@@ -81,42 +80,24 @@ public class AuthEventAuditService {
                 resolvedTenant
         );
 
-        publicSchemaUnitOfWork.requiresNew(() -> {
-            AuthEvent ev = new AuthEvent();
-
-            Instant occurredAt = appClock.instant();
-            ev.setOccurredAt(occurredAt);
-
-            if (meta != null) {
-                ev.setRequestId(meta.requestId());
-                ev.setMethod(trimOrNull(meta.method()));
-                ev.setUri(trimOrNull(meta.uri()));
-                ev.setIp(parseInetOrNull(meta.ip()));
-                ev.setUserAgent(trimOrNull(meta.userAgent()));
-            }
-
-            ev.setAuthDomain(authDomain);
-            ev.setEventType(eventType);
-            ev.setOutcome(outcome);
-
-            ev.setPrincipalEmail(normalizedPrincipalEmail);
-            ev.setPrincipalUserId(principalUserId);
-
-            ev.setAccountId(accountId);
-            ev.setTenantSchema(resolvedTenant);
-
-            ev.setDetailsJson(normalizedDetailsJson);
-
-            authEventRepository.save(ev);
-
-            log.debug(
-                    "Auth audit persistido com sucesso. domain={} eventType={} outcome={} accountId={}",
-                    authDomain,
-                    eventType,
-                    outcome,
-                    accountId
-            );
-        });
+        Instant occurredAt = appClock.instant();
+
+        auditIngestionPipeline.submit(new AuditRow.AuthEventRow(
+                occurredAt,
+                meta != null ? meta.requestId() : null,
+                meta != null ? trimOrNull(meta.method()) : null,
+                meta != null ? trimOrNull(meta.uri()) : null,
+                meta != null ? normalizeIpOrNull(meta.ip()) : null,
+                meta != null ? trimOrNull(meta.userAgent()) : null,
+                authDomain != null ? authDomain.dbValue() : null,
+                eventType.name(),
+                outcome.name(),
+                normalizedPrincipalEmail,
+                principalUserId,
+                accountId,
+                resolvedTenant,
+                normalizedDetailsJson
+        ));
     }
 
     /**
@@ -200,18 +181,18 @@ public class AuthEventAuditService {
     }
 
     /**
-     * Converte IP textual para {@link InetAddress}.
+     * Normaliza IP textual (valida como {@link InetAddress}).
      *
      * @param rawIp ip bruto
-     * @return endereço convertido ou {@code null}
+     * @return endereço normalizado ou {@code null}
      */
-    private static InetAddress parseInetOrNull(String rawIp) {
+    private static String normalizeIpOrNull(String rawIp) {
         if (!StringUtils.hasText(rawIp)) {
             return null;
         }
 
         try {
-            return InetAddress.getByName(rawIp.trim());
+            return InetAddress.getByName(rawIp.trim()).getHostAddress();
         } catch (Exception ex) {
             return null;
         }
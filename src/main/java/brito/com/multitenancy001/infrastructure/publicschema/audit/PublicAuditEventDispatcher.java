@@ -1,48 +1,47 @@
 package brito.com.multitenancy001.infrastructure.publicschema.audit;
 
-import brito.com.multitenancy001.infrastructure.tx.AfterTransactionCompletion;
-import brito.com.multitenancy001.shared.executor.PublicSchemaUnitOfWork;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * Dispatcher para executar auditoria no schema PUBLIC sem violar as fronteiras transacionais do TENANT.
+ * Dispatcher para registrar auditoria no schema PUBLIC sem violar as fronteiras transacionais do TENANT.
  *
  * <p><b>Solução:</b></p>
  * <ul>
- *   <li>Se houver transação atual (sync ativa): agenda para AFTER COMPLETION e executa em outro thread.</li>
- *   <li>Se não houver transação: executa imediatamente, abrindo um {@code REQUIRES_NEW} no PUBLIC.</li>
+ *   <li>Se houver transação atual (sync ativa): executa no AFTER COMPLETION da transação.</li>
+ *   <li>Se não houver transação: executa imediatamente.</li>
  * </ul>
  *
- * <p>Assim, eliminamos de vez o "UoW aninhado" TENANT -> PUBLIC.</p>
+ * <p>O bloco só enfileira no {@link AuditIngestionPipeline} (sem TX nem conexão), então
+ * roda no próprio thread: não depende da fila do {@code afterTxCompletionExecutor} nem
+ * de conseguir uma conexão PUBLIC. Com o banco fora, o evento vai para o
+ * {@link AuditSpillJournal} em vez de ser perdido.</p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PublicAuditEventDispatcher {
 
-    private final PublicSchemaUnitOfWork publicSchemaUnitOfWork;
-    private final AfterTransactionCompletion afterTransactionCompletion;
-
     public void dispatch(Runnable fn) {
         if (fn == null) return;
 
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            afterTransactionCompletion.runAfterCompletion(() -> runPublicRequiresNew(fn, "afterCompletion"));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    run(fn, "afterCompletion");
+                }
+            });
             return;
         }
 
-        runPublicRequiresNew(fn, "no-sync");
+        run(fn, "no-sync");
     }
 
-    private void runPublicRequiresNew(Runnable fn, String where) {
+    private void run(Runnable fn, String where) {
         try {
-            publicSchemaUnitOfWork.requiresNew(() -> {
-                fn.run();
-                return null;
-            });
+            fn.run();
         } catch (Exception e) {
             log.warn("⚠️ Falha ao executar auditoria PUBLIC (best-effort) | where={} | msg={}", where, e.getMessage(), e);
         }
@@ -2,7 +2,6 @@ package brito.com.multitenancy001.infrastructure.publicschema.audit;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -16,10 +15,12 @@ import org.springframework.transaction.event.TransactionalEventListener;
  *   <li>AFTER_COMMIT perderia eventos de rollback.</li>
  * </ul>
  *
- * <p><b>Por que @Async?</b></p>
+ * <p><b>Por que não é @Async?</b></p>
  * <ul>
- *   <li>Evita executar no mesmo thread do commit/cleanup do Spring.</li>
- *   <li>Isso elimina a classe de erro: <i>"Pre-bound JDBC Connection found!"</i>.</li>
+ *   <li>O listener só enfileira no {@link AuditIngestionPipeline}: não abre TX nem conexão,
+ *       então não há risco de <i>"Pre-bound JDBC Connection found!"</i> no thread do commit.</li>
+ *   <li>Rodando no thread de origem, os metadados da requisição (requestId, IP, URI)
+ *       ainda estão disponíveis no {@code RequestMetaContext}.</li>
  * </ul>
  *
  * <p><b>Contrato:</b> best-effort (não lança exceção).</p>
@@ -36,14 +37,13 @@ public class SecurityAuditAfterCommitListener {
      *
      * @param event evento solicitado (pode ser null)
      */
-    @Async("afterTxCompletionExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
     public void on(SecurityAuditRequestedEvent event) {
         if (event == null) return;
 
         try {
             txWriter.write(event);
-            log.debug("✅ SecurityAudit listener persisted | actionType={} outcome={} accountId={} tenantSchema={}",
+            log.debug("✅ SecurityAudit listener enfileirado | actionType={} outcome={} accountId={} tenantSchema={}",
                     event.actionType(), event.outcome(), event.accountId(), event.tenantSchema());
         } catch (Exception e) {
             log.warn("⚠️ Falha ao gravar SecurityAudit no listener (best-effort) | actionType={} outcome={} accountId={} tenantSchema={} msg={}",
@@ -2,12 +2,9 @@ package brito.com.multitenancy001.infrastructure.publicschema.audit;
 
 import brito.com.multitenancy001.shared.domain.audit.AuditOutcome;
 import brito.com.multitenancy001.shared.domain.audit.SecurityAuditActionType;
-import brito.com.multitenancy001.shared.executor.PublicSchemaUnitOfWork;
 import brito.com.multitenancy001.shared.time.AppClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 /**
@@ -15,9 +12,8 @@ import org.springframework.stereotype.Service;
  *
  * <p><b>REGRAS SIMPLIFICADAS:</b></p>
  * <ul>
- *   <li>✅ SEMPRE executa em thread separada (afterTxCompletionExecutor)</li>
- *   <li>✅ SEMPRE usa REQUIRES_NOVO no PUBLIC</li>
- *   <li>✅ NUNCA executa no thread da requisição</li>
+ *   <li>✅ Só enfileira no {@link AuditIngestionPipeline} (sem TX, sem conexão)</li>
+ *   <li>✅ Gravação em lote na thread do pipeline, fora da requisição</li>
  *   <li>✅ Best-effort: nunca quebra o fluxo principal</li>
  * </ul>
  */
@@ -27,12 +23,8 @@ import org.springframework.stereotype.Service;
 public class SecurityAuditService {
 
     private final SecurityAuditTxWriter txWriter;
-    private final PublicSchemaUnitOfWork publicSchemaUnitOfWork;
     private final AppClock appClock;
 
-    @Qualifier("afterTxCompletionExecutor")
-    private final TaskExecutor afterTxCompletionExecutor;
-
     /**
      * Registra um evento de auditoria.
      *
@@ -64,23 +56,10 @@ public class SecurityAuditService {
                 detailsJson
         );
 
-        // ✅ REGRA SIMPLES: SEMPRE executa em thread separada
         try {
-            afterTxCompletionExecutor.execute(() -> {
-                try {
-                    publicSchemaUnitOfWork.requiresNew(() -> {
-                        txWriter.write(event);
-                        return null;
-                    });
-                    log.debug("✅ SecurityAudit gravado | actionType={} outcome={} accountId={} tenantSchema={}",
-                            actionType, outcome, accountId, tenantSchema);
-                } catch (Exception ex) {
-                    log.warn("⚠️ Falha ao gravar SecurityAudit (best-effort) | actionType={} outcome={} accountId={} tenantSchema={} msg={}",
-                            actionType, outcome, accountId, tenantSchema, ex.getMessage(), ex);
-                }
-            });
+            txWriter.write(event);
         } catch (Exception ex) {
-            log.warn("⚠️ Falha ao agendar SecurityAudit | actionType={} outcome={} accountId={} tenantSchema={} msg={}",
+            log.warn("⚠️ Falha ao enfileirar SecurityAudit (best-effort) | actionType={} outcome={} accountId={} tenantSchema={} msg={}",
                     actionType, outcome, accountId, tenantSchema, ex.getMessage(), ex);
         }
     }
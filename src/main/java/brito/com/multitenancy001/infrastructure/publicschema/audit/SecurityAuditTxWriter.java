@@ -9,8 +9,6 @@ import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import brito.com.multitenancy001.infrastructure.persistence.transaction.PublicTransactionTemplateProvider;
-import brito.com.multitenancy001.infrastructure.publicschema.audit.entity.PublicSecurityAuditEvent;
 import brito.com.multitenancy001.shared.context.RequestMeta;
 import brito.com.multitenancy001.shared.context.RequestMetaContext;
 import brito.com.multitenancy001.shared.json.JsonDetailsMapper;
@@ -19,12 +17,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Writer transacional da auditoria de segurança no schema público.
+ * Writer da auditoria de segurança no schema público.
  *
  * <p>Responsabilidades:</p>
  * <ul>
- *   <li>Persistir eventos de auditoria de segurança em transação pública isolada
- *       ({@code REQUIRES_NEW}).</li>
+ *   <li>Converter o evento em linha normalizada e entregá-la ao
+ *       {@link AuditIngestionPipeline} (gravação em lote, fora da thread chamadora).</li>
  *   <li>Normalizar metadados da requisição corrente antes da persistência.</li>
  *   <li>Garantir que {@code detailsJson} nunca seja montado manualmente por concatenação
  *       de string JSON.</li>
@@ -43,13 +41,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SecurityAuditTxWriter {
 
-    private final PublicTransactionTemplateProvider publicTx;
-    private final SecurityAuditEventRepository securityAuditEventRepository;
+    private final AuditIngestionPipeline auditIngestionPipeline;
     private final AppClock appClock;
     private final JsonDetailsMapper jsonDetailsMapper;
 
     /**
-     * Persiste o evento de auditoria em transação pública isolada.
+     * Enfileira o evento de auditoria para gravação em lote.
      *
      * @param ev evento solicitado para persistência
      */
@@ -60,7 +57,7 @@ public class SecurityAuditTxWriter {
         }
 
         log.debug(
-                "Persistindo evento de auditoria de segurança. actionType={} outcome={} actorUserId={} targetUserId={} accountId={}",
+                "Enfileirando evento de auditoria de segurança. actionType={} outcome={} actorUserId={} targetUserId={} accountId={}",
                 ev.actionType(),
                 ev.outcome(),
                 ev.actorUserId(),
@@ -68,70 +65,53 @@ public class SecurityAuditTxWriter {
                 ev.accountId()
         );
 
-        publicTx.inPublicRequiresNew(() -> doWrite(ev));
+        auditIngestionPipeline.submit(toRow(ev));
     }
 
     /**
-     * Executa a persistência efetiva do evento.
+     * Monta a linha normalizada (metadados da requisição lidos na thread atual).
      *
      * @param ev evento solicitado
+     * @return linha para o pipeline
      */
-    private void doWrite(SecurityAuditRequestedEvent ev) {
+    private AuditRow.SecurityAuditRow toRow(SecurityAuditRequestedEvent ev) {
         Instant occurredAt = (ev.occurredAt() != null) ? ev.occurredAt() : appClock.instant();
 
         RequestMeta meta = RequestMetaContext.getOrNull();
         UUID requestId = meta != null ? meta.requestId() : null;
-        InetAddress ip = meta != null ? parseInetAddressOrNull(meta.ip()) : null;
-        String userAgent = meta != null ? meta.userAgent() : null;
-        String method = meta != null ? meta.method() : null;
-        String uri = meta != null ? meta.uri() : null;
 
-        PublicSecurityAuditEvent entity = new PublicSecurityAuditEvent();
-        entity.setOccurredAt(occurredAt);
-
-        entity.setRequestId(requestId);
-        entity.setMethod(trimOrNull(method));
-        entity.setUri(trimOrNull(uri));
-        entity.setIp(ip);
-        entity.setUserAgent(trimOrNull(userAgent));
-
-        entity.setActionType(ev.actionType());
-        entity.setOutcome(ev.outcome());
-
-        entity.setActorEmail(normalizeEmailOrNull(ev.actorEmail()));
-        entity.setActorUserId(ev.actorUserId());
-
-        entity.setTargetEmail(normalizeEmailOrNull(ev.targetEmail()));
-        entity.setTargetUserId(ev.targetUserId());
-
-        entity.setAccountId(ev.accountId());
-        entity.setTenantSchema(trimOrNull(ev.tenantSchema()));
-
-        entity.setDetailsJson(normalizeDetailsJson(ev.detailsJson()));
-
-        securityAuditEventRepository.save(entity);
-
-        log.debug(
-                "Evento de auditoria de segurança persistido com sucesso. actionType={} outcome={} requestId={}",
-                ev.actionType(),
-                ev.outcome(),
-                requestId
+        return new AuditRow.SecurityAuditRow(
+                occurredAt,
+                requestId,
+                meta != null ? trimOrNull(meta.method()) : null,
+                meta != null ? trimOrNull(meta.uri()) : null,
+                meta != null ? normalizeIpOrNull(meta.ip()) : null,
+                meta != null ? trimOrNull(meta.userAgent()) : null,
+                ev.actionType().name(),
+                ev.outcome().name(),
+                normalizeEmailOrNull(ev.actorEmail()),
+                ev.actorUserId(),
+                normalizeEmailOrNull(ev.targetEmail()),
+                ev.targetUserId(),
+                ev.accountId(),
+                trimOrNull(ev.tenantSchema()),
+                normalizeDetailsJson(ev.detailsJson())
         );
     }
 
     /**
-     * Converte string de IP para {@link InetAddress}, retornando {@code null} quando inválido.
+     * Normaliza string de IP (valida como {@link InetAddress}), retornando {@code null} quando inválido.
      *
      * @param ip texto do IP
-     * @return endereço convertido ou {@code null}
+     * @return endereço normalizado ou {@code null}
      */
-    private static InetAddress parseInetAddressOrNull(String ip) {
+    private static String normalizeIpOrNull(String ip) {
         if (!StringUtils.hasText(ip)) {
             return null;
         }
 
         try {
-            return InetAddress.getByName(ip.trim());
+            return InetAddress.getByName(ip.trim()).getHostAddress();
         } catch (Exception ex) {
             return null;
         }
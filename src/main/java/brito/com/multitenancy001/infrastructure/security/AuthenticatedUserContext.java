@@ -1,6 +1,7 @@
 // src/main/java/brito/com/multitenancy001/infrastructure/security/AuthenticatedUserContext.java
 package brito.com.multitenancy001.infrastructure.security;
 
+import brito.com.multitenancy001.infrastructure.security.authorities.CompactAuthorities;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import brito.com.multitenancy001.tenant.security.TenantPermission;
@@ -88,7 +89,9 @@ public final class AuthenticatedUserContext implements UserDetails {
         this.tenantSchema = tenantSchema;
         this.roleName = roleName;
         this.roleAuthority = roleAuthority;
-        this.authorities = Collections.unmodifiableSet(new LinkedHashSet<>(authorities == null ? Set.of() : authorities));
+        this.authorities = (authorities instanceof CompactAuthorities compact)
+                ? compact
+                : Collections.unmodifiableSet(new LinkedHashSet<>(authorities == null ? Set.of() : authorities));
         this.enabled = enabled;
         this.accountNonLocked = accountNonLocked;
         this.mustChangePassword = mustChangePassword;
@@ -129,6 +132,23 @@ public final class AuthenticatedUserContext implements UserDetails {
         boolean accountNonLocked = user.isAccountNonLockedAt(now);
         boolean mustChangePassword = user.isMustChangePassword();
 
+        // authorities compactas (AuthoritiesFactory) são imutáveis: reaproveita sem copiar
+        if (authorities instanceof CompactAuthorities compact && !compact.isEmpty()) {
+            return new AuthenticatedUserContext(
+                    userId,
+                    email,
+                    accountId,
+                    tenantSchema,
+                    roleName,
+                    roleAuthority,
+                    compact,
+                    enabled,
+                    accountNonLocked,
+                    mustChangePassword,
+                    user.getPassword()
+            );
+        }
+
         Set<GrantedAuthority> auth = new LinkedHashSet<>();
         if (authorities != null) auth.addAll(authorities);
 
@@ -216,6 +236,14 @@ public final class AuthenticatedUserContext implements UserDetails {
         }
     }
 
+    /**
+     * Authorities em forma de bitmask, quando o principal foi montado pelo
+     * {@code AuthoritiesFactory}; null caso contrário (usar SpEL/strings).
+     */
+    public CompactAuthorities compactAuthoritiesOrNull() {
+        return authorities instanceof CompactAuthorities compact ? compact : null;
+    }
+
     // ==========
     // UserDetails
     // ==========
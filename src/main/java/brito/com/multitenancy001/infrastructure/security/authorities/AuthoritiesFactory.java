@@ -1,95 +1,85 @@
 package brito.com.multitenancy001.infrastructure.security.authorities;
 
 import brito.com.multitenancy001.controlplane.security.ControlPlanePermission;
+import brito.com.multitenancy001.controlplane.security.ControlPlaneRole;
 import brito.com.multitenancy001.controlplane.security.ControlPlaneRolePermissions;
 import brito.com.multitenancy001.controlplane.users.domain.ControlPlaneUser;
 import brito.com.multitenancy001.shared.security.PermissionScopeValidator;
 import brito.com.multitenancy001.tenant.security.TenantPermission;
+import brito.com.multitenancy001.tenant.security.TenantRole;
 import brito.com.multitenancy001.tenant.security.TenantRolePermissions;
 import brito.com.multitenancy001.tenant.users.domain.TenantUser;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-import java.util.LinkedHashSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Set;
 
+/**
+ * Monta as authorities (role + permissões) de usuários Tenant e Control Plane.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Matriz role -> permissões é convertida em bitmask uma única vez (class init).</li>
+ *   <li>Validação de escopo (TEN_/CP_) roda uma vez sobre os enums inteiros: como
+ *       as permissões são tipadas, não há o que revalidar por requisição.</li>
+ *   <li>Por usuário, o custo é um OR de bits (defaults da role + explícitas) e um
+ *       {@link CompactAuthorities}; authorities são singletons.</li>
+ * </ul>
+ */
 public final class AuthoritiesFactory {
 
-    private AuthoritiesFactory() {}
+    private static final EnumMap<TenantRole, Long> TENANT_ROLE_MASKS = new EnumMap<>(TenantRole.class);
+    private static final EnumMap<TenantRole, GrantedAuthority> TENANT_ROLE_AUTHORITIES = new EnumMap<>(TenantRole.class);
 
-    public static Set<GrantedAuthority> forControlPlane(ControlPlaneUser user) {
-        if (user == null) return Set.of();
+    private static final EnumMap<ControlPlaneRole, Long> CONTROL_PLANE_ROLE_MASKS = new EnumMap<>(ControlPlaneRole.class);
+    private static final EnumMap<ControlPlaneRole, GrantedAuthority> CONTROL_PLANE_ROLE_AUTHORITIES =
+            new EnumMap<>(ControlPlaneRole.class);
 
-        // 1) PERMISSIONS (strings)
-        Set<String> mergedPerms = new LinkedHashSet<>();
+    static {
+        // fail-fast de escopo uma única vez (nenhuma constante pode sair do seu contexto)
+        PermissionScopeValidator.validateTenantPermissionsStrict(EnumSet.allOf(TenantPermission.class));
+        PermissionScopeValidator.validateControlPlanePermissionsStrict(EnumSet.allOf(ControlPlanePermission.class));
 
-        // defaults por role
-        for (ControlPlanePermission p : ControlPlaneRolePermissions.permissionsFor(user.getRole())) {
-            if (p == null) continue;
-            mergedPerms.add(p.asAuthority());
+        for (TenantRole role : TenantRole.values()) {
+            TENANT_ROLE_MASKS.put(role, CompactAuthorities.tenantMask(TenantRolePermissions.permissionsFor(role)));
+            TENANT_ROLE_AUTHORITIES.put(role, new SimpleGrantedAuthority(role.asAuthority()));
         }
 
-        // permissões explícitas do usuário
-        if (user.getPermissions() != null) {
-            for (ControlPlanePermission p : user.getPermissions()) {
-                if (p == null) continue;
-                mergedPerms.add(p.asAuthority());
-            }
+        for (ControlPlaneRole role : ControlPlaneRole.values()) {
+            CONTROL_PLANE_ROLE_MASKS.put(role,
+                    CompactAuthorities.controlPlaneMask(ControlPlaneRolePermissions.permissionsFor(role)));
+            CONTROL_PLANE_ROLE_AUTHORITIES.put(role, new SimpleGrantedAuthority(role.asAuthority()));
         }
+    }
 
-        // fail-fast + normalize CP_
-        mergedPerms = PermissionScopeValidator.normalizeControlPlaneStrict(mergedPerms);
+    private AuthoritiesFactory() {}
 
-        // 2) BUILD authorities (permissions + role)
-        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+    public static Set<GrantedAuthority> forControlPlane(ControlPlaneUser user) {
+        if (user == null) return Set.of();
 
-        // role como authority (ROLE_...)
-        if (user.getRole() != null) {
-            authorities.add(new SimpleGrantedAuthority(user.getRole().asAuthority()));
+        ControlPlaneRole role = user.getRole();
+        if (role == null) {
+            throw new IllegalArgumentException("Role do ControlPlane é obrigatória (null)");
         }
 
-        // permissions
-        for (String perm : mergedPerms) {
-            if (perm == null || perm.isBlank()) continue;
-            authorities.add(new SimpleGrantedAuthority(perm.trim()));
-        }
+        // defaults por role + permissões explícitas do usuário
+        long mask = CONTROL_PLANE_ROLE_MASKS.get(role)
+                | CompactAuthorities.controlPlaneMask(user.explicitPermissionsView());
 
-        return authorities;
+        return new CompactAuthorities(0L, mask, CONTROL_PLANE_ROLE_AUTHORITIES.get(role));
     }
 
     public static Set<GrantedAuthority> forTenant(TenantUser user) {
         if (user == null) return Set.of();
 
-        // 1) PERMISSIONS (tipadas)
-        Set<TenantPermission> mergedPerms = new LinkedHashSet<>();
+        TenantRole role = user.getRole();
 
-        // defaults por role
-        if (user.getRole() != null) {
-            mergedPerms.addAll(TenantRolePermissions.permissionsFor(user.getRole()));
-        }
-
-        // permissões explícitas do usuário
-        if (user.getPermissions() != null) {
-            mergedPerms.addAll(user.getPermissions());
-        }
-
-        // fail-fast tipado (não deixa sair do escopo Tenant)
-        mergedPerms = PermissionScopeValidator.validateTenantPermissionsStrict(mergedPerms);
-
-        // 2) BUILD authorities (permissions + role)
-        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
-
-        // role como authority (ROLE_...)
-        if (user.getRole() != null) {
-            authorities.add(new SimpleGrantedAuthority(user.getRole().asAuthority()));
-        }
-
-        // permissions
-        for (TenantPermission p : mergedPerms) {
-            if (p == null) continue;
-            authorities.add(new SimpleGrantedAuthority(p.asAuthority()));
-        }
+        // defaults por role + permissões explícitas do usuário
+        long mask = (role != null ? TENANT_ROLE_MASKS.get(role) : 0L)
+                | CompactAuthorities.tenantMask(user.permissionsView());
 
-        return authorities;
+        return new CompactAuthorities(mask, 0L, role != null ? TENANT_ROLE_AUTHORITIES.get(role) : null);
     }
 }
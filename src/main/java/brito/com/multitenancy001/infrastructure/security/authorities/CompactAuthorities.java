@@ -0,0 +1,224 @@
+package brito.com.multitenancy001.infrastructure.security.authorities;
+
+import brito.com.multitenancy001.controlplane.security.ControlPlanePermission;
+import brito.com.multitenancy001.tenant.security.TenantPermission;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Conjunto imutável de authorities representado por bitmasks.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Cada permissão (TEN_* / CP_*) ocupa o bit do seu ordinal em um {@code long}.</li>
+ *   <li>As instâncias de {@link GrantedAuthority} são singletons por constante:
+ *       iterar/serializar não cria objetos novos.</li>
+ *   <li>Teste de permissão ({@link #has(TenantPermission)}, {@link #hasAll(long, long)} ...)
+ *       é um AND de bits, sem alocação.</li>
+ *   <li>Continua sendo um {@code Set<GrantedAuthority>} para o resto do stack
+ *       (JWT claims, SpEL, UserDetails).</li>
+ * </ul>
+ */
+public final class CompactAuthorities extends AbstractSet<GrantedAuthority> {
+
+    private static final TenantPermission[] TENANT_PERMISSIONS = TenantPermission.values();
+    private static final ControlPlanePermission[] CONTROL_PLANE_PERMISSIONS = ControlPlanePermission.values();
+
+    private static final GrantedAuthority[] TENANT_AUTHORITIES = new GrantedAuthority[TENANT_PERMISSIONS.length];
+    private static final GrantedAuthority[] CONTROL_PLANE_AUTHORITIES = new GrantedAuthority[CONTROL_PLANE_PERMISSIONS.length];
+
+    private static final Map<String, Long> TENANT_BIT_BY_CODE = new HashMap<>();
+    private static final Map<String, Long> CONTROL_PLANE_BIT_BY_CODE = new HashMap<>();
+
+    static {
+        if (TENANT_PERMISSIONS.length > Long.SIZE || CONTROL_PLANE_PERMISSIONS.length > Long.SIZE) {
+            throw new IllegalStateException("CompactAuthorities suporta no máximo 64 permissões por contexto");
+        }
+        for (TenantPermission p : TENANT_PERMISSIONS) {
+            TENANT_AUTHORITIES[p.ordinal()] = new SimpleGrantedAuthority(p.asAuthority());
+            TENANT_BIT_BY_CODE.put(p.asAuthority(), bit(p));
+        }
+        for (ControlPlanePermission p : CONTROL_PLANE_PERMISSIONS) {
+            CONTROL_PLANE_AUTHORITIES[p.ordinal()] = new SimpleGrantedAuthority(p.asAuthority());
+            CONTROL_PLANE_BIT_BY_CODE.put(p.asAuthority(), bit(p));
+        }
+    }
+
+    private final long tenantBits;
+    private final long controlPlaneBits;
+    private final GrantedAuthority roleAuthority;
+    private final int size;
+
+    CompactAuthorities(long tenantBits, long controlPlaneBits, GrantedAuthority roleAuthority) {
+        this.tenantBits = tenantBits;
+        this.controlPlaneBits = controlPlaneBits;
+        this.roleAuthority = roleAuthority;
+        this.size = Long.bitCount(tenantBits) + Long.bitCount(controlPlaneBits) + (roleAuthority != null ? 1 : 0);
+    }
+
+    // =========================================================
+    // Bits
+    // =========================================================
+
+    public static long bit(TenantPermission permission) {
+        return 1L << permission.ordinal();
+    }
+
+    public static long bit(ControlPlanePermission permission) {
+        return 1L << permission.ordinal();
+    }
+
+    public static long tenantMask(Collection<TenantPermission> permissions) {
+        long mask = 0L;
+        if (permissions == null) return mask;
+        for (TenantPermission p : permissions) {
+            if (p != null) mask |= bit(p);
+        }
+        return mask;
+    }
+
+    public static long controlPlaneMask(Collection<ControlPlanePermission> permissions) {
+        long mask = 0L;
+        if (permissions == null) return mask;
+        for (ControlPlanePermission p : permissions) {
+            if (p != null) mask |= bit(p);
+        }
+        return mask;
+    }
+
+    /**
+     * Bit de um código de permissão Tenant (ex.: {@code TEN_PRODUCT_READ}).
+     *
+     * @return bit ou 0 quando o código não é uma permissão Tenant
+     */
+    public static long tenantBitOf(String code) {
+        Long b = code != null ? TENANT_BIT_BY_CODE.get(code) : null;
+        return b != null ? b : 0L;
+    }
+
+    /**
+     * Bit de um código de permissão Control Plane (ex.: {@code CP_USER_READ}).
+     *
+     * @return bit ou 0 quando o código não é uma permissão Control Plane
+     */
+    public static long controlPlaneBitOf(String code) {
+        Long b = code != null ? CONTROL_PLANE_BIT_BY_CODE.get(code) : null;
+        return b != null ? b : 0L;
+    }
+
+    public long tenantBits() {
+        return tenantBits;
+    }
+
+    public long controlPlaneBits() {
+        return controlPlaneBits;
+    }
+
+    public boolean has(TenantPermission permission) {
+        return (tenantBits & bit(permission)) != 0L;
+    }
+
+    public boolean has(ControlPlanePermission permission) {
+        return (controlPlaneBits & bit(permission)) != 0L;
+    }
+
+    public boolean hasAll(long tenantMask, long controlPlaneMask) {
+        return (tenantBits & tenantMask) == tenantMask
+                && (controlPlaneBits & controlPlaneMask) == controlPlaneMask;
+    }
+
+    public boolean hasAny(long tenantMask, long controlPlaneMask) {
+        return (tenantBits & tenantMask) != 0L || (controlPlaneBits & controlPlaneMask) != 0L;
+    }
+
+    // =========================================================
+    // Set<GrantedAuthority>
+    // =========================================================
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof GrantedAuthority ga)) return false;
+        return containsAuthority(ga.getAuthority());
+    }
+
+    /**
+     * Verifica uma authority pelo código (role ou permissão).
+     *
+     * @param authority código da authority
+     * @return true quando presente
+     */
+    public boolean containsAuthority(String authority) {
+        if (authority == null) return false;
+        if (roleAuthority != null && authority.equals(roleAuthority.getAuthority())) return true;
+
+        long t = tenantBitOf(authority);
+        if (t != 0L) return (tenantBits & t) != 0L;
+
+        long c = controlPlaneBitOf(authority);
+        return c != 0L && (controlPlaneBits & c) != 0L;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Ordem: role (quando houver), permissões Tenant e Control Plane por ordinal.
+     */
+    @Override
+    public Iterator<GrantedAuthority> iterator() {
+        return new Iterator<>() {
+            private boolean roleDone = roleAuthority == null;
+            private long remainingTenant = tenantBits;
+            private long remainingControlPlane = controlPlaneBits;
+
+            @Override
+            public boolean hasNext() {
+                return !roleDone || remainingTenant != 0L || remainingControlPlane != 0L;
+            }
+
+            @Override
+            public GrantedAuthority next() {
+                if (!roleDone) {
+                    roleDone = true;
+                    return roleAuthority;
+                }
+                if (remainingTenant != 0L) {
+                    int idx = Long.numberOfTrailingZeros(remainingTenant);
+                    remainingTenant &= remainingTenant - 1;
+                    return TENANT_AUTHORITIES[idx];
+                }
+                if (remainingControlPlane != 0L) {
+                    int idx = Long.numberOfTrailingZeros(remainingControlPlane);
+                    remainingControlPlane &= remainingControlPlane - 1;
+                    return CONTROL_PLANE_AUTHORITIES[idx];
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof CompactAuthorities other) {
+            return tenantBits == other.tenantBits
+                    && controlPlaneBits == other.controlPlaneBits
+                    && Objects.equals(roleAuthority, other.roleAuthority);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
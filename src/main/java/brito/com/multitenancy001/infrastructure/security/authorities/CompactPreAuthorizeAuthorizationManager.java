@@ -0,0 +1,230 @@
+package brito.com.multitenancy001.infrastructure.security.authorities;
+
+import brito.com.multitenancy001.controlplane.security.ControlPlanePermission;
+import brito.com.multitenancy001.infrastructure.security.AuthenticatedUserContext;
+import brito.com.multitenancy001.tenant.security.TenantPermission;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link AuthorizationManager} de {@code @PreAuthorize} com teste de bits.
+ *
+ * <p>Funcionamento:</p>
+ * <ul>
+ *   <li>Na primeira chamada de cada par (método, classe alvo), a expressão do
+ *       {@code @PreAuthorize} (método ou classe) é compilada para um {@link Rule}:
+ *       máscaras TEN/CP. A chave inclui a classe alvo porque um método de
+ *       interface pode ter anotações diferentes em cada implementação.</li>
+ *   <li>Formas suportadas (as usadas no projeto):
+ *     <ul>
+ *       <li>{@code hasAuthority(T(...Permission).X.asAuthority())}</li>
+ *       <li>{@code hasAnyAuthority(T(...).X.asAuthority(), ...)}</li>
+ *       <li>termos acima combinados com {@code and}</li>
+ *       <li>{@code isAuthenticated()}</li>
+ *     </ul>
+ *   </li>
+ *   <li>Com principal {@link AuthenticatedUserContext} compacto, a decisão é um AND
+ *       de bits e devolve decisões pré-alocadas.</li>
+ *   <li>Expressões não reconhecidas ou principal sem bits: delega ao
+ *       {@code PreAuthorizeAuthorizationManager} padrão (SpEL), mantendo a semântica.</li>
+ * </ul>
+ */
+@Slf4j
+public final class CompactPreAuthorizeAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private static final String TENANT_PERMISSION_FQN = TenantPermission.class.getName();
+    private static final String CONTROL_PLANE_PERMISSION_FQN = ControlPlanePermission.class.getName();
+
+    private static final Pattern AND = Pattern.compile("\\s+and\\s+");
+    private static final Pattern HAS_AUTHORITY = Pattern.compile("^hasAuthority\\((.+)\\)$");
+    private static final Pattern HAS_ANY_AUTHORITY = Pattern.compile("^hasAnyAuthority\\((.+)\\)$");
+    private static final Pattern ENUM_REF =
+            Pattern.compile("^T\\(\\s*([\\w.]+)\\s*\\)\\.([A-Z0-9_]+)\\.asAuthority\\(\\)$");
+    private static final Pattern LITERAL_REF = Pattern.compile("^'([A-Z0-9_]+)'$");
+
+    /** Marca métodos cuja expressão não é compilável (sempre delega). */
+    private static final Rule DELEGATE = new Rule(new Term[0], false);
+
+    private final AuthorizationManager<MethodInvocation> delegate;
+    private final Map<MethodClassKey, Rule> rules = new ConcurrentHashMap<>();
+
+    public CompactPreAuthorizeAuthorizationManager(AuthorizationManager<MethodInvocation> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : null;
+        Rule rule = rules.computeIfAbsent(
+                new MethodClassKey(invocation.getMethod(), targetClass),
+                key -> compile(invocation.getMethod(), targetClass)
+        );
+
+        if (rule == DELEGATE) {
+            return delegate.check(authentication, invocation);
+        }
+
+        Authentication auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return DENIED;
+        }
+
+        if (rule.authenticatedOnly()) {
+            return GRANTED;
+        }
+
+        CompactAuthorities bits = (auth.getPrincipal() instanceof AuthenticatedUserContext ctx)
+                ? ctx.compactAuthoritiesOrNull()
+                : null;
+
+        if (bits == null) {
+            return delegate.check(authentication, invocation);
+        }
+
+        return rule.matches(bits) ? GRANTED : DENIED;
+    }
+
+    // =========================================================
+    // Compilação da expressão
+    // =========================================================
+
+    private Rule compile(Method method, Class<?> targetClass) {
+        PreAuthorize annotation = findPreAuthorize(method, targetClass);
+        if (annotation == null) {
+            return DELEGATE;
+        }
+
+        Rule rule = compileExpression(annotation.value());
+        if (rule == null) {
+            log.debug("@PreAuthorize não compilável para bits; usando SpEL | method={} | expr={}",
+                    method, annotation.value());
+            return DELEGATE;
+        }
+        return rule;
+    }
+
+    private static PreAuthorize findPreAuthorize(Method method, Class<?> targetClass) {
+        Class<?> type = targetClass != null ? targetClass : method.getDeclaringClass();
+        Method specific = AopUtils.getMostSpecificMethod(method, type);
+
+        PreAuthorize annotation = AnnotatedElementUtils.findMergedAnnotation(specific, PreAuthorize.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(type, PreAuthorize.class);
+        }
+        return annotation;
+    }
+
+    /**
+     * Compila a expressão em máscaras; null quando a forma não é suportada.
+     */
+    static Rule compileExpression(String expression) {
+        if (expression == null) return null;
+        String expr = expression.trim();
+
+        if ("isAuthenticated()".equals(expr)) {
+            return new Rule(new Term[0], true);
+        }
+
+        List<Term> terms = new ArrayList<>();
+        for (String part : AND.split(expr)) {
+            Term term = compileTerm(part.trim());
+            if (term == null) return null;
+            terms.add(term);
+        }
+        return terms.isEmpty() ? null : new Rule(terms.toArray(Term[]::new), false);
+    }
+
+    private static Term compileTerm(String part) {
+        Matcher single = HAS_AUTHORITY.matcher(part);
+        if (single.matches()) {
+            long[] masks = new long[2];
+            return addRef(single.group(1).trim(), masks) ? new Term(masks[0], masks[1], false) : null;
+        }
+
+        Matcher any = HAS_ANY_AUTHORITY.matcher(part);
+        if (any.matches()) {
+            long[] masks = new long[2];
+            for (String ref : any.group(1).split(",")) {
+                if (!addRef(ref.trim(), masks)) return null;
+            }
+            return new Term(masks[0], masks[1], true);
+        }
+
+        return null;
+    }
+
+    /**
+     * Converte uma referência de permissão em bit (masks[0]=TEN, masks[1]=CP).
+     */
+    private static boolean addRef(String ref, long[] masks) {
+        String code;
+        Matcher enumRef = ENUM_REF.matcher(ref);
+        if (enumRef.matches()) {
+            String fqn = enumRef.group(1);
+            if (!TENANT_PERMISSION_FQN.equals(fqn) && !CONTROL_PLANE_PERMISSION_FQN.equals(fqn)) {
+                return false;
+            }
+            code = enumRef.group(2);
+        } else {
+            Matcher literal = LITERAL_REF.matcher(ref);
+            if (!literal.matches()) return false;
+            code = literal.group(1);
+        }
+
+        long tenantBit = CompactAuthorities.tenantBitOf(code);
+        if (tenantBit != 0L) {
+            masks[0] |= tenantBit;
+            return true;
+        }
+        long controlPlaneBit = CompactAuthorities.controlPlaneBitOf(code);
+        if (controlPlaneBit != 0L) {
+            masks[1] |= controlPlaneBit;
+            return true;
+        }
+        // constante desconhecida: deixa o SpEL falhar do jeito dele
+        return false;
+    }
+
+    /**
+     * Termo compilado: todas (hasAuthority) ou alguma (hasAnyAuthority) das máscaras.
+     */
+    record Term(long tenantMask, long controlPlaneMask, boolean any) {
+        boolean matches(CompactAuthorities bits) {
+            return any ? bits.hasAny(tenantMask, controlPlaneMask) : bits.hasAll(tenantMask, controlPlaneMask);
+        }
+    }
+
+    /**
+     * Regra compilada de um método: conjunção de termos.
+     */
+    record Rule(Term[] terms, boolean authenticatedOnly) {
+        boolean matches(CompactAuthorities bits) {
+            for (Term term : terms) {
+                if (!term.matches(bits)) return false;
+            }
+            return true;
+        }
+    }
+}
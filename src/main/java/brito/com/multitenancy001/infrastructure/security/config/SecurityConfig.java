@@ -1,17 +1,38 @@
 package brito.com.multitenancy001.infrastructure.security.config;
 
+import brito.com.multitenancy001.controlplane.security.ControlPlanePermission;
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.AccessLogWriter;
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TenantMetrics;
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TimedPasswordEncoder;
+import brito.com.multitenancy001.infrastructure.security.authorities.CompactPreAuthorizeAuthorizationManager;
 import brito.com.multitenancy001.infrastructure.security.filter.JwtAuthenticationFilter;
 import brito.com.multitenancy001.infrastructure.security.filter.MustChangePasswordFilter;
+import brito.com.multitenancy001.infrastructure.security.filter.RateLimitFilter;
 import brito.com.multitenancy001.infrastructure.security.filter.RequestLoggingFilter;
 import brito.com.multitenancy001.infrastructure.security.filter.RequestMetaContextFilter;
 import brito.com.multitenancy001.infrastructure.security.filter.TenantHeaderTenantContextFilter;
 import brito.com.multitenancy001.infrastructure.security.jwt.JwtTokenProvider;
+import brito.com.multitenancy001.infrastructure.security.ratelimit.TenantRateLimiter;
 import brito.com.multitenancy001.infrastructure.security.userdetails.MultiContextUserDetailsService;
+import brito.com.multitenancy001.shared.time.AppClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.core.GrantedAuthorityDefaults;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -33,12 +54,14 @@ import java.util.List;
  *   <li>Contexto de request e contexto de tenant separados por filtro dedicado.</li>
  *   <li>JwtAuthenticationFilter não acessa repository tenant diretamente.</li>
  *   <li>Validação do principal tenant ocorre via MultiContextUserDetailsService já com TenantContext bindado.</li>
+ *   <li>{@code @PreAuthorize} avaliado por teste de bits (fallback SpEL).</li>
  * </ul>
  *
  * <p>Ordem de filtros:</p>
  * <ol>
  *   <li>RequestMetaContextFilter</li>
  *   <li>TenantHeaderTenantContextFilter</li>
+ *   <li>RateLimitFilter (429 antes de verificar o JWT)</li>
  *   <li>JwtAuthenticationFilter</li>
  *   <li>MustChangePasswordFilter</li>
  *   <li>RequestLoggingFilter</li>
@@ -46,7 +69,7 @@ import java.util.List;
  */
 @Configuration
 @EnableWebSecurity
-@EnableMethodSecurity
+@EnableMethodSecurity(prePostEnabled = false)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -54,6 +77,10 @@ public class SecurityConfig {
     private final MultiContextUserDetailsService multiContextUserDetailsService;
     private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
     private final RestAccessDeniedHandler restAccessDeniedHandler;
+    private final AccessLogWriter accessLogWriter;
+    private final TenantRateLimiter tenantRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AppClock appClock;
 
     /**
      * Filtro JWT principal.
@@ -90,6 +117,16 @@ public class SecurityConfig {
         return new TenantHeaderTenantContextFilter();
     }
 
+    /**
+     * Filtro de rate limit por tenant/usuário/IP, logo após o binding do tenant.
+     *
+     * @return bean do filtro
+     */
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(tenantRateLimiter, objectMapper, appClock);
+    }
+
     /**
      * Filtro da política de troca obrigatória de senha.
      *
@@ -101,23 +138,71 @@ public class SecurityConfig {
     }
 
     /**
-     * Filtro de logging final da request.
+     * Filtro final da request: access log assíncrono (amostrado por categoria).
      *
      * @return bean do filtro
      */
     @Bean
     public RequestLoggingFilter requestLoggingFilter() {
-        return new RequestLoggingFilter();
+        return new RequestLoggingFilter(accessLogWriter, appClock);
+    }
+
+    /**
+     * Interceptor de {@code @PreAuthorize}.
+     *
+     * <p>Substitui o interceptor padrão ({@code prePostEnabled = false}): expressões
+     * de permissão são compiladas em bitmasks e checadas contra as
+     * {@code CompactAuthorities} do principal; o resto cai no SpEL padrão.</p>
+     *
+     * <p>O fallback SpEL é montado como o do Spring ({@code PrePostMethodSecurityConfiguration}):
+     * contexto da aplicação (referências {@code @bean}), expression handler,
+     * {@link RoleHierarchy} e prefixo de role configurados. Com
+     * {@link RoleHierarchy} presente, os bits do principal não refletem as
+     * authorities implícitas: tudo vai para o SpEL.</p>
+     *
+     * @param defaultsProvider prefixo de role (opcional)
+     * @param expressionHandlerProvider expression handler customizado (opcional)
+     * @param roleHierarchyProvider hierarquia de roles (opcional)
+     * @param context contexto da aplicação
+     * @return advisor de método
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor preAuthorizeAuthorizationMethodInterceptor(
+            ObjectProvider<GrantedAuthorityDefaults> defaultsProvider,
+            ObjectProvider<MethodSecurityExpressionHandler> expressionHandlerProvider,
+            ObjectProvider<RoleHierarchy> roleHierarchyProvider,
+            ApplicationContext context
+    ) {
+        RoleHierarchy roleHierarchy = roleHierarchyProvider.getIfAvailable();
+
+        PreAuthorizeAuthorizationManager spel = new PreAuthorizeAuthorizationManager();
+        spel.setApplicationContext(context);
+        spel.setExpressionHandler(expressionHandlerProvider.getIfAvailable(() -> {
+            DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+            if (roleHierarchy != null) {
+                handler.setRoleHierarchy(roleHierarchy);
+            }
+            defaultsProvider.ifAvailable(defaults -> handler.setDefaultRolePrefix(defaults.getRolePrefix()));
+            handler.setApplicationContext(context);
+            return handler;
+        }));
+
+        if (roleHierarchy != null) {
+            return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(spel);
+        }
+        return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(new CompactPreAuthorizeAuthorizationManager(spel));
     }
 
     /**
-     * Encoder padrão.
+     * Encoder padrão (BCrypt), com tempo de hash publicado em {@code auth.password.hash}.
      *
+     * @param tenantMetrics métricas por tenant
      * @return PasswordEncoder BCrypt
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(TenantMetrics tenantMetrics) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), tenantMetrics);
     }
 
     /**
@@ -155,11 +240,15 @@ public class SecurityConfig {
                             "Content-Type",
                             "Accept",
                             "X-Request-Id",
-                            "X-Tenant"
+                            "X-Tenant",
+                            "Idempotency-Key",
+                            "If-None-Match"
                     ));
                     config.setExposedHeaders(List.of(
                             "Authorization",
-                            "X-Request-Id"
+                            "X-Request-Id",
+                            "ETag",
+                            "Retry-After"
                     ));
                     config.setAllowCredentials(true);
                     config.setMaxAge(3600L);
@@ -191,9 +280,18 @@ public class SecurityConfig {
                                 "/api/tenant/password/reset",
 
                                 "/api/accounts/auth/checkuser",
-                                "/api/signup"
+                                "/api/signup",
+                                "/api/signup/provisioning/*"
                         ).permitAll()
 
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**")
+                        .hasAuthority(ControlPlanePermission.CP_TENANT_READ.asAuthority())
+
+                        .requestMatchers(HttpMethod.GET, "/actuator/accesslog", "/actuator/loggers", "/actuator/loggers/**")
+                        .hasAuthority(ControlPlanePermission.CP_TENANT_READ.asAuthority())
+                        .requestMatchers("/actuator/accesslog", "/actuator/loggers", "/actuator/loggers/**")
+                        .hasAuthority(ControlPlanePermission.CP_USER_WRITE.asAuthority())
+
                         .requestMatchers("/api/admin/me/password").authenticated()
                         .requestMatchers("/api/me/**").authenticated()
                         .requestMatchers("/api/admin/**").authenticated()
@@ -205,7 +303,8 @@ public class SecurityConfig {
 
         http.addFilterBefore(requestMetaContextFilter(), UsernamePasswordAuthenticationFilter.class);
         http.addFilterAfter(tenantHeaderTenantContextFilter(), RequestMetaContextFilter.class);
-        http.addFilterAfter(jwtAuthenticationFilter(), TenantHeaderTenantContextFilter.class);
+        http.addFilterAfter(rateLimitFilter(), TenantHeaderTenantContextFilter.class);
+        http.addFilterAfter(jwtAuthenticationFilter(), RateLimitFilter.class);
         http.addFilterAfter(mustChangePasswordFilter(), JwtAuthenticationFilter.class);
         http.addFilterAfter(requestLoggingFilter(), MustChangePasswordFilter.class);
 
@@ -19,6 +19,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -36,6 +37,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
  *   <li>Validar token e claims essenciais.</li>
  *   <li>Validar compatibilidade entre rota, domínio e tenant header/context.</li>
  *   <li>Delegar carregamento do principal para MultiContextUserDetailsService.</li>
+ *   <li>Informar ao {@link RateLimitFilter} o {@code exp} do token aceito
+ *       ({@link RateLimitFilter#TOKEN_EXPIRES_AT_ATTR}) ou a recusa do token
+ *       ({@link RateLimitFilter#TOKEN_REJECTED_ATTR}).</li>
  * </ul>
  *
  * <p>Importante:</p>
@@ -79,6 +83,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (!jwtTokenProvider.validateToken(jwt)) {
             SecurityContextHolder.clearContext();
+            markRejected(req);
             chain.doFilter(req, res);
             return;
         }
@@ -88,7 +93,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (!StringUtils.hasText(email)) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res, new BadCredentialsException("Invalid JWT claims (email)"));
+            unauthorized(req, res, new BadCredentialsException("Invalid JWT claims (email)"));
             return;
         }
 
@@ -99,7 +104,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authDomain == null) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res, new BadCredentialsException("Invalid JWT claims (authDomain)"));
+            unauthorized(req, res, new BadCredentialsException("Invalid JWT claims (authDomain)"));
             return;
         }
 
@@ -127,7 +132,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         SecurityContextHolder.clearContext();
-        authenticationEntryPoint.commence(req, res, new BadCredentialsException("Invalid authDomain"));
+        unauthorized(req, res, new BadCredentialsException("Invalid authDomain"));
     }
 
     private void authenticateTenant(
@@ -141,21 +146,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String tenantSchema = normalize(jwtTokenProvider.getTenantSchemaFromToken(jwt));
         if (!StringUtils.hasText(tenantSchema)) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Invalid JWT claims (tenantSchema)"));
             return;
         }
 
         if (Schemas.CONTROL_PLANE.equalsIgnoreCase(tenantSchema)) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Invalid tenant schema"));
             return;
         }
 
         if (!tenantSchema.matches("^[a-zA-Z0-9_]+$")) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Invalid tenant schema format"));
             return;
         }
@@ -163,7 +168,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         Long accountId = jwtTokenProvider.getAccountIdFromToken(jwt);
         if (accountId == null) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Invalid JWT claims (accountId)"));
             return;
         }
@@ -171,7 +176,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String boundTenant = TenantContext.getOrNull();
         if (!StringUtils.hasText(boundTenant)) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Tenant context is required for tenant routes"));
             return;
         }
@@ -185,16 +190,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             AuthenticatedUserContext principal =
                     multiContextUserDetailsService.loadTenantAuthenticatedUserByEmail(email, accountId, tenantSchema);
 
-            setAuth(req, principal);
+            setAuth(req, principal, jwt);
             chain.doFilter(req, res);
         } catch (AccessDeniedException e) {
             SecurityContextHolder.clearContext();
+            markRejected(req);
             accessDeniedHandler.handle(req, res, e);
         } catch (Exception e) {
             log.warn("Falha ao autenticar tenant via JWT. email={} tenant={} motivo={}",
                     email, tenantSchema, safeMsg(e));
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Invalid authentication context"));
         }
     }
@@ -210,7 +216,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String context = normalize(jwtTokenProvider.getContextFromToken(jwt));
         if (StringUtils.hasText(context) && !Schemas.CONTROL_PLANE.equalsIgnoreCase(context)) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Invalid JWT claims (context)"));
             return;
         }
@@ -218,34 +224,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         Long accountId = jwtTokenProvider.getAccountIdFromToken(jwt);
         if (accountId == null) {
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Invalid JWT claims (accountId)"));
             return;
         }
 
         try {
             UserDetails userDetails = multiContextUserDetailsService.loadControlPlaneUserByEmail(email, accountId);
-            setAuth(req, userDetails);
+            setAuth(req, userDetails, jwt);
             chain.doFilter(req, res);
         } catch (Exception e) {
             log.warn("Falha ao autenticar control plane via JWT. email={} motivo={}", email, safeMsg(e));
             SecurityContextHolder.clearContext();
-            authenticationEntryPoint.commence(req, res,
+            unauthorized(req, res,
                     new BadCredentialsException("Invalid authentication context"));
         }
     }
 
-    private void setAuth(HttpServletRequest request, UserDetails userDetails) {
+    private void setAuth(HttpServletRequest request, UserDetails userDetails, String jwt) {
         UsernamePasswordAuthenticationToken auth =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(auth);
+        request.setAttribute(RateLimitFilter.TOKEN_EXPIRES_AT_ATTR, jwtTokenProvider.getExpirationFromToken(jwt));
+    }
+
+    private void unauthorized(HttpServletRequest req, HttpServletResponse res, AuthenticationException ex)
+            throws IOException, ServletException {
+        markRejected(req);
+        authenticationEntryPoint.commence(req, res, ex);
     }
 
     private void deny(HttpServletRequest req, HttpServletResponse res, String message) throws IOException, ServletException {
+        markRejected(req);
         accessDeniedHandler.handle(req, res, new AccessDeniedException(message));
     }
 
+    private void markRejected(HttpServletRequest req) {
+        req.setAttribute(RateLimitFilter.TOKEN_REJECTED_ATTR, Boolean.TRUE);
+    }
+
     private boolean isPublicEndpoint(HttpServletRequest req) {
         String path = req.getRequestURI();
         if (path == null) {
@@ -253,6 +271,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         if ("/api/signup".equals(path)) return true;
+        if (path.startsWith("/api/signup/provisioning/")) return true;
         if (path.startsWith("/api/tenant/auth/")) return true;
         if (path.startsWith("/api/controlplane/auth/")) return true;
         if (path.startsWith("/api/tenant/password/")) return true;
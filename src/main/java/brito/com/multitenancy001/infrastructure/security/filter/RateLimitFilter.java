@@ -0,0 +1,146 @@
+package brito.com.multitenancy001.infrastructure.security.filter;
+
+import brito.com.multitenancy001.infrastructure.security.AuthenticatedUserContext;
+import brito.com.multitenancy001.infrastructure.security.ratelimit.TenantRateLimiter;
+import brito.com.multitenancy001.shared.api.error.ApiEnumErrorResponse;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.api.error.ErrorDetails;
+import brito.com.multitenancy001.shared.context.RequestMetaContext;
+import brito.com.multitenancy001.shared.time.AppClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Rate limit na borda: barra excesso com 429 + {@code Retry-After} antes da
+ * verificação do JWT e de qualquer conexão com o banco.
+ *
+ * <p>A chave da requisição é a impressão (SHA-256) do bearer token. Depois que
+ * o JWT valida um token, a identidade (tenant/usuário) é lembrada pelo
+ * {@link TenantRateLimiter} e as requisições seguintes daquele token passam a
+ * consumir os limites do tenant e do usuário até o {@code exp} do token;
+ * antes disso, o do IP. Token recusado pelo {@link JwtAuthenticationFilter}
+ * perde a identidade lembrada.</p>
+ *
+ * <p>O IP é o {@code getRemoteAddr()}. Com
+ * {@code server.forward-headers-strategy=native} (application.properties), o
+ * Tomcat só o troca pelo {@code X-Forwarded-For} quando a conexão vem de um
+ * proxy de {@code server.tomcat.remoteip.internal-proxies}; de qualquer outra
+ * origem o cabeçalho é ignorado.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /** {@link Instant} do {@code exp} do token aceito pelo {@link JwtAuthenticationFilter}. */
+    public static final String TOKEN_EXPIRES_AT_ATTR = RateLimitFilter.class.getName() + ".TOKEN_EXPIRES_AT";
+
+    /** Presente quando o {@link JwtAuthenticationFilter} recusou o token da requisição. */
+    public static final String TOKEN_REJECTED_ATTR = RateLimitFilter.class.getName() + ".TOKEN_REJECTED";
+
+    private final TenantRateLimiter tenantRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final AppClock appClock;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+
+        String fingerprint = tokenFingerprint(req.getHeader(HttpHeaders.AUTHORIZATION));
+
+        TenantRateLimiter.Decision decision = tenantRateLimiter.check(fingerprint, req.getRemoteAddr());
+        if (!decision.allowed()) {
+            reject(req, res, decision.retryAfterSeconds());
+            return;
+        }
+
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            if (fingerprint != null) {
+                if (req.getAttribute(TOKEN_REJECTED_ATTR) != null) {
+                    tenantRateLimiter.forget(fingerprint);
+                } else if (!decision.identified()) {
+                    rememberIfAuthenticated(req, fingerprint);
+                }
+            }
+        }
+    }
+
+    private void rememberIfAuthenticated(HttpServletRequest req, String fingerprint) {
+        if (!(req.getAttribute(TOKEN_EXPIRES_AT_ATTR) instanceof Instant expiresAt)) {
+            return;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof AuthenticatedUserContext user) {
+            tenantRateLimiter.rememberVerified(fingerprint, user.getTenantSchema(), user.getUserId(), expiresAt);
+        }
+    }
+
+    private void reject(HttpServletRequest req, HttpServletResponse res, long retryAfterSeconds) throws IOException {
+        if (log.isDebugEnabled()) {
+            log.debug("🚦 rate limit | method={} | uri={} | retryAfter={}s", req.getMethod(), req.getRequestURI(), retryAfterSeconds);
+        }
+
+        ApiEnumErrorResponse body = ApiEnumErrorResponse.builder()
+                .timestamp(appClock.instant())
+                .error(ApiErrorCode.RATE_LIMITED.name())
+                .message(ApiErrorCode.RATE_LIMITED.defaultMessage())
+                .details(new ErrorDetails(
+                        RequestMetaContext.requestIdOrNull(),
+                        "Retry-After: " + retryAfterSeconds + "s"
+                ))
+                .build();
+
+        res.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        res.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding("UTF-8");
+        res.getWriter().write(objectMapper.writeValueAsString(body));
+    }
+
+    private static String tokenFingerprint(String authHeader) {
+        if (!StringUtils.hasText(authHeader) || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        String token = authHeader.substring(7).trim();
+        if (token.isEmpty()) {
+            return null;
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.startsWith("/actuator")
+                || path.startsWith("/swagger")
+                || path.startsWith("/v3/api-docs")
+                || path.startsWith("/favicon.ico");
+    }
+}
@@ -1,40 +1,67 @@
 package brito.com.multitenancy001.infrastructure.security.filter;
 
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.AccessLogCategory;
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.AccessLogRecord;
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.AccessLogWriter;
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TenantMetrics;
 import brito.com.multitenancy001.shared.context.RequestMeta;
 import brito.com.multitenancy001.shared.context.RequestMetaContext;
 import brito.com.multitenancy001.shared.context.TenantContext;
+import brito.com.multitenancy001.shared.time.AppClock;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
 
-@Slf4j
+/**
+ * Filtro final da cadeia: gera um registro de access log por requisição.
+ *
+ * <p>A thread HTTP só mede, classifica e enfileira; formatação e escrita
+ * acontecem em lote no {@link AccessLogWriter}.</p>
+ */
+@RequiredArgsConstructor
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
+    private final AccessLogWriter accessLogWriter;
+    private final AppClock appClock;
+
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
             throws ServletException, IOException {
 
-        long threadId = Thread.currentThread().threadId();
-        String method = req.getMethod();
-        String uri = req.getRequestURI();
+        long start = System.nanoTime();
+
+        // tenant efetivo para a tag "tenant" do http.server.requests (lido após o clear do contexto)
+        req.setAttribute(TenantMetrics.REQUEST_TENANT_ATTRIBUTE, TenantContext.getOrNull());
 
         try {
             chain.doFilter(req, res);
         } finally {
-            String tenant = TenantContext.getOrNull();
-            String tenantForLog = (tenant == null ? "PUBLIC" : tenant);
+            long duration = System.nanoTime() - start;
+            int status = res.getStatus();
 
-            RequestMeta meta = RequestMetaContext.getOrNull();
-            String requestId = (meta != null && meta.requestId() != null) ? meta.requestId().toString() : "-";
-            String ip = (meta != null && meta.ip() != null) ? meta.ip() : "-";
+            AccessLogCategory category = accessLogWriter.categorize(status, duration);
+            if (accessLogWriter.shouldLog(category)) {
+                RequestMeta meta = RequestMetaContext.getOrNull();
+                Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
 
-            log.info("🌐 [REQ] {} {} | tenant={} | status={} | ip={} | requestId={} | thread={}",
-                    method, uri, tenantForLog, res.getStatus(), ip, requestId, threadId);
+                accessLogWriter.submit(new AccessLogRecord(
+                        appClock.epochMillis(),
+                        req.getMethod(),
+                        pattern != null ? pattern.toString() : req.getRequestURI(),
+                        status,
+                        TenantContext.getOrNull(),
+                        duration,
+                        meta != null ? meta.ip() : null,
+                        meta != null && meta.requestId() != null ? meta.requestId().toString() : null,
+                        category
+                ));
+            }
         }
     }
 
@@ -47,4 +74,3 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
                 || path.startsWith("/favicon.ico");
     }
 }
-
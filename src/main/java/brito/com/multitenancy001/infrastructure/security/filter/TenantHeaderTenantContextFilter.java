@@ -23,6 +23,9 @@ import java.io.IOException;
  * </ul>
  *
  * <p>Essa separação evita competição de contexto entre filtro de header e filtro JWT.</p>
+ *
+ * <p>Log por requisição só em DEBUG; o registro de cada requisição fica no access log
+ * ({@link RequestLoggingFilter}).</p>
  */
 @Slf4j
 public class TenantHeaderTenantContextFilter extends OncePerRequestFilter {
@@ -42,7 +45,9 @@ public class TenantHeaderTenantContextFilter extends OncePerRequestFilter {
 
         if (isPublicOnlyPath(uri)) {
             try (TenantContext.Scope ignored = TenantContext.publicScope()) {
-                log.info("🌐 [REQ] {} {} | context=PUBLIC_ONLY | thread={}", method, uri, threadId);
+                if (log.isDebugEnabled()) {
+                    log.debug("🌐 [REQ] {} {} | context=PUBLIC_ONLY | thread={}", method, uri, threadId);
+                }
                 filterChain.doFilter(request, response);
             }
             return;
@@ -62,8 +67,10 @@ public class TenantHeaderTenantContextFilter extends OncePerRequestFilter {
                 return;
             }
 
-            log.info("🌐 [REQ] {} {} | X-Tenant(header)={} | bearer=yes | sem bind por header | thread={}",
-                    method, uri, tenantForLog, threadId);
+            if (log.isDebugEnabled()) {
+                log.debug("🌐 [REQ] {} {} | X-Tenant(header)={} | bearer=yes | sem bind por header | thread={}",
+                        method, uri, tenantForLog, threadId);
+            }
             filterChain.doFilter(request, response);
             return;
         }
@@ -75,8 +82,10 @@ public class TenantHeaderTenantContextFilter extends OncePerRequestFilter {
         }
 
         try (TenantContext.Scope ignored = TenantContext.scope(tenantHeader)) {
-            log.info("🌐 [REQ] {} {} | X-Tenant(bound)={} | bearer=no | thread={}",
-                    method, uri, tenantForLog, threadId);
+            if (log.isDebugEnabled()) {
+                log.debug("🌐 [REQ] {} {} | X-Tenant(bound)={} | bearer=no | thread={}",
+                        method, uri, tenantForLog, threadId);
+            }
             filterChain.doFilter(request, response);
         }
     }
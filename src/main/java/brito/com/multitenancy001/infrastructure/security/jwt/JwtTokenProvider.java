@@ -275,6 +275,11 @@ public class JwtTokenProvider {
                 .toList();
     }
 
+    public Instant getExpirationFromToken(String token) {
+        Date expiration = getAllClaimsFromToken(token).getExpiration();
+        return expiration == null ? null : expiration.toInstant();
+    }
+
     public boolean isTokenExpired(String token) {
         try {
             Claims claims = getAllClaimsFromToken(token);
@@ -0,0 +1,70 @@
+package brito.com.multitenancy001.infrastructure.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sem lock, no formato GCRA (um único {@code long} por bucket).
+ *
+ * <p>O estado é o "tempo teórico de chegada" (TAT): cada permissão empurra o
+ * TAT em {@code 1/taxa}; a requisição passa se o TAT resultante não ficar
+ * mais de {@code burst} intervalos à frente de agora. Equivale a um bucket de
+ * capacidade {@code burst} reabastecido à taxa dada, atualizado por CAS.</p>
+ *
+ * <p>Taxa e rajada são passadas a cada chamada: mudança de plano vale na hora.</p>
+ */
+final class RateBucket {
+
+    private final AtomicLong tat;
+    private volatile long lastAccessNanos;
+
+    RateBucket(long nowNanos) {
+        this.tat = new AtomicLong(nowNanos);
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * Tenta consumir uma permissão.
+     *
+     * @param nowNanos instante atual ({@link System#nanoTime()})
+     * @param intervalNanos intervalo entre permissões (1/taxa)
+     * @param burst capacidade do bucket
+     * @return 0 quando consumiu; senão nanos até haver permissão
+     */
+    long tryAcquire(long nowNanos, long intervalNanos, int burst) {
+        lastAccessNanos = nowNanos;
+        long capacityNanos = intervalNanos * burst;
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long ahead = next - nowNanos;
+
+            if (ahead > capacityNanos) {
+                return ahead - capacityNanos;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Devolve uma permissão consumida (requisição barrada em outro bucket).
+     *
+     * @param intervalNanos intervalo usado no consumo
+     */
+    void refund(long intervalNanos) {
+        tat.addAndGet(-intervalNanos);
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * Cheio (TAT no passado) e sem acesso desde {@code idleNanos}: recriar daria o mesmo estado.
+     */
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return tat.get() - nowNanos <= 0 && nowNanos - lastAccessNanos > idleNanos;
+    }
+}
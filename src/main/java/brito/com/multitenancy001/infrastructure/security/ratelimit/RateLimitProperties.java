@@ -0,0 +1,218 @@
+package brito.com.multitenancy001.infrastructure.security.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
+
+/**
+ * Propriedades do rate limit de requisições ({@code app.ratelimit}).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.ratelimit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Número de stripes do mapa de buckets (potência de 2).
+     */
+    private int stripes = 16;
+
+    /**
+     * Máximo de buckets de tenant/usuário em memória (somando todas as stripes).
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * Máximo de buckets de IP em memória, separado dos de tenant/usuário:
+     * rajada de IPs novos não desaloja bucket de tenant.
+     */
+    private int maxIpBuckets = 50_000;
+
+    /**
+     * Máximo de tokens verificados lembrados (token -> tenant/usuário).
+     */
+    private int maxIdentities = 100_000;
+
+    /**
+     * Bucket cheio e sem acesso há mais que isso é descartado.
+     */
+    private Duration idleTtl = Duration.ofMinutes(10);
+
+    /**
+     * Limite por IP para requisições sem identidade verificada.
+     */
+    private Limit anonymous = new Limit(20, 40);
+
+    /**
+     * Mapa: "free", "pro", "enterprise", "built_in_plan" -> limites.
+     */
+    private Map<String, PlanLimits> plans = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(int maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public int getMaxIpBuckets() {
+        return maxIpBuckets;
+    }
+
+    public void setMaxIpBuckets(int maxIpBuckets) {
+        this.maxIpBuckets = maxIpBuckets;
+    }
+
+    public int getMaxIdentities() {
+        return maxIdentities;
+    }
+
+    public void setMaxIdentities(int maxIdentities) {
+        this.maxIdentities = maxIdentities;
+    }
+
+    public Duration getIdleTtl() {
+        return idleTtl;
+    }
+
+    public void setIdleTtl(Duration idleTtl) {
+        this.idleTtl = idleTtl;
+    }
+
+    public Limit getAnonymous() {
+        return anonymous;
+    }
+
+    public void setAnonymous(Limit anonymous) {
+        this.anonymous = anonymous;
+    }
+
+    public Map<String, PlanLimits> getPlans() {
+        return plans;
+    }
+
+    public void setPlans(Map<String, PlanLimits> plans) {
+        this.plans = plans;
+    }
+
+    /**
+     * Taxa sustentada + rajada de um bucket.
+     */
+    public static class Limit {
+
+        private double permitsPerSecond;
+        private int burst;
+
+        public Limit() {
+        }
+
+        public Limit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public void setPermitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+
+    public static class PlanLimits {
+
+        private Limit tenant = new Limit(20, 40);
+        private Limit user = new Limit(10, 20);
+
+        public Limit getTenant() {
+            return tenant;
+        }
+
+        public void setTenant(Limit tenant) {
+            this.tenant = tenant;
+        }
+
+        public Limit getUser() {
+            return user;
+        }
+
+        public void setUser(Limit user) {
+            this.user = user;
+        }
+    }
+
+    /**
+     * Limites do plano; planos sem configuração usam os de FREE (ou o default da classe).
+     *
+     * @param plan plano (null = FREE)
+     * @return limites
+     */
+    public PlanLimits limitsFor(SubscriptionPlan plan) {
+        SubscriptionPlan effective = plan != null ? plan : SubscriptionPlan.FREE;
+
+        PlanLimits limits = plans.get(effective.name().toLowerCase());
+        if (limits == null) {
+            limits = plans.get(SubscriptionPlan.FREE.name().toLowerCase());
+        }
+        return limits != null ? limits : new PlanLimits();
+    }
+
+    /**
+     * Fail-fast de configuração.
+     */
+    public void validate() {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalStateException("Configuração inválida: app.ratelimit.stripes deve ser potência de 2.");
+        }
+        if (maxBuckets < stripes || maxIpBuckets < stripes || maxIdentities < stripes) {
+            throw new IllegalStateException("Configuração inválida: app.ratelimit.max-buckets/max-ip-buckets/max-identities menores que stripes.");
+        }
+        validate("anonymous", anonymous);
+        for (Map.Entry<String, PlanLimits> entry : plans.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new IllegalStateException("Configuração inválida: app.ratelimit.plans." + entry.getKey() + " nulo.");
+            }
+            validate("plans." + entry.getKey() + ".tenant", entry.getValue().getTenant());
+            validate("plans." + entry.getKey() + ".user", entry.getValue().getUser());
+        }
+    }
+
+    private static void validate(String name, Limit limit) {
+        if (limit == null || limit.getPermitsPerSecond() <= 0 || limit.getBurst() <= 0) {
+            throw new IllegalStateException("Configuração inválida: app.ratelimit." + name
+                    + " exige permits-per-second e burst maiores que zero.");
+        }
+    }
+}
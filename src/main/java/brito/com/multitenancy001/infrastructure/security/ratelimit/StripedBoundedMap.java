@@ -0,0 +1,103 @@
+package brito.com.multitenancy001.infrastructure.security.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Mapa concorrente dividido em stripes, cada uma com teto próprio de entradas.
+ *
+ * <p>O teto por stripe mantém a memória limitada sem contador global
+ * disputado. Chave nova em stripe cheia não entra por {@link #put}; por
+ * {@link #getOrCreate} ela toma o lugar da entrada de acesso mais antigo da
+ * stripe. Entradas ociosas são removidas por {@link #removeIf(Predicate)}.</p>
+ *
+ * @param <V> tipo do valor
+ */
+final class StripedBoundedMap<V> {
+
+    private final Map<String, V>[] stripes;
+    private final int mask;
+    private final int maxPerStripe;
+
+    @SuppressWarnings("unchecked")
+    StripedBoundedMap(int stripeCount, int maxEntries) {
+        this.stripes = new Map[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = stripeCount - 1;
+        this.maxPerStripe = Math.max(1, maxEntries / stripeCount);
+    }
+
+    V get(String key) {
+        return stripes[indexOf(key)].get(key);
+    }
+
+    /**
+     * Valor da chave, criando se não existir. Com a stripe cheia, remove antes a
+     * entrada de acesso mais antigo (varredura só da stripe, só nesse caso).
+     *
+     * @param lastAccess instante do último acesso de um valor
+     * @return valor da chave (nunca compartilhado com outra chave)
+     */
+    V getOrCreate(String key, Function<String, V> factory, ToLongFunction<V> lastAccess) {
+        Map<String, V> stripe = stripes[indexOf(key)];
+        V value = stripe.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (stripe.size() >= maxPerStripe) {
+            evictOldest(stripe, lastAccess);
+        }
+        return stripe.computeIfAbsent(key, factory);
+    }
+
+    void put(String key, V value) {
+        Map<String, V> stripe = stripes[indexOf(key)];
+        if (stripe.containsKey(key) || stripe.size() < maxPerStripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    void remove(String key) {
+        stripes[indexOf(key)].remove(key);
+    }
+
+    int indexOf(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    int removeIf(Predicate<V> predicate) {
+        int removed = 0;
+        for (Map<String, V> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(predicate);
+            removed += before - stripe.size();
+        }
+        return removed;
+    }
+
+    private void evictOldest(Map<String, V> stripe, ToLongFunction<V> lastAccess) {
+        Map.Entry<String, V> oldest = null;
+        for (Map.Entry<String, V> entry : stripe.entrySet()) {
+            if (oldest == null || lastAccess.applyAsLong(entry.getValue()) - lastAccess.applyAsLong(oldest.getValue()) < 0) {
+                oldest = entry;
+            }
+        }
+        if (oldest != null) {
+            stripe.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Map<String, V> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,253 @@
+package brito.com.multitenancy001.infrastructure.security.ratelimit;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionPlanDirectory;
+import brito.com.multitenancy001.infrastructure.security.ratelimit.RateLimitProperties.Limit;
+import brito.com.multitenancy001.infrastructure.security.ratelimit.RateLimitProperties.PlanLimits;
+import brito.com.multitenancy001.shared.time.AppClock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rate limit de requisições por tenant, por usuário e por IP (token bucket sem lock).
+ *
+ * <p>Chaves:</p>
+ * <ul>
+ *   <li>Token já verificado pelo JWT em requisição anterior: bucket do tenant
+ *       e bucket do usuário, com limites do plano da conta
+ *       ({@code app.ratelimit.plans.<plano>}).</li>
+ *   <li>Demais requisições (anônimas, token ainda não visto, token inválido):
+ *       bucket do IP ({@code app.ratelimit.anonymous}).</li>
+ * </ul>
+ *
+ * <p>O filtro roda antes da verificação do JWT. Tenant e usuário vêm só de
+ * tokens cuja assinatura já foi validada (impressão do token -> identidade),
+ * nunca de claims não verificados nem de {@code X-Tenant}: quem forja um
+ * token não consegue consumir o limite de outro tenant.</p>
+ *
+ * <p>A identidade vale só até o {@code exp} do token: depois disso o token
+ * volta ao bucket do IP. Token recusado pelo JWT (revogado, usuário suspenso,
+ * tenant divergente) perde a identidade na hora ({@link #forget}), para que
+ * um token velho não esgote o limite do tenant inteiro.</p>
+ *
+ * <p>Buckets e identidades ficam em {@link StripedBoundedMap} com teto de
+ * entradas; buckets cheios e ociosos são removidos periodicamente. Buckets de
+ * IP têm mapa e teto próprios ({@code max-ip-buckets}), separados dos de
+ * tenant/usuário. Com a stripe cheia, a chave nova desaloja o bucket de
+ * acesso mais antigo da stripe: nenhuma chave divide bucket com outra.</p>
+ *
+ * <p>Métricas: {@value #METRIC}{@code {outcome=allowed|limited, scope=tenant|user|ip}}.</p>
+ */
+@Slf4j
+@Component
+public class TenantRateLimiter {
+
+    public static final String METRIC = "app.ratelimit.requests";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final TenantConnectionPlanDirectory planDirectory;
+    private final AppClock appClock;
+
+    private final StripedBoundedMap<RateBucket> buckets;
+    private final StripedBoundedMap<RateBucket> ipBuckets;
+    private final StripedBoundedMap<VerifiedIdentity> identities;
+    private final long idleNanos;
+
+    private final Counter allowed;
+    private final Counter limitedTenant;
+    private final Counter limitedUser;
+    private final Counter limitedIp;
+
+    public TenantRateLimiter(
+            RateLimitProperties properties,
+            TenantConnectionPlanDirectory planDirectory,
+            AppClock appClock,
+            MeterRegistry meterRegistry
+    ) {
+        properties.validate();
+        this.properties = properties;
+        this.planDirectory = planDirectory;
+        this.appClock = appClock;
+
+        this.buckets = new StripedBoundedMap<>(properties.getStripes(), properties.getMaxBuckets());
+        this.ipBuckets = new StripedBoundedMap<>(properties.getStripes(), properties.getMaxIpBuckets());
+        this.identities = new StripedBoundedMap<>(properties.getStripes(), properties.getMaxIdentities());
+        this.idleNanos = properties.getIdleTtl().toNanos();
+
+        this.allowed = Counter.builder(METRIC).tag("outcome", "allowed").tag("scope", "all").register(meterRegistry);
+        this.limitedTenant = Counter.builder(METRIC).tag("outcome", "limited").tag("scope", "tenant").register(meterRegistry);
+        this.limitedUser = Counter.builder(METRIC).tag("outcome", "limited").tag("scope", "user").register(meterRegistry);
+        this.limitedIp = Counter.builder(METRIC).tag("outcome", "limited").tag("scope", "ip").register(meterRegistry);
+        Gauge.builder("app.ratelimit.buckets", buckets, StripedBoundedMap::size).tag("scope", "identity").register(meterRegistry);
+        Gauge.builder("app.ratelimit.buckets", ipBuckets, StripedBoundedMap::size).tag("scope", "ip").register(meterRegistry);
+    }
+
+    /**
+     * Resultado da checagem.
+     *
+     * @param allowed true se a requisição pode seguir
+     * @param retryAfterSeconds segundos sugeridos para {@code Retry-After} (quando barrada)
+     * @param identified true se o token já tinha identidade verificada e ainda válida
+     */
+    public record Decision(boolean allowed, long retryAfterSeconds, boolean identified) {
+    }
+
+    /**
+     * Consome uma permissão da requisição.
+     *
+     * @param tokenFingerprint impressão do bearer token (null sem token)
+     * @param clientIp IP do cliente
+     * @return decisão
+     */
+    public Decision check(String tokenFingerprint, String clientIp) {
+        if (!properties.isEnabled()) {
+            return new Decision(true, 0L, false);
+        }
+
+        long now = System.nanoTime();
+        VerifiedIdentity identity = tokenFingerprint != null ? identities.get(tokenFingerprint) : null;
+
+        if (identity != null && identity.isExpired(appClock.epochMillis())) {
+            identities.remove(tokenFingerprint);
+            identity = null;
+        }
+
+        if (identity == null) {
+            long wait = acquire(ipBuckets, clientIp != null ? clientIp : "unknown", properties.getAnonymous(), now);
+            return decide(wait, limitedIp, false);
+        }
+
+        identity.lastSeenNanos = now;
+
+        // sem tenant = usuário do control plane (conta do sistema)
+        SubscriptionPlan plan = identity.tenantSchema != null
+                ? planDirectory.planOf(identity.tenantSchema)
+                : SubscriptionPlan.BUILT_IN_PLAN;
+        PlanLimits limits = properties.limitsFor(plan);
+
+        String tenantKey = identity.tenantSchema != null ? identity.tenantSchema : "public";
+        RateBucket tenantBucket = null;
+        long tenantInterval = 0L;
+        if (identity.tenantSchema != null) {
+            tenantInterval = intervalNanos(limits.getTenant());
+            tenantBucket = bucket(buckets, "t|" + tenantKey, now);
+            long wait = tenantBucket.tryAcquire(now, tenantInterval, limits.getTenant().getBurst());
+            if (wait > 0) {
+                return decide(wait, limitedTenant, true);
+            }
+        }
+
+        if (identity.userId != null) {
+            long wait = acquire(buckets, "u|" + tenantKey + "|" + identity.userId, limits.getUser(), now);
+            if (wait > 0) {
+                if (tenantBucket != null) {
+                    tenantBucket.refund(tenantInterval);
+                }
+                return decide(wait, limitedUser, true);
+            }
+        }
+
+        allowed.increment();
+        return new Decision(true, 0L, true);
+    }
+
+    /**
+     * Lembra a identidade de um token cuja assinatura o JWT acabou de validar.
+     *
+     * @param tokenFingerprint impressão do bearer token
+     * @param tenantSchema schema do tenant (null = control plane)
+     * @param userId id do usuário
+     * @param expiresAt {@code exp} do token (sem exp, a identidade não é lembrada)
+     */
+    public void rememberVerified(String tokenFingerprint, String tenantSchema, Long userId, Instant expiresAt) {
+        if (!properties.isEnabled() || tokenFingerprint == null || expiresAt == null) {
+            return;
+        }
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= appClock.epochMillis()) {
+            return;
+        }
+        identities.put(tokenFingerprint,
+                new VerifiedIdentity(tenantSchema, userId, expiresAtMillis, System.nanoTime()));
+    }
+
+    /**
+     * Esquece a identidade de um token recusado pelo JWT: as próximas
+     * requisições com ele voltam ao bucket do IP.
+     *
+     * @param tokenFingerprint impressão do bearer token
+     */
+    public void forget(String tokenFingerprint) {
+        if (tokenFingerprint != null) {
+            identities.remove(tokenFingerprint);
+        }
+    }
+
+    /**
+     * Remove buckets cheios e identidades ociosas há mais de {@code app.ratelimit.idle-ttl}
+     * ou com o token já expirado.
+     */
+    @Scheduled(fixedDelayString = "${app.ratelimit.sweep-delay-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int bucketsRemoved = buckets.removeIf(b -> b.isIdle(now, idleNanos))
+                + ipBuckets.removeIf(b -> b.isIdle(now, idleNanos));
+        long nowMillis = appClock.epochMillis();
+        int identitiesRemoved = identities.removeIf(i -> i.isExpired(nowMillis) || now - i.lastSeenNanos > idleNanos);
+
+        if (bucketsRemoved > 0 || identitiesRemoved > 0) {
+            log.debug("RATE_LIMIT_SWEEP | bucketsRemoved={} | identitiesRemoved={} | buckets={}",
+                    bucketsRemoved, identitiesRemoved, buckets.size() + ipBuckets.size());
+        }
+    }
+
+    private long acquire(StripedBoundedMap<RateBucket> map, String key, Limit limit, long now) {
+        return bucket(map, key, now).tryAcquire(now, intervalNanos(limit), limit.getBurst());
+    }
+
+    private static RateBucket bucket(StripedBoundedMap<RateBucket> map, String key, long now) {
+        return map.getOrCreate(key, k -> new RateBucket(now), RateBucket::lastAccessNanos);
+    }
+
+    private Decision decide(long waitNanos, Counter limited, boolean identified) {
+        if (waitNanos <= 0) {
+            allowed.increment();
+            return new Decision(true, 0L, identified);
+        }
+        limited.increment();
+        long seconds = Math.max(1L, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        return new Decision(false, seconds, identified);
+    }
+
+    private static long intervalNanos(Limit limit) {
+        return Math.max(1L, (long) (NANOS_PER_SECOND / limit.getPermitsPerSecond()));
+    }
+
+    private static final class VerifiedIdentity {
+        private final String tenantSchema;
+        private final Long userId;
+        private final long expiresAtMillis;
+        private volatile long lastSeenNanos;
+
+        private VerifiedIdentity(String tenantSchema, Long userId, long expiresAtMillis, long lastSeenNanos) {
+            this.tenantSchema = tenantSchema;
+            this.userId = userId;
+            this.expiresAtMillis = expiresAtMillis;
+            this.lastSeenNanos = lastSeenNanos;
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
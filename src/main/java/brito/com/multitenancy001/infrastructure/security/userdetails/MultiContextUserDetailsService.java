@@ -85,7 +85,7 @@ public class MultiContextUserDetailsService implements UserDetailsService {
     public UserDetails loadControlPlaneUserByEmail(String email, Long accountId) {
         ControlPlaneUser user = findControlPlaneUserOrThrow(email, accountId);
 
-        Set<GrantedAuthority> authorities = new LinkedHashSet<>(AuthoritiesFactory.forControlPlane(user));
+        Set<GrantedAuthority> authorities = AuthoritiesFactory.forControlPlane(user);
 
         String roleName = user.getRole() != null ? user.getRole().name() : null;
         String roleAuthority = user.getRole() != null ? user.getRole().asAuthority() : null;
@@ -0,0 +1,46 @@
+package brito.com.multitenancy001.infrastructure.tenant;
+
+import org.springframework.core.task.TaskDecorator;
+
+import brito.com.multitenancy001.shared.context.RequestMeta;
+import brito.com.multitenancy001.shared.context.RequestMetaContext;
+import brito.com.multitenancy001.shared.context.TenantContext;
+
+/**
+ * {@link TaskDecorator} que transporta o contexto da thread chamadora para a worker.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>O {@link TenantContext} capturado no submit é rebindado na worker
+ *       (ausência de tenant = PUBLIC) e removido ao final.</li>
+ *   <li>Qualquer resíduo de tenant na worker é limpo antes de executar, para
+ *       nunca rodar uma tarefa no schema de outra requisição.</li>
+ *   <li>O {@link RequestMetaContext} (requestId no MDC) também é propagado,
+ *       para que logs da worker fiquem correlacionados à requisição.</li>
+ * </ul>
+ *
+ * <p>Não combinar com {@code CallerRunsPolicy}: a limpeza final apagaria o
+ * contexto da própria thread chamadora.</p>
+ */
+public class TenantContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        final String tenantSchema = TenantContext.getOrNull();
+        final RequestMeta meta = RequestMetaContext.getOrNull();
+
+        return () -> {
+            TenantContext.clear();
+            if (meta != null) {
+                RequestMetaContext.set(meta);
+            }
+
+            try (TenantContext.Scope ignored = TenantContext.scope(tenantSchema)) {
+                runnable.run();
+            } finally {
+                TenantContext.clear();
+                RequestMetaContext.clear();
+            }
+        };
+    }
+}
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TenantMetrics;
 import brito.com.multitenancy001.infrastructure.persistence.PublicTxExecutor;
 import lombok.RequiredArgsConstructor;
 
@@ -19,6 +20,7 @@ import lombok.RequiredArgsConstructor;
  *   <li>Executar blocos no schema do tenant correto.</li>
  *   <li>Centralizar fronteiras transacionais tenant.</li>
  *   <li>Logar nesting transacional suspeito.</li>
+ *   <li>Medir a duração de cada unidade ({@code app.uow.duration}, scope=tenant).</li>
  * </ul>
  */
 @Component
@@ -29,45 +31,56 @@ public class TenantSchemaUnitOfWork {
 
     private final TenantContextExecutor tenantExecutor;
     private final PublicTxExecutor transactionExecutor;
+    private final TenantMetrics tenantMetrics;
+
+    private static final String SCOPE = "tenant";
 
     public <T> T tx(String tenantSchema, Supplier<T> fn) {
         warnIfActiveTx("tx(REQUIRED)", tenantSchema);
-        return tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantTx(fn));
+        return tenantMetrics.timeUnitOfWork(SCOPE, "tx", tenantSchema,
+                () -> tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantTx(fn)));
     }
 
     public void tx(String tenantSchema, Runnable fn) {
         warnIfActiveTx("tx(REQUIRED)", tenantSchema);
-        tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantTx(fn));
+        tenantMetrics.timeUnitOfWork(SCOPE, "tx", tenantSchema,
+                () -> tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantTx(fn)));
     }
 
     public <T> T readOnly(String tenantSchema, Supplier<T> fn) {
         warnIfActiveTx("readOnly(REQUIRED, readOnly=true)", tenantSchema);
-        return tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantReadOnlyTx(fn));
+        return tenantMetrics.timeUnitOfWork(SCOPE, "readOnly", tenantSchema,
+                () -> tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantReadOnlyTx(fn)));
     }
 
     public void readOnly(String tenantSchema, Runnable fn) {
         warnIfActiveTx("readOnly(REQUIRED, readOnly=true)", tenantSchema);
-        tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantReadOnlyTx(fn));
+        tenantMetrics.timeUnitOfWork(SCOPE, "readOnly", tenantSchema,
+                () -> tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantReadOnlyTx(fn)));
     }
 
     public <T> T requiresNew(String tenantSchema, Supplier<T> fn) {
         warnIfActiveTx("requiresNew(REQUIRES_NEW)", tenantSchema);
-        return tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantRequiresNew(fn));
+        return tenantMetrics.timeUnitOfWork(SCOPE, "requiresNew", tenantSchema,
+                () -> tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantRequiresNew(fn)));
     }
 
     public void requiresNew(String tenantSchema, Runnable fn) {
         warnIfActiveTx("requiresNew(REQUIRES_NEW)", tenantSchema);
-        tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantRequiresNew(fn));
+        tenantMetrics.timeUnitOfWork(SCOPE, "requiresNew", tenantSchema,
+                () -> tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantRequiresNew(fn)));
     }
 
     public <T> T requiresNewReadOnly(String tenantSchema, Supplier<T> fn) {
         warnIfActiveTx("requiresNewReadOnly(REQUIRES_NEW, readOnly=true)", tenantSchema);
-        return tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantRequiresNewReadOnly(fn));
+        return tenantMetrics.timeUnitOfWork(SCOPE, "requiresNewReadOnly", tenantSchema,
+                () -> tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantRequiresNewReadOnly(fn)));
     }
 
     public void requiresNewReadOnly(String tenantSchema, Runnable fn) {
         warnIfActiveTx("requiresNewReadOnly(REQUIRES_NEW, readOnly=true)", tenantSchema);
-        tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantRequiresNewReadOnly(fn));
+        tenantMetrics.timeUnitOfWork(SCOPE, "requiresNewReadOnly", tenantSchema,
+                () -> tenantExecutor.runInTenantSchema(tenantSchema, () -> transactionExecutor.inTenantRequiresNewReadOnly(fn)));
     }
 
     private static void warnIfActiveTx(String op, String tenantSchema) {
@@ -13,27 +13,53 @@ import brito.com.multitenancy001.shared.security.SystemRoleName;
 import brito.com.multitenancy001.shared.time.AppClock;
 import brito.com.multitenancy001.tenant.auth.app.boundary.TenantAuthMechanics;
 import brito.com.multitenancy001.tenant.auth.app.boundary.TenantRefreshIdentity;
+import brito.com.multitenancy001.tenant.auth.app.boundary.TenantVerifiedLogin;
 import brito.com.multitenancy001.tenant.security.TenantRoleMapper;
 import brito.com.multitenancy001.tenant.users.domain.TenantUser;
 import brito.com.multitenancy001.tenant.users.persistence.TenantUserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Implementação de {@link TenantAuthMechanics} usando repository + password encoder + JWT.
  *
  * <p>Responsabilidades:</p>
  * <ul>
- *   <li>Validar senha no schema do tenant.</li>
+ *   <li>Validar senha no schema do tenant (um load + um bcrypt por tenant).</li>
+ *   <li>Emitir JWT a partir do usuário já verificado, sem repetir o bcrypt.</li>
+ *   <li>Verificar vários tenants em paralelo (executor por CPU + deadline global);
+ *       candidato sem resposta no prazo falha o login com erro retentável.</li>
  *   <li>Autenticar tenant e emitir access/refresh token.</li>
  *   <li>Emitir JWT sem senha no fluxo CONFIRM.</li>
  *   <li>Resolver identidade mínima do refresh token sem query.</li>
  *   <li>Realizar refresh com rotação de refresh token.</li>
  * </ul>
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TenantAuthMechanicsSpringSecurity implements TenantAuthMechanics {
@@ -46,37 +72,178 @@ public class TenantAuthMechanicsSpringSecurity implements TenantAuthMechanics {
     private final PasswordEncoder passwordEncoder;
     private final AppClock appClock;
 
+    @Qualifier("tenantPasswordVerificationExecutor")
+    private final ThreadPoolTaskExecutor tenantPasswordVerificationExecutor;
+
+    @Value("${app.auth.tenant.password-verification.deadline:PT5S}")
+    private Duration verificationDeadline;
+
     @Override
-    public boolean verifyPasswordInTenant(PublicAccountView account, String normalizedEmail, String rawPassword) {
-        if (account == null || account.id() == null) return false;
-        if (!StringUtils.hasText(account.tenantSchema())) return false;
-        if (!StringUtils.hasText(normalizedEmail) || !StringUtils.hasText(rawPassword)) return false;
+    public Optional<TenantVerifiedLogin> verifyPassword(PublicAccountView account, String normalizedEmail, String rawPassword) {
+        try {
+            return verifyPasswordOrThrow(account, normalizedEmail, rawPassword);
+        } catch (Exception ignored) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Igual a {@link #verifyPassword}, mas propaga falhas de infraestrutura
+     * (banco, bulkhead) em vez de tratá-las como senha inválida.
+     */
+    private Optional<TenantVerifiedLogin> verifyPasswordOrThrow(
+            PublicAccountView account,
+            String normalizedEmail,
+            String rawPassword
+    ) {
+        if (account == null || account.id() == null) return Optional.empty();
+        if (!StringUtils.hasText(account.tenantSchema())) return Optional.empty();
+        if (!StringUtils.hasText(normalizedEmail) || !StringUtils.hasText(rawPassword)) return Optional.empty();
 
         final String tenantSchema = account.tenantSchema().trim();
 
+        return tenantExecutor.runInTenantSchema(tenantSchema, () -> {
+            TenantUser user = tenantUserRepository
+                    .findByEmailAndAccountIdAndDeletedFalse(normalizedEmail, account.id())
+                    .orElse(null);
+
+            if (user == null) return Optional.<TenantVerifiedLogin>empty();
+            if (!isActive(user)) return Optional.<TenantVerifiedLogin>empty();
+
+            String encoded = user.getPassword();
+            if (!StringUtils.hasText(encoded) || !passwordEncoder.matches(rawPassword, encoded)) {
+                return Optional.<TenantVerifiedLogin>empty();
+            }
+
+            return Optional.of(new TenantVerifiedLogin(account, normalizedEmail, user));
+        });
+    }
+
+    @Override
+    public Map<Long, TenantVerifiedLogin> verifyPasswordAcrossTenants(
+            List<PublicAccountView> accounts,
+            String normalizedEmail,
+            String rawPassword
+    ) {
+        Map<Long, TenantVerifiedLogin> verified = new LinkedHashMap<>();
+        if (accounts == null || accounts.isEmpty()) return verified;
+
+        if (accounts.size() == 1) {
+            PublicAccountView only = accounts.get(0);
+            verifyPassword(only, normalizedEmail, rawPassword).ifPresent(v -> verified.put(only.id(), v));
+            return verified;
+        }
+
+        List<Future<Optional<TenantVerifiedLogin>>> futures = new ArrayList<>(accounts.size());
+        for (PublicAccountView account : accounts) {
+            futures.add(submitVerification(account, normalizedEmail, rawPassword));
+        }
+
+        long deadlineNanos = System.nanoTime() + verificationDeadline.toNanos();
+
+        for (int i = 0; i < futures.size(); i++) {
+            Future<Optional<TenantVerifiedLogin>> future = futures.get(i);
+            PublicAccountView account = accounts.get(i);
+            long remaining = deadlineNanos - System.nanoTime();
+
+            try {
+                future.get(Math.max(remaining, 0L), TimeUnit.NANOSECONDS)
+                        .ifPresent(v -> verified.put(account.id(), v));
+            } catch (TimeoutException ex) {
+                cancelAll(futures);
+                log.warn("Verificação de senha excedeu o deadline | accountId={} | candidates={} | deadlineMs={}",
+                        account.id(), accounts.size(), verificationDeadline.toMillis());
+                throw undecided();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancelAll(futures);
+                throw undecided();
+            } catch (ExecutionException ex) {
+                if (isTimeoutOrInterrupt(ex.getCause())) {
+                    cancelAll(futures);
+                    log.warn("LOGIN_PASSWORD_CHECK_TIMEOUT | accountId={} | candidates={}",
+                            account.id(), accounts.size(), ex.getCause());
+                    throw undecided();
+                }
+                log.warn("LOGIN_PASSWORD_CHECK_SKIPPED | accountId={} | tenantSchema={} | candidates={}",
+                        account.id(), account.tenantSchema(), accounts.size(), ex.getCause());
+            }
+        }
+
+        return verified;
+    }
+
+    /**
+     * Agenda a verificação no executor dedicado; com a fila cheia, verifica no
+     * próprio thread (backpressure sem descartar o candidato).
+     *
+     * <p>{@code submit} devolve um {@link FutureTask}: {@code cancel(true)}
+     * tira da fila o que não começou e interrompe o worker (esperas de
+     * conexão/bulkhead). Um bcrypt já em curso não é interrompível e termina
+     * o round, mas o resultado é descartado.</p>
+     */
+    private Future<Optional<TenantVerifiedLogin>> submitVerification(
+            PublicAccountView account,
+            String normalizedEmail,
+            String rawPassword
+    ) {
+        Callable<Optional<TenantVerifiedLogin>> task = () -> verifyPasswordOrThrow(account, normalizedEmail, rawPassword);
         try {
-            return tenantExecutor.runInTenantSchema(tenantSchema, () -> {
-                TenantUser user = tenantUserRepository
-                        .findByEmailAndAccountIdAndDeletedFalse(normalizedEmail, account.id())
-                        .orElse(null);
+            return tenantPasswordVerificationExecutor.submit(task);
+        } catch (TaskRejectedException ex) {
+            FutureTask<Optional<TenantVerifiedLogin>> inline = new FutureTask<>(task);
+            inline.run();
+            return inline;
+        }
+    }
 
-                if (user == null) return false;
-                if (!isActive(user)) return false;
+    private static void cancelAll(List<Future<Optional<TenantVerifiedLogin>>> futures) {
+        futures.forEach(f -> f.cancel(true));
+    }
 
-                String encoded = user.getPassword();
-                return StringUtils.hasText(encoded) && passwordEncoder.matches(rawPassword, encoded);
-            });
-        } catch (Exception ignored) {
-            return false;
+    /**
+     * Falha que depende de tempo (deadline de conexão/bulkhead, interrupção):
+     * outro round poderia decidir diferente, então o login não é decidido.
+     * Erros determinísticos (schema quebrado/ausente) só excluem o candidato.
+     */
+    private static boolean isTimeoutOrInterrupt(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof InterruptedException
+                    || t instanceof TimeoutException
+                    || t instanceof SQLTimeoutException
+                    || t instanceof SQLTransientConnectionException
+                    || t instanceof QueryTimeoutException) {
+                return true;
+            }
+            if (t instanceof ApiException api && api.getCode() == ApiErrorCode.TENANT_DB_BUSY) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    /**
+     * Algum candidato ficou sem resposta: decidir só com os demais poderia
+     * escolher a conta errada ou negar credenciais válidas. Falha retentável.
+     */
+    private static ApiException undecided() {
+        return new ApiException(ApiErrorCode.LOGIN_VERIFICATION_TIMEOUT);
     }
 
     @Override
-    public JwtResult authenticateWithPassword(PublicAccountView account, String normalizedEmail, String rawPassword) {
-        if (!verifyPasswordInTenant(account, normalizedEmail, rawPassword)) {
+    public JwtResult issueJwtForVerifiedLogin(TenantVerifiedLogin verifiedLogin) {
+        if (verifiedLogin == null || verifiedLogin.user() == null) {
             throw new ApiException(ApiErrorCode.INVALID_CREDENTIALS, INVALID_CREDENTIALS_MSG, 401);
         }
-        return issueJwtForAccountAndEmail(account, normalizedEmail);
+
+        PublicAccountView account = verifiedLogin.account();
+        if (account == null || account.id() == null || !StringUtils.hasText(account.tenantSchema())) {
+            throw new ApiException(ApiErrorCode.ACCOUNT_REQUIRED, "Conta/tenant inválido para autenticação", 400);
+        }
+
+        final String tenantSchema = account.tenantSchema().trim();
+
+        return tenantExecutor.runInTenantSchema(tenantSchema, () -> issueTokens(account, tenantSchema, verifiedLogin.user()));
     }
 
     @Override
@@ -95,36 +262,43 @@ public class TenantAuthMechanicsSpringSecurity implements TenantAuthMechanics {
                     .findByEmailAndAccountIdAndDeletedFalse(normalizedEmail, account.id())
                     .orElseThrow(() -> new ApiException(ApiErrorCode.INVALID_CREDENTIALS, INVALID_CREDENTIALS_MSG, 401));
 
-            ensureUserActive(user);
+            return issueTokens(account, tenantSchema, user);
+        });
+    }
 
-            tenantUserRepository.updateLastLogin(user.getId(), appClock.instant());
+    /**
+     * Emite access/refresh para um usuário já carregado (deve rodar no schema do tenant).
+     */
+    private JwtResult issueTokens(PublicAccountView account, String tenantSchema, TenantUser user) {
+        ensureUserActive(user);
 
-            var authorities = AuthoritiesFactory.forTenant(user);
+        tenantUserRepository.updateLastLogin(user.getId(), appClock.instant());
 
-            AuthenticatedUserContext principal = AuthenticatedUserContext.fromTenantUser(
-                    user,
-                    tenantSchema,
-                    appClock.instant(),
-                    authorities
-            );
+        var authorities = AuthoritiesFactory.forTenant(user);
 
-            var authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
+        AuthenticatedUserContext principal = AuthenticatedUserContext.fromTenantUser(
+                user,
+                tenantSchema,
+                appClock.instant(),
+                authorities
+        );
 
-            String accessToken = jwtTokenProvider.generateTenantToken(authentication, account.id(), tenantSchema);
-            String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail(), tenantSchema, account.id());
+        var authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
 
-            SystemRoleName role = TenantRoleMapper.toSystemRoleOrNull(user.getRole());
+        String accessToken = jwtTokenProvider.generateTenantToken(authentication, account.id(), tenantSchema);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getEmail(), tenantSchema, account.id());
 
-            return new JwtResult(
-                    accessToken,
-                    refreshToken,
-                    user.getId(),
-                    user.getEmail(),
-                    role,
-                    account.id(),
-                    tenantSchema
-            );
-        });
+        SystemRoleName role = TenantRoleMapper.toSystemRoleOrNull(user.getRole());
+
+        return new JwtResult(
+                accessToken,
+                refreshToken,
+                user.getId(),
+                user.getEmail(),
+                role,
+                account.id(),
+                tenantSchema
+        );
     }
 
     @Override
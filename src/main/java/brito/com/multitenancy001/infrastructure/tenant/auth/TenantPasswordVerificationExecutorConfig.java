@@ -0,0 +1,48 @@
+package brito.com.multitenancy001.infrastructure.tenant.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import brito.com.multitenancy001.infrastructure.tenant.TenantContextTaskDecorator;
+
+/**
+ * Executor dedicado à verificação de senha (bcrypt) em múltiplos tenants no login.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Dimensionado por CPU: bcrypt é CPU-bound, mais threads que cores só
+ *       aumentam a latência de todos os logins.</li>
+ *   <li>Fila limitada; quando cheia, o chamador verifica no próprio thread
+ *       (ver {@link TenantAuthMechanicsSpringSecurity}).</li>
+ *   <li>Contexto (tenant/requestId) transportado via {@link TenantContextTaskDecorator}.</li>
+ * </ul>
+ */
+@Configuration
+public class TenantPasswordVerificationExecutorConfig {
+
+    /**
+     * Executor de verificação de senha.
+     *
+     * @param threads quantidade de threads (0 = número de CPUs)
+     * @param queueCapacity capacidade da fila
+     * @return executor configurado
+     */
+    @Bean(name = "tenantPasswordVerificationExecutor")
+    public ThreadPoolTaskExecutor tenantPasswordVerificationExecutor(
+            @Value("${app.auth.tenant.password-verification.threads:0}") int threads,
+            @Value("${app.auth.tenant.password-verification.queue-capacity:256}") int queueCapacity
+    ) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor exec = new ThreadPoolTaskExecutor();
+        exec.setThreadNamePrefix("tenant-pwd-verify-");
+        exec.setCorePoolSize(size);
+        exec.setMaxPoolSize(size);
+        exec.setQueueCapacity(queueCapacity);
+        exec.setTaskDecorator(new TenantContextTaskDecorator());
+        exec.initialize();
+        return exec;
+    }
+}
@@ -0,0 +1,37 @@
+package brito.com.multitenancy001.integration.tenant.inventory;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.inventory.app.TenantInventoryLedgerMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fachada fina de integração para a manutenção do ledger de estoque do tenant.
+ *
+ * <p>Permite que o Control Plane (que conhece a lista de tenants) dispare a
+ * manutenção sem acessar tabelas do tenant diretamente.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenantInventoryLedgerIntegrationService {
+
+    private final TenantInventoryLedgerMaintenanceService tenantInventoryLedgerMaintenanceService;
+
+    /**
+     * Cria partições futuras e checkpoints de saldo do ledger do tenant.
+     *
+     * @param tenantSchema schema do tenant
+     */
+    public void maintainLedger(String tenantSchema) {
+        if (!StringUtils.hasText(tenantSchema)) {
+            throw new ApiException(ApiErrorCode.TENANT_CONTEXT_REQUIRED, "tenantSchema é obrigatório", 400);
+        }
+
+        tenantInventoryLedgerMaintenanceService.maintain(tenantSchema.trim());
+    }
+}
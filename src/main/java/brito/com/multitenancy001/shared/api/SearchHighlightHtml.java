@@ -0,0 +1,37 @@
+package brito.com.multitenancy001.shared.api;
+
+import org.springframework.web.util.HtmlUtils;
+
+import brito.com.multitenancy001.shared.persistence.PgTextSearch;
+
+/**
+ * Converte highlights de busca (saída crua do {@code ts_headline}) em HTML
+ * seguro para a resposta da API.
+ *
+ * <p>Todo o texto é escapado e só então as sentinelas de
+ * {@link PgTextSearch} viram {@code <mark>}/{@code </mark>}; o texto do
+ * tenant nunca sai como markup.</p>
+ */
+public final class SearchHighlightHtml {
+
+    /** Markup devolvido na API em volta dos termos encontrados. */
+    public static final String HIGHLIGHT_START = "<mark>";
+    public static final String HIGHLIGHT_STOP = "</mark>";
+
+    private SearchHighlightHtml() {
+        // utility class
+    }
+
+    /**
+     * @param headline saída do ts_headline marcada com as sentinelas
+     * @return trecho com HTML escapado e termos em {@code <mark>}, ou null
+     */
+    public static String toHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline)
+                .replace(String.valueOf(PgTextSearch.HIGHLIGHT_START_SENTINEL), HIGHLIGHT_START)
+                .replace(String.valueOf(PgTextSearch.HIGHLIGHT_STOP_SENTINEL), HIGHLIGHT_STOP);
+    }
+}
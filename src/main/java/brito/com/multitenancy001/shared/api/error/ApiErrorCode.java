@@ -67,6 +67,9 @@ public enum ApiErrorCode {
     UNAUTHORIZED(ApiErrorCategory.SECURITY, 401, "Não autorizado"),
     FORBIDDEN(ApiErrorCategory.SECURITY, 403, "Acesso negado"),
     ACCESS_DENIED(ApiErrorCategory.SECURITY, 403, "Acesso negado"),
+    RATE_LIMITED(ApiErrorCategory.SECURITY, 429, "Limite de requisições excedido; tente novamente em instantes"),
+    LOGIN_VERIFICATION_TIMEOUT(ApiErrorCategory.AUTH, 503,
+            "Não foi possível verificar as credenciais a tempo; tente novamente em instantes"),
     CHALLENGE_NOT_FOUND(ApiErrorCategory.AUTH, 404, "Challenge não encontrado, expirado ou já usado"),
 
     INVALID_REFRESH(ApiErrorCategory.AUTH, 401, "Refresh inválido"),
@@ -109,6 +112,8 @@ public enum ApiErrorCode {
     TENANT_INVALID(ApiErrorCategory.TENANT, 400, "Tenant inválido"),
     TENANT_SCHEMA_NOT_FOUND(ApiErrorCategory.TENANT, 404, "Tenant schema não encontrado"),
     TENANT_TABLE_NOT_FOUND(ApiErrorCategory.TENANT, 404, "Tabela do tenant não encontrada"),
+    TENANT_DB_BUSY(ApiErrorCategory.TENANT, 503,
+            "Muitas operações simultâneas para este tenant; tente novamente em instantes"),
 
     // ✅ ADICIONADOS (para remover string code no provisioning worker)
     TENANT_SCHEMA_LOCK_TIMEOUT(ApiErrorCategory.CONFLICT, 409,
@@ -122,6 +127,10 @@ public enum ApiErrorCode {
     TENANT_TABLE_EXISTS_CHECK_FAILED(ApiErrorCategory.INTERNAL, 500,
             "Falha ao verificar existência de tabela do tenant"),
 
+    SIGNUP_PROVISIONING_BUSY(ApiErrorCategory.PROVISIONING, 503,
+            "Provisionamento de contas sobrecarregado; tente novamente em instantes"),
+    PROVISIONING_NOT_FOUND(ApiErrorCategory.PROVISIONING, 404, "Provisionamento não encontrado"),
+
     SCHEMA_REQUIRED(ApiErrorCategory.TENANT, 400, "Schema é obrigatório"),
     SCHEMA_INVALID(ApiErrorCategory.TENANT, 400, "Schema inválido"),
     TABLE_REQUIRED(ApiErrorCategory.TENANT, 400, "Table é obrigatório"),
@@ -241,6 +250,7 @@ public enum ApiErrorCode {
     INVALID_STATUS(ApiErrorCategory.VALIDATION, 400, "Status inválido"),
     STATUS_REQUIRED(ApiErrorCategory.VALIDATION, 400, "Status é obrigatório"),
     INVALID_SEARCH(ApiErrorCategory.VALIDATION, 400, "Busca inválida"),
+    INVALID_CURSOR(ApiErrorCategory.VALIDATION, 400, "Cursor de paginação inválido"),
 
     INVALID_RANGE(ApiErrorCategory.VALIDATION, 400, "Intervalo inválido"),
     RANGE_TOO_LARGE(ApiErrorCategory.VALIDATION, 400, "Intervalo grande demais"),
@@ -273,6 +283,11 @@ public enum ApiErrorCode {
     // Conflict
     // =========================
     DUPLICATE_ENTRY(ApiErrorCategory.CONFLICT, 409, "Registro duplicado"),
+    IDEMPOTENCY_KEY_INVALID(ApiErrorCategory.REQUEST, 400, "Idempotency-Key inválida"),
+    IDEMPOTENCY_KEY_REUSED(ApiErrorCategory.CONFLICT, 422, "Idempotency-Key já usada com outro payload"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(ApiErrorCategory.CONFLICT, 409, "Requisição com esta Idempotency-Key ainda em processamento"),
+    IDEMPOTENCY_KEY_ABANDONED(ApiErrorCategory.CONFLICT, 422,
+            "Requisição com esta Idempotency-Key expirou sem resposta; confira o resultado e use outra chave"),
 
     // =========================
     // Internal
@@ -8,6 +8,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -166,6 +167,27 @@ public class GlobalExceptionHandler {
         return apiExceptionHandlerSupport.handleDomainException(ex, request);
     }
 
+    /**
+     * Trata falha ao abrir transação.
+     *
+     * <p>Recusas padronizadas na obtenção da conexão (ex.: bulkhead de conexões
+     * do tenant, 503) chegam embrulhadas pelo transaction manager; são
+     * desembrulhadas para manter o status e o código de erro.</p>
+     *
+     * @param ex exceção do transaction manager
+     * @param request request HTTP atual
+     * @return response HTTP padronizado
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<?> handleCannotCreateTransaction(CannotCreateTransactionException ex, HttpServletRequest request) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException apiException) {
+                return apiExceptionHandlerSupport.handleApi(apiException, request);
+            }
+        }
+        return apiExceptionHandlerSupport.handleGeneric(ex);
+    }
+
     /**
      * Trata exceções inesperadas.
      *
@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TenantMetrics;
 import brito.com.multitenancy001.infrastructure.persistence.PublicTxExecutor;
 import brito.com.multitenancy001.shared.context.TenantContext;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import lombok.RequiredArgsConstructor;
  *   <li>Controlar fronteiras transacionais no PUBLIC.</li>
  *   <li>Diferenciar operações read-only vs comandos (write).</li>
  *   <li>Evitar vazamento de {@code @Transactional} espalhado na aplicação.</li>
+ *   <li>Medir a duração de cada unidade ({@code app.uow.duration}, scope=public).</li>
  * </ul>
  *
  * <p><b>Regras críticas:</b></p>
@@ -41,6 +43,9 @@ public class PublicSchemaUnitOfWork {
 
     private final PublicSchemaExecutor publicExecutor;
     private final PublicTxExecutor transactionExecutor;
+    private final TenantMetrics tenantMetrics;
+
+    private static final String SCOPE = "public";
 
     // =========================================================
     // REQUIRED
@@ -49,13 +54,15 @@ public class PublicSchemaUnitOfWork {
     public <T> T tx(Supplier<T> fn) {
         assertNoTenantContext("tx(REQUIRED)");
         warnIfCalledInsideExistingTx("tx(REQUIRED)");
-        return publicExecutor.inPublic(() -> transactionExecutor.inPublicTx(fn));
+        return tenantMetrics.timeUnitOfWork(SCOPE, "tx", null,
+                () -> publicExecutor.inPublic(() -> transactionExecutor.inPublicTx(fn)));
     }
 
     public void tx(Runnable fn) {
         assertNoTenantContext("tx(REQUIRED)");
         warnIfCalledInsideExistingTx("tx(REQUIRED)");
-        publicExecutor.inPublic(() -> transactionExecutor.inPublicTx(fn));
+        tenantMetrics.timeUnitOfWork(SCOPE, "tx", null,
+                () -> publicExecutor.inPublic(() -> transactionExecutor.inPublicTx(fn)));
     }
 
     // =========================================================
@@ -65,13 +72,15 @@ public class PublicSchemaUnitOfWork {
     public <T> T requiresNew(Supplier<T> fn) {
         assertNoTenantContext("requiresNew(REQUIRES_NEW)");
         warnIfCalledInsideExistingTx("requiresNew(REQUIRES_NEW)");
-        return publicExecutor.inPublic(() -> transactionExecutor.inPublicRequiresNew(fn));
+        return tenantMetrics.timeUnitOfWork(SCOPE, "requiresNew", null,
+                () -> publicExecutor.inPublic(() -> transactionExecutor.inPublicRequiresNew(fn)));
     }
 
     public void requiresNew(Runnable fn) {
         assertNoTenantContext("requiresNew(REQUIRES_NEW)");
         warnIfCalledInsideExistingTx("requiresNew(REQUIRES_NEW)");
-        publicExecutor.inPublic(() -> transactionExecutor.inPublicRequiresNew(fn));
+        tenantMetrics.timeUnitOfWork(SCOPE, "requiresNew", null,
+                () -> publicExecutor.inPublic(() -> transactionExecutor.inPublicRequiresNew(fn)));
     }
 
     // =========================================================
@@ -81,13 +90,15 @@ public class PublicSchemaUnitOfWork {
     public <T> T readOnly(Supplier<T> fn) {
         assertNoTenantContext("readOnly(REQUIRED, readOnly=true)");
         warnIfCalledInsideExistingTx("readOnly(REQUIRED, readOnly=true)");
-        return publicExecutor.inPublic(() -> transactionExecutor.inPublicReadOnlyTx(fn));
+        return tenantMetrics.timeUnitOfWork(SCOPE, "readOnly", null,
+                () -> publicExecutor.inPublic(() -> transactionExecutor.inPublicReadOnlyTx(fn)));
     }
 
     public void readOnly(Runnable fn) {
         assertNoTenantContext("readOnly(REQUIRED, readOnly=true)");
         warnIfCalledInsideExistingTx("readOnly(REQUIRED, readOnly=true)");
-        publicExecutor.inPublic(() -> transactionExecutor.inPublicReadOnlyTx(fn));
+        tenantMetrics.timeUnitOfWork(SCOPE, "readOnly", null,
+                () -> publicExecutor.inPublic(() -> transactionExecutor.inPublicReadOnlyTx(fn)));
     }
 
     // =========================================================
@@ -97,13 +108,15 @@ public class PublicSchemaUnitOfWork {
     public <T> T requiresNewReadOnly(Supplier<T> fn) {
         assertNoTenantContext("requiresNewReadOnly(REQUIRES_NEW, readOnly=true)");
         warnIfCalledInsideExistingTx("requiresNewReadOnly(REQUIRES_NEW, readOnly=true)");
-        return publicExecutor.inPublic(() -> transactionExecutor.inPublicRequiresNewReadOnly(fn));
+        return tenantMetrics.timeUnitOfWork(SCOPE, "requiresNewReadOnly", null,
+                () -> publicExecutor.inPublic(() -> transactionExecutor.inPublicRequiresNewReadOnly(fn)));
     }
 
     public void requiresNewReadOnly(Runnable fn) {
         assertNoTenantContext("requiresNewReadOnly(REQUIRES_NEW, readOnly=true)");
         warnIfCalledInsideExistingTx("requiresNewReadOnly(REQUIRES_NEW, readOnly=true)");
-        publicExecutor.inPublic(() -> transactionExecutor.inPublicRequiresNewReadOnly(fn));
+        tenantMetrics.timeUnitOfWork(SCOPE, "requiresNewReadOnly", null,
+                () -> publicExecutor.inPublic(() -> transactionExecutor.inPublicRequiresNewReadOnly(fn)));
     }
 
     // =========================================================
@@ -0,0 +1,103 @@
+package brito.com.multitenancy001.shared.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Utilitário para montar parâmetros de busca textual Postgres
+ * (pg_trgm + full-text) de forma segura.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>O termo nunca é concatenado no SQL: apenas vira parâmetro bind.</li>
+ *   <li>O tsquery é montado só com letras/dígitos (sem operadores do usuário).</li>
+ *   <li>Cada token vira prefixo ({@code token:*}) combinado com {@code &}.</li>
+ *   <li>Curingas de LIKE ({@code %}, {@code _}, {@code \}) são escapados.</li>
+ *   <li>Highlight: o {@code ts_headline} marca os termos com caracteres de
+ *       controle (removidos antes do texto de origem); a camada de API escapa o
+ *       HTML e só então troca as sentinelas por {@code <mark>}.</li>
+ * </ul>
+ */
+public final class PgTextSearch {
+
+    /** Tamanho mínimo útil para trigram (abaixo disso o índice não ajuda). */
+    public static final int MIN_TERM_LENGTH = 2;
+
+    /** Tamanho máximo aceito para o termo de busca. */
+    public static final int MAX_TERM_LENGTH = 100;
+
+    /** Quantidade máxima de tokens usados no tsquery. */
+    public static final int MAX_TOKENS = 8;
+
+    /** Marcadores de highlight usados em ts_headline ({@code chr(2)}/{@code chr(3)} no SQL). */
+    public static final char HIGHLIGHT_START_SENTINEL = '\u0002';
+    public static final char HIGHLIGHT_STOP_SENTINEL = '\u0003';
+
+    private PgTextSearch() {
+        // utility class
+    }
+
+    /**
+     * Normaliza o termo: trim, lower-case e corte no tamanho máximo.
+     *
+     * @param term termo bruto
+     * @return termo normalizado ou null quando vazio
+     */
+    public static String normalizeTerm(String term) {
+        if (!StringUtils.hasText(term)) {
+            return null;
+        }
+
+        String normalized = term.trim().toLowerCase(Locale.ROOT);
+        if (normalized.length() > MAX_TERM_LENGTH) {
+            normalized = normalized.substring(0, MAX_TERM_LENGTH);
+        }
+        return normalized;
+    }
+
+    /**
+     * Monta um tsquery de prefixo a partir do termo normalizado.
+     *
+     * <p>Ex.: {@code "caneta azul"} =&gt; {@code "caneta:* & azul:*"}.</p>
+     *
+     * @param normalizedTerm termo já normalizado
+     * @return tsquery pronto para {@code to_tsquery('simple', ?)} ou null se não houver tokens
+     */
+    public static String toPrefixTsQuery(String normalizedTerm) {
+        if (!StringUtils.hasText(normalizedTerm)) {
+            return null;
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalizedTerm.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token + ":*");
+            }
+            if (tokens.size() >= MAX_TOKENS) {
+                break;
+            }
+        }
+
+        return tokens.isEmpty() ? null : String.join(" & ", tokens);
+    }
+
+    /**
+     * Escapa curingas de LIKE para uso em {@code LIKE '%' || ? || '%'}.
+     *
+     * @param normalizedTerm termo já normalizado
+     * @return termo escapado
+     */
+    public static String escapeLike(String normalizedTerm) {
+        if (normalizedTerm == null) {
+            return null;
+        }
+        return normalizedTerm
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+}
@@ -1,6 +1,11 @@
 package brito.com.multitenancy001.shared.persistence.publicschema;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
@@ -60,6 +65,55 @@ public class PublicAccountFinder {
         return resolveActiveAccountByIdInternal(accountId);
     }
 
+    /**
+     * Cria um memo de contas para um único fluxo/requisição.
+     *
+     * @return memo vazio ligado a este finder
+     */
+    public PublicAccountMemo newMemo() {
+        return new PublicAccountMemo(this);
+    }
+
+    /**
+     * Resolve várias contas ativas em uma única consulta ao PUBLIC.
+     *
+     * <p>Diferente de {@link #resolveActiveAccountById(Long)}, contas inexistentes
+     * ou não operacionais são omitidas (não lançam). A ordem de {@code accountIds}
+     * é preservada.</p>
+     *
+     * @param accountIds ids das contas
+     * @return views das contas operacionais
+     */
+    public List<PublicAccountView> resolveActiveAccountsByIds(Collection<Long> accountIds) {
+        if (accountIds == null || accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        return publicExecutor.inPublic(() -> {
+            Instant now = appClock.instant();
+
+            Map<Long, AccountSummary> byId = new HashMap<>();
+            for (AccountSummary summary : accountRepository.findProjectionByIdInAndDeletedFalse(accountIds)) {
+                byId.put(summary.getId(), summary);
+            }
+
+            List<PublicAccountView> views = new ArrayList<>(byId.size());
+            for (Long accountId : accountIds) {
+                AccountSummary summary = byId.get(accountId);
+                if (summary == null || !isOperational(summary, now)) {
+                    continue;
+                }
+                views.add(new PublicAccountView(
+                        summary.getId(),
+                        summary.getTenantSchema(),
+                        summary.getSlug(),
+                        summary.getDisplayName()
+                ));
+            }
+            return views;
+        });
+    }
+
     private PublicAccountView resolveActiveAccountByIdInternal(Long accountId) {
         return publicExecutor.inPublic(() -> {
             Instant now = appClock.instant();
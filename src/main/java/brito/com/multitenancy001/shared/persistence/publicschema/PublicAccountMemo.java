@@ -0,0 +1,103 @@
+package brito.com.multitenancy001.shared.persistence.publicschema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Memo de contas do PUBLIC com escopo de uma requisição/fluxo.
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Carregar em lote (uma consulta) as contas de um conjunto de ids.</li>
+ *   <li>Garantir que cada conta seja carregada no máximo uma vez no fluxo.</li>
+ *   <li>Lembrar também ids ausentes/não operacionais, para não reconsultar.</li>
+ * </ul>
+ *
+ * <p>Não é thread-safe nem compartilhado: criar via
+ * {@link PublicAccountFinder#newMemo()} no início do fluxo e descartar ao fim.
+ * Não serve como cache entre requisições (status/trial mudam).</p>
+ */
+public final class PublicAccountMemo {
+
+    private final PublicAccountFinder finder;
+    private final Map<Long, PublicAccountView> loaded = new HashMap<>();
+    private final Set<Long> missing = new HashSet<>();
+
+    PublicAccountMemo(PublicAccountFinder finder) {
+        this.finder = finder;
+    }
+
+    /**
+     * Carrega em uma consulta os ids ainda não conhecidos pelo memo.
+     *
+     * @param accountIds ids das contas
+     */
+    public void prefetch(Collection<Long> accountIds) {
+        if (accountIds == null || accountIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> unknown = new ArrayList<>();
+        for (Long accountId : accountIds) {
+            if (accountId != null && !loaded.containsKey(accountId) && !missing.contains(accountId)) {
+                unknown.add(accountId);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        for (PublicAccountView view : finder.resolveActiveAccountsByIds(unknown)) {
+            loaded.put(view.id(), view);
+        }
+        for (Long accountId : unknown) {
+            if (!loaded.containsKey(accountId)) {
+                missing.add(accountId);
+            }
+        }
+    }
+
+    /**
+     * Retorna as contas operacionais dos ids informados, na ordem dada.
+     *
+     * @param accountIds ids das contas
+     * @return views das contas operacionais (ausentes/inativas omitidas)
+     */
+    public List<PublicAccountView> activeAccounts(Collection<Long> accountIds) {
+        prefetch(accountIds);
+
+        List<PublicAccountView> views = new ArrayList<>();
+        for (Long accountId : accountIds) {
+            PublicAccountView view = loaded.get(accountId);
+            if (view != null) {
+                views.add(view);
+            }
+        }
+        return views;
+    }
+
+    /**
+     * Resolve uma conta ativa obrigatória, com as mesmas regras/erros de
+     * {@link PublicAccountFinder#resolveActiveAccountById(Long)}.
+     *
+     * @param accountId id da conta
+     * @return view da conta
+     */
+    public PublicAccountView requireActive(Long accountId) {
+        PublicAccountView view = loaded.get(accountId);
+        if (view != null) {
+            return view;
+        }
+
+        // Ausente/inativa (ou ainda não carregada): o finder lança o erro específico.
+        view = finder.resolveActiveAccountById(accountId);
+        loaded.put(view.id(), view);
+        missing.remove(view.id());
+        return view;
+    }
+}
@@ -25,9 +25,11 @@ import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import brito.com.multitenancy001.shared.persistence.publicschema.LoginIdentityFinder;
 import brito.com.multitenancy001.shared.persistence.publicschema.LoginIdentityRow;
 import brito.com.multitenancy001.shared.persistence.publicschema.PublicAccountFinder;
+import brito.com.multitenancy001.shared.persistence.publicschema.PublicAccountMemo;
 import brito.com.multitenancy001.shared.persistence.publicschema.PublicAccountView;
 import brito.com.multitenancy001.tenant.auth.app.audit.TenantAuthAuditRecorder;
 import brito.com.multitenancy001.tenant.auth.app.boundary.TenantAuthMechanics;
+import brito.com.multitenancy001.tenant.auth.app.boundary.TenantVerifiedLogin;
 import brito.com.multitenancy001.tenant.auth.app.command.TenantLoginInitCommand;
 import brito.com.multitenancy001.tenant.auth.app.dto.TenantLoginResult;
 import brito.com.multitenancy001.tenant.auth.app.dto.TenantSelectionOptionData;
@@ -40,6 +42,8 @@ import lombok.extern.slf4j.Slf4j;
  * <p>Regras:</p>
  * <ul>
  *   <li>Resolve candidatos no PUBLIC via {@link LoginIdentityFinder}.</li>
+ *   <li>Accounts candidatas são carregadas em lote via {@link PublicAccountMemo}:
+ *       uma consulta ao PUBLIC por login, sem recarregar para seleção/JWT.</li>
  *   <li>Se houver apenas uma account válida, autentica e emite JWT direto.</li>
  *   <li>Se houver múltiplas accounts válidas:
  *     <ul>
@@ -48,6 +52,8 @@ import lombok.extern.slf4j.Slf4j;
  *     </ul>
  *   </li>
  *   <li>Auditoria sempre com details estruturado e serialização centralizada.</li>
+ *   <li>Cada tenant candidato custa exatamente um bcrypt e um load do usuário:
+ *       o login verificado é reaproveitado para emitir o JWT.</li>
  * </ul>
  *
  * <p>Regra crítica:</p>
@@ -111,59 +117,69 @@ public class TenantLoginInitService {
                 throw new BadCredentialsException(INVALID_CREDENTIALS_MSG);
             }
 
+            // Memo do fluxo: cada account é carregada no máximo uma vez por login.
+            PublicAccountMemo accounts = accountResolver.newMemo();
+
             if (candidateAccountIds.size() == 1) {
                 Long accountId = candidateAccountIds.iterator().next();
 
                 PublicAccountView account = publicExecutor.inPublic(() ->
-                        accountResolver.resolveActiveAccountById(accountId)
+                        accounts.requireActive(accountId)
                 );
 
-                JwtResult jwt = authMechanics.authenticateWithPassword(account, email, password);
+                TenantVerifiedLogin verified = authMechanics.verifyPassword(account, email, password)
+                        .orElseThrow(() -> new ApiException(ApiErrorCode.INVALID_CREDENTIALS, INVALID_CREDENTIALS_MSG));
+
+                JwtResult jwt = authMechanics.issueJwtForVerifiedLogin(verified);
 
                 recordSuccessSingle(email, jwt.userId(), accountId, account.tenantSchema());
 
                 return new TenantLoginResult.LoginSuccess(jwt);
             }
 
-            LinkedHashSet<Long> allowedAccountIds = new LinkedHashSet<>();
+            // Candidatos resolvidos em uma única consulta ao PUBLIC; senha verificada
+            // em paralelo (um bcrypt + um load por tenant) e reaproveitada no JWT.
+            List<PublicAccountView> candidateAccounts = publicExecutor.inPublic(() ->
+                    accounts.activeAccounts(candidateAccountIds)
+            );
 
-            for (Long accountId : candidateAccountIds) {
-                PublicAccountView account = publicExecutor.inPublic(() ->
-                        accountResolver.resolveActiveAccountById(accountId)
-                );
+            if (candidateAccounts.isEmpty()) {
+                recordFailure(email, "no_active_candidates");
+                throw new BadCredentialsException(INVALID_CREDENTIALS_MSG);
+            }
 
-                boolean ok = authMechanics.verifyPasswordInTenant(account, email, password);
-                if (ok) {
-                    allowedAccountIds.add(accountId);
+            Map<Long, TenantVerifiedLogin> verifiedByAccountId;
+            try {
+                verifiedByAccountId = authMechanics.verifyPasswordAcrossTenants(candidateAccounts, email, password);
+            } catch (ApiException ex) {
+                if (ex.getCode() == ApiErrorCode.LOGIN_VERIFICATION_TIMEOUT) {
+                    recordFailure(email, "verification_timeout");
                 }
+                throw ex;
             }
 
-            if (allowedAccountIds.isEmpty()) {
+            if (verifiedByAccountId.isEmpty()) {
                 recordFailure(email, "no_password_match");
                 throw new BadCredentialsException(INVALID_CREDENTIALS_MSG);
             }
 
-            if (allowedAccountIds.size() == 1) {
-                Long accountId = allowedAccountIds.iterator().next();
+            if (verifiedByAccountId.size() == 1) {
+                Map.Entry<Long, TenantVerifiedLogin> only = verifiedByAccountId.entrySet().iterator().next();
+                TenantVerifiedLogin verified = only.getValue();
 
-                PublicAccountView account = publicExecutor.inPublic(() ->
-                        accountResolver.resolveActiveAccountById(accountId)
-                );
-
-                JwtResult jwt = authMechanics.authenticateWithPassword(account, email, password);
+                JwtResult jwt = authMechanics.issueJwtForVerifiedLogin(verified);
 
-                recordSuccessResolvedSingle(email, jwt.userId(), accountId, account.tenantSchema());
+                recordSuccessResolvedSingle(email, jwt.userId(), only.getKey(), verified.account().tenantSchema());
 
                 return new TenantLoginResult.LoginSuccess(jwt);
             }
 
+            LinkedHashSet<Long> allowedAccountIds = new LinkedHashSet<>(verifiedByAccountId.keySet());
+
             UUID challengeId = tenantLoginChallengeService.createChallenge(email, allowedAccountIds);
 
             List<TenantSelectionOptionData> options = allowedAccountIds.stream()
-                    .map(accountId -> publicExecutor.inPublic(() ->
-                            accountResolver.resolveActiveAccountById(accountId)
-                    ))
-                    .filter(Objects::nonNull)
+                    .map(accountId -> publicExecutor.inPublic(() -> accounts.requireActive(accountId)))
                     .map(account -> new TenantSelectionOptionData(
                             account.id(),
                             account.displayName(),
@@ -1,5 +1,9 @@
 package brito.com.multitenancy001.tenant.auth.app.boundary;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import brito.com.multitenancy001.shared.auth.app.dto.JwtResult;
 import brito.com.multitenancy001.shared.persistence.publicschema.PublicAccountView;
 
@@ -25,9 +29,33 @@ import brito.com.multitenancy001.shared.persistence.publicschema.PublicAccountVi
  */
 public interface TenantAuthMechanics {
 
-    boolean verifyPasswordInTenant(PublicAccountView account, String normalizedEmail, String rawPassword);
+    /**
+     * Valida a senha no schema do tenant com um único load do usuário e um único bcrypt.
+     * Retorna o usuário verificado para ser reaproveitado na emissão do JWT.
+     */
+    Optional<TenantVerifiedLogin> verifyPassword(PublicAccountView account, String normalizedEmail, String rawPassword);
+
+    /**
+     * Valida a senha em vários tenants candidatos concorrentemente (executor limitado
+     * e deadline global). Candidatos cuja senha não confere, ou cuja verificação falha
+     * com erro determinístico (ex.: schema ausente), ficam de fora do resultado.
+     *
+     * @return logins verificados por accountId, na ordem dos candidatos
+     * @throws brito.com.multitenancy001.shared.kernel.error.ApiException
+     *         {@code LOGIN_VERIFICATION_TIMEOUT} (503) se algum candidato estourar o
+     *         deadline ou for interrompido: o resultado parcial não é usado para decidir o login
+     */
+    Map<Long, TenantVerifiedLogin> verifyPasswordAcrossTenants(
+            List<PublicAccountView> accounts,
+            String normalizedEmail,
+            String rawPassword
+    );
 
-    JwtResult authenticateWithPassword(PublicAccountView account, String normalizedEmail, String rawPassword);
+    /**
+     * Emite tokens para um login já verificado por {@link #verifyPassword}
+     * (sem novo bcrypt e sem recarregar o usuário).
+     */
+    JwtResult issueJwtForVerifiedLogin(TenantVerifiedLogin verifiedLogin);
 
     /**
      * Emite tokens para (account,email) sem pedir senha novamente.
@@ -0,0 +1,24 @@
+package brito.com.multitenancy001.tenant.auth.app.boundary;
+
+import brito.com.multitenancy001.shared.persistence.publicschema.PublicAccountView;
+import brito.com.multitenancy001.tenant.users.domain.TenantUser;
+
+/**
+ * Resultado de uma verificação de senha bem-sucedida no schema do tenant.
+ *
+ * Campos:
+ * - account: account (PUBLIC) em que a senha foi validada
+ * - normalizedEmail: email normalizado usado na verificação
+ * - user: usuário carregado na verificação (permissões EAGER, seguro fora da sessão)
+ *
+ * Semântica:
+ * - Só é criado por {@link TenantAuthMechanics#verifyPassword}, ou seja, já passou
+ *   por exatamente um PasswordEncoder.matches e um load do usuário.
+ * - {@link TenantAuthMechanics#issueJwtForVerifiedLogin} emite tokens a partir dele
+ *   sem recarregar o usuário nem repetir o bcrypt.
+ */
+public record TenantVerifiedLogin(
+        PublicAccountView account,
+        String normalizedEmail,
+        TenantUser user
+) {}
@@ -6,12 +6,15 @@ import brito.com.multitenancy001.tenant.categories.api.dto.CategoryUpdateRequest
 import brito.com.multitenancy001.tenant.categories.api.mapper.CategoryApiMapper;
 import brito.com.multitenancy001.tenant.categories.app.TenantCategoryService;
 import brito.com.multitenancy001.tenant.categories.domain.Category;
+import brito.com.multitenancy001.tenant.dataversion.api.TenantConditionalGetSupport;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,25 +33,38 @@ public class TenantCategoryController {
 
     private final TenantCategoryService tenantCategoryService;
     private final CategoryApiMapper categoryApiMapper;
+    private final TenantConditionalGetSupport conditionalGet;
 
     /**
      * Lista categorias (NOT deleted).
+     *
+     * <p>Suporta {@code If-None-Match}: 304 enquanto as categorias não mudarem.</p>
      */
     @GetMapping
     @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_CATEGORY_READ.asAuthority())")
-    public ResponseEntity<List<CategoryResponse>> listAll() {
+    public ResponseEntity<List<CategoryResponse>> listAll(WebRequest webRequest) {
         //  contrato retorna DTO, não Entity.
-        return ResponseEntity.ok(categoryApiMapper.toResponseList(tenantCategoryService.findAll()));
+        return conditionalGet.ifNoneMatch(
+                webRequest,
+                () -> categoryApiMapper.toResponseList(tenantCategoryService.findAll()),
+                TenantDataAggregate.CATEGORIES
+        );
     }
 
     /**
      * Lista categorias ativas (NOT deleted, active=true).
+     *
+     * <p>Suporta {@code If-None-Match}: 304 enquanto as categorias não mudarem.</p>
      */
     @GetMapping("/active")
     @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_CATEGORY_READ.asAuthority())")
-    public ResponseEntity<List<CategoryResponse>> listActive() {
+    public ResponseEntity<List<CategoryResponse>> listActive(WebRequest webRequest) {
         //  retorna apenas ativas (padrão atual do service).
-        return ResponseEntity.ok(categoryApiMapper.toResponseList(tenantCategoryService.findActive()));
+        return conditionalGet.ifNoneMatch(
+                webRequest,
+                () -> categoryApiMapper.toResponseList(tenantCategoryService.findActive()),
+                TenantDataAggregate.CATEGORIES
+        );
     }
 
     /**
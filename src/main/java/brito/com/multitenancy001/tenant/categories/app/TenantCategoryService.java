@@ -8,6 +8,9 @@ import brito.com.multitenancy001.tenant.categories.app.command.CreateCategoryCom
 import brito.com.multitenancy001.tenant.categories.app.command.UpdateCategoryCommand;
 import brito.com.multitenancy001.tenant.categories.domain.Category;
 import brito.com.multitenancy001.tenant.categories.persistence.TenantCategoryRepository;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
+import brito.com.multitenancy001.tenant.referencedata.app.TenantReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -38,6 +41,8 @@ import java.util.List;
 public class TenantCategoryService {
 
     private final TenantCategoryRepository tenantCategoryRepository;
+    private final TenantReferenceDataCache tenantReferenceDataCache;
+    private final TenantDataVersionService tenantDataVersionService;
 
     // =========================================================
     // READ
@@ -116,6 +121,9 @@ public class TenantCategoryService {
         category.setDeleted(false);
         category.setActive(true);
 
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CATEGORIES);
+
         return tenantCategoryRepository.save(category);
     }
 
@@ -159,6 +167,9 @@ public class TenantCategoryService {
 
         existing.setName(newName);
 
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CATEGORIES);
+
         return tenantCategoryRepository.save(existing);
     }
 
@@ -182,6 +193,8 @@ public class TenantCategoryService {
         }
 
         category.setActive(!category.isActive());
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CATEGORIES);
         return tenantCategoryRepository.save(category);
     }
 
@@ -194,6 +207,8 @@ public class TenantCategoryService {
         tenantCategoryRepository.findById(id).ifPresent(category -> {
             if (category.isDeleted()) return;
             category.softDelete();
+            tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
+            tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CATEGORIES);
             tenantCategoryRepository.save(category);
         });
     }
@@ -211,6 +226,8 @@ public class TenantCategoryService {
                 ));
 
         category.restore();
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CATEGORIES);
         return tenantCategoryRepository.save(category);
     }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import brito.com.multitenancy001.tenant.categories.domain.Category;
 import brito.com.multitenancy001.tenant.categories.domain.Subcategory;
 import brito.com.multitenancy001.tenant.categories.persistence.TenantCategoryRepository;
 import brito.com.multitenancy001.tenant.categories.persistence.TenantSubcategoryRepository;
+import brito.com.multitenancy001.tenant.referencedata.app.TenantReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -46,6 +47,7 @@ public class TenantSubcategoryService {
 
     private final TenantSubcategoryRepository tenantSubcategoryRepository;
     private final TenantCategoryRepository tenantCategoryRepository;
+    private final TenantReferenceDataCache tenantReferenceDataCache;
 
     // =========================================================
     // READ
@@ -156,6 +158,8 @@ public class TenantSubcategoryService {
             sub.setDeleted(false);
             sub.setActive(true);
 
+            tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
+
             return tenantSubcategoryRepository.save(sub);
         });
     }
@@ -202,6 +206,7 @@ public class TenantSubcategoryService {
                     });
 
             existing.setName(newName);
+            tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
             return tenantSubcategoryRepository.save(existing);
         });
     }
@@ -222,6 +227,7 @@ public class TenantSubcategoryService {
         }
 
         sub.setActive(!sub.isActive());
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
         return tenantSubcategoryRepository.save(sub);
     }
 
@@ -234,6 +240,7 @@ public class TenantSubcategoryService {
         tenantSubcategoryRepository.findByIdWithCategory(id).ifPresent(sub -> {
             if (sub.isDeleted()) return;
             sub.softDelete();
+            tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
             tenantSubcategoryRepository.save(sub);
         });
     }
@@ -247,6 +254,7 @@ public class TenantSubcategoryService {
                 ));
 
         sub.restore();
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
         return tenantSubcategoryRepository.save(sub);
     }
 
@@ -14,17 +14,24 @@ package brito.com.multitenancy001.tenant.customers.api;
 
 import brito.com.multitenancy001.tenant.customers.api.dto.CustomerCreateRequest;
 import brito.com.multitenancy001.tenant.customers.api.dto.CustomerResponse;
+import brito.com.multitenancy001.tenant.customers.api.dto.CustomerSearchHitResponse;
 import brito.com.multitenancy001.tenant.customers.api.dto.CustomerUpdateRequest;
 import brito.com.multitenancy001.tenant.customers.api.mapper.CustomerApiMapper;
+import brito.com.multitenancy001.tenant.customers.app.TenantCustomerSearchQueryService;
 import brito.com.multitenancy001.tenant.customers.app.TenantCustomerService;
 import brito.com.multitenancy001.tenant.customers.domain.Customer;
+import brito.com.multitenancy001.tenant.dataversion.api.TenantConditionalGetSupport;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -36,7 +43,9 @@ import java.util.UUID;
 public class TenantCustomerController {
 
     private final TenantCustomerService tenantCustomerService;
+    private final TenantCustomerSearchQueryService tenantCustomerSearchQueryService;
     private final CustomerApiMapper customerApiMapper;
+    private final TenantConditionalGetSupport conditionalGet;
 
     // ============================================================================
     // ENDPOINTS DE LEITURA (GET)
@@ -45,29 +54,35 @@ public class TenantCustomerController {
     /**
      * Lista todos os clientes NÃO DELETADOS.
      * Requer permissão TEN_CUSTOMER_READ.
+     * Suporta If-None-Match (304 enquanto os clientes não mudarem).
      */
     @GetMapping
     @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_CUSTOMER_READ.asAuthority())")
-    public ResponseEntity<List<CustomerResponse>> listAll() {
+    public ResponseEntity<List<CustomerResponse>> listAll(WebRequest webRequest) {
         log.info("Recebida requisição para listar todos os clientes não deletados.");
-        List<Customer> customers = tenantCustomerService.findAll();
-        List<CustomerResponse> response = customerApiMapper.toResponseList(customers);
-        log.info("Retornando {} clientes.", response.size());
-        return ResponseEntity.ok(response);
+        return conditionalGet.ifNoneMatch(webRequest, () -> {
+            List<Customer> customers = tenantCustomerService.findAll();
+            List<CustomerResponse> response = customerApiMapper.toResponseList(customers);
+            log.info("Retornando {} clientes.", response.size());
+            return response;
+        }, TenantDataAggregate.CUSTOMERS);
     }
 
     /**
      * Lista todos os clientes ATIVOS e NÃO DELETADOS.
      * Requer permissão TEN_CUSTOMER_READ.
+     * Suporta If-None-Match (304 enquanto os clientes não mudarem).
      */
     @GetMapping("/active")
     @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_CUSTOMER_READ.asAuthority())")
-    public ResponseEntity<List<CustomerResponse>> listActive() {
+    public ResponseEntity<List<CustomerResponse>> listActive(WebRequest webRequest) {
         log.info("Recebida requisição para listar clientes ativos.");
-        List<Customer> customers = tenantCustomerService.findActive();
-        List<CustomerResponse> response = customerApiMapper.toResponseList(customers);
-        log.info("Retornando {} clientes ativos.", response.size());
-        return ResponseEntity.ok(response);
+        return conditionalGet.ifNoneMatch(webRequest, () -> {
+            List<Customer> customers = tenantCustomerService.findActive();
+            List<CustomerResponse> response = customerApiMapper.toResponseList(customers);
+            log.info("Retornando {} clientes ativos.", response.size());
+            return response;
+        }, TenantDataAggregate.CUSTOMERS);
     }
 
     /**
@@ -98,6 +113,22 @@ public class TenantCustomerController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Pesquisa ranqueada de clientes por nome, documento ou email, com highlight.
+     * Requer permissão TEN_CUSTOMER_READ.
+     */
+    @GetMapping("/search/ranked")
+    @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_CUSTOMER_READ.asAuthority())")
+    public ResponseEntity<Page<CustomerSearchHitResponse>> searchRanked(@RequestParam("q") String q,
+                                                                        Pageable pageable) {
+        log.debug("Recebida requisição de pesquisa ranqueada de clientes. Termo: '{}'", q);
+        Page<CustomerSearchHitResponse> response = tenantCustomerSearchQueryService.search(q, pageable)
+                .map(customerApiMapper::toSearchHitResponse);
+        log.info("Pesquisa ranqueada retornou {} clientes (total={}).",
+                response.getNumberOfElements(), response.getTotalElements());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Busca clientes por email (exato).
      * Requer permissão TEN_CUSTOMER_READ.
@@ -0,0 +1,20 @@
+// ================================================================================
+// Record: CustomerSearchHitResponse
+// Pacote: brito.com.multitenancy001.tenant.customers.api.dto
+// Descrição: DTO de saída de um resultado da busca ranqueada de clientes.
+// ================================================================================
+
+package brito.com.multitenancy001.tenant.customers.api.dto;
+
+import java.util.UUID;
+
+public record CustomerSearchHitResponse(
+        UUID id,
+        String name,
+        String email,
+        String document,
+        String phone,
+        boolean active,
+        double score,
+        String nameHighlight
+) {}
@@ -7,11 +7,14 @@
 
 package brito.com.multitenancy001.tenant.customers.api.mapper;
 
+import brito.com.multitenancy001.shared.api.SearchHighlightHtml;
 import brito.com.multitenancy001.tenant.customers.api.dto.CustomerCreateRequest;
 import brito.com.multitenancy001.tenant.customers.api.dto.CustomerResponse;
+import brito.com.multitenancy001.tenant.customers.api.dto.CustomerSearchHitResponse;
 import brito.com.multitenancy001.tenant.customers.api.dto.CustomerUpdateRequest;
 import brito.com.multitenancy001.tenant.customers.app.command.CreateCustomerCommand;
 import brito.com.multitenancy001.tenant.customers.app.command.UpdateCustomerCommand;
+import brito.com.multitenancy001.tenant.customers.app.dto.CustomerSearchHitData;
 import brito.com.multitenancy001.tenant.customers.domain.Customer;
 import org.springframework.stereotype.Component;
 
@@ -87,4 +90,20 @@ public class CustomerApiMapper {
     public List<CustomerResponse> toResponseList(List<Customer> customers) {
         return customers.stream().map(this::toResponse).toList();
     }
+
+    /**
+     * Converte um resultado de busca ranqueada em response DTO.
+     */
+    public CustomerSearchHitResponse toSearchHitResponse(CustomerSearchHitData hit) {
+        return new CustomerSearchHitResponse(
+                hit.id(),
+                hit.name(),
+                hit.email(),
+                hit.document(),
+                hit.phone(),
+                hit.active(),
+                hit.score(),
+                SearchHighlightHtml.toHtml(hit.nameHighlight())
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+// ================================================================================
+// Classe: TenantCustomerSearchQueryService
+// Pacote: brito.com.multitenancy001.tenant.customers.app
+// Descrição: Query service de busca textual ranqueada de clientes.
+//            Regras principais:
+//            - Leitura em @TenantReadOnlyTx.
+//            - Apenas clientes não deletados.
+//            - Busca indexada (pg_trgm + tsvector, migration V12) por nome,
+//              documento e email, com ranking, paginação e highlight.
+//            - Página limitada a MAX_PAGE_SIZE itens.
+// ================================================================================
+
+package brito.com.multitenancy001.tenant.customers.app;
+
+import brito.com.multitenancy001.infrastructure.persistence.tx.TenantReadOnlyTx;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.shared.persistence.PgTextSearch;
+import brito.com.multitenancy001.tenant.customers.app.dto.CustomerSearchHitData;
+import brito.com.multitenancy001.tenant.customers.persistence.CustomerSearchRow;
+import brito.com.multitenancy001.tenant.customers.persistence.TenantCustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TenantCustomerSearchQueryService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TenantCustomerRepository tenantCustomerRepository;
+
+    /**
+     * Busca clientes por termo livre (nome, documento ou email).
+     */
+    @TenantReadOnlyTx
+    public Page<CustomerSearchHitData> search(String term, Pageable pageable) {
+        String normalizedTerm = PgTextSearch.normalizeTerm(term);
+        if (normalizedTerm == null || normalizedTerm.length() < PgTextSearch.MIN_TERM_LENGTH) {
+            log.warn("Busca ranqueada de clientes com termo inválido.");
+            throw new ApiException(
+                    ApiErrorCode.INVALID_SEARCH,
+                    "Termo de busca deve ter no mínimo " + PgTextSearch.MIN_TERM_LENGTH + " caracteres"
+            );
+        }
+
+        String tsQuery = PgTextSearch.toPrefixTsQuery(normalizedTerm);
+        if (tsQuery == null) {
+            log.warn("Busca ranqueada de clientes sem tokens pesquisáveis.");
+            throw new ApiException(ApiErrorCode.INVALID_SEARCH, "Termo de busca deve conter letras ou números");
+        }
+
+        String likeTerm = PgTextSearch.escapeLike(normalizedTerm);
+        Pageable page = resolvePage(pageable);
+
+        log.debug("Pesquisando clientes (ranqueado). term='{}', page={}, size={}",
+                normalizedTerm, page.getPageNumber(), page.getPageSize());
+
+        List<CustomerSearchHitData> hits = tenantCustomerRepository.searchRanked(
+                        tsQuery,
+                        normalizedTerm,
+                        likeTerm,
+                        page.getPageSize(),
+                        (int) page.getOffset()
+                ).stream()
+                .map(TenantCustomerSearchQueryService::toData)
+                .toList();
+
+        long total = (page.getPageNumber() == 0 && hits.size() < page.getPageSize())
+                ? hits.size()
+                : tenantCustomerRepository.countSearchRanked(tsQuery, normalizedTerm, likeTerm);
+
+        log.debug("Pesquisa ranqueada retornou {} resultados (total={}).", hits.size(), total);
+        return new PageImpl<>(hits, page, total);
+    }
+
+    private static Pageable resolvePage(Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return PageRequest.of(0, DEFAULT_PAGE_SIZE);
+        }
+        int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+        return PageRequest.of(pageable.getPageNumber(), size);
+    }
+
+    private static CustomerSearchHitData toData(CustomerSearchRow row) {
+        return new CustomerSearchHitData(
+                row.getId(),
+                row.getName(),
+                row.getEmail(),
+                row.getDocument(),
+                row.getPhone(),
+                Boolean.TRUE.equals(row.getActive()),
+                row.getScore() == null ? 0d : row.getScore(),
+                row.getNameHighlight()
+        );
+    }
+}
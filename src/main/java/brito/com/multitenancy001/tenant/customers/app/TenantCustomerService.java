@@ -20,6 +20,8 @@ import brito.com.multitenancy001.tenant.customers.app.command.CreateCustomerComm
 import brito.com.multitenancy001.tenant.customers.app.command.UpdateCustomerCommand;
 import brito.com.multitenancy001.tenant.customers.domain.Customer;
 import brito.com.multitenancy001.tenant.customers.persistence.TenantCustomerRepository;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ import java.util.UUID;
 public class TenantCustomerService {
 
     private final TenantCustomerRepository tenantCustomerRepository;
+    private final TenantDataVersionService tenantDataVersionService;
 
     // ============================================================================
     // MÉTODOS DE LEITURA (READ-ONLY)
@@ -123,6 +126,7 @@ public class TenantCustomerService {
         validateForCreate(customer);
 
         Customer saved = tenantCustomerRepository.save(customer);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CUSTOMERS);
         log.info("Cliente criado com sucesso. ID: {}, Nome: {}", saved.getId(), saved.getName());
         return saved;
     }
@@ -140,6 +144,7 @@ public class TenantCustomerService {
         applyUpdates(existing, cmd);
 
         Customer updated = tenantCustomerRepository.save(existing);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CUSTOMERS);
         log.info("Cliente ID: {} atualizado com sucesso.", updated.getId());
         return updated;
     }
@@ -155,6 +160,7 @@ public class TenantCustomerService {
         customer.toggleActive();
 
         Customer updated = tenantCustomerRepository.save(customer);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CUSTOMERS);
         log.info("Status active do cliente ID: {} alterado para: {}", updated.getId(), updated.isActive());
         return updated;
     }
@@ -178,6 +184,7 @@ public class TenantCustomerService {
 
         customer.softDelete();
         tenantCustomerRepository.save(customer);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CUSTOMERS);
 
         log.info("Soft delete aplicado ao cliente ID: {}", id);
     }
@@ -204,6 +211,7 @@ public class TenantCustomerService {
 
         customer.restore();
         Customer restored = tenantCustomerRepository.save(customer);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.CUSTOMERS);
 
         log.info("Cliente ID: {} restaurado com sucesso.", restored.getId());
         return restored;
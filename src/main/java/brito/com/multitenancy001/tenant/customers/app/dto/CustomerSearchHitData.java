@@ -0,0 +1,22 @@
+// ================================================================================
+// Record: CustomerSearchHitData
+// Pacote: brito.com.multitenancy001.tenant.customers.app.dto
+// Descrição: DTO da Application Layer para um resultado da busca ranqueada de
+//            clientes. nameHighlight é a saída crua do ts_headline, com os
+//            termos entre as sentinelas de PgTextSearch (sem escape de HTML).
+// ================================================================================
+
+package brito.com.multitenancy001.tenant.customers.app.dto;
+
+import java.util.UUID;
+
+public record CustomerSearchHitData(
+        UUID id,
+        String name,
+        String email,
+        String document,
+        String phone,
+        boolean active,
+        double score,
+        String nameHighlight
+) {}
@@ -0,0 +1,30 @@
+// ================================================================================
+// Interface: CustomerSearchRow
+// Pacote: brito.com.multitenancy001.tenant.customers.persistence
+// Descrição: Projeção nativa do resultado da busca ranqueada de clientes.
+//            Os aliases da query em TenantCustomerRepository#searchRanked
+//            devem casar com os getters desta interface.
+// ================================================================================
+
+package brito.com.multitenancy001.tenant.customers.persistence;
+
+import java.util.UUID;
+
+public interface CustomerSearchRow {
+
+    UUID getId();
+
+    String getName();
+
+    String getEmail();
+
+    String getDocument();
+
+    String getPhone();
+
+    Boolean getActive();
+
+    Double getScore();
+
+    String getNameHighlight();
+}
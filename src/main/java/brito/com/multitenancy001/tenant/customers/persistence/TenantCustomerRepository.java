@@ -91,6 +91,64 @@ public interface TenantCustomerRepository extends JpaRepository<Customer, UUID>
             """)
     List<Customer> searchNotDeletedByName(@Param("name") String name);
 
+    /**
+     * Busca ranqueada (pg_trgm + full-text, V12) de clientes não deletados
+     * por nome, documento ou email. Highlight calculado só para a página.
+     */
+    @Query(
+            value = """
+                    SELECT c.id AS id,
+                           c.name AS name,
+                           CAST(c.email AS text) AS email,
+                           c.document AS document,
+                           c.phone AS phone,
+                           c.active AS active,
+                           ranked.score AS score,
+                           ts_headline('simple', translate(c.name, chr(2) || chr(3), ''), to_tsquery('simple', :tsQuery),
+                                       'StartSel="' || chr(2) || '", StopSel="' || chr(3) || '", HighlightAll=true') AS nameHighlight
+                    FROM (
+                        SELECT c.id AS id,
+                               CAST(ts_rank_cd(c.search_vector, to_tsquery('simple', :tsQuery))
+                                    + similarity(LOWER(c.name), :term) AS double precision) AS score
+                        FROM customers c
+                        WHERE c.deleted = false
+                          AND (c.search_vector @@ to_tsquery('simple', :tsQuery)
+                               OR LOWER(c.name) % :term
+                               OR c.document LIKE '%' || :likeTerm || '%'
+                               OR LOWER(CAST(c.email AS text)) LIKE '%' || :likeTerm || '%')
+                        ORDER BY score DESC, c.id ASC
+                        LIMIT :limit OFFSET :offset
+                    ) ranked
+                    JOIN customers c ON c.id = ranked.id
+                    ORDER BY ranked.score DESC, c.id ASC
+                    """,
+            nativeQuery = true
+    )
+    List<CustomerSearchRow> searchRanked(@Param("tsQuery") String tsQuery,
+                                         @Param("term") String term,
+                                         @Param("likeTerm") String likeTerm,
+                                         @Param("limit") int limit,
+                                         @Param("offset") int offset);
+
+    /**
+     * Conta o total de clientes que casam com a busca ranqueada.
+     */
+    @Query(
+            value = """
+                    SELECT COUNT(*)
+                    FROM customers c
+                    WHERE c.deleted = false
+                      AND (c.search_vector @@ to_tsquery('simple', :tsQuery)
+                           OR LOWER(c.name) % :term
+                           OR c.document LIKE '%' || :likeTerm || '%'
+                           OR LOWER(CAST(c.email AS text)) LIKE '%' || :likeTerm || '%')
+                    """,
+            nativeQuery = true
+    )
+    long countSearchRanked(@Param("tsQuery") String tsQuery,
+                           @Param("term") String term,
+                           @Param("likeTerm") String likeTerm);
+
     /**
      * Busca um cliente não deletado por documento.
      */
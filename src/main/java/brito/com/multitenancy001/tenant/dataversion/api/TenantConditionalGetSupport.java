@@ -0,0 +1,111 @@
+package brito.com.multitenancy001.tenant.dataversion.api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import brito.com.multitenancy001.shared.context.TenantContext;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * GET condicional (ETag forte + {@code If-None-Match}) para endpoints de leitura do tenant.
+ *
+ * <p>O ETag é derivado de tenant + URI + query string + versões dos agregados
+ * que compõem a resposta. Sem alteração desde a última resposta, o cliente
+ * recebe 304 após apenas a leitura dos contadores; o payload não é montado.</p>
+ *
+ * <p>As versões são lidas antes do payload: se uma escrita acontecer no meio,
+ * a resposta leva o ETag anterior e a próxima chamada apenas não obtém 304.</p>
+ */
+@Component
+public class TenantConditionalGetSupport {
+
+    public static final String METRIC = "app.http.conditional_get";
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final TenantDataVersionService tenantDataVersionService;
+    private final Counter notModified;
+    private final Counter modified;
+
+    public TenantConditionalGetSupport(TenantDataVersionService tenantDataVersionService, MeterRegistry meterRegistry) {
+        this.tenantDataVersionService = tenantDataVersionService;
+        this.notModified = Counter.builder(METRIC).tag("outcome", "not_modified").register(meterRegistry);
+        this.modified = Counter.builder(METRIC).tag("outcome", "modified").register(meterRegistry);
+    }
+
+    /**
+     * Responde 304 se o cliente já tem a versão atual dos agregados; caso contrário, 200 com ETag.
+     *
+     * @param request request atual
+     * @param body montagem do payload (só executada quando houve alteração)
+     * @param aggregates agregados que compõem a resposta
+     * @param <T> tipo do payload
+     * @return 304 sem corpo ou 200 com o payload
+     */
+    public <T> ResponseEntity<T> ifNoneMatch(WebRequest request, Supplier<T> body, TenantDataAggregate... aggregates) {
+        return ifNoneMatch(request, tenantDataVersionService.versionToken(aggregates), body);
+    }
+
+    /**
+     * Variante com token de versão já calculado (respostas que combinam
+     * contadores do tenant com dados de outra origem).
+     *
+     * @param request request atual
+     * @param versionToken token de versão da resposta
+     * @param body montagem do payload (só executada quando houve alteração)
+     * @param <T> tipo do payload
+     * @return 304 sem corpo ou 200 com o payload
+     */
+    public <T> ResponseEntity<T> ifNoneMatch(WebRequest request, String versionToken, Supplier<T> body) {
+        String etag = etag(request, versionToken);
+
+        if (request.checkNotModified(etag)) {
+            notModified.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        modified.increment();
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .body(body.get());
+    }
+
+    private static String etag(WebRequest request, String versionToken) {
+        HttpServletRequest http = request instanceof NativeWebRequest nativeRequest
+                ? nativeRequest.getNativeRequest(HttpServletRequest.class)
+                : null;
+
+        String uri = http != null ? http.getRequestURI() : request.getDescription(false);
+        String query = http != null && http.getQueryString() != null ? http.getQueryString() : "";
+
+        String source = TenantContext.getOrNull() + '|' + uri + '?' + query + '|' + versionToken;
+        return '"' + sha256Hex(source).substring(0, 32) + '"';
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
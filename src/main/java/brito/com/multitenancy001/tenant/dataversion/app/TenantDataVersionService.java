@@ -0,0 +1,158 @@
+package brito.com.multitenancy001.tenant.dataversion.app;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import brito.com.multitenancy001.infrastructure.persistence.tx.TenantReadOnlyTx;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataVersion;
+import brito.com.multitenancy001.tenant.dataversion.persistence.TenantDataVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contadores de versão por agregado do tenant.
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Incrementar a versão de um agregado na transação de escrita que o altera.</li>
+ *   <li>Ler as versões atuais para validação condicional (ETag / If-None-Match).</li>
+ * </ul>
+ *
+ * <p>Regras do incremento:</p>
+ * <ul>
+ *   <li>É feito em {@code beforeCommit}: uma única vez por agregado e transação,
+ *       mesmo com várias escritas, e o lock da linha do contador só é mantido
+ *       durante o commit.</li>
+ *   <li>Está na mesma transação da escrita: versão nova e dados novos ficam
+ *       visíveis juntos; rollback descarta os dois.</li>
+ *   <li>Agregados são incrementados na ordem do enum (sem deadlock entre
+ *       transações que alteram vários agregados).</li>
+ *   <li>Agregado listrado (ex.: {@code STOCK}) incrementa uma linha sorteada
+ *       por transação e a versão lida é a soma das linhas: continua mudando a
+ *       cada commit, sem serializar todas as vendas do tenant numa linha só.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TenantDataVersionService {
+
+    private final TenantDataVersionRepository tenantDataVersionRepository;
+    private final AppClock appClock;
+
+    /**
+     * Agenda o incremento da versão do agregado para o commit da transação corrente.
+     *
+     * @param aggregate agregado alterado
+     * @throws IllegalStateException se não houver transação ativa
+     */
+    public void bumpOnCommit(TenantDataAggregate aggregate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.error("Tentativa de incrementar versão de dados sem transação ativa. aggregate={}", aggregate);
+            throw new IllegalStateException("Não existe transação ativa para incrementar a versão de " + aggregate);
+        }
+
+        BumpSynchronization pending = null;
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sync instanceof BumpSynchronization bump && bump.owner == this) {
+                pending = bump;
+                break;
+            }
+        }
+
+        if (pending == null) {
+            pending = new BumpSynchronization(this);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+
+        pending.aggregates.add(aggregate);
+    }
+
+    /**
+     * Versões atuais dos agregados informados (0 quando nunca alterado).
+     *
+     * @param aggregates agregados
+     * @return versão por agregado, na ordem informada
+     */
+    @TenantReadOnlyTx
+    public Map<TenantDataAggregate, Long> currentVersions(TenantDataAggregate... aggregates) {
+        List<String> ids = new ArrayList<>(aggregates.length);
+        for (TenantDataAggregate aggregate : aggregates) {
+            for (int stripe = 0; stripe < aggregate.stripes(); stripe++) {
+                ids.add(aggregate.rowId(stripe));
+            }
+        }
+
+        Map<String, Long> found = new HashMap<>();
+        for (TenantDataVersion row : tenantDataVersionRepository.findAllById(ids)) {
+            found.put(row.getAggregate(), row.getVersion());
+        }
+
+        Map<TenantDataAggregate, Long> out = new LinkedHashMap<>();
+        for (TenantDataAggregate aggregate : aggregates) {
+            long version = 0L;
+            for (int stripe = 0; stripe < aggregate.stripes(); stripe++) {
+                version += found.getOrDefault(aggregate.rowId(stripe), 0L);
+            }
+            out.put(aggregate, version);
+        }
+        return out;
+    }
+
+    /**
+     * Token textual das versões atuais, ex.: {@code PRODUCTS=12;USERS=3}.
+     *
+     * @param aggregates agregados
+     * @return token de versão
+     */
+    @TenantReadOnlyTx
+    public String versionToken(TenantDataAggregate... aggregates) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<TenantDataAggregate, Long> e : currentVersions(aggregates).entrySet()) {
+            if (!sb.isEmpty()) {
+                sb.append(';');
+            }
+            sb.append(e.getKey().name()).append('=').append(e.getValue());
+        }
+        return sb.toString();
+    }
+
+    private void bumpNow(Set<TenantDataAggregate> aggregates) {
+        Instant now = appClock.instant();
+        for (TenantDataAggregate aggregate : aggregates) {
+            int stripe = aggregate.stripes() == 1 ? 0 : ThreadLocalRandom.current().nextInt(aggregate.stripes());
+            tenantDataVersionRepository.bump(aggregate.rowId(stripe), now);
+        }
+        log.debug("DATA_VERSION_BUMPED | aggregates={}", aggregates);
+    }
+
+    private static final class BumpSynchronization implements TransactionSynchronization {
+
+        private final TenantDataVersionService owner;
+        private final Set<TenantDataAggregate> aggregates = EnumSet.noneOf(TenantDataAggregate.class);
+
+        private BumpSynchronization(TenantDataVersionService owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!readOnly && !aggregates.isEmpty()) {
+                owner.bumpNow(aggregates);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package brito.com.multitenancy001.tenant.dataversion.domain;
+
+/**
+ * Agregados do tenant com contador de versão próprio.
+ *
+ * <p>Cada valor corresponde a uma linha de {@code data_versions}, exceto os
+ * agregados listrados ({@code stripes > 1}): esses são escritos em várias
+ * linhas ({@code STOCK#0..STOCK#n}) e a versão é a soma delas.</p>
+ */
+public enum TenantDataAggregate {
+
+    /** Cadastro de produtos (sem a projeção de estoque). */
+    PRODUCTS(1),
+
+    /**
+     * Projeção de estoque nos produtos.
+     *
+     * <p>Incrementado por todo ajuste de estoque, inclusive cada venda; listrado
+     * para que commits concorrentes de vendas não enfileirem no lock de uma
+     * única linha.</p>
+     */
+    STOCK(16),
+
+    /** Categorias. */
+    CATEGORIES(1),
+
+    /** Clientes. */
+    CUSTOMERS(1),
+
+    /** Usuários do tenant (contagem usada nos limites do plano). */
+    USERS(1);
+
+    private final int stripes;
+
+    TenantDataAggregate(int stripes) {
+        this.stripes = stripes;
+    }
+
+    /**
+     * Quantidade de linhas em que o contador é distribuído.
+     *
+     * @return 1 para agregados de linha única
+     */
+    public int stripes() {
+        return stripes;
+    }
+
+    /**
+     * Chave da linha em {@code data_versions}.
+     *
+     * @param stripe índice da linha, entre 0 e {@code stripes() - 1}
+     * @return nome do agregado (linha única) ou {@code NOME#stripe}
+     */
+    public String rowId(int stripe) {
+        return stripes == 1 ? name() : name() + "#" + stripe;
+    }
+}
@@ -0,0 +1,34 @@
+package brito.com.multitenancy001.tenant.dataversion.domain;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Contador de versão de um agregado do tenant.
+ *
+ * <p>Mantido pelo {@code TenantDataVersionService}; nunca editado pela API.</p>
+ */
+@Entity
+@Table(name = "data_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TenantDataVersion {
+
+    @Id
+    @Column(name = "aggregate", nullable = false, length = 40)
+    private String aggregate;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "timestamptz")
+    private Instant updatedAt;
+}
@@ -0,0 +1,32 @@
+package brito.com.multitenancy001.tenant.dataversion.persistence;
+
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+/**
+ * Repositório dos contadores de versão por agregado do tenant.
+ */
+public interface TenantDataVersionRepository extends JpaRepository<TenantDataVersion, String> {
+
+    /**
+     * Incrementa a versão do agregado (cria a linha com version = 1 na primeira escrita).
+     *
+     * @param aggregate nome do agregado
+     * @param now instante da escrita
+     * @return linhas afetadas
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO data_versions (aggregate, version, updated_at)
+        VALUES (:aggregate, 1, :now)
+        ON CONFLICT (aggregate) DO UPDATE SET
+            version = data_versions.version + 1,
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int bump(@Param("aggregate") String aggregate, @Param("now") Instant now);
+}
@@ -0,0 +1,88 @@
+package brito.com.multitenancy001.tenant.idempotency.app;
+
+import brito.com.multitenancy001.tenant.idempotency.domain.TenantIdempotencyRecord;
+
+/**
+ * Reserva de Idempotency-Key gravada dentro da transação de tenant do próprio caso de uso.
+ *
+ * <p>Uso (dentro do {@code uow.tx} do caso de uso):</p>
+ * <ul>
+ *   <li>{@link #reserve()} no início: insere a chave como PENDING. Uma duplicata concorrente
+ *       espera no índice único até esta transação terminar.</li>
+ *   <li>{@link #complete(Object)} no fim: grava a resposta como COMPLETED.</li>
+ * </ul>
+ *
+ * <p>Reserva, efeito e resposta commitam (ou fazem rollback) juntos: não sobra PENDING
+ * de execução que não aconteceu, nem execução sem resposta gravada.</p>
+ */
+public final class TenantIdempotencyClaim {
+
+    /** Requisição sem Idempotency-Key: reserva e conclusão não fazem nada. */
+    public static final TenantIdempotencyClaim NONE = new TenantIdempotencyClaim(null, null, null, null, null, null);
+
+    private final TenantIdempotencyService service;
+    private final String tenantSchema;
+    private final String scope;
+    private final String route;
+    private final String key;
+    private final String fingerprint;
+
+    private String responseBody;
+
+    TenantIdempotencyClaim(
+            TenantIdempotencyService service,
+            String tenantSchema,
+            String scope,
+            String route,
+            String key,
+            String fingerprint
+    ) {
+        this.service = service;
+        this.tenantSchema = tenantSchema;
+        this.scope = scope;
+        this.route = route;
+        this.key = key;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Reserva a chave na transação corrente.
+     *
+     * @throws Taken quando a chave já existe (a transação deve fazer rollback)
+     */
+    public void reserve() {
+        if (service != null) {
+            service.reserveInCurrentTx(tenantSchema, scope, route, key, fingerprint);
+        }
+    }
+
+    /**
+     * Grava a resposta na transação corrente.
+     *
+     * @param response resposta do caso de uso
+     */
+    public void complete(Object response) {
+        if (service != null) {
+            responseBody = service.completeInCurrentTx(scope, route, key, response);
+        }
+    }
+
+    String responseBody() {
+        return responseBody;
+    }
+
+    /**
+     * Chave já registrada por outra execução; sai do caso de uso com rollback.
+     */
+    static final class Taken extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        final transient TenantIdempotencyRecord record;
+
+        Taken(TenantIdempotencyRecord record) {
+            super("Idempotency-Key já registrada", null, false, false);
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,515 @@
+package brito.com.multitenancy001.tenant.idempotency.app;
+
+import brito.com.multitenancy001.infrastructure.tenant.TenantSchemaUnitOfWork;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.idempotency.domain.IdempotencyStatus;
+import brito.com.multitenancy001.tenant.idempotency.domain.TenantIdempotencyRecord;
+import brito.com.multitenancy001.tenant.idempotency.persistence.TenantIdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Idempotência das rotas de escrita do tenant via header {@value #HEADER}.
+ *
+ * <p>Chave lógica: (tenantSchema, scope, route, Idempotency-Key), com scope = quem gerou a
+ * chave ({@link #userScope(Long)}). Duas camadas:</p>
+ * <ul>
+ *   <li><b>Memória</b> (por nó): uma entrada por chave com a resposta JSON em um
+ *       {@link CompletableFuture}. Requisições concorrentes com a mesma chave esperam a
+ *       primeira (coalescing) e retries recentes são respondidos sem tocar o banco.</li>
+ *   <li><b>Tabela {@code idempotency_keys}</b> no schema do tenant: reserva PENDING antes
+ *       de executar (protege entre nós) e resposta COMPLETED com TTL.</li>
+ * </ul>
+ *
+ * <p>Dois modos:</p>
+ * <ul>
+ *   <li>{@link #executeInTransaction}: o caso de uso grava reserva e resposta na própria
+ *       transação de tenant ({@link TenantIdempotencyClaim}). Usado em vendas: efeito e
+ *       resposta commitam juntos.</li>
+ *   <li>{@link #execute}: reserva e resposta em transações curtas separadas, para ações que
+ *       não rodam numa transação do tenant (pagamento de plano).</li>
+ * </ul>
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Sem header: executa normalmente (idempotência é opt-in do cliente).</li>
+ *   <li>Mesma chave com payload diferente (SHA-256 do JSON): {@code IDEMPOTENCY_KEY_REUSED}.</li>
+ *   <li>Chave PENDING no banco: {@code IDEMPOTENCY_REQUEST_IN_PROGRESS}. PENDING nunca é
+ *       reassumida: a execução pode ter produzido efeito sem gravar a resposta.</li>
+ *   <li>PENDING vencida ({@code expires_at}) vira ABANDONED na limpeza periódica do tenant:
+ *       retries recebem {@code IDEMPOTENCY_KEY_ABANDONED} (resultado desconhecido, usar
+ *       outra chave) até a linha sair da retenção.</li>
+ *   <li>Falha na execução libera a chave (retry executa de novo); só sucesso é gravado.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class TenantIdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String METRIC = "app.idempotency.requests";
+
+    private static final int MAX_KEY_LENGTH = 160;
+
+    private final TenantSchemaUnitOfWork tenantSchemaUnitOfWork;
+    private final TenantIdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final AppClock appClock;
+
+    private final Duration ttl;
+    private final long waitTimeoutMs;
+    private final int maxCachedEntries;
+    private final Duration purgeInterval;
+
+    private final ConcurrentHashMap<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Instant> lastPurgeByTenant = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter replayedMemory;
+    private final Counter replayedDatabase;
+    private final Counter coalesced;
+    private final Counter rejected;
+
+    public TenantIdempotencyService(
+            TenantSchemaUnitOfWork tenantSchemaUnitOfWork,
+            TenantIdempotencyRecordRepository repository,
+            ObjectMapper objectMapper,
+            AppClock appClock,
+            MeterRegistry meterRegistry,
+            @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${app.idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+            @Value("${app.idempotency.cache.max-entries:10000}") int maxCachedEntries,
+            @Value("${app.idempotency.purge-interval-ms:600000}") long purgeIntervalMs
+    ) {
+        this.tenantSchemaUnitOfWork = tenantSchemaUnitOfWork;
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.appClock = appClock;
+        this.ttl = Duration.ofHours(Math.max(1, ttlHours));
+        this.waitTimeoutMs = Math.max(0, waitTimeoutMs);
+        this.maxCachedEntries = Math.max(0, maxCachedEntries);
+        this.purgeInterval = Duration.ofMillis(Math.max(0, purgeIntervalMs));
+
+        this.executed = Counter.builder(METRIC).tag("outcome", "executed").register(meterRegistry);
+        this.replayedMemory = Counter.builder(METRIC).tag("outcome", "replayed_memory").register(meterRegistry);
+        this.replayedDatabase = Counter.builder(METRIC).tag("outcome", "replayed_db").register(meterRegistry);
+        this.coalesced = Counter.builder(METRIC).tag("outcome", "coalesced").register(meterRegistry);
+        this.rejected = Counter.builder(METRIC).tag("outcome", "rejected").register(meterRegistry);
+    }
+
+    /**
+     * Escopo de chave por usuário: chaves iguais de usuários diferentes não colidem.
+     *
+     * @param userId usuário autenticado
+     * @return scope para {@link #execute}/{@link #executeInTransaction}
+     */
+    public static String userScope(Long userId) {
+        return userId != null ? "user:" + userId : "tenant";
+    }
+
+    /**
+     * Executa {@code action} no máximo uma vez por (tenant, scope, route, chave), com a
+     * reserva e a resposta gravadas na transação de tenant do próprio caso de uso.
+     *
+     * <p>{@code action} deve chamar {@link TenantIdempotencyClaim#reserve()} no início e
+     * {@link TenantIdempotencyClaim#complete(Object)} no fim da sua transação.</p>
+     *
+     * @param tenantSchema schema do tenant
+     * @param scope quem gerou a chave ({@link #userScope(Long)})
+     * @param route rota lógica (ex.: "POST /api/tenant/sales")
+     * @param idempotencyKey valor do header (null/blank = sem idempotência)
+     * @param request payload (fingerprint)
+     * @param responseType tipo da resposta (para replay)
+     * @param action caso de uso; recebe {@link TenantIdempotencyClaim#NONE} sem header
+     * @return resposta da execução original
+     */
+    public <T> T executeInTransaction(
+            String tenantSchema,
+            String scope,
+            String route,
+            String idempotencyKey,
+            Object request,
+            Class<T> responseType,
+            Function<TenantIdempotencyClaim, T> action
+    ) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.apply(TenantIdempotencyClaim.NONE);
+        }
+
+        return coalesce(tenantSchema, scope, route, idempotencyKey, request, (key, fingerprint, mine) -> {
+            TenantIdempotencyClaim claim = new TenantIdempotencyClaim(this, tenantSchema, scope, route, key, fingerprint);
+
+            T out;
+            try {
+                out = action.apply(claim);
+            } catch (TenantIdempotencyClaim.Taken taken) {
+                return replayExisting(taken.record, fingerprint, route, responseType, mine);
+            }
+            if (claim.responseBody() == null) {
+                throw new IllegalStateException("Caso de uso não concluiu a Idempotency-Key | route=" + route);
+            }
+
+            executed.increment();
+            mine.response.complete(claim.responseBody());
+            return out;
+        }, responseType);
+    }
+
+    /**
+     * Executa {@code action} no máximo uma vez por (tenant, scope, route, chave), com reserva
+     * e resposta em transações próprias.
+     *
+     * <p>Se a resposta não puder ser gravada depois do sucesso, a chave fica PENDING e os
+     * retries (em qualquer nó, inclusive este) recebem 409 até ela vencer e virar
+     * ABANDONED — nunca reexecutam.</p>
+     *
+     * @param tenantSchema schema do tenant
+     * @param scope quem gerou a chave ({@link #userScope(Long)})
+     * @param route rota lógica (ex.: "POST /api/tenant/subscription/me/change-plan")
+     * @param idempotencyKey valor do header (null/blank = sem idempotência)
+     * @param request payload (fingerprint)
+     * @param responseType tipo da resposta (para replay)
+     * @param action execução real
+     * @return resposta da execução original
+     */
+    public <T> T execute(
+            String tenantSchema,
+            String scope,
+            String route,
+            String idempotencyKey,
+            Object request,
+            Class<T> responseType,
+            Supplier<T> action
+    ) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        return coalesce(tenantSchema, scope, route, idempotencyKey, request, (key, fingerprint, mine) -> {
+            TenantIdempotencyRecord existing = tenantSchemaUnitOfWork.tx(tenantSchema,
+                    () -> tryReserve(tenantSchema, scope, route, key, fingerprint));
+            if (existing != null) {
+                return replayExisting(existing, fingerprint, route, responseType, mine);
+            }
+
+            T out;
+            try {
+                out = action.get();
+            } catch (RuntimeException e) {
+                releaseQuietly(tenantSchema, scope, route, key);
+                throw e;
+            }
+
+            String body = write(out);
+            executed.increment();
+            try {
+                int completed = tenantSchemaUnitOfWork.tx(tenantSchema,
+                        () -> repository.complete(scope, route, key, body, appClock.instant()));
+                if (completed != 1) {
+                    throw new IllegalStateException("Idempotency-Key não está mais PENDING | route=" + route);
+                }
+            } catch (RuntimeException e) {
+                // a execução já foi confirmada: só este chamador recebe a resposta; a memória
+                // segue o banco (PENDING => 409) para o nó não divergir dos demais
+                log.error("❌ [IDEMPOTENCY] falha gravando resposta; chave fica PENDING até expirar"
+                                + " | tenantSchema={} | scope={} | route={} | key={}",
+                        tenantSchema, scope, route, key, e);
+                mine.response.completeExceptionally(new ApiException(ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+                return out;
+            }
+
+            mine.response.complete(body);
+            return out;
+        }, responseType);
+    }
+
+    // =========================================================
+    // Camada de memória
+    // =========================================================
+
+    @FunctionalInterface
+    private interface OwnerExecution<T> {
+        T run(String key, String fingerprint, CachedResponse mine);
+    }
+
+    private <T> T coalesce(
+            String tenantSchema,
+            String scope,
+            String route,
+            String idempotencyKey,
+            Object request,
+            OwnerExecution<T> owner,
+            Class<T> responseType
+    ) {
+        String key = normalizeKey(idempotencyKey);
+        String fingerprint = fingerprint(request);
+        String cacheKey = tenantSchema + '\u0000' + scope + '\u0000' + route + '\u0000' + key;
+
+        CachedResponse mine = new CachedResponse(fingerprint, appClock.instant().plus(ttl));
+        while (true) {
+            CachedResponse existing = cache.putIfAbsent(cacheKey, mine);
+            if (existing == null) {
+                break;
+            }
+            if (existing.isExpired(appClock.instant())) {
+                cache.remove(cacheKey, existing);
+                continue;
+            }
+            ensureSameRequest(existing.fingerprint, fingerprint, route);
+
+            if (existing.response.isDone()) {
+                replayedMemory.increment();
+            } else {
+                coalesced.increment();
+            }
+            return read(await(existing), responseType);
+        }
+
+        try {
+            return owner.run(key, fingerprint, mine);
+        } catch (RuntimeException e) {
+            cache.remove(cacheKey, mine);
+            mine.response.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (mine.response.isCompletedExceptionally()
+                    || (cache.size() > maxCachedEntries && mine.response.isDone())) {
+                cache.remove(cacheKey, mine);
+            }
+        }
+    }
+
+    // =========================================================
+    // Tabela idempotency_keys
+    // =========================================================
+
+    /**
+     * Reserva dentro da transação corrente (modo {@link #executeInTransaction}).
+     */
+    void reserveInCurrentTx(String tenantSchema, String scope, String route, String key, String fingerprint) {
+        TenantIdempotencyRecord existing = tryReserve(tenantSchema, scope, route, key, fingerprint);
+        if (existing != null) {
+            throw new TenantIdempotencyClaim.Taken(existing);
+        }
+    }
+
+    /**
+     * Grava a resposta dentro da transação corrente (modo {@link #executeInTransaction}).
+     *
+     * @return resposta serializada
+     */
+    String completeInCurrentTx(String scope, String route, String key, Object response) {
+        String body = write(response);
+        if (repository.complete(scope, route, key, body, appClock.instant()) != 1) {
+            throw new IllegalStateException("Idempotency-Key não reservada nesta transação | route=" + route);
+        }
+        return body;
+    }
+
+    /**
+     * Exige transação de tenant ativa.
+     *
+     * @return null quando a chave foi reservada por esta execução; senão o registro existente
+     */
+    private TenantIdempotencyRecord tryReserve(String tenantSchema, String scope, String route, String key, String fingerprint) {
+        Instant now = appClock.instant();
+
+        if (shouldPurge(tenantSchema, now)) {
+            int abandoned = repository.abandonExpiredPending(now, now.plus(ttl));
+            if (abandoned > 0) {
+                log.warn("⚠️ [IDEMPOTENCY] chaves PENDING vencidas marcadas ABANDONED | tenantSchema={} | count={}",
+                        tenantSchema, abandoned);
+            }
+            int purged = repository.deleteExpired(now);
+            if (purged > 0) {
+                log.debug("[IDEMPOTENCY] chaves expiradas removidas | tenantSchema={} | count={}", tenantSchema, purged);
+            }
+        }
+
+        // concorrente com a mesma chave ainda não commitada: o INSERT espera no índice único
+        int reserved = repository.tryReserve(scope, route, key, fingerprint, now, now.plus(ttl));
+        if (reserved == 1) {
+            return null;
+        }
+        return repository.findByScopeAndRouteAndIdempotencyKey(scope, route, key)
+                .orElseThrow(() -> new ApiException(ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+    }
+
+    private <T> T replayExisting(
+            TenantIdempotencyRecord existing,
+            String fingerprint,
+            String route,
+            Class<T> responseType,
+            CachedResponse mine
+    ) {
+        ensureSameRequest(existing.getRequestHash(), fingerprint, route);
+        if (isAbandoned(existing)) {
+            rejected.increment();
+            log.warn("⚠️ [IDEMPOTENCY] chave abandonada sem resposta; não reexecuta | route={} | scope={} | since={}",
+                    route, existing.getScope(), existing.getCreatedAt());
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_ABANDONED);
+        }
+        if (existing.getStatus() != IdempotencyStatus.COMPLETED) {
+            rejected.increment();
+            log.warn("⚠️ [IDEMPOTENCY] chave PENDING; não reexecuta | route={} | scope={} | since={}",
+                    route, existing.getScope(), existing.getCreatedAt());
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+        replayedDatabase.increment();
+        mine.response.complete(existing.getResponseBody());
+        return read(existing.getResponseBody(), responseType);
+    }
+
+    /**
+     * ABANDONED, ou PENDING já vencida que a limpeza periódica ainda não marcou.
+     */
+    private boolean isAbandoned(TenantIdempotencyRecord existing) {
+        if (existing.getStatus() == IdempotencyStatus.ABANDONED) {
+            return true;
+        }
+        return existing.getStatus() == IdempotencyStatus.PENDING
+                && existing.getExpiresAt() != null
+                && existing.getExpiresAt().isBefore(appClock.instant());
+    }
+
+    private void releaseQuietly(String tenantSchema, String scope, String route, String key) {
+        try {
+            tenantSchemaUnitOfWork.tx(tenantSchema, () -> {
+                repository.release(scope, route, key);
+            });
+        } catch (RuntimeException e) {
+            // fica PENDING (409) até vencer e virar ABANDONED na limpeza do tenant
+            log.warn("⚠️ [IDEMPOTENCY] falha liberando chave | tenantSchema={} | route={} | key={} | msg={}",
+                    tenantSchema, route, key, e.getMessage());
+        }
+    }
+
+    private boolean shouldPurge(String tenantSchema, Instant now) {
+        Instant last = lastPurgeByTenant.get(tenantSchema);
+        if (last != null && last.plus(purgeInterval).isAfter(now)) {
+            return false;
+        }
+        return last == null
+                ? lastPurgeByTenant.putIfAbsent(tenantSchema, now) == null
+                : lastPurgeByTenant.replace(tenantSchema, last, now);
+    }
+
+    /**
+     * Remove da memória as respostas expiradas.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.cache.sweep-delay-ms:60000}")
+    public void evictExpired() {
+        Instant now = appClock.instant();
+        cache.entrySet().removeIf(e -> e.getValue().response.isDone() && e.getValue().isExpired(now));
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private String await(CachedResponse entry) {
+        try {
+            return entry.response.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            rejected.increment();
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            // mesma requisição: devolve o mesmo erro da execução original
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void ensureSameRequest(String expected, String actual, String route) {
+        if (!expected.equals(actual)) {
+            rejected.increment();
+            log.warn("⚠️ [IDEMPOTENCY] chave reutilizada com payload diferente | route={}", route);
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    private static String normalizeKey(String raw) {
+        String key = raw.trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_INVALID,
+                    "Idempotency-Key deve ter no máximo " + MAX_KEY_LENGTH + " caracteres");
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c > 0x7e) {
+                throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_INVALID,
+                        "Idempotency-Key deve conter apenas caracteres ASCII visíveis");
+            }
+        }
+        return key;
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] json = request == null ? new byte[0] : objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Falha calculando fingerprint da requisição", e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha serializando resposta idempotente", e);
+        }
+    }
+
+    private <T> T read(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha lendo resposta idempotente", e);
+        }
+    }
+
+    /**
+     * Resposta (ou execução em andamento) de uma chave na camada de memória.
+     */
+    private static final class CachedResponse {
+        final String fingerprint;
+        final Instant expiresAt;
+        final CompletableFuture<String> response = new CompletableFuture<>();
+
+        CachedResponse(String fingerprint, Instant expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(Instant now) {
+            return now.isAfter(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package brito.com.multitenancy001.tenant.idempotency.domain;
+
+/**
+ * Estado de uma Idempotency-Key.
+ */
+public enum IdempotencyStatus {
+
+    /** Execução reservada e em andamento. */
+    PENDING,
+
+    /** Execução concluída; resposta gravada. */
+    COMPLETED,
+
+    /**
+     * PENDING que expirou sem resposta gravada. Terminal: o resultado é desconhecido
+     * e a chave não é reexecutada até sair da retenção.
+     */
+    ABANDONED
+}
@@ -0,0 +1,78 @@
+package brito.com.multitenancy001.tenant.idempotency.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Registro de Idempotency-Key de uma rota de escrita do tenant.
+ *
+ * <p>Uma linha por (scope, route, idempotencyKey); scope é quem gerou a chave
+ * (ex.: {@code user:42}). Mantido pelo
+ * {@code TenantIdempotencyService}; nunca editado pela API.</p>
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@IdClass(TenantIdempotencyRecord.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "responseBody")
+public class TenantIdempotencyRecord {
+
+    @Id
+    @Column(name = "scope", nullable = false, length = 80)
+    private String scope;
+
+    @Id
+    @Column(name = "route", nullable = false, length = 120)
+    private String route;
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false, length = 160)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_body", columnDefinition = "text")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "timestamptz")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "timestamptz")
+    private Instant updatedAt;
+
+    @Column(name = "expires_at", nullable = false, columnDefinition = "timestamptz")
+    private Instant expiresAt;
+
+    /**
+     * Chave composta (scope, route, idempotencyKey).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String scope;
+        private String route;
+        private String idempotencyKey;
+    }
+}
@@ -0,0 +1,100 @@
+package brito.com.multitenancy001.tenant.idempotency.persistence;
+
+import brito.com.multitenancy001.tenant.idempotency.domain.TenantIdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repositório das Idempotency-Keys do tenant.
+ */
+public interface TenantIdempotencyRecordRepository
+        extends JpaRepository<TenantIdempotencyRecord, TenantIdempotencyRecord.Key> {
+
+    Optional<TenantIdempotencyRecord> findByScopeAndRouteAndIdempotencyKey(String scope, String route, String idempotencyKey);
+
+    /**
+     * Reserva a chave para execução (status PENDING).
+     *
+     * <p>Insere a linha ou reaproveita uma COMPLETED/ABANDONED já expirada. PENDING nunca
+     * é reassumida: pode ser uma execução que já produziu efeito sem gravar a resposta,
+     * e reexecutar duplicaria a venda/pagamento.</p>
+     *
+     * @return 1 quando a chave foi reservada por esta execução; 0 caso contrário
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO idempotency_keys
+            (scope, route, idempotency_key, request_hash, status, response_body, created_at, updated_at, expires_at)
+        VALUES (:scope, :route, :key, :requestHash, 'PENDING', NULL, :now, :now, :expiresAt)
+        ON CONFLICT (scope, route, idempotency_key) DO UPDATE SET
+            request_hash = EXCLUDED.request_hash,
+            status = 'PENDING',
+            response_body = NULL,
+            created_at = EXCLUDED.created_at,
+            updated_at = EXCLUDED.updated_at,
+            expires_at = EXCLUDED.expires_at
+        WHERE idempotency_keys.status IN ('COMPLETED', 'ABANDONED')
+          AND idempotency_keys.expires_at < :now
+        """, nativeQuery = true)
+    int tryReserve(@Param("scope") String scope,
+                   @Param("route") String route,
+                   @Param("key") String key,
+                   @Param("requestHash") String requestHash,
+                   @Param("now") Instant now,
+                   @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Grava a resposta de uma chave reservada.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE idempotency_keys
+           SET status = 'COMPLETED', response_body = :responseBody, updated_at = :now
+         WHERE scope = :scope AND route = :route AND idempotency_key = :key AND status = 'PENDING'
+        """, nativeQuery = true)
+    int complete(@Param("scope") String scope,
+                 @Param("route") String route,
+                 @Param("key") String key,
+                 @Param("responseBody") String responseBody,
+                 @Param("now") Instant now);
+
+    /**
+     * Libera uma chave reservada cuja execução falhou (permite nova tentativa).
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM idempotency_keys
+         WHERE scope = :scope AND route = :route AND idempotency_key = :key AND status = 'PENDING'
+        """, nativeQuery = true)
+    int release(@Param("scope") String scope, @Param("route") String route, @Param("key") String key);
+
+    /**
+     * Marca como ABANDONED as reservas PENDING vencidas (resposta nunca gravada) e abre
+     * uma nova janela de retenção, durante a qual retries recebem o erro terminal.
+     *
+     * @return quantidade de chaves abandonadas
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE idempotency_keys
+           SET status = 'ABANDONED', updated_at = :now, expires_at = :retainUntil
+         WHERE status = 'PENDING' AND expires_at < :now
+        """, nativeQuery = true)
+    int abandonExpiredPending(@Param("now") Instant now, @Param("retainUntil") Instant retainUntil);
+
+    /**
+     * Remove respostas e chaves abandonadas já fora da retenção. PENDING só sai daqui
+     * depois de passar por {@link #abandonExpiredPending}.
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM idempotency_keys
+         WHERE status IN ('COMPLETED', 'ABANDONED') AND expires_at < :now
+        """, nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now);
+}
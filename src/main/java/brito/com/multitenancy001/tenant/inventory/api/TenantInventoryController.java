@@ -1,20 +1,21 @@
 package brito.com.multitenancy001.tenant.inventory.api;
 
 import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryAdjustRequest;
-import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryMovementResponse;
+import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryBalanceResponse;
+import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryMovementPageResponse;
 import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryResponse;
 import brito.com.multitenancy001.tenant.inventory.api.mapper.InventoryApiMapper;
 import brito.com.multitenancy001.tenant.inventory.app.TenantInventoryService;
 import brito.com.multitenancy001.tenant.inventory.app.command.AdjustInventoryCommand;
+import brito.com.multitenancy001.tenant.inventory.app.dto.InventoryMovementPageData;
 import brito.com.multitenancy001.tenant.inventory.domain.InventoryItem;
-import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -61,26 +62,51 @@ public class TenantInventoryController {
     }
 
     /**
-     * Lista o histórico de movimentações de estoque de um produto.
+     * Lista o histórico de movimentações de estoque de um produto (mais recente primeiro),
+     * paginado por cursor.
      *
      * @param productId id do produto
-     * @return lista de movimentações
+     * @param cursor cursor opaco devolvido pela página anterior
+     * @param size tamanho da página (default 50, máximo 200)
+     * @return página de movimentações
      */
     @GetMapping("/products/{productId}/movements")
     @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_INVENTORY_READ.asAuthority())")  // ✅ CORRETO
-    public List<InventoryMovementResponse> listMovementsByProduct(@PathVariable UUID productId) {
+    public InventoryMovementPageResponse listMovementsByProduct(
+            @PathVariable UUID productId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size
+    ) {
 
-        log.info("API inventory movement list start | productId={}", productId);
+        log.info("API inventory movement list start | productId={} | size={}", productId, size);
 
-        List<InventoryMovement> movements = inventoryService.listMovementsByProduct(productId);
+        InventoryMovementPageData page = inventoryService.listMovementsByProduct(productId, cursor, size);
 
         log.info(
-                "API inventory movement list finished | productId={} | totalMovements={}",
+                "API inventory movement list finished | productId={} | returned={} | hasNext={}",
                 productId,
-                movements.size()
+                page.items().size(),
+                page.hasNext()
         );
 
-        return InventoryApiMapper.toMovementResponses(movements);
+        return InventoryApiMapper.toMovementPageResponse(page);
+    }
+
+    /**
+     * Saldo do produto em um instante, calculado pelo ledger (checkpoint + cauda).
+     *
+     * @param productId id do produto
+     * @param at instante ISO-8601 (default: agora)
+     * @return saldo segundo o ledger
+     */
+    @GetMapping("/products/{productId}/balance")
+    @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_INVENTORY_READ.asAuthority())")
+    public InventoryBalanceResponse getBalanceAt(
+            @PathVariable UUID productId,
+            @RequestParam(name = "at", required = false) Instant at
+    ) {
+        log.info("API inventory balance start | productId={} | at={}", productId, at);
+        return InventoryApiMapper.toBalanceResponse(inventoryService.balanceAt(productId, at));
     }
 
     /**
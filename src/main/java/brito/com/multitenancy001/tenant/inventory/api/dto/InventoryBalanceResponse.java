@@ -0,0 +1,23 @@
+package brito.com.multitenancy001.tenant.inventory.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Saldo de estoque de um produto em um instante, calculado pelo ledger.
+ */
+@Getter
+@Builder
+public class InventoryBalanceResponse {
+
+    private UUID productId;
+    private Instant at;
+    private BigDecimal quantityAvailable;
+    private BigDecimal quantityReserved;
+    private Instant checkpointAt;
+    private long tailMovements;
+}
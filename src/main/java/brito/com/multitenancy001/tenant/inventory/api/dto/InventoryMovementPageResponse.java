@@ -0,0 +1,18 @@
+package brito.com.multitenancy001.tenant.inventory.api.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Página do histórico de movimentações de estoque (paginação por cursor).
+ */
+@Getter
+@Builder
+public class InventoryMovementPageResponse {
+
+    private List<InventoryMovementResponse> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
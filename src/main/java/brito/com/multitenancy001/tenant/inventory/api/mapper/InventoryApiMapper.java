@@ -1,7 +1,11 @@
 package brito.com.multitenancy001.tenant.inventory.api.mapper;
 
+import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryBalanceResponse;
+import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryMovementPageResponse;
 import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryMovementResponse;
 import brito.com.multitenancy001.tenant.inventory.api.dto.InventoryResponse;
+import brito.com.multitenancy001.tenant.inventory.app.dto.InventoryBalanceData;
+import brito.com.multitenancy001.tenant.inventory.app.dto.InventoryMovementPageData;
 import brito.com.multitenancy001.tenant.inventory.domain.InventoryItem;
 import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovement;
 
@@ -52,4 +56,29 @@ public final class InventoryApiMapper {
                 .map(InventoryApiMapper::toMovementResponse)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Converte página de movimentos em response paginada.
+     */
+    public static InventoryMovementPageResponse toMovementPageResponse(InventoryMovementPageData page) {
+        return InventoryMovementPageResponse.builder()
+                .items(toMovementResponses(page.items()))
+                .nextCursor(page.nextCursor())
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    /**
+     * Converte saldo do ledger em response.
+     */
+    public static InventoryBalanceResponse toBalanceResponse(InventoryBalanceData balance) {
+        return InventoryBalanceResponse.builder()
+                .productId(balance.productId())
+                .at(balance.at())
+                .quantityAvailable(balance.quantityAvailable())
+                .quantityReserved(balance.quantityReserved())
+                .checkpointAt(balance.checkpointAt())
+                .tailMovements(balance.tailMovements())
+                .build();
+    }
+}
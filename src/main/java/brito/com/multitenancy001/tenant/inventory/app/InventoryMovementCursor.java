@@ -0,0 +1,78 @@
+package brito.com.multitenancy001.tenant.inventory.app;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.util.StringUtils;
+
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovement;
+
+/**
+ * Cursor opaco (keyset) do histórico de movimentações de um produto.
+ *
+ * <p>Formato (antes do Base64 URL-safe): {@code M|<id>|<epochSecond>.<nano>}, posição
+ * do último movimento entregue. A ordenação é (createdAt DESC, id DESC); a primeira
+ * página usa instante máximo + id máximo.</p>
+ */
+record InventoryMovementCursor(Instant createdAt, Long id) {
+
+    private static final Instant MAX_CREATED_AT = Instant.parse("9999-12-31T23:59:59Z");
+
+    /**
+     * Cursor da primeira página.
+     */
+    static InventoryMovementCursor first() {
+        return new InventoryMovementCursor(MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    /**
+     * Cursor posicionado após o movimento informado (último item da página).
+     */
+    static InventoryMovementCursor after(InventoryMovement last) {
+        return new InventoryMovementCursor(last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * Decodifica o cursor recebido do cliente; vazio significa primeira página.
+     *
+     * @throws ApiException INVALID_CURSOR quando malformado
+     */
+    static InventoryMovementCursor decode(String raw) {
+        if (!StringUtils.hasText(raw)) {
+            return first();
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(raw.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 3);
+            if (parts.length != 3 || !"M".equals(parts[0])) {
+                throw invalid();
+            }
+
+            String[] instant = parts[2].split("\\.", 2);
+            Instant createdAt = Instant.ofEpochSecond(
+                    Long.parseLong(instant[0]),
+                    instant.length > 1 ? Long.parseLong(instant[1]) : 0L
+            );
+            return new InventoryMovementCursor(createdAt, Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * Codifica o cursor em texto opaco URL-safe.
+     */
+    String encode() {
+        String payload = "M|" + id + "|" + createdAt.getEpochSecond() + "." + createdAt.getNano();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ApiException invalid() {
+        return new ApiException(ApiErrorCode.INVALID_CURSOR, "Cursor de paginação inválido");
+    }
+}
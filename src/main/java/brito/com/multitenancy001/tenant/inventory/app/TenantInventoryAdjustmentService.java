@@ -6,13 +6,18 @@ import brito.com.multitenancy001.infrastructure.persistence.tx.TenantTx;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.inventory.app.command.AdjustInventoryCommand;
 import brito.com.multitenancy001.tenant.inventory.domain.InventoryItem;
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovementType;
 import brito.com.multitenancy001.tenant.inventory.persistence.TenantInventoryRepository;
+import brito.com.multitenancy001.tenant.products.app.TenantCatalogAggregateStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 /**
  * Service de adjustment do módulo de inventory.
@@ -24,7 +29,12 @@ import java.math.BigDecimal;
  *   <li>Validar coerência de estoque/sinal.</li>
  *   <li>Persistir o saldo final.</li>
  *   <li>Registrar a movimentação no ledger.</li>
+ *   <li>Manter a projeção {@code products.stock_quantity} na mesma transação.</li>
+ *   <li>Invalidar os agregados de catálogo do tenant após o commit.</li>
  * </ul>
+ *
+ * <p>Este é o único caminho de escrita de estoque: inventory_items é a fonte
+ * de verdade e nenhum outro fluxo deve gravar {@code stock_quantity}.</p>
  */
 @Slf4j
 @Service
@@ -33,6 +43,8 @@ public class TenantInventoryAdjustmentService {
 
     private final TenantInventoryRepository inventoryRepository;
     private final TenantInventoryHelper tenantInventoryHelper;
+    private final TenantCatalogAggregateStore tenantCatalogAggregateStore;
+    private final TenantDataVersionService tenantDataVersionService;
     private final AppClock clock;
 
     /**
@@ -47,6 +59,7 @@ public class TenantInventoryAdjustmentService {
      *   <li>Aplica delta no saldo.</li>
      *   <li>Persiste inventory.</li>
      *   <li>Registra movimento no ledger.</li>
+     *   <li>Projeta o saldo em {@code products.stock_quantity}.</li>
      * </ol>
      *
      * @param command comando de ajuste
@@ -127,6 +140,9 @@ public class TenantInventoryAdjustmentService {
         InventoryItem savedItem = inventoryRepository.save(item);
 
         tenantInventoryHelper.registerMovement(command);
+        tenantInventoryHelper.projectStock(savedItem);
+        tenantCatalogAggregateStore.invalidateCurrentTenantAfterCommit();
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.STOCK);
 
         log.info(
                 "INVENTORY_ADJUST_FINISH | productId={} | inventoryId={} | availableBefore={} | reservedBefore={} | availableAfter={} | reservedAfter={} | movementType={} | delta={}",
@@ -142,4 +158,69 @@ public class TenantInventoryAdjustmentService {
 
         return savedItem;
     }
-}
\ No newline at end of file
+
+    /**
+     * Leva o saldo disponível de um produto a um valor absoluto.
+     *
+     * <p>Usado pelo CRUD de produto (create/update com {@code stockQuantity}):
+     * em vez de gravar a coluna diretamente, calcula o delta contra o inventory
+     * bloqueado e registra um único movimento (ADJUSTMENT quando sobe,
+     * OUTBOUND quando desce). Sem delta, apenas garante o inventory e a projeção.</p>
+     *
+     * @param productId id do produto
+     * @param targetAvailable saldo disponível desejado (não negativo)
+     * @param referenceType origem da alteração (ex.: PRODUCT_CREATE)
+     * @return inventory atualizado
+     */
+    @TenantTx
+    public InventoryItem setAvailableQuantity(UUID productId, BigDecimal targetAvailable, String referenceType) {
+        if (productId == null) {
+            throw new ApiException(ApiErrorCode.PRODUCT_ID_REQUIRED, "productId is required", 400);
+        }
+        if (targetAvailable == null || targetAvailable.signum() < 0) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST, "target quantity must be zero or positive", 400);
+        }
+
+        tenantInventoryHelper.validateProductExists(productId);
+
+        InventoryItem item = inventoryRepository.findWithLockByProductId(productId)
+                .orElseGet(() -> tenantInventoryHelper.createInventory(productId));
+
+        BigDecimal delta = targetAvailable.subtract(tenantInventoryHelper.safe(item.getQuantityAvailable()));
+
+        log.info(
+                "INVENTORY_SET_AVAILABLE | productId={} | target={} | delta={} | referenceType={}",
+                productId,
+                targetAvailable,
+                delta,
+                referenceType
+        );
+
+        if (delta.signum() == 0) {
+            tenantInventoryHelper.projectStock(item);
+            return item;
+        }
+
+        AdjustInventoryCommand command = AdjustInventoryCommand.builder()
+                .productId(productId)
+                .quantity(delta)
+                .movementType(delta.signum() > 0 ? InventoryMovementType.ADJUSTMENT : InventoryMovementType.OUTBOUND)
+                .referenceType(referenceType)
+                .referenceId(String.valueOf(productId))
+                .notes("Stock set from product write")
+                .build();
+
+        return adjustInventory(command);
+    }
+
+    /**
+     * Valor de {@code products.stock_quantity} correspondente ao inventory
+     * (para alinhar uma instância de Product já carregada na transação).
+     *
+     * @param item inventory
+     * @return saldo projetado
+     */
+    public int projectedStock(InventoryItem item) {
+        return tenantInventoryHelper.projectedStock(item);
+    }
+}
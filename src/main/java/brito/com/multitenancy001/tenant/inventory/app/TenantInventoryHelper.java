@@ -1,6 +1,7 @@
 package brito.com.multitenancy001.tenant.inventory.app;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Criar inventory inicial quando necessário.</li>
  *   <li>Registrar movimento imutável no ledger.</li>
  *   <li>Validar existência de produto.</li>
+ *   <li>Projetar o saldo de inventory em {@code products.stock_quantity}.</li>
  *   <li>Validar regras de coerência de estoque.</li>
  *   <li>Expor helpers utilitários para logs e cálculos seguros.</li>
  * </ul>
@@ -124,6 +126,43 @@ public class TenantInventoryHelper {
         }
     }
 
+    /**
+     * Projeta o saldo disponível do inventory em {@code products.stock_quantity}.
+     *
+     * <p>inventory_items é a fonte de verdade; a coluna do produto é apenas
+     * derivada (inteiro, truncado) e é mantida na mesma transação do ajuste
+     * para que low-stock/valor de inventário leiam uma projeção indexada.</p>
+     *
+     * <p>Deve ser chamado com a linha de inventory bloqueada. Grava só a
+     * coluna, por UPDATE dirigido; a entidade Product não é alterada.</p>
+     *
+     * @param item inventory já atualizado
+     * @return saldo projetado
+     */
+    public int projectStock(InventoryItem item) {
+        int projected = projectedStock(item);
+        int updated = tenantProductRepository.updateStockQuantity(item.getProductId(), projected);
+
+        log.debug(
+                "INVENTORY_STOCK_PROJECTED | productId={} | projected={} | updated={}",
+                item.getProductId(),
+                projected,
+                updated
+        );
+        return projected;
+    }
+
+    /**
+     * Valor de {@code products.stock_quantity} correspondente ao inventory.
+     *
+     * @param item inventory
+     * @return saldo disponível truncado, nunca negativo
+     */
+    public int projectedStock(InventoryItem item) {
+        BigDecimal available = safe(item.getQuantityAvailable()).max(BigDecimal.ZERO);
+        return available.setScale(0, RoundingMode.DOWN).intValue();
+    }
+
     /**
      * Aplica regras de coerência para o ajuste de estoque.
      *
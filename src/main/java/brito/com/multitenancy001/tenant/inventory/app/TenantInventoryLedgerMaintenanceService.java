@@ -0,0 +1,118 @@
+package brito.com.multitenancy001.tenant.inventory.app;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import brito.com.multitenancy001.infrastructure.tenant.TenantSchemaUnitOfWork;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryCheckpointRun;
+import brito.com.multitenancy001.tenant.inventory.persistence.InventoryBalanceCheckpointRepository;
+import brito.com.multitenancy001.tenant.inventory.persistence.InventoryCheckpointRunRepository;
+import brito.com.multitenancy001.tenant.inventory.persistence.InventoryMovementRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manutenção do ledger de estoque de um tenant.
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Criar antecipadamente as partições mensais de {@code inventory_movements}
+ *       (mês atual + {@code partitions-ahead-months}).</li>
+ *   <li>Gerar checkpoints de saldo para produtos cuja cauda desde o último checkpoint
+ *       atingiu {@code checkpoint-min-movements}.</li>
+ * </ul>
+ *
+ * <p>O cutoff do checkpoint fica {@code checkpoint-lag-ms} no passado: movimentos têm
+ * {@code createdAt} do início da transação e só ficam visíveis no commit, então um
+ * cutoff "agora" poderia deixar de fora movimentos ainda não confirmados.</p>
+ *
+ * <p>Idempotente (partição existente é ignorada, checkpoint repetido não é regravado),
+ * então pode rodar em mais de um nó.</p>
+ */
+@Slf4j
+@Service
+public class TenantInventoryLedgerMaintenanceService {
+
+    private final TenantSchemaUnitOfWork tenantSchemaUnitOfWork;
+    private final InventoryMovementRepository movementRepository;
+    private final InventoryBalanceCheckpointRepository checkpointRepository;
+    private final InventoryCheckpointRunRepository checkpointRunRepository;
+    private final AppClock appClock;
+
+    private final int partitionsAheadMonths;
+    private final long checkpointMinMovements;
+    private final Duration checkpointLag;
+
+    public TenantInventoryLedgerMaintenanceService(
+            TenantSchemaUnitOfWork tenantSchemaUnitOfWork,
+            InventoryMovementRepository movementRepository,
+            InventoryBalanceCheckpointRepository checkpointRepository,
+            InventoryCheckpointRunRepository checkpointRunRepository,
+            AppClock appClock,
+            @Value("${app.inventory.ledger.partitions-ahead-months:3}") int partitionsAheadMonths,
+            @Value("${app.inventory.ledger.checkpoint-min-movements:500}") long checkpointMinMovements,
+            @Value("${app.inventory.ledger.checkpoint-lag-ms:300000}") long checkpointLagMs
+    ) {
+        this.tenantSchemaUnitOfWork = tenantSchemaUnitOfWork;
+        this.movementRepository = movementRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.checkpointRunRepository = checkpointRunRepository;
+        this.appClock = appClock;
+        this.partitionsAheadMonths = Math.max(1, partitionsAheadMonths);
+        this.checkpointMinMovements = Math.max(1, checkpointMinMovements);
+        this.checkpointLag = Duration.ofMillis(Math.max(0, checkpointLagMs));
+    }
+
+    /**
+     * Executa a manutenção completa do ledger do tenant.
+     *
+     * @param tenantSchema schema do tenant
+     */
+    public void maintain(String tenantSchema) {
+        Instant now = appClock.instant();
+
+        int partitions = tenantSchemaUnitOfWork.tx(tenantSchema, () -> ensurePartitions(now));
+        int checkpoints = tenantSchemaUnitOfWork.tx(tenantSchema, () -> createCheckpoints(now));
+
+        if (partitions > 0 || checkpoints > 0) {
+            log.info("INVENTORY_LEDGER_MAINTENANCE | tenantSchema={} | partitionsCreated={} | checkpointsCreated={}",
+                    tenantSchema, partitions, checkpoints);
+        }
+    }
+
+    private int ensurePartitions(Instant now) {
+        YearMonth current = YearMonth.from(now.atZone(ZoneOffset.UTC));
+        int created = 0;
+        for (int i = 0; i <= partitionsAheadMonths; i++) {
+            if (movementRepository.ensureMonthPartition(current.plusMonths(i).atDay(1))) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    private int createCheckpoints(Instant now) {
+        Instant lastCutoff = checkpointRunRepository.findLastCutoff();
+        Instant since = lastCutoff != null ? lastCutoff : Instant.EPOCH;
+        Instant cutoff = now.minus(checkpointLag);
+
+        if (!cutoff.isAfter(since)) {
+            return 0;
+        }
+
+        int created = checkpointRepository.createCheckpoints(since, cutoff, checkpointMinMovements, now);
+
+        InventoryCheckpointRun run = new InventoryCheckpointRun();
+        run.setCutoff(cutoff);
+        run.setCheckpointsCreated(created);
+        run.setCreatedAt(now);
+        checkpointRunRepository.save(run);
+
+        return created;
+    }
+}
@@ -1,12 +1,24 @@
 package brito.com.multitenancy001.tenant.inventory.app;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import brito.com.multitenancy001.infrastructure.persistence.tx.TenantReadOnlyTx;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.inventory.app.dto.InventoryBalanceData;
+import brito.com.multitenancy001.tenant.inventory.app.dto.InventoryMovementPageData;
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryBalanceCheckpoint;
 import brito.com.multitenancy001.tenant.inventory.domain.InventoryItem;
 import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovement;
+import brito.com.multitenancy001.tenant.inventory.persistence.InventoryBalanceCheckpointRepository;
 import brito.com.multitenancy001.tenant.inventory.persistence.InventoryMovementRepository;
 import brito.com.multitenancy001.tenant.inventory.persistence.TenantInventoryRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +31,8 @@ import lombok.extern.slf4j.Slf4j;
  * <ul>
  *   <li>Obter inventory atual do produto.</li>
  *   <li>Criar inventory zerado quando ainda não existir.</li>
- *   <li>Listar histórico de movimentações do ledger.</li>
+ *   <li>Listar histórico de movimentações do ledger (keyset, por página).</li>
+ *   <li>Calcular o saldo do ledger em um instante (checkpoint + cauda).</li>
  * </ul>
  */
 @Slf4j
@@ -27,9 +40,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TenantInventoryQueryService {
 
+    static final int DEFAULT_MOVEMENT_PAGE_SIZE = 50;
+    static final int MAX_MOVEMENT_PAGE_SIZE = 200;
+
     private final TenantInventoryRepository tenanntInventoryRepository;
     private final InventoryMovementRepository inventoryMovementRepository;
+    private final InventoryBalanceCheckpointRepository inventoryBalanceCheckpointRepository;
     private final TenantInventoryHelper tenantInventoryHelper;
+    private final AppClock appClock;
 
     /**
      * Retorna o estoque atual do produto, criando um registro zerado se necessário.
@@ -58,25 +76,101 @@ public class TenantInventoryQueryService {
     }
 
     /**
-     * Lista o histórico de movimentações do produto em ordem decrescente de criação.
+     * Página do histórico de movimentações do produto, do mais recente para o mais antigo.
+     *
+     * <p>Paginação keyset por (createdAt, id): busca {@code size + 1} linhas para saber
+     * se existe próxima página (sem COUNT) e custa o mesmo em qualquer profundidade.</p>
      *
      * @param productId id do produto
-     * @return lista de movimentações
+     * @param cursor cursor opaco da página anterior (vazio = primeira página)
+     * @param size tamanho da página
+     * @return página com movimentos e próximo cursor
      */
-    public List<InventoryMovement> listMovementsByProduct(UUID productId) {
+    @TenantReadOnlyTx
+    public InventoryMovementPageData listMovementsByProduct(UUID productId, String cursor, Integer size) {
         tenantInventoryHelper.validateProductExists(productId);
 
-        log.info("INVENTORY_MOVEMENT_LIST_START | productId={}", productId);
+        int pageSize = resolveMovementPageSize(size);
+        InventoryMovementCursor position = InventoryMovementCursor.decode(cursor);
+
+        log.info("INVENTORY_MOVEMENT_PAGE_START | productId={} | pageSize={} | firstPage={}",
+                productId, pageSize, cursor == null || cursor.isBlank());
+
+        List<InventoryMovement> rows = inventoryMovementRepository.findPageByProductId(
+                productId,
+                position.createdAt(),
+                position.id(),
+                PageRequest.of(0, pageSize + 1)
+        );
 
-        List<InventoryMovement> movements = inventoryMovementRepository.findByProductIdOrderByCreatedAtDesc(productId);
+        boolean hasNext = rows.size() > pageSize;
+        List<InventoryMovement> items = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasNext ? InventoryMovementCursor.after(items.get(items.size() - 1)).encode() : null;
 
         log.info(
-                "INVENTORY_MOVEMENT_LIST_FINISH | productId={} | totalMovements={} | sample={}",
+                "INVENTORY_MOVEMENT_PAGE_FINISH | productId={} | returned={} | hasNext={} | sample={}",
+                productId,
+                items.size(),
+                hasNext,
+                tenantInventoryHelper.describeMovements(items, 5)
+        );
+
+        return new InventoryMovementPageData(items, nextCursor, hasNext);
+    }
+
+    /**
+     * Saldo do ledger do produto em um instante.
+     *
+     * <p>Parte do checkpoint mais próximo ({@code checkpointAt <= at}) e soma apenas os
+     * movimentos posteriores até {@code at}; a cauda é limitada pela manutenção do ledger.</p>
+     *
+     * @param productId id do produto
+     * @param at instante (null = agora)
+     * @return saldo segundo o ledger
+     */
+    @TenantReadOnlyTx
+    public InventoryBalanceData balanceAt(UUID productId, Instant at) {
+        tenantInventoryHelper.validateProductExists(productId);
+
+        Instant now = appClock.instant();
+        Instant effectiveAt = at == null ? now : at;
+        if (effectiveAt.isAfter(now)) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST, "at não pode estar no futuro");
+        }
+
+        InventoryBalanceCheckpoint checkpoint = inventoryBalanceCheckpointRepository
+                .findTopByProductIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(productId, effectiveAt)
+                .orElse(null);
+
+        Instant tailStart = checkpoint != null ? checkpoint.getCheckpointAt() : Instant.EPOCH;
+        InventoryMovementRepository.LedgerTail tail = inventoryMovementRepository.sumTail(productId, tailStart, effectiveAt);
+
+        BigDecimal available = checkpoint != null ? checkpoint.getQuantityAvailable() : BigDecimal.ZERO;
+        BigDecimal reserved = checkpoint != null ? checkpoint.getQuantityReserved() : BigDecimal.ZERO;
+
+        log.debug("INVENTORY_BALANCE_AT | productId={} | at={} | checkpointAt={} | tailMovements={}",
+                productId, effectiveAt, checkpoint != null ? checkpoint.getCheckpointAt() : null, tail.getMovementCount());
+
+        return new InventoryBalanceData(
                 productId,
-                movements.size(),
-                tenantInventoryHelper.describeMovements(movements, 5)
+                effectiveAt,
+                available.add(tenantInventoryHelper.safe(tail.getAvailableDelta())),
+                reserved.add(tenantInventoryHelper.safe(tail.getReservedDelta())),
+                checkpoint != null ? checkpoint.getCheckpointAt() : null,
+                tail.getMovementCount()
         );
+    }
 
-        return movements;
+    private static int resolveMovementPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_MOVEMENT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_MOVEMENT_PAGE_SIZE) {
+            throw new ApiException(
+                    ApiErrorCode.INVALID_REQUEST,
+                    "size deve estar entre 1 e " + MAX_MOVEMENT_PAGE_SIZE
+            );
+        }
+        return size;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,15 @@
 package brito.com.multitenancy001.tenant.inventory.app;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
 import brito.com.multitenancy001.tenant.inventory.app.command.AdjustInventoryCommand;
+import brito.com.multitenancy001.tenant.inventory.app.dto.InventoryBalanceData;
+import brito.com.multitenancy001.tenant.inventory.app.dto.InventoryMovementPageData;
 import brito.com.multitenancy001.tenant.inventory.domain.InventoryItem;
-import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,14 +48,28 @@ public class TenantInventoryService {
     }
 
     /**
-     * Lista o histórico de movimentações do produto em ordem decrescente de criação.
+     * Página do histórico de movimentações do produto (mais recente primeiro).
      *
      * @param productId id do produto
-     * @return lista de movimentações
+     * @param cursor cursor opaco da página anterior
+     * @param size tamanho da página
+     * @return página de movimentações
      */
-    public List<InventoryMovement> listMovementsByProduct(UUID productId) {
-        log.debug("INVENTORY_SERVICE_FACADE_LIST_MOVEMENTS | productId={}", productId);
-        return tenantInventoryQueryService.listMovementsByProduct(productId);
+    public InventoryMovementPageData listMovementsByProduct(UUID productId, String cursor, Integer size) {
+        log.debug("INVENTORY_SERVICE_FACADE_LIST_MOVEMENTS | productId={} | size={}", productId, size);
+        return tenantInventoryQueryService.listMovementsByProduct(productId, cursor, size);
+    }
+
+    /**
+     * Saldo do ledger do produto em um instante.
+     *
+     * @param productId id do produto
+     * @param at instante (null = agora)
+     * @return saldo segundo o ledger
+     */
+    public InventoryBalanceData balanceAt(UUID productId, Instant at) {
+        log.debug("INVENTORY_SERVICE_FACADE_BALANCE_AT | productId={} | at={}", productId, at);
+        return tenantInventoryQueryService.balanceAt(productId, at);
     }
 
     /**
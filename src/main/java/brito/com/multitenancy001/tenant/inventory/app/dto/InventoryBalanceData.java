@@ -0,0 +1,25 @@
+package brito.com.multitenancy001.tenant.inventory.app.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Saldo do ledger de um produto em um instante.
+ *
+ * @param productId produto
+ * @param at instante consultado
+ * @param quantityAvailable disponível segundo o ledger
+ * @param quantityReserved reservado segundo o ledger
+ * @param checkpointAt checkpoint usado como base (null = desde o início do ledger)
+ * @param tailMovements movimentos somados após o checkpoint
+ */
+public record InventoryBalanceData(
+        UUID productId,
+        Instant at,
+        BigDecimal quantityAvailable,
+        BigDecimal quantityReserved,
+        Instant checkpointAt,
+        long tailMovements
+) {
+}
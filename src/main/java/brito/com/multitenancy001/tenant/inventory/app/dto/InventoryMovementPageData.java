@@ -0,0 +1,17 @@
+package brito.com.multitenancy001.tenant.inventory.app.dto;
+
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovement;
+
+import java.util.List;
+
+/**
+ * Página do histórico de movimentações paginada por cursor.
+ *
+ * <p>{@code nextCursor} é opaco para o cliente e só existe quando {@code hasNext} = true.</p>
+ */
+public record InventoryMovementPageData(
+        List<InventoryMovement> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,69 @@
+package brito.com.multitenancy001.tenant.inventory.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Saldo acumulado do ledger de um produto em um instante (checkpoint).
+ *
+ * <p>Saldo em T = checkpoint mais próximo com {@code checkpointAt <= T} + movimentos
+ * em {@code (checkpointAt, T]}. Gerado pela manutenção do ledger; nunca editado pela API.</p>
+ *
+ * <p>Os valores refletem apenas o que está no ledger (soma dos movimentos), não o
+ * {@link InventoryItem} atual.</p>
+ */
+@Entity
+@Table(name = "inventory_balance_checkpoints")
+@IdClass(InventoryBalanceCheckpoint.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class InventoryBalanceCheckpoint {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Id
+    @Column(name = "checkpoint_at", nullable = false)
+    private Instant checkpointAt;
+
+    @Column(name = "quantity_available", nullable = false, precision = 19, scale = 4)
+    private BigDecimal quantityAvailable = BigDecimal.ZERO;
+
+    @Column(name = "quantity_reserved", nullable = false, precision = 19, scale = 4)
+    private BigDecimal quantityReserved = BigDecimal.ZERO;
+
+    /** Quantidade acumulada de movimentos até o checkpoint. */
+    @Column(name = "movement_count", nullable = false)
+    private long movementCount;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Chave composta (productId, checkpointAt).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID productId;
+        private Instant checkpointAt;
+    }
+}
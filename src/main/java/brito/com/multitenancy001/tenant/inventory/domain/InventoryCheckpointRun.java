@@ -0,0 +1,40 @@
+package brito.com.multitenancy001.tenant.inventory.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Execução da geração de checkpoints do ledger.
+ *
+ * <p>O maior {@code cutoff} é o ponto de partida da próxima execução: só produtos
+ * com movimentos depois dele são avaliados.</p>
+ */
+@Entity
+@Table(name = "inventory_checkpoint_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventoryCheckpointRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cutoff", nullable = false)
+    private Instant cutoff;
+
+    @Column(name = "checkpoints_created", nullable = false)
+    private int checkpointsCreated;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -33,14 +33,16 @@ import java.util.UUID;
  *   <li>O ideal é que cada movimento seja persistido exatamente uma vez.</li>
  *   <li>O conjunto de movimentos deve explicar o saldo atual do {@link InventoryItem}.</li>
  * </ul>
+ *
+ * <p>A tabela é particionada por mês em {@code created_at} (PK física {@code (id, created_at)});
+ * saldos históricos partem de {@link InventoryBalanceCheckpoint}.</p>
  */
 @Entity
 @Table(
         name = "inventory_movements",
         indexes = {
-                @Index(name = "idx_inventory_movements_product_id", columnList = "product_id"),
-                @Index(name = "idx_inventory_movements_created_at", columnList = "created_at"),
-                @Index(name = "idx_inventory_movements_product_created", columnList = "product_id, created_at")
+                @Index(name = "idx_inventory_movements_product_created_id", columnList = "product_id, created_at DESC, id DESC"),
+                @Index(name = "idx_inventory_movements_created_at", columnList = "created_at")
         }
 )
 @Getter
@@ -0,0 +1,89 @@
+package brito.com.multitenancy001.tenant.inventory.persistence;
+
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryBalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório dos checkpoints de saldo do ledger de estoque.
+ */
+public interface InventoryBalanceCheckpointRepository
+        extends JpaRepository<InventoryBalanceCheckpoint, InventoryBalanceCheckpoint.Key> {
+
+    /**
+     * Checkpoint mais recente do produto até o instante informado.
+     */
+    Optional<InventoryBalanceCheckpoint> findTopByProductIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(
+            UUID productId,
+            Instant at
+    );
+
+    /**
+     * Gera checkpoints em {@code cutoff} para produtos com movimentos em {@code (since, cutoff]}.
+     *
+     * <p>Para cada candidato: checkpoint anterior + soma dos movimentos em
+     * {@code (checkpoint anterior, cutoff]} (varredura por índice, limitada à cauda).
+     * Só grava quando a cauda tem pelo menos {@code minMovements} movimentos, então a
+     * cauda de qualquer produto fica abaixo desse limite entre execuções.</p>
+     *
+     * @return checkpoints criados
+     */
+    @Modifying
+    @Query(value = """
+        WITH candidates AS (
+            SELECT DISTINCT m.product_id
+            FROM inventory_movements m
+            WHERE m.created_at > :since
+              AND m.created_at <= :cutoff
+        ),
+        tails AS (
+            SELECT c.product_id,
+                   cp.quantity_available,
+                   cp.quantity_reserved,
+                   cp.movement_count,
+                   t.available_delta,
+                   t.reserved_delta,
+                   t.n
+            FROM candidates c
+            LEFT JOIN LATERAL (
+                SELECT b.checkpoint_at, b.quantity_available, b.quantity_reserved, b.movement_count
+                FROM inventory_balance_checkpoints b
+                WHERE b.product_id = c.product_id
+                ORDER BY b.checkpoint_at DESC
+                LIMIT 1
+            ) cp ON true
+            CROSS JOIN LATERAL (
+                SELECT COALESCE(SUM(CASE WHEN m.movement_type IN ('RESERVATION', 'RELEASE_RESERVATION')
+                                         THEN 0 ELSE m.quantity END), 0) AS available_delta,
+                       COALESCE(SUM(CASE WHEN m.movement_type IN ('RESERVATION', 'RELEASE_RESERVATION')
+                                         THEN m.quantity ELSE 0 END), 0) AS reserved_delta,
+                       COUNT(*) AS n
+                FROM inventory_movements m
+                WHERE m.product_id = c.product_id
+                  AND m.created_at > COALESCE(cp.checkpoint_at, CAST('-infinity' AS timestamp))
+                  AND m.created_at <= :cutoff
+            ) t
+        )
+        INSERT INTO inventory_balance_checkpoints
+            (product_id, checkpoint_at, quantity_available, quantity_reserved, movement_count, created_at)
+        SELECT product_id,
+               :cutoff,
+               COALESCE(quantity_available, 0) + available_delta,
+               COALESCE(quantity_reserved, 0) + reserved_delta,
+               COALESCE(movement_count, 0) + n,
+               :now
+        FROM tails
+        WHERE n >= :minMovements
+        ON CONFLICT (product_id, checkpoint_at) DO NOTHING
+        """, nativeQuery = true)
+    int createCheckpoints(@Param("since") Instant since,
+                          @Param("cutoff") Instant cutoff,
+                          @Param("minMovements") long minMovements,
+                          @Param("now") Instant now);
+}
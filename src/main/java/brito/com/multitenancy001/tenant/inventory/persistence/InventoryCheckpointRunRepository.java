@@ -0,0 +1,19 @@
+package brito.com.multitenancy001.tenant.inventory.persistence;
+
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryCheckpointRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+
+/**
+ * Repositório das execuções de checkpoint do ledger.
+ */
+public interface InventoryCheckpointRunRepository extends JpaRepository<InventoryCheckpointRun, Long> {
+
+    /**
+     * @return maior cutoff já processado (null quando nunca executou)
+     */
+    @Query("SELECT MAX(r.cutoff) FROM InventoryCheckpointRun r")
+    Instant findLastCutoff();
+}
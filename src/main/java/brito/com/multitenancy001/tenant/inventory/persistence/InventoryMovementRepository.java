@@ -1,15 +1,88 @@
 package brito.com.multitenancy001.tenant.inventory.persistence;
 
 import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovement;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Repository JPA do histórico de movimentações de estoque.
+ *
+ * <p>{@code inventory_movements} é particionada por mês de {@code created_at};
+ * todas as consultas filtram por produto e faixa de {@code created_at} para usar
+ * o índice (product_id, created_at DESC, id DESC) e podar partições.</p>
  */
 public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
 
-    List<InventoryMovement> findByProductIdOrderByCreatedAtDesc(UUID productId);
-}
\ No newline at end of file
+    /**
+     * Página do histórico do produto, do mais recente para o mais antigo (keyset).
+     *
+     * @param productId produto
+     * @param beforeCreatedAt createdAt do último item da página anterior (sentinela máximo na primeira)
+     * @param beforeId id do último item da página anterior (sentinela máximo na primeira)
+     * @param limit tamanho da página (somente o limit é usado; sem count)
+     * @return movimentos da página
+     */
+    @Query("""
+        SELECT m
+        FROM InventoryMovement m
+        WHERE m.productId = :productId
+          AND (m.createdAt, m.id) < (:beforeCreatedAt, :beforeId)
+        ORDER BY m.createdAt DESC, m.id DESC
+        """)
+    List<InventoryMovement> findPageByProductId(@Param("productId") UUID productId,
+                                                @Param("beforeCreatedAt") Instant beforeCreatedAt,
+                                                @Param("beforeId") Long beforeId,
+                                                Pageable limit);
+
+    /**
+     * Soma dos movimentos do produto em {@code (after, until]} (cauda após um checkpoint).
+     *
+     * <p>RESERVATION/RELEASE_RESERVATION afetam o reservado; os demais tipos, o disponível
+     * (mesma regra de {@code TenantInventoryAdjustmentService}).</p>
+     */
+    @Query(value = """
+        SELECT COALESCE(SUM(CASE WHEN m.movement_type IN ('RESERVATION', 'RELEASE_RESERVATION')
+                                 THEN 0 ELSE m.quantity END), 0) AS availableDelta,
+               COALESCE(SUM(CASE WHEN m.movement_type IN ('RESERVATION', 'RELEASE_RESERVATION')
+                                 THEN m.quantity ELSE 0 END), 0) AS reservedDelta,
+               COUNT(*) AS movementCount
+        FROM inventory_movements m
+        WHERE m.product_id = :productId
+          AND m.created_at > :after
+          AND m.created_at <= :until
+        """, nativeQuery = true)
+    LedgerTail sumTail(@Param("productId") UUID productId,
+                       @Param("after") Instant after,
+                       @Param("until") Instant until);
+
+    /**
+     * Garante a partição mensal de {@code inventory_movements} (idempotente).
+     *
+     * <p>A função trava a partição DEFAULT antes de mover as linhas do mês, então
+     * inserts concorrentes esperam em vez de quebrar o ATTACH.</p>
+     *
+     * @param month qualquer dia do mês
+     * @return true quando a partição foi criada agora
+     */
+    @Query(value = "SELECT ensure_inventory_movement_partition(CAST(:month AS date))", nativeQuery = true)
+    boolean ensureMonthPartition(@Param("month") LocalDate month);
+
+    /**
+     * Resultado agregado de {@link #sumTail}.
+     */
+    interface LedgerTail {
+        BigDecimal getAvailableDelta();
+
+        BigDecimal getReservedDelta();
+
+        long getMovementCount();
+    }
+}
@@ -9,11 +9,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import brito.com.multitenancy001.tenant.products.api.dto.ProductCatalogPageResponse;
 import brito.com.multitenancy001.tenant.products.api.dto.ProductResponse;
+import brito.com.multitenancy001.tenant.products.api.dto.ProductSearchHitResponse;
 import brito.com.multitenancy001.tenant.products.api.dto.ProductUpdateRequest;
 import brito.com.multitenancy001.tenant.products.api.dto.ProductUpsertRequest;
 import brito.com.multitenancy001.tenant.products.api.dto.SupplierProductCountResponse;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogSort;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -58,17 +62,59 @@ public class TenantProductController {
      * Lista produtos paginados do tenant atual.
      *
      * @param pageable paginação
+     * @param webRequest request atual (ETag)
      * @return página de produtos
      */
     @GetMapping
     @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_PRODUCT_READ.asAuthority())")
-    public ResponseEntity<Page<ProductResponse>> list(Pageable pageable) {
+    public ResponseEntity<Page<ProductResponse>> list(Pageable pageable, WebRequest webRequest) {
         log.debug(
                 "PRODUCT_CONTROLLER_FACADE_LIST | pageNumber={} | pageSize={}",
                 pageable == null ? null : pageable.getPageNumber(),
                 pageable == null ? null : pageable.getPageSize()
         );
-        return queryDelegate.list(pageable);
+        return queryDelegate.list(pageable, webRequest);
+    }
+
+    /**
+     * Página do catálogo (ativos e não deletados) paginada por cursor.
+     *
+     * <p>Preferir este endpoint às listagens sem limite por categoria,
+     * subcategoria, fornecedor e marca: o custo por página é constante
+     * e a paginação é estável sob escrita concorrente.</p>
+     *
+     * @param categoryId filtro por categoria (opcional)
+     * @param subcategoryId filtro por subcategoria (opcional)
+     * @param supplierId filtro por fornecedor (opcional)
+     * @param brand filtro por marca (opcional)
+     * @param sort NAME (default) ou NEWEST (somente sem filtro)
+     * @param cursor cursor opaco devolvido pela página anterior
+     * @param size tamanho da página
+     * @param webRequest request atual (ETag)
+     * @return página do catálogo com próximo cursor
+     */
+    @GetMapping("/catalog")
+    @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_PRODUCT_READ.asAuthority())")
+    public ResponseEntity<ProductCatalogPageResponse> catalog(
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "subcategoryId", required = false) Long subcategoryId,
+            @RequestParam(name = "supplierId", required = false) UUID supplierId,
+            @RequestParam(name = "brand", required = false) String brand,
+            @RequestParam(name = "sort", required = false) ProductCatalogSort sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            WebRequest webRequest
+    ) {
+        log.debug(
+                "PRODUCT_CONTROLLER_FACADE_CATALOG | categoryId={} | subcategoryId={} | supplierId={} | brand={} | sort={} | size={}",
+                categoryId,
+                subcategoryId,
+                supplierId,
+                brand,
+                sort,
+                size
+        );
+        return queryDelegate.catalog(categoryId, subcategoryId, supplierId, brand, sort, cursor, size, webRequest);
     }
 
     /**
@@ -256,6 +302,23 @@ public class TenantProductController {
         return queryDelegate.searchByName(name, minPrice, maxPrice, minStock, maxStock);
     }
 
+    /**
+     * Busca textual ranqueada (nome, marca, sku, barcode e descrição) com highlight.
+     *
+     * @param q termo livre
+     * @param pageable paginação (ordenação sempre por relevância)
+     * @return página de resultados ranqueados
+     */
+    @GetMapping("/search/ranked")
+    @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_PRODUCT_READ.asAuthority())")
+    public ResponseEntity<Page<ProductSearchHitResponse>> searchRanked(
+            @RequestParam("q") String q,
+            Pageable pageable
+    ) {
+        log.debug("PRODUCT_CONTROLLER_FACADE_SEARCH_RANKED | q={}", q);
+        return queryDelegate.searchRanked(q, pageable);
+    }
+
     /**
      * Executa atualização parcial de produto.
      *
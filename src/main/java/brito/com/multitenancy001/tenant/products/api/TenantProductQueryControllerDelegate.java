@@ -8,10 +8,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
 
+import brito.com.multitenancy001.tenant.dataversion.api.TenantConditionalGetSupport;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
+import brito.com.multitenancy001.tenant.products.api.dto.ProductCatalogPageResponse;
 import brito.com.multitenancy001.tenant.products.api.dto.ProductResponse;
+import brito.com.multitenancy001.tenant.products.api.dto.ProductSearchHitResponse;
 import brito.com.multitenancy001.tenant.products.api.mapper.ProductApiMapper;
 import brito.com.multitenancy001.tenant.products.app.TenantProductService;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogSort;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +32,8 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Buscas por categoria/subcategoria/fornecedor</li>
  *   <li>Consultas "any"</li>
  *   <li>Busca por filtros</li>
+ *   <li>Busca textual ranqueada</li>
+ *   <li>Catálogo paginado por cursor</li>
  * </ul>
  */
 @Component
@@ -35,6 +43,7 @@ public class TenantProductQueryControllerDelegate {
 
     private final ProductApiMapper productApiMapper;
     private final TenantProductService tenantProductService;
+    private final TenantConditionalGetSupport conditionalGet;
 
     /**
      * Busca um produto por id no escopo do tenant atual.
@@ -54,27 +63,32 @@ public class TenantProductQueryControllerDelegate {
     /**
      * Lista produtos paginados do tenant atual.
      *
+     * <p>Suporta {@code If-None-Match}: 304 enquanto os produtos não mudarem.</p>
+     *
      * @param pageable paginação
+     * @param webRequest request atual (ETag)
      * @return página de produtos
      */
-    public ResponseEntity<Page<ProductResponse>> list(Pageable pageable) {
+    public ResponseEntity<Page<ProductResponse>> list(Pageable pageable, WebRequest webRequest) {
         log.info(
                 "Recebida requisição para listar produtos paginados. pageNumber={}, pageSize={}",
                 pageable == null ? null : pageable.getPageNumber(),
                 pageable == null ? null : pageable.getPageSize()
         );
 
-        Page<ProductResponse> page = tenantProductService.findAll(pageable)
-                .map(productApiMapper::toResponse);
+        return conditionalGet.ifNoneMatch(webRequest, () -> {
+            Page<ProductResponse> page = tenantProductService.findAll(pageable)
+                    .map(productApiMapper::toResponse);
 
-        log.info(
-                "Listagem paginada de produtos concluída. pageNumber={}, pageSize={}, returnedElements={}",
-                pageable == null ? null : pageable.getPageNumber(),
-                pageable == null ? null : pageable.getPageSize(),
-                page.getNumberOfElements()
-        );
+            log.info(
+                    "Listagem paginada de produtos concluída. pageNumber={}, pageSize={}, returnedElements={}",
+                    pageable == null ? null : pageable.getPageNumber(),
+                    pageable == null ? null : pageable.getPageSize(),
+                    page.getNumberOfElements()
+            );
 
-        return ResponseEntity.ok(page);
+            return page;
+        }, TenantDataAggregate.PRODUCTS, TenantDataAggregate.STOCK);
     }
 
     /**
@@ -216,4 +230,70 @@ public class TenantProductQueryControllerDelegate {
         log.info("Busca de produtos concluída. returnedElements={}", out.size());
         return ResponseEntity.ok(out);
     }
-}
\ No newline at end of file
+
+    /**
+     * Busca textual ranqueada de produtos com highlight.
+     *
+     * @param term termo livre
+     * @param pageable paginação
+     * @return página de resultados ranqueados
+     */
+    public ResponseEntity<Page<ProductSearchHitResponse>> searchRanked(String term, Pageable pageable) {
+        log.debug(
+                "Recebida requisição de busca ranqueada de produtos. term={}, pageNumber={}, pageSize={}",
+                term,
+                pageable == null ? null : pageable.getPageNumber(),
+                pageable == null ? null : pageable.getPageSize()
+        );
+
+        Page<ProductSearchHitResponse> page = tenantProductService.searchRanked(term, pageable)
+                .map(productApiMapper::toSearchHitResponse);
+
+        log.info("Busca ranqueada de produtos concluída. returnedElements={}, total={}",
+                page.getNumberOfElements(), page.getTotalElements());
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Página do catálogo paginada por cursor (keyset).
+     *
+     * @param categoryId filtro por categoria (opcional)
+     * @param subcategoryId filtro por subcategoria (opcional)
+     * @param supplierId filtro por fornecedor (opcional)
+     * @param brand filtro por marca (opcional)
+     * @param sort ordenação
+     * @param cursor cursor opaco da página anterior
+     * @param size tamanho da página
+     * @param webRequest request atual (ETag)
+     * @return página do catálogo
+     */
+    public ResponseEntity<ProductCatalogPageResponse> catalog(
+            Long categoryId,
+            Long subcategoryId,
+            UUID supplierId,
+            String brand,
+            ProductCatalogSort sort,
+            String cursor,
+            Integer size,
+            WebRequest webRequest
+    ) {
+        log.info(
+                "Recebida requisição de catálogo por cursor. categoryId={}, subcategoryId={}, supplierId={}, brand={}, sort={}, size={}",
+                categoryId,
+                subcategoryId,
+                supplierId,
+                brand,
+                sort,
+                size
+        );
+
+        return conditionalGet.ifNoneMatch(webRequest, () -> {
+            ProductCatalogPageResponse out = productApiMapper.toCatalogPageResponse(
+                    tenantProductService.findCatalogPage(categoryId, subcategoryId, supplierId, brand, sort, cursor, size)
+            );
+
+            log.info("Catálogo por cursor concluído. returnedElements={}, hasNext={}", out.items().size(), out.hasNext());
+            return out;
+        }, TenantDataAggregate.PRODUCTS, TenantDataAggregate.STOCK);
+    }
+}
@@ -0,0 +1,19 @@
+package brito.com.multitenancy001.tenant.products.api.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProductCatalogItemResponse(
+        UUID id,
+        String name,
+        String sku,
+        BigDecimal price,
+        Integer stockQuantity,
+        String brand,
+        Long categoryId,
+        Long subcategoryId,
+        UUID supplierId,
+        Boolean active,
+        Instant createdAt
+) {}
@@ -0,0 +1,9 @@
+package brito.com.multitenancy001.tenant.products.api.dto;
+
+import java.util.List;
+
+public record ProductCatalogPageResponse(
+        List<ProductCatalogItemResponse> items,
+        String nextCursor,
+        boolean hasNext
+) {}
@@ -0,0 +1,18 @@
+package brito.com.multitenancy001.tenant.products.api.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ProductSearchHitResponse(
+        UUID id,
+        String name,
+        String sku,
+        String brand,
+        String barcode,
+        BigDecimal price,
+        Integer stockQuantity,
+        Boolean active,
+        double score,
+        String nameHighlight,
+        String descriptionHighlight
+) {}
@@ -1,6 +1,13 @@
 package brito.com.multitenancy001.tenant.products.api.mapper;
 
+import brito.com.multitenancy001.shared.api.SearchHighlightHtml;
+import brito.com.multitenancy001.tenant.products.api.dto.ProductCatalogItemResponse;
+import brito.com.multitenancy001.tenant.products.api.dto.ProductCatalogPageResponse;
 import brito.com.multitenancy001.tenant.products.api.dto.ProductResponse;
+import brito.com.multitenancy001.tenant.products.api.dto.ProductSearchHitResponse;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogPageData;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductSearchHitData;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import org.springframework.stereotype.Component;
 
@@ -37,4 +44,44 @@ public class ProductApiMapper {
                 p.getAudit() != null ? p.getAudit().getDeletedAt() : null
         );
     }
-}
\ No newline at end of file
+
+    public ProductSearchHitResponse toSearchHitResponse(ProductSearchHitData hit) {
+        return new ProductSearchHitResponse(
+                hit.id(),
+                hit.name(),
+                hit.sku(),
+                hit.brand(),
+                hit.barcode(),
+                hit.price(),
+                hit.stockQuantity(),
+                hit.active(),
+                hit.score(),
+                SearchHighlightHtml.toHtml(hit.nameHighlight()),
+                SearchHighlightHtml.toHtml(hit.descriptionHighlight())
+        );
+    }
+
+    public ProductCatalogPageResponse toCatalogPageResponse(ProductCatalogPageData page) {
+        return new ProductCatalogPageResponse(
+                page.items().stream().map(this::toCatalogItemResponse).toList(),
+                page.nextCursor(),
+                page.hasNext()
+        );
+    }
+
+    public ProductCatalogItemResponse toCatalogItemResponse(ProductCatalogItemData item) {
+        return new ProductCatalogItemResponse(
+                item.id(),
+                item.name(),
+                item.sku(),
+                item.price(),
+                item.stockQuantity(),
+                item.brand(),
+                item.categoryId(),
+                item.subcategoryId(),
+                item.supplierId(),
+                item.active(),
+                item.createdAt()
+        );
+    }
+}
@@ -0,0 +1,100 @@
+package brito.com.multitenancy001.tenant.products.app;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.util.StringUtils;
+
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogSort;
+
+/**
+ * Cursor opaco (keyset) do catálogo de produtos.
+ *
+ * <p>Formato (antes do Base64 URL-safe):</p>
+ * <ul>
+ *   <li>{@code N|<id>|<name>} para {@link ProductCatalogSort#NAME}</li>
+ *   <li>{@code C|<id>|<epochSecond>.<nano>} para {@link ProductCatalogSort#NEWEST}</li>
+ * </ul>
+ *
+ * <p>A primeira página usa sentinelas que antecedem qualquer linha real:
+ * nome vazio + UUID zero (NAME) ou instante máximo + UUID máximo (NEWEST).</p>
+ */
+record ProductCatalogCursor(ProductCatalogSort sort, UUID id, String name, Instant createdAt) {
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final UUID MAX_UUID = new UUID(-1L, -1L);
+    private static final Instant MAX_CREATED_AT = Instant.parse("9999-12-31T23:59:59Z");
+
+    /**
+     * Cursor da primeira página para a ordenação informada.
+     */
+    static ProductCatalogCursor first(ProductCatalogSort sort) {
+        return sort == ProductCatalogSort.NEWEST
+                ? new ProductCatalogCursor(sort, MAX_UUID, null, MAX_CREATED_AT)
+                : new ProductCatalogCursor(sort, MIN_UUID, "", null);
+    }
+
+    /**
+     * Cursor posicionado após o item informado (último item da página).
+     */
+    static ProductCatalogCursor after(ProductCatalogSort sort, ProductCatalogItemData last) {
+        return new ProductCatalogCursor(sort, last.id(), last.name(), last.createdAt());
+    }
+
+    /**
+     * Decodifica o cursor recebido do cliente; vazio significa primeira página.
+     *
+     * @throws ApiException INVALID_CURSOR quando malformado ou de outra ordenação
+     */
+    static ProductCatalogCursor decode(String raw, ProductCatalogSort sort) {
+        if (!StringUtils.hasText(raw)) {
+            return first(sort);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(raw.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 3);
+            if (parts.length != 3) {
+                throw invalid();
+            }
+
+            UUID id = UUID.fromString(parts[1]);
+
+            if (sort == ProductCatalogSort.NAME && "N".equals(parts[0])) {
+                return new ProductCatalogCursor(sort, id, parts[2], null);
+            }
+
+            if (sort == ProductCatalogSort.NEWEST && "C".equals(parts[0])) {
+                String[] instant = parts[2].split("\\.", 2);
+                Instant createdAt = Instant.ofEpochSecond(
+                        Long.parseLong(instant[0]),
+                        instant.length > 1 ? Long.parseLong(instant[1]) : 0L
+                );
+                return new ProductCatalogCursor(sort, id, null, createdAt);
+            }
+
+            throw invalid();
+        } catch (IllegalArgumentException | ArithmeticException | java.time.DateTimeException e) {
+            throw invalid();
+        }
+    }
+
+    /**
+     * Codifica o cursor em texto opaco URL-safe.
+     */
+    String encode() {
+        String payload = sort == ProductCatalogSort.NEWEST
+                ? "C|" + id + "|" + createdAt.getEpochSecond() + "." + createdAt.getNano()
+                : "N|" + id + "|" + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ApiException invalid() {
+        return new ApiException(ApiErrorCode.INVALID_CURSOR, "Cursor de paginação inválido");
+    }
+}
@@ -0,0 +1,262 @@
+package brito.com.multitenancy001.tenant.products.app;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.infrastructure.cache.CacheInvalidation;
+import brito.com.multitenancy001.infrastructure.cache.CacheInvalidationBus;
+import brito.com.multitenancy001.infrastructure.cache.InvalidatableCache;
+import brito.com.multitenancy001.shared.context.TenantContext;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.products.app.dto.StockLevelCountData;
+import brito.com.multitenancy001.tenant.products.app.dto.SupplierProductCountData;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Store em memória de agregados de catálogo por tenant (dashboards).
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Manter, por tenant, um snapshot com valor de inventário, contagem por
+ *       fornecedor e histograma acumulado de estoque.</li>
+ *   <li>Responder inventory-value, count-by-supplier e low-stock/count sem
+ *       varrer {@code products} a cada poll.</li>
+ *   <li>Invalidar o snapshot após commit de escritas de produto/inventory,
+ *       neste e nos demais nós ({@link CacheInvalidationBus}).</li>
+ * </ul>
+ *
+ * <p>Regras de frescor:</p>
+ * <ul>
+ *   <li>Cada tenant tem um contador de geração, incrementado após commit de
+ *       qualquer escrita que afete os agregados.</li>
+ *   <li>O snapshot é válido enquanto a geração não mudou e a idade não passou
+ *       de {@code app.catalog.aggregates.max-staleness}.</li>
+ *   <li>Recalcular é single-flight por tenant: quem não obtém o lock devolve o
+ *       snapshot anterior (no máximo uma janela de staleness atrasado).</li>
+ * </ul>
+ *
+ * <p>Sem tenant bindado, o cálculo é feito direto (sem cache).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantCatalogAggregateStore implements InvalidatableCache {
+
+    public static final String CACHE_NAME = "tenant-catalog-aggregates";
+
+    private final AppClock clock;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Value("${app.catalog.aggregates.max-staleness:PT30S}")
+    private Duration maxStaleness;
+
+    @Value("${app.catalog.aggregates.max-tenants:10000}")
+    private int maxTenants;
+
+    /** Ordenado por acesso: o tenant menos usado sai primeiro quando passa de maxTenants. */
+    private final Map<String, TenantEntry> entries = Collections.synchronizedMap(
+            new LinkedHashMap<String, TenantEntry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TenantEntry> eldest) {
+                    return size() > maxTenants;
+                }
+            }
+    );
+
+    @PostConstruct
+    void registerForInvalidation() {
+        cacheInvalidationBus.register(this);
+    }
+
+    /**
+     * Retorna o snapshot do tenant atual, recalculando quando inválido.
+     *
+     * @param loader cálculo completo dos agregados (executado na TX do chamador)
+     * @return snapshot vigente
+     */
+    public CatalogAggregateSnapshot currentOrLoad(Supplier<CatalogAggregateSnapshot> loader) {
+        String tenantSchema = TenantContext.getOrNull();
+        if (tenantSchema == null) {
+            return loader.get();
+        }
+
+        TenantEntry entry = entries.computeIfAbsent(tenantSchema, key -> new TenantEntry());
+
+        CatalogAggregateSnapshot current = entry.snapshot;
+        long generation = entry.generation.get();
+
+        if (current != null && isFresh(current, generation)) {
+            return current;
+        }
+
+        if (current != null && !entry.refreshLock.tryLock()) {
+            log.debug("CATALOG_AGGREGATES_SERVE_STALE | tenantSchema={} | snapshotGeneration={} | generation={}",
+                    tenantSchema, current.generation(), generation);
+            return current;
+        }
+        if (current == null) {
+            entry.refreshLock.lock();
+        }
+
+        try {
+            CatalogAggregateSnapshot latest = entry.snapshot;
+            long latestGeneration = entry.generation.get();
+            if (latest != null && isFresh(latest, latestGeneration)) {
+                return latest;
+            }
+
+            CatalogAggregateSnapshot loaded = loader.get().withGeneration(latestGeneration);
+            entry.snapshot = loaded;
+
+            log.debug("CATALOG_AGGREGATES_REFRESHED | tenantSchema={} | generation={} | inventoryValue={}",
+                    tenantSchema, latestGeneration, loaded.inventoryValue());
+            return loaded;
+        } finally {
+            entry.refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Marca os agregados do tenant atual como inválidos após o commit da TX,
+     * em todos os nós.
+     *
+     * <p>Chamado pelos fluxos de escrita de produto e inventory. Incrementar
+     * antes do commit permitiria recalcular com dados antigos e marcá-los
+     * como frescos.</p>
+     */
+    public void invalidateCurrentTenantAfterCommit() {
+        String tenantSchema = TenantContext.getOrNull();
+        if (tenantSchema == null) {
+            return;
+        }
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidation.tenant(tenantSchema, CACHE_NAME));
+    }
+
+    /**
+     * Invalida imediatamente os agregados de um tenant.
+     *
+     * @param tenantSchema schema do tenant
+     */
+    public void invalidate(String tenantSchema) {
+        TenantEntry entry = entries.get(tenantSchema);
+        if (entry != null) {
+            entry.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(CacheInvalidation invalidation) {
+        if (invalidation.tenantSchema() == null) {
+            invalidateAll();
+        } else {
+            invalidate(invalidation.tenantSchema());
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            for (TenantEntry entry : entries.values()) {
+                entry.generation.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean isFresh(CatalogAggregateSnapshot snapshot, long generation) {
+        if (snapshot.generation() != generation) {
+            return false;
+        }
+        return snapshot.computedAt().plus(maxStaleness).isAfter(clock.instant());
+    }
+
+    /**
+     * Monta um snapshot a partir das consultas agregadas.
+     *
+     * @param inventoryValue valor total do inventário
+     * @param supplierCounts contagem por fornecedor
+     * @param stockLevels histograma por nível de estoque (ordenado)
+     * @return snapshot sem geração atribuída
+     */
+    public CatalogAggregateSnapshot snapshotOf(
+            BigDecimal inventoryValue,
+            List<SupplierProductCountData> supplierCounts,
+            List<StockLevelCountData> stockLevels
+    ) {
+        NavigableMap<Integer, Long> cumulative = new TreeMap<>();
+        long running = 0L;
+        for (StockLevelCountData level : stockLevels) {
+            if (level.stockQuantity() == null) {
+                continue;
+            }
+            running += level.productCount();
+            cumulative.put(level.stockQuantity(), running);
+        }
+
+        return new CatalogAggregateSnapshot(
+                -1L,
+                clock.instant(),
+                inventoryValue,
+                List.copyOf(supplierCounts),
+                Collections.unmodifiableNavigableMap(cumulative)
+        );
+    }
+
+    /**
+     * Snapshot imutável dos agregados de catálogo de um tenant.
+     *
+     * @param generation geração do tenant no momento do cálculo
+     * @param computedAt instante do cálculo
+     * @param inventoryValue valor total do inventário
+     * @param supplierCounts contagem por fornecedor
+     * @param cumulativeStock nível de estoque -> produtos com estoque menor ou igual
+     */
+    public record CatalogAggregateSnapshot(
+            long generation,
+            Instant computedAt,
+            BigDecimal inventoryValue,
+            List<SupplierProductCountData> supplierCounts,
+            NavigableMap<Integer, Long> cumulativeStock
+    ) {
+
+        /**
+         * Conta produtos com {@code stock_quantity <= threshold}.
+         *
+         * @param threshold limiar de estoque
+         * @return quantidade de produtos
+         */
+        public long countLowStock(int threshold) {
+            Map.Entry<Integer, Long> floor = cumulativeStock.floorEntry(threshold);
+            return floor != null ? floor.getValue() : 0L;
+        }
+
+        CatalogAggregateSnapshot withGeneration(long newGeneration) {
+            return new CatalogAggregateSnapshot(newGeneration, computedAt, inventoryValue, supplierCounts, cumulativeStock);
+        }
+    }
+
+    private static final class TenantEntry {
+        private final AtomicLong generation = new AtomicLong();
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private volatile CatalogAggregateSnapshot snapshot;
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Service;
 import brito.com.multitenancy001.infrastructure.persistence.tx.TenantTx;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +39,8 @@ public class TenantProductCostWriteService {
 
     private final TenantProductRepository tenantProductRepository;
     private final TenantProductWriteHelper support;
+    private final TenantDataVersionService tenantDataVersionService;
+    private final TenantCatalogAggregateStore tenantCatalogAggregateStore;
 
     /**
      * Atualiza o custo do produto.
@@ -73,6 +77,8 @@ public class TenantProductCostWriteService {
 
         product.updateCostPrice(costPrice);
         tenantProductRepository.save(product);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.PRODUCTS);
+        tenantCatalogAggregateStore.invalidateCurrentTenantAfterCommit();
 
         log.info(
                 "CostPrice do produto atualizado. productId={}, costPrice={}",
@@ -1,10 +1,16 @@
 package brito.com.multitenancy001.tenant.products.app;
 
+import java.math.BigDecimal;
+
 import org.springframework.stereotype.Service;
 
 import brito.com.multitenancy001.infrastructure.persistence.tx.TenantTx;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
+import brito.com.multitenancy001.tenant.inventory.app.TenantInventoryAdjustmentService;
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryItem;
 import brito.com.multitenancy001.tenant.products.app.command.CreateProductCommand;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
@@ -20,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Construir entidade inicial</li>
  *   <li>Validar coerência de domínio</li>
  *   <li>Resolver relações obrigatórias/opcionais</li>
+ *   <li>Registrar o estoque inicial via inventory (fonte de verdade)</li>
  *   <li>Persistir e reler a entidade final com relações carregadas</li>
  * </ul>
  *
@@ -39,6 +46,9 @@ public class TenantProductCreateWriteService {
 
     private final TenantProductRepository tenantProductRepository;
     private final TenantProductWriteHelper support;
+    private final TenantInventoryAdjustmentService tenantInventoryAdjustmentService;
+    private final TenantCatalogAggregateStore tenantCatalogAggregateStore;
+    private final TenantDataVersionService tenantDataVersionService;
 
     /**
      * Executa a criação efetiva do produto dentro de transação tenant.
@@ -66,7 +76,21 @@ public class TenantProductCreateWriteService {
         support.resolveSupplier(product);
         support.validateSubcategoryBelongsToCategory(product);
 
+        // stock_quantity é projeção de inventory_items: nasce zerado e o saldo
+        // inicial entra como movimento de inventory na mesma transação.
+        int initialStock = product.getStockQuantity() != null ? product.getStockQuantity() : 0;
+        product.setStockQuantity(0);
+
         Product saved = tenantProductRepository.save(product);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.PRODUCTS);
+
+        InventoryItem inventory = tenantInventoryAdjustmentService.setAvailableQuantity(
+                saved.getId(),
+                BigDecimal.valueOf(initialStock),
+                "PRODUCT_CREATE"
+        );
+        // a coluna já foi gravada pelo inventory; só alinha a instância da transação (resposta)
+        saved.setStockQuantity(tenantInventoryAdjustmentService.projectedStock(inventory));
 
         log.info(
                 "Produto salvo no tenant com sucesso. accountId={}, productId={}, sku={}",
@@ -75,6 +99,8 @@ public class TenantProductCreateWriteService {
                 saved.getSku()
         );
 
+        tenantCatalogAggregateStore.invalidateCurrentTenantAfterCommit();
+
         Product loaded = support.loadWithRelationsOrThrow(saved.getId(), "criação");
 
         log.info(
@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 
 import brito.com.multitenancy001.infrastructure.persistence.tx.TenantReadOnlyTx;
+import brito.com.multitenancy001.tenant.products.app.TenantCatalogAggregateStore.CatalogAggregateSnapshot;
 import brito.com.multitenancy001.tenant.products.app.dto.SupplierProductCountData;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,10 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>Este bean concentra leituras analíticas e de inventory,
  * separado das leituras de catálogo.</p>
+ *
+ * <p>As três leituras são servidas pelo snapshot de
+ * {@link TenantCatalogAggregateStore}: um recálculo (três consultas agregadas)
+ * atende todos os polls até a próxima escrita ou o fim da janela de staleness.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -30,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TenantProductInventoryQueryService {
 
     private final TenantProductRepository tenantProductRepository;
+    private final TenantCatalogAggregateStore tenantCatalogAggregateStore;
 
     /**
      * Conta produtos agrupados por fornecedor.
@@ -39,7 +45,7 @@ public class TenantProductInventoryQueryService {
     @TenantReadOnlyTx
     public List<SupplierProductCountData> countProductsBySupplier() {
         log.info("Contando produtos por fornecedor.");
-        List<SupplierProductCountData> result = tenantProductRepository.countProductsBySupplier();
+        List<SupplierProductCountData> result = aggregates().supplierCounts();
         log.info("Contagem por fornecedor concluída. returnedElements={}", result.size());
         return result;
     }
@@ -52,7 +58,7 @@ public class TenantProductInventoryQueryService {
     @TenantReadOnlyTx
     public BigDecimal calculateTotalInventoryValue() {
         log.info("Calculando valor total do inventário.");
-        BigDecimal result = tenantProductRepository.calculateTotalInventoryValue();
+        BigDecimal result = aggregates().inventoryValue();
         log.info("Valor total do inventário calculado. inventoryValue={}", result);
         return result;
     }
@@ -66,8 +72,18 @@ public class TenantProductInventoryQueryService {
     @TenantReadOnlyTx
     public Long countLowStockProducts(Integer threshold) {
         log.info("Contando produtos com estoque baixo. threshold={}", threshold);
-        Long result = tenantProductRepository.countLowStockProducts(threshold);
+        Long result = threshold != null
+                ? aggregates().countLowStock(threshold)
+                : tenantProductRepository.countLowStockProducts(null);
         log.info("Contagem de low stock concluída. threshold={}, count={}", threshold, result);
         return result;
     }
-}
\ No newline at end of file
+
+    private CatalogAggregateSnapshot aggregates() {
+        return tenantCatalogAggregateStore.currentOrLoad(() -> tenantCatalogAggregateStore.snapshotOf(
+                tenantProductRepository.calculateTotalInventoryValue(),
+                tenantProductRepository.countProductsBySupplier(),
+                tenantProductRepository.countProductsByStockLevel()
+        ));
+    }
+}
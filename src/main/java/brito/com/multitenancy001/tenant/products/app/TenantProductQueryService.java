@@ -1,10 +1,13 @@
 package brito.com.multitenancy001.tenant.products.app;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
@@ -12,6 +15,9 @@ import org.springframework.util.StringUtils;
 import brito.com.multitenancy001.infrastructure.persistence.tx.TenantReadOnlyTx;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogPageData;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogSort;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Operações de leitura de catálogo.</li>
  *   <li>Consultas por id, categoria, subcategoria, fornecedor e marca.</li>
  *   <li>Busca paginada e busca por filtros.</li>
+ *   <li>Catálogo paginado por cursor (keyset) com projeção.</li>
  * </ul>
  *
  * <p>Este bean concentra somente leituras de catálogo
@@ -41,6 +48,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TenantProductQueryService {
 
+    static final int DEFAULT_CATALOG_PAGE_SIZE = 50;
+    static final int MAX_CATALOG_PAGE_SIZE = 200;
+
     private final TenantProductRepository tenantProductRepository;
 
     @TenantReadOnlyTx
@@ -176,4 +186,99 @@ public class TenantProductQueryService {
                 maxStock
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Página do catálogo (active + notDeleted) paginada por cursor.
+     *
+     * <p>Regras:</p>
+     * <ul>
+     *   <li>No máximo um filtro (categoria, subcategoria, fornecedor ou marca).</li>
+     *   <li>{@link ProductCatalogSort#NEWEST} somente sem filtro.</li>
+     *   <li>Busca {@code size + 1} linhas para saber se existe próxima página (sem COUNT).</li>
+     * </ul>
+     *
+     * @param categoryId filtro por categoria (opcional)
+     * @param subcategoryId filtro por subcategoria (opcional)
+     * @param supplierId filtro por fornecedor (opcional)
+     * @param brand filtro por marca, case-insensitive (opcional)
+     * @param sort ordenação (default NAME)
+     * @param cursor cursor opaco da página anterior (vazio = primeira página)
+     * @param size tamanho da página
+     * @return página com itens e próximo cursor
+     */
+    @TenantReadOnlyTx
+    public ProductCatalogPageData findCatalogPage(
+            Long categoryId,
+            Long subcategoryId,
+            UUID supplierId,
+            String brand,
+            ProductCatalogSort sort,
+            String cursor,
+            Integer size
+    ) {
+        ProductCatalogSort effectiveSort = sort == null ? ProductCatalogSort.NAME : sort;
+        String normalizedBrand = StringUtils.hasText(brand) ? brand.trim().toLowerCase(Locale.ROOT) : null;
+
+        int filters = (categoryId != null ? 1 : 0)
+                + (subcategoryId != null ? 1 : 0)
+                + (supplierId != null ? 1 : 0)
+                + (normalizedBrand != null ? 1 : 0);
+
+        if (filters > 1) {
+            throw new ApiException(
+                    ApiErrorCode.INVALID_REQUEST,
+                    "Informe no máximo um filtro: categoryId, subcategoryId, supplierId ou brand"
+            );
+        }
+
+        if (filters > 0 && effectiveSort == ProductCatalogSort.NEWEST) {
+            throw new ApiException(ApiErrorCode.INVALID_REQUEST, "sort=NEWEST não aceita filtros");
+        }
+
+        int pageSize = resolveCatalogPageSize(size);
+        ProductCatalogCursor position = ProductCatalogCursor.decode(cursor, effectiveSort);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        log.info(
+                "Buscando página de catálogo por cursor. categoryId={}, subcategoryId={}, supplierId={}, brand={}, sort={}, pageSize={}, firstPage={}",
+                categoryId, subcategoryId, supplierId, normalizedBrand, effectiveSort, pageSize, !StringUtils.hasText(cursor)
+        );
+
+        List<ProductCatalogItemData> rows;
+        if (effectiveSort == ProductCatalogSort.NEWEST) {
+            rows = tenantProductRepository.findCatalogPageNewest(position.createdAt(), position.id(), limit);
+        } else if (categoryId != null) {
+            rows = tenantProductRepository.findCatalogPageByCategoryId(categoryId, position.name(), position.id(), limit);
+        } else if (subcategoryId != null) {
+            rows = tenantProductRepository.findCatalogPageBySubcategoryId(subcategoryId, position.name(), position.id(), limit);
+        } else if (supplierId != null) {
+            rows = tenantProductRepository.findCatalogPageBySupplierId(supplierId, position.name(), position.id(), limit);
+        } else if (normalizedBrand != null) {
+            rows = tenantProductRepository.findCatalogPageByBrand(normalizedBrand, position.name(), position.id(), limit);
+        } else {
+            rows = tenantProductRepository.findCatalogPageByName(position.name(), position.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ProductCatalogItemData> items = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasNext
+                ? ProductCatalogCursor.after(effectiveSort, items.get(items.size() - 1)).encode()
+                : null;
+
+        log.info("Página de catálogo concluída. returnedElements={}, hasNext={}", items.size(), hasNext);
+        return new ProductCatalogPageData(items, nextCursor, hasNext);
+    }
+
+    private static int resolveCatalogPageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_CATALOG_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_CATALOG_PAGE_SIZE) {
+            throw new ApiException(
+                    ApiErrorCode.INVALID_REQUEST,
+                    "size deve estar entre 1 e " + MAX_CATALOG_PAGE_SIZE
+            );
+        }
+        return size;
+    }
+}
@@ -12,6 +12,8 @@ import brito.com.multitenancy001.tenant.categories.persistence.TenantCategoryRep
 import brito.com.multitenancy001.tenant.categories.persistence.TenantSubcategoryRepository;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
+import brito.com.multitenancy001.tenant.referencedata.app.TenantReferenceDataCache;
+import brito.com.multitenancy001.tenant.referencedata.app.TenantReferenceDataSnapshot.SubcategoryRef;
 import brito.com.multitenancy001.tenant.suppliers.domain.Supplier;
 import brito.com.multitenancy001.tenant.suppliers.persistence.TenantSupplierRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,12 +24,16 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>Responsabilidades:</p>
  * <ul>
- *   <li>Recarregar produto com relações.</li>
- *   <li>Resolver categoria/subcategoria completas.</li>
- *   <li>Resolver fornecedor completo.</li>
+ *   <li>Recarregar produto após persistência.</li>
+ *   <li>Resolver categoria/subcategoria.</li>
+ *   <li>Resolver fornecedor.</li>
  *   <li>Validar coerência entre categoria e subcategoria.</li>
  * </ul>
  *
+ * <p>Existência e coerência são verificadas no {@link TenantReferenceDataCache};
+ * o produto recebe apenas referências (proxies) às entidades, sem SELECT. Um id
+ * ausente do snapshot cai no repositório (snapshot atrasado) antes de ser rejeitado.</p>
+ *
  * <p><b>Regra V33:</b></p>
  * <ul>
  *   <li>Sem status HTTP hardcoded</li>
@@ -43,16 +49,19 @@ public class TenantProductRelationResolver {
     private final TenantSupplierRepository tenantSupplierRepository;
     private final TenantCategoryRepository tenantCategoryRepository;
     private final TenantSubcategoryRepository tenantSubcategoryRepository;
+    private final TenantReferenceDataCache tenantReferenceDataCache;
 
     /**
-     * Recarrega o produto com relações após persistência.
+     * Recarrega o produto após persistência.
+     *
+     * <p>As relações ficam como proxies: o mapeamento de resposta usa apenas os ids.</p>
      *
      * @param productId id do produto
      * @param operation nome da operação para contexto de erro/log
-     * @return produto com relações carregadas
+     * @return produto
      */
     public Product loadWithRelationsOrThrow(UUID productId, String operation) {
-        return tenantProductRepository.findWithRelationsById(productId)
+        return tenantProductRepository.findById(productId)
                 .orElseThrow(() -> new ApiException(
                         ApiErrorCode.PRODUCT_NOT_FOUND,
                         "Produto não encontrado após " + operation + " (ID: " + productId + ")"
@@ -60,27 +69,18 @@ public class TenantProductRelationResolver {
     }
 
     /**
-     * Resolve fornecedor completo do produto.
+     * Resolve fornecedor do produto.
      *
      * @param product produto
      */
     public void resolveSupplier(Product product) {
         if (product.getSupplier() != null && product.getSupplier().getId() != null) {
-            UUID supplierId = product.getSupplier().getId();
-
-            log.info("Resolvendo fornecedor do produto. supplierId={}", supplierId);
-
-            Supplier supplier = tenantSupplierRepository.findById(supplierId)
-                    .orElseThrow(() -> new ApiException(
-                            ApiErrorCode.SUPPLIER_NOT_FOUND,
-                            "Fornecedor não encontrado com ID: " + supplierId
-                    ));
-            product.setSupplier(supplier);
+            product.setSupplier(supplierReferenceOrThrow(product.getSupplier().getId()));
         }
     }
 
     /**
-     * Resolve categoria e subcategoria completas do produto.
+     * Resolve categoria e subcategoria do produto.
      *
      * @param product produto
      */
@@ -89,31 +89,73 @@ public class TenantProductRelationResolver {
             throw new ApiException(ApiErrorCode.CATEGORY_REQUIRED, "Categoria é obrigatória");
         }
 
-        Long categoryId = product.getCategory().getId();
-
-        log.info("Resolvendo categoria do produto. categoryId={}", categoryId);
-
-        Category category = tenantCategoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ApiException(
-                        ApiErrorCode.CATEGORY_NOT_FOUND,
-                        "Categoria não encontrada"
-                ));
-        product.setCategory(category);
+        product.setCategory(categoryReferenceOrThrow(product.getCategory().getId()));
 
         if (product.getSubcategory() != null && product.getSubcategory().getId() != null) {
-            Long subcategoryId = product.getSubcategory().getId();
+            product.setSubcategory(subcategoryReferenceOrThrow(product.getSubcategory().getId()));
+        } else {
+            product.setSubcategory(null);
+        }
+    }
 
-            log.info("Resolvendo subcategoria do produto. subcategoryId={}", subcategoryId);
+    /**
+     * Referência à categoria, validando existência.
+     *
+     * @param categoryId id da categoria
+     * @return referência gerenciada
+     */
+    public Category categoryReferenceOrThrow(Long categoryId) {
+        if (tenantReferenceDataCache.current().category(categoryId) == null) {
+            log.debug("REFERENCE_DATA_MISS | type=category | id={}", categoryId);
+            Category category = tenantCategoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new ApiException(
+                            ApiErrorCode.CATEGORY_NOT_FOUND,
+                            "Categoria não encontrada"
+                    ));
+            tenantReferenceDataCache.invalidateCurrentTenant();
+            return category;
+        }
+        return tenantCategoryRepository.getReferenceById(categoryId);
+    }
 
+    /**
+     * Referência à subcategoria, validando existência.
+     *
+     * @param subcategoryId id da subcategoria
+     * @return referência gerenciada
+     */
+    public Subcategory subcategoryReferenceOrThrow(Long subcategoryId) {
+        if (tenantReferenceDataCache.current().subcategory(subcategoryId) == null) {
+            log.debug("REFERENCE_DATA_MISS | type=subcategory | id={}", subcategoryId);
             Subcategory sub = tenantSubcategoryRepository.findByIdWithCategory(subcategoryId)
                     .orElseThrow(() -> new ApiException(
                             ApiErrorCode.SUBCATEGORY_NOT_FOUND,
                             "Subcategoria não encontrada"
                     ));
-            product.setSubcategory(sub);
-        } else {
-            product.setSubcategory(null);
+            tenantReferenceDataCache.invalidateCurrentTenant();
+            return sub;
         }
+        return tenantSubcategoryRepository.getReferenceById(subcategoryId);
+    }
+
+    /**
+     * Referência ao fornecedor, validando existência.
+     *
+     * @param supplierId id do fornecedor
+     * @return referência gerenciada
+     */
+    public Supplier supplierReferenceOrThrow(UUID supplierId) {
+        if (tenantReferenceDataCache.current().supplier(supplierId) == null) {
+            log.debug("REFERENCE_DATA_MISS | type=supplier | id={}", supplierId);
+            Supplier supplier = tenantSupplierRepository.findById(supplierId)
+                    .orElseThrow(() -> new ApiException(
+                            ApiErrorCode.SUPPLIER_NOT_FOUND,
+                            "Fornecedor não encontrado com ID: " + supplierId
+                    ));
+            tenantReferenceDataCache.invalidateCurrentTenant();
+            return supplier;
+        }
+        return tenantSupplierRepository.getReferenceById(supplierId);
     }
 
     /**
@@ -130,14 +172,14 @@ public class TenantProductRelationResolver {
             throw new ApiException(ApiErrorCode.CATEGORY_REQUIRED, "Categoria é obrigatória");
         }
 
-        if (product.getSubcategory().getCategory() == null || product.getSubcategory().getCategory().getId() == null) {
+        Long subCatCategoryId = subcategoryCategoryId(product.getSubcategory());
+        if (subCatCategoryId == null) {
             throw new ApiException(
                     ApiErrorCode.INVALID_SUBCATEGORY,
                     "Subcategoria sem categoria associada (cadastro inconsistente)"
             );
         }
 
-        Long subCatCategoryId = product.getSubcategory().getCategory().getId();
         Long productCategoryId = product.getCategory().getId();
 
         if (!subCatCategoryId.equals(productCategoryId)) {
@@ -147,4 +189,13 @@ public class TenantProductRelationResolver {
             );
         }
     }
-}
\ No newline at end of file
+
+    private Long subcategoryCategoryId(Subcategory subcategory) {
+        SubcategoryRef ref = tenantReferenceDataCache.current().subcategory(subcategory.getId());
+        if (ref != null) {
+            return ref.categoryId();
+        }
+        // fora do snapshot: navega a entidade (inicializa o proxy)
+        return subcategory.getCategory() != null ? subcategory.getCategory().getId() : null;
+    }
+}
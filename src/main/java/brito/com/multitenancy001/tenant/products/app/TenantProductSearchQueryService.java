@@ -0,0 +1,121 @@
+package brito.com.multitenancy001.tenant.products.app;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import brito.com.multitenancy001.infrastructure.persistence.tx.TenantReadOnlyTx;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.shared.persistence.PgTextSearch;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductSearchHitData;
+import brito.com.multitenancy001.tenant.products.persistence.ProductSearchRow;
+import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Query service de busca textual ranqueada de produtos no contexto tenant.
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Normalizar e validar o termo de busca.</li>
+ *   <li>Executar a busca indexada (pg_trgm + tsvector) com ranking.</li>
+ *   <li>Paginar e devolver highlights dos termos encontrados.</li>
+ * </ul>
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Somente produtos não deletados.</li>
+ *   <li>Termo com no mínimo {@value PgTextSearch#MIN_TERM_LENGTH} caracteres.</li>
+ *   <li>Página limitada a {@value #MAX_PAGE_SIZE} itens.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenantProductSearchQueryService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TenantProductRepository tenantProductRepository;
+
+    /**
+     * Busca produtos por termo livre (nome, marca, sku, barcode e descrição).
+     *
+     * @param term termo informado pelo cliente
+     * @param pageable paginação (sort é ignorado: ordenação por relevância)
+     * @return página de resultados ranqueados
+     */
+    @TenantReadOnlyTx
+    public Page<ProductSearchHitData> search(String term, Pageable pageable) {
+        String normalizedTerm = PgTextSearch.normalizeTerm(term);
+        if (normalizedTerm == null || normalizedTerm.length() < PgTextSearch.MIN_TERM_LENGTH) {
+            throw new ApiException(
+                    ApiErrorCode.INVALID_SEARCH,
+                    "Termo de busca deve ter no mínimo " + PgTextSearch.MIN_TERM_LENGTH + " caracteres"
+            );
+        }
+
+        String tsQuery = PgTextSearch.toPrefixTsQuery(normalizedTerm);
+        if (tsQuery == null) {
+            throw new ApiException(ApiErrorCode.INVALID_SEARCH, "Termo de busca deve conter letras ou números");
+        }
+
+        String likeTerm = PgTextSearch.escapeLike(normalizedTerm);
+        Pageable page = resolvePage(pageable);
+
+        log.debug(
+                "Executando busca ranqueada de produtos. term={}, pageNumber={}, pageSize={}",
+                normalizedTerm, page.getPageNumber(), page.getPageSize()
+        );
+
+        List<ProductSearchHitData> hits = tenantProductRepository.searchRanked(
+                        tsQuery,
+                        normalizedTerm,
+                        likeTerm,
+                        page.getPageSize(),
+                        (int) page.getOffset()
+                ).stream()
+                .map(TenantProductSearchQueryService::toData)
+                .toList();
+
+        long total = (page.getPageNumber() == 0 && hits.size() < page.getPageSize())
+                ? hits.size()
+                : tenantProductRepository.countSearchRanked(tsQuery, normalizedTerm, likeTerm);
+
+        log.debug("Busca ranqueada de produtos concluída. term={}, returnedElements={}, total={}",
+                normalizedTerm, hits.size(), total);
+
+        return new PageImpl<>(hits, page, total);
+    }
+
+    private static Pageable resolvePage(Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return PageRequest.of(0, DEFAULT_PAGE_SIZE);
+        }
+        int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+        return PageRequest.of(pageable.getPageNumber(), size);
+    }
+
+    private static ProductSearchHitData toData(ProductSearchRow row) {
+        return new ProductSearchHitData(
+                row.getId(),
+                row.getName(),
+                row.getSku(),
+                row.getBrand(),
+                row.getBarcode(),
+                row.getPrice(),
+                row.getStockQuantity(),
+                row.getActive(),
+                row.getScore() == null ? 0d : row.getScore(),
+                row.getNameHighlight(),
+                row.getDescriptionHighlight()
+        );
+    }
+}
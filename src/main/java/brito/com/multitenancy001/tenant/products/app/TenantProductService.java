@@ -10,6 +10,9 @@ import org.springframework.stereotype.Service;
 
 import brito.com.multitenancy001.tenant.products.app.command.CreateProductCommand;
 import brito.com.multitenancy001.tenant.products.app.command.UpdateProductCommand;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogPageData;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogSort;
+import brito.com.multitenancy001.tenant.products.app.dto.ProductSearchHitData;
 import brito.com.multitenancy001.tenant.products.app.dto.SupplierProductCountData;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +40,7 @@ public class TenantProductService {
     private final TenantProductQueryService tenantProductQueryService;
     private final TenantProductCommandService tenantProductCommandService;
     private final TenantProductInventoryQueryService tenantProductInventoryQueryService;
+    private final TenantProductSearchQueryService tenantProductSearchQueryService;
 
     /**
      * Lista produtos paginados.
@@ -243,4 +247,49 @@ public class TenantProductService {
         );
         return tenantProductQueryService.searchProducts(name, minPrice, maxPrice, minStock, maxStock);
     }
-}
\ No newline at end of file
+
+    /**
+     * Executa busca textual ranqueada (full-text + trigram) com highlight.
+     *
+     * @param term termo livre
+     * @param pageable paginação
+     * @return página de resultados ranqueados
+     */
+    public Page<ProductSearchHitData> searchRanked(String term, Pageable pageable) {
+        log.debug("PRODUCT_SERVICE_FACADE_SEARCH_RANKED | term={}", term);
+        return tenantProductSearchQueryService.search(term, pageable);
+    }
+
+    /**
+     * Página do catálogo paginada por cursor (keyset).
+     *
+     * @param categoryId filtro por categoria (opcional)
+     * @param subcategoryId filtro por subcategoria (opcional)
+     * @param supplierId filtro por fornecedor (opcional)
+     * @param brand filtro por marca (opcional)
+     * @param sort ordenação
+     * @param cursor cursor opaco da página anterior
+     * @param size tamanho da página
+     * @return página do catálogo
+     */
+    public ProductCatalogPageData findCatalogPage(
+            Long categoryId,
+            Long subcategoryId,
+            UUID supplierId,
+            String brand,
+            ProductCatalogSort sort,
+            String cursor,
+            Integer size
+    ) {
+        log.debug(
+                "PRODUCT_SERVICE_FACADE_FIND_CATALOG_PAGE | categoryId={} | subcategoryId={} | supplierId={} | brand={} | sort={} | size={}",
+                categoryId,
+                subcategoryId,
+                supplierId,
+                brand,
+                sort,
+                size
+        );
+        return tenantProductQueryService.findCatalogPage(categoryId, subcategoryId, supplierId, brand, sort, cursor, size);
+    }
+}
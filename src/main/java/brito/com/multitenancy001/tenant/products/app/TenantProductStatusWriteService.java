@@ -7,6 +7,8 @@ import org.springframework.stereotype.Service;
 import brito.com.multitenancy001.infrastructure.persistence.tx.TenantTx;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +36,8 @@ public class TenantProductStatusWriteService {
 
     private final TenantProductRepository tenantProductRepository;
     private final TenantProductWriteHelper tenantProductWriteHelper;
+    private final TenantDataVersionService tenantDataVersionService;
+    private final TenantCatalogAggregateStore tenantCatalogAggregateStore;
 
     /**
      * Alterna o status ativo/inativo do produto.
@@ -57,6 +61,8 @@ public class TenantProductStatusWriteService {
 
         product.setActive(!Boolean.TRUE.equals(product.getActive()));
         tenantProductRepository.save(product);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.PRODUCTS);
+        tenantCatalogAggregateStore.invalidateCurrentTenantAfterCommit();
 
         log.info(
                 "PRODUCT_TOGGLE_ACTIVE_SAVED | productId={} | active={}",
@@ -4,15 +4,9 @@ import org.springframework.stereotype.Service;
 
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
-import brito.com.multitenancy001.tenant.categories.domain.Category;
-import brito.com.multitenancy001.tenant.categories.domain.Subcategory;
-import brito.com.multitenancy001.tenant.categories.persistence.TenantCategoryRepository;
-import brito.com.multitenancy001.tenant.categories.persistence.TenantSubcategoryRepository;
 import brito.com.multitenancy001.tenant.products.app.command.UpdateProductCommand;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
-import brito.com.multitenancy001.tenant.suppliers.domain.Supplier;
-import brito.com.multitenancy001.tenant.suppliers.persistence.TenantSupplierRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,9 +33,6 @@ import lombok.extern.slf4j.Slf4j;
 public class TenantProductUpdateApplier {
 
     private final TenantProductRepository tenantProductRepository;
-    private final TenantSupplierRepository tenantSupplierRepository;
-    private final TenantCategoryRepository tenantCategoryRepository;
-    private final TenantSubcategoryRepository tenantSubcategoryRepository;
     private final TenantProductValidationService tenantProductValidationService;
     private final TenantProductRelationResolver tenantProductRelationResolver;
 
@@ -85,9 +76,8 @@ public class TenantProductUpdateApplier {
             existing.updatePrice(cmd.price());
         }
 
-        if (cmd.stockQuantity() != null) {
-            existing.setStockQuantity(cmd.stockQuantity());
-        }
+        // stockQuantity não é aplicado aqui: é projeção de inventory_items e
+        // o update write service encaminha a alteração para o inventory.
         if (cmd.minStock() != null) {
             existing.setMinStock(cmd.minStock());
         }
@@ -114,32 +104,17 @@ public class TenantProductUpdateApplier {
         }
 
         if (cmd.categoryId() != null) {
-            Category category = tenantCategoryRepository.findById(cmd.categoryId())
-                    .orElseThrow(() -> new ApiException(
-                            ApiErrorCode.CATEGORY_NOT_FOUND,
-                            "Categoria não encontrada"
-                    ));
-            existing.setCategory(category);
+            existing.setCategory(tenantProductRelationResolver.categoryReferenceOrThrow(cmd.categoryId()));
         }
 
         if (cmd.clearSubcategory()) {
             existing.setSubcategory(null);
         } else if (cmd.subcategoryId() != null) {
-            Subcategory sub = tenantSubcategoryRepository.findByIdWithCategory(cmd.subcategoryId())
-                    .orElseThrow(() -> new ApiException(
-                            ApiErrorCode.SUBCATEGORY_NOT_FOUND,
-                            "Subcategoria não encontrada"
-                    ));
-            existing.setSubcategory(sub);
+            existing.setSubcategory(tenantProductRelationResolver.subcategoryReferenceOrThrow(cmd.subcategoryId()));
         }
 
         if (cmd.supplierId() != null) {
-            Supplier supplier = tenantSupplierRepository.findById(cmd.supplierId())
-                    .orElseThrow(() -> new ApiException(
-                            ApiErrorCode.SUPPLIER_NOT_FOUND,
-                            "Fornecedor não encontrado"
-                    ));
-            existing.setSupplier(supplier);
+            existing.setSupplier(tenantProductRelationResolver.supplierReferenceOrThrow(cmd.supplierId()));
         }
 
         tenantProductRelationResolver.validateSubcategoryBelongsToCategory(existing);
@@ -1,5 +1,6 @@
 package brito.com.multitenancy001.tenant.products.app;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -7,6 +8,10 @@ import org.springframework.stereotype.Service;
 import brito.com.multitenancy001.infrastructure.persistence.tx.TenantTx;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
+import brito.com.multitenancy001.tenant.inventory.app.TenantInventoryAdjustmentService;
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryItem;
 import brito.com.multitenancy001.tenant.products.app.command.UpdateProductCommand;
 import brito.com.multitenancy001.tenant.products.domain.Product;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
@@ -22,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Carregar a entidade existente</li>
  *   <li>Aplicar mutações permitidas</li>
  *   <li>Resolver relações afetadas pelo update</li>
+ *   <li>Encaminhar alteração de estoque para o inventory (fonte de verdade)</li>
  *   <li>Persistir e reler a entidade final com relações carregadas</li>
  * </ul>
  *
@@ -39,6 +45,9 @@ public class TenantProductUpdateWriteService {
 
     private final TenantProductRepository tenantProductRepository;
     private final TenantProductWriteHelper support;
+    private final TenantInventoryAdjustmentService tenantInventoryAdjustmentService;
+    private final TenantCatalogAggregateStore tenantCatalogAggregateStore;
+    private final TenantDataVersionService tenantDataVersionService;
 
     /**
      * Atualiza produto existente.
@@ -68,9 +77,22 @@ public class TenantProductUpdateWriteService {
 
         support.applyUpdates(existing, updateProductCommand);
         tenantProductRepository.save(existing);
+        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.PRODUCTS);
+
+        if (updateProductCommand.stockQuantity() != null) {
+            InventoryItem inventory = tenantInventoryAdjustmentService.setAvailableQuantity(
+                    id,
+                    BigDecimal.valueOf(updateProductCommand.stockQuantity()),
+                    "PRODUCT_UPDATE"
+            );
+            // a coluna já foi gravada pelo inventory; só alinha a instância da transação (resposta)
+            existing.setStockQuantity(tenantInventoryAdjustmentService.projectedStock(inventory));
+        }
 
         log.info("Produto salvo após update. productId={}", id);
 
+        tenantCatalogAggregateStore.invalidateCurrentTenantAfterCommit();
+
         Product loaded = support.loadWithRelationsOrThrow(id, "update");
 
         log.info(
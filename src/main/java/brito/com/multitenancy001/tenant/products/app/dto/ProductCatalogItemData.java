@@ -0,0 +1,29 @@
+package brito.com.multitenancy001.tenant.products.app.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO de Application Layer (projeção) de um item do catálogo paginado por cursor.
+ *
+ * <p>Motivo:</p>
+ * <ul>
+ *   <li>Evitar materializar Product + category/subcategory/supplier por linha.</li>
+ *   <li>Carregar apenas as colunas necessárias para listagens de catálogo.</li>
+ * </ul>
+ */
+public record ProductCatalogItemData(
+        UUID id,
+        String name,
+        String sku,
+        BigDecimal price,
+        Integer stockQuantity,
+        String brand,
+        Long categoryId,
+        Long subcategoryId,
+        UUID supplierId,
+        Boolean active,
+        Instant createdAt
+) {
+}
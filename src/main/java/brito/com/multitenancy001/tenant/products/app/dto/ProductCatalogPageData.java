@@ -0,0 +1,15 @@
+package brito.com.multitenancy001.tenant.products.app.dto;
+
+import java.util.List;
+
+/**
+ * DTO de Application Layer de uma página do catálogo paginado por cursor.
+ *
+ * <p>{@code nextCursor} é opaco para o cliente e só existe quando {@code hasNext} = true.</p>
+ */
+public record ProductCatalogPageData(
+        List<ProductCatalogItemData> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,14 @@
+package brito.com.multitenancy001.tenant.products.app.dto;
+
+/**
+ * Ordenações suportadas pelo catálogo paginado por cursor.
+ *
+ * <ul>
+ *   <li>{@link #NAME}: (name ASC, id ASC) — disponível com qualquer filtro.</li>
+ *   <li>{@link #NEWEST}: (created_at DESC, id DESC) — somente sem filtro.</li>
+ * </ul>
+ */
+public enum ProductCatalogSort {
+    NAME,
+    NEWEST
+}
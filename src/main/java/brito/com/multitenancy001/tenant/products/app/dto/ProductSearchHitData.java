@@ -0,0 +1,26 @@
+package brito.com.multitenancy001.tenant.products.app.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO de Application Layer para um resultado da busca ranqueada de produtos.
+ *
+ * <p>Os campos de highlight trazem a saída crua do {@code ts_headline}, com os
+ * termos entre as sentinelas de {@code PgTextSearch}; o escape de HTML fica
+ * no mapper da API.</p>
+ */
+public record ProductSearchHitData(
+        UUID id,
+        String name,
+        String sku,
+        String brand,
+        String barcode,
+        BigDecimal price,
+        Integer stockQuantity,
+        Boolean active,
+        double score,
+        String nameHighlight,
+        String descriptionHighlight
+) {
+}
@@ -0,0 +1,14 @@
+package brito.com.multitenancy001.tenant.products.app.dto;
+
+/**
+ * DTO de Application Layer com a quantidade de produtos por nível de estoque.
+ *
+ * Motivo:
+ * - Base do histograma usado pelos agregados de catálogo (low-stock O(1))
+ * - Evitar Object[] vindo do repository
+ */
+public record StockLevelCountData(
+        Integer stockQuantity,
+        long productCount
+) {
+}
@@ -8,6 +8,7 @@ import brito.com.multitenancy001.tenant.categories.domain.Category;
 import brito.com.multitenancy001.tenant.categories.domain.Subcategory;
 import brito.com.multitenancy001.tenant.suppliers.domain.Supplier;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -25,8 +26,12 @@ import java.util.UUID;
  * Persistencia / consistencia:
  * - Para garantir que o retorno da API sempre traga profitMargin atualizado,
  *   esta entidade recalcula automaticamente a margem em @PrePersist/@PreUpdate.
+ * - stock_quantity e projecao de inventory_items, gravada por UPDATE dirigido
+ *   (TenantProductRepository#updateStockQuantity); @DynamicUpdate faz o flush
+ *   da entidade escrever so as colunas alteradas.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "products")
 @EntityListeners(AuditEntityListener.class)
 @Getter
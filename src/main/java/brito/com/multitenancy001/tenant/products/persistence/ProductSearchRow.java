@@ -0,0 +1,36 @@
+package brito.com.multitenancy001.tenant.products.persistence;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projeção nativa (Tenant) do resultado de busca ranqueada de produtos.
+ *
+ * <p>Os aliases da query nativa em
+ * {@link TenantProductRepository#searchRanked(String, String, String, int, int)}
+ * devem casar com os getters desta interface.</p>
+ */
+public interface ProductSearchRow {
+
+    UUID getId();
+
+    String getName();
+
+    String getSku();
+
+    String getBrand();
+
+    String getBarcode();
+
+    BigDecimal getPrice();
+
+    Integer getStockQuantity();
+
+    Boolean getActive();
+
+    Double getScore();
+
+    String getNameHighlight();
+
+    String getDescriptionHighlight();
+}
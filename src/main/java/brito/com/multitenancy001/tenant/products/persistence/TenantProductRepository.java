@@ -1,16 +1,19 @@
 package brito.com.multitenancy001.tenant.products.persistence;
 
+import brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData;
+import brito.com.multitenancy001.tenant.products.app.dto.StockLevelCountData;
 import brito.com.multitenancy001.tenant.products.app.dto.SupplierProductCountData;
 import brito.com.multitenancy001.tenant.products.domain.Product;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +40,10 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
     // =========================================================
     // READ SAFE (para controller mapear fora da transação)
     // =========================================================
+    //
+    // Listas não carregam category/subcategory/supplier: a resposta usa só os
+    // ids (proxy não inicializa no getId) e o write path valida as relações
+    // no TenantReferenceDataCache.
 
     /**
      * Busca por id com relações carregadas (category/subcategory/supplier).
@@ -47,16 +54,6 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
     @EntityGraph(attributePaths = {"category", "subcategory", "supplier"})
     Optional<Product> findWithRelationsById(UUID id);
 
-    /**
-     * Lista paginada com relações carregadas.
-     *
-     * @param pageable paginação
-     * @return página de produtos com relações carregadas
-     */
-    @Override
-    @EntityGraph(attributePaths = {"category", "subcategory", "supplier"})
-    Page<Product> findAll(Pageable pageable);
-
     // =========================================================
     // CATÁLOGO: SOMENTE ATIVOS E NÃO DELETADOS (read-safe)
     // =========================================================
@@ -69,9 +66,6 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("""
         SELECT p FROM Product p
-        LEFT JOIN FETCH p.category
-        LEFT JOIN FETCH p.subcategory
-        LEFT JOIN FETCH p.supplier
         WHERE p.deleted = false
           AND p.active = true
           AND LOWER(p.brand) = LOWER(:brand)
@@ -86,9 +80,6 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("""
         SELECT p FROM Product p
-        LEFT JOIN FETCH p.category
-        LEFT JOIN FETCH p.subcategory
-        LEFT JOIN FETCH p.supplier
         WHERE p.deleted = false
           AND p.active = true
           AND p.category.id = :categoryId
@@ -103,9 +94,6 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("""
         SELECT p FROM Product p
-        LEFT JOIN FETCH p.category
-        LEFT JOIN FETCH p.subcategory
-        LEFT JOIN FETCH p.supplier
         WHERE p.deleted = false
           AND p.active = true
           AND p.subcategory.id = :subcategoryId
@@ -120,21 +108,179 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("""
         SELECT p FROM Product p
-        LEFT JOIN FETCH p.category
-        LEFT JOIN FETCH p.subcategory
-        LEFT JOIN FETCH p.supplier
         WHERE p.deleted = false
           AND p.active = true
           AND p.supplier.id = :supplierId
         """)
     List<Product> findActiveNotDeletedBySupplierId(@Param("supplierId") UUID supplierId);
 
+    // =========================================================
+    // CATÁLOGO PAGINADO POR CURSOR (keyset, V13)
+    // =========================================================
+    //
+    // - Projeção (sem JOIN FETCH / sem entidade gerenciada)
+    // - category/subcategory/supplier só como FK (sem JOIN)
+    // - Comparação de tupla (name, id) > (:afterName, :afterId) atendida pelos
+    //   índices parciais (..., name, id) WHERE active AND NOT deleted
+    // - Custo constante por página, independente da profundidade
+    // - Estável sob escrita concorrente (não pula/duplica itens na inserção/remoção)
+
+    /**
+     * Catálogo inteiro ordenado por (name, id).
+     *
+     * @param afterName nome do último item da página anterior ("" na primeira página)
+     * @param afterId id do último item da página anterior (UUID zero na primeira página)
+     * @param limit tamanho da página (somente o limit é usado; sem count)
+     * @return itens da página
+     */
+    @Query("""
+        SELECT new brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData(
+            p.id, p.name, p.sku, p.price, p.stockQuantity, p.brand,
+            p.category.id, p.subcategory.id, p.supplier.id, p.active, p.audit.createdAt
+        )
+        FROM Product p
+        WHERE p.deleted = false
+          AND p.active = true
+          AND (p.name, p.id) > (:afterName, :afterId)
+        ORDER BY p.name ASC, p.id ASC
+        """)
+    List<ProductCatalogItemData> findCatalogPageByName(@Param("afterName") String afterName,
+                                                       @Param("afterId") UUID afterId,
+                                                       Pageable limit);
+
+    /**
+     * Catálogo inteiro ordenado por (created_at DESC, id DESC).
+     *
+     * @param beforeCreatedAt createdAt do último item da página anterior (máximo na primeira página)
+     * @param beforeId id do último item da página anterior (UUID máximo na primeira página)
+     * @param limit tamanho da página
+     * @return itens da página
+     */
+    @Query("""
+        SELECT new brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData(
+            p.id, p.name, p.sku, p.price, p.stockQuantity, p.brand,
+            p.category.id, p.subcategory.id, p.supplier.id, p.active, p.audit.createdAt
+        )
+        FROM Product p
+        WHERE p.deleted = false
+          AND p.active = true
+          AND (p.audit.createdAt, p.id) < (:beforeCreatedAt, :beforeId)
+        ORDER BY p.audit.createdAt DESC, p.id DESC
+        """)
+    List<ProductCatalogItemData> findCatalogPageNewest(@Param("beforeCreatedAt") Instant beforeCreatedAt,
+                                                       @Param("beforeId") UUID beforeId,
+                                                       Pageable limit);
+
+    /**
+     * Catálogo de uma categoria ordenado por (name, id).
+     *
+     * @param categoryId id da categoria
+     * @param afterName nome do último item da página anterior ("" na primeira página)
+     * @param afterId id do último item da página anterior (UUID zero na primeira página)
+     * @param limit tamanho da página (somente o limit é usado; sem count)
+     * @return itens da página
+     */
+    @Query("""
+        SELECT new brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData(
+            p.id, p.name, p.sku, p.price, p.stockQuantity, p.brand,
+            p.category.id, p.subcategory.id, p.supplier.id, p.active, p.audit.createdAt
+        )
+        FROM Product p
+        WHERE p.deleted = false
+          AND p.active = true
+          AND p.category.id = :categoryId
+          AND (p.name, p.id) > (:afterName, :afterId)
+        ORDER BY p.name ASC, p.id ASC
+        """)
+    List<ProductCatalogItemData> findCatalogPageByCategoryId(@Param("categoryId") Long categoryId,
+                                                             @Param("afterName") String afterName,
+                                                             @Param("afterId") UUID afterId,
+                                                             Pageable limit);
+
+    /**
+     * Catálogo de uma subcategoria ordenado por (name, id).
+     *
+     * @param subcategoryId id da subcategoria
+     * @param afterName nome do último item da página anterior ("" na primeira página)
+     * @param afterId id do último item da página anterior (UUID zero na primeira página)
+     * @param limit tamanho da página (somente o limit é usado; sem count)
+     * @return itens da página
+     */
+    @Query("""
+        SELECT new brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData(
+            p.id, p.name, p.sku, p.price, p.stockQuantity, p.brand,
+            p.category.id, p.subcategory.id, p.supplier.id, p.active, p.audit.createdAt
+        )
+        FROM Product p
+        WHERE p.deleted = false
+          AND p.active = true
+          AND p.subcategory.id = :subcategoryId
+          AND (p.name, p.id) > (:afterName, :afterId)
+        ORDER BY p.name ASC, p.id ASC
+        """)
+    List<ProductCatalogItemData> findCatalogPageBySubcategoryId(@Param("subcategoryId") Long subcategoryId,
+                                                                @Param("afterName") String afterName,
+                                                                @Param("afterId") UUID afterId,
+                                                                Pageable limit);
+
+    /**
+     * Catálogo de um fornecedor ordenado por (name, id).
+     *
+     * @param supplierId id do fornecedor
+     * @param afterName nome do último item da página anterior ("" na primeira página)
+     * @param afterId id do último item da página anterior (UUID zero na primeira página)
+     * @param limit tamanho da página (somente o limit é usado; sem count)
+     * @return itens da página
+     */
+    @Query("""
+        SELECT new brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData(
+            p.id, p.name, p.sku, p.price, p.stockQuantity, p.brand,
+            p.category.id, p.subcategory.id, p.supplier.id, p.active, p.audit.createdAt
+        )
+        FROM Product p
+        WHERE p.deleted = false
+          AND p.active = true
+          AND p.supplier.id = :supplierId
+          AND (p.name, p.id) > (:afterName, :afterId)
+        ORDER BY p.name ASC, p.id ASC
+        """)
+    List<ProductCatalogItemData> findCatalogPageBySupplierId(@Param("supplierId") UUID supplierId,
+                                                             @Param("afterName") String afterName,
+                                                             @Param("afterId") UUID afterId,
+                                                             Pageable limit);
+
+    /**
+     * Catálogo de uma marca (case-insensitive) ordenado por (name, id).
+     *
+     * @param brandLower marca já em lower-case
+     * @param afterName nome do último item da página anterior ("" na primeira página)
+     * @param afterId id do último item da página anterior (UUID zero na primeira página)
+     * @param limit tamanho da página (somente o limit é usado; sem count)
+     * @return itens da página
+     */
+    @Query("""
+        SELECT new brito.com.multitenancy001.tenant.products.app.dto.ProductCatalogItemData(
+            p.id, p.name, p.sku, p.price, p.stockQuantity, p.brand,
+            p.category.id, p.subcategory.id, p.supplier.id, p.active, p.audit.createdAt
+        )
+        FROM Product p
+        WHERE p.deleted = false
+          AND p.active = true
+          AND LOWER(p.brand) = :brandLower
+          AND (p.name, p.id) > (:afterName, :afterId)
+        ORDER BY p.name ASC, p.id ASC
+        """)
+    List<ProductCatalogItemData> findCatalogPageByBrand(@Param("brandLower") String brandLower,
+                                                        @Param("afterName") String afterName,
+                                                        @Param("afterId") UUID afterId,
+                                                        Pageable limit);
+
     // =========================================================
     // SEARCH (read-safe)
     // =========================================================
 
     /**
-     * Busca avançada de produtos com relações carregadas.
+     * Busca avançada de produtos.
      *
      * @param name nome parcial
      * @param minPrice preço mínimo
@@ -145,9 +291,6 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("""
         SELECT p FROM Product p
-        LEFT JOIN FETCH p.category
-        LEFT JOIN FETCH p.subcategory
-        LEFT JOIN FETCH p.supplier
         WHERE (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
           AND (:minPrice IS NULL OR p.price >= :minPrice)
           AND (:maxPrice IS NULL OR p.price <= :maxPrice)
@@ -160,6 +303,96 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
                                  @Param("minStock") Integer minStock,
                                  @Param("maxStock") Integer maxStock);
 
+    // =========================================================
+    // SEARCH RANQUEADA (pg_trgm + full-text, V12)
+    // =========================================================
+
+    /**
+     * Busca ranqueada de produtos não deletados.
+     *
+     * <p>Estratégia:</p>
+     * <ul>
+     *   <li>Casamento por full-text de prefixo ({@code search_vector @@ tsquery}) ou
+     *       similaridade trigram no nome, ou substring em sku/barcode.</li>
+     *   <li>Todos os predicados são atendidos por índices GIN (V12).</li>
+     *   <li>Score = {@code ts_rank_cd} + {@code similarity(nome)}.</li>
+     *   <li>Highlight ({@code ts_headline}) calculado apenas para as linhas da página,
+     *       marcado com {@code chr(2)}/{@code chr(3)} sobre o texto sem esses
+     *       caracteres (ver {@code SearchHighlightHtml.toHtml}).</li>
+     * </ul>
+     *
+     * @param tsQuery tsquery de prefixo (ver {@code PgTextSearch.toPrefixTsQuery})
+     * @param term termo normalizado (lower-case)
+     * @param likeTerm termo normalizado com curingas de LIKE escapados
+     * @param limit tamanho da página
+     * @param offset deslocamento
+     * @return linhas da página, ordenadas por score
+     */
+    @Query(
+        value = """
+            SELECT p.id AS id,
+                   p.name AS name,
+                   p.sku AS sku,
+                   p.brand AS brand,
+                   p.barcode AS barcode,
+                   p.price AS price,
+                   p.stock_quantity AS stockQuantity,
+                   p.active AS active,
+                   ranked.score AS score,
+                   ts_headline('simple', translate(p.name, chr(2) || chr(3), ''), to_tsquery('simple', :tsQuery),
+                               'StartSel="' || chr(2) || '", StopSel="' || chr(3) || '", HighlightAll=true') AS nameHighlight,
+                   CASE WHEN p.description IS NULL THEN NULL
+                        ELSE ts_headline('simple', translate(p.description, chr(2) || chr(3), ''), to_tsquery('simple', :tsQuery),
+                               'StartSel="' || chr(2) || '", StopSel="' || chr(3) || '", MaxWords=20, MinWords=8, MaxFragments=2')
+                   END AS descriptionHighlight
+            FROM (
+                SELECT p.id AS id,
+                       CAST(ts_rank_cd(p.search_vector, to_tsquery('simple', :tsQuery))
+                            + similarity(LOWER(p.name), :term) AS double precision) AS score
+                FROM products p
+                WHERE p.deleted = false
+                  AND (p.search_vector @@ to_tsquery('simple', :tsQuery)
+                       OR LOWER(p.name) % :term
+                       OR LOWER(p.sku) LIKE '%' || :likeTerm || '%'
+                       OR p.barcode LIKE '%' || :likeTerm || '%')
+                ORDER BY score DESC, p.id ASC
+                LIMIT :limit OFFSET :offset
+            ) ranked
+            JOIN products p ON p.id = ranked.id
+            ORDER BY ranked.score DESC, p.id ASC
+            """,
+        nativeQuery = true
+    )
+    List<ProductSearchRow> searchRanked(@Param("tsQuery") String tsQuery,
+                                        @Param("term") String term,
+                                        @Param("likeTerm") String likeTerm,
+                                        @Param("limit") int limit,
+                                        @Param("offset") int offset);
+
+    /**
+     * Conta o total de produtos que casam com a busca ranqueada.
+     *
+     * @param tsQuery tsquery de prefixo
+     * @param term termo normalizado
+     * @param likeTerm termo com curingas escapados
+     * @return total de resultados
+     */
+    @Query(
+        value = """
+            SELECT COUNT(*)
+            FROM products p
+            WHERE p.deleted = false
+              AND (p.search_vector @@ to_tsquery('simple', :tsQuery)
+                   OR LOWER(p.name) % :term
+                   OR LOWER(p.sku) LIKE '%' || :likeTerm || '%'
+                   OR p.barcode LIKE '%' || :likeTerm || '%')
+            """,
+        nativeQuery = true
+    )
+    long countSearchRanked(@Param("tsQuery") String tsQuery,
+                           @Param("term") String term,
+                           @Param("likeTerm") String likeTerm);
+
     // =========================================================
     // Outros métodos "de apoio" (mantidos)
     // =========================================================
@@ -192,18 +425,39 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
     /**
      * Conta produtos com estoque baixo.
      *
+     * <p>Lê a projeção {@code stock_quantity} (mantida pelo inventory) e usa
+     * o índice parcial {@code idx_products_stock_projection}.</p>
+     *
      * @param threshold limiar de estoque
      * @return quantidade
      */
-    @Query("SELECT COUNT(p) FROM Product p WHERE p.stockQuantity <= :threshold")
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.deleted = false AND p.stockQuantity <= :threshold")
     Long countLowStock(@Param("threshold") Integer threshold);
 
+    /**
+     * Grava a projeção {@code stock_quantity} sem passar pela entidade.
+     *
+     * <p>Chamado com a linha de inventory bloqueada: só a coluna derivada é
+     * escrita, sem regravar a linha inteira a partir de uma cópia antiga do
+     * produto (preço/nome alterados em paralelo não são revertidos).</p>
+     *
+     * @param id id do produto
+     * @param stockQuantity saldo projetado
+     * @return linhas alteradas (0 quando a projeção já estava igual)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = :stockQuantity WHERE p.id = :id AND p.stockQuantity <> :stockQuantity")
+    int updateStockQuantity(@Param("id") UUID id, @Param("stockQuantity") Integer stockQuantity);
+
     /**
      * Calcula valor total do inventário.
      *
+     * <p>Lê a projeção {@code stock_quantity} e é atendida por index-only scan
+     * em {@code idx_products_inventory_value_projection}.</p>
+     *
      * @return valor total
      */
-    @Query("SELECT SUM(p.stockQuantity * p.price) FROM Product p")
+    @Query("SELECT SUM(p.stockQuantity * p.price) FROM Product p WHERE p.deleted = false")
     BigDecimal calculateTotalInventoryValue();
 
     /**
@@ -221,6 +475,26 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
         """)
     List<SupplierProductCountData> countProductsBySupplier();
 
+    /**
+     * Histograma de produtos não deletados por nível de estoque (projeção).
+     *
+     * <p>Base dos agregados de catálogo: com as contagens acumuladas, o
+     * low-stock de qualquer threshold é respondido sem nova varredura.</p>
+     *
+     * @return lista nível de estoque -> count, ordenada por nível
+     */
+    @Query("""
+        SELECT new brito.com.multitenancy001.tenant.products.app.dto.StockLevelCountData(
+            p.stockQuantity,
+            COUNT(p)
+        )
+        FROM Product p
+        WHERE p.deleted = false
+        GROUP BY p.stockQuantity
+        ORDER BY p.stockQuantity
+        """)
+    List<StockLevelCountData> countProductsByStockLevel();
+
     // =========================================================
     // ANY (admin/relatórios) - read-safe
     // =========================================================
@@ -233,9 +507,6 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("""
         SELECT p FROM Product p
-        LEFT JOIN FETCH p.category
-        LEFT JOIN FETCH p.subcategory
-        LEFT JOIN FETCH p.supplier
         WHERE LOWER(p.brand) = LOWER(:brand)
         """)
     List<Product> findAnyByBrandIgnoreCase(@Param("brand") String brand);
@@ -248,9 +519,6 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("""
         SELECT p FROM Product p
-        LEFT JOIN FETCH p.category
-        LEFT JOIN FETCH p.subcategory
-        LEFT JOIN FETCH p.supplier
         WHERE p.category.id = :categoryId
         """)
     List<Product> findAnyByCategoryId(@Param("categoryId") Long categoryId);
@@ -263,9 +531,6 @@ public interface TenantProductRepository extends JpaRepository<Product, UUID> {
      */
     @Query("""
         SELECT p FROM Product p
-        LEFT JOIN FETCH p.category
-        LEFT JOIN FETCH p.subcategory
-        LEFT JOIN FETCH p.supplier
         WHERE p.subcategory.id = :subcategoryId
         """)
     List<Product> findAnyBySubcategoryId(@Param("subcategoryId") Long subcategoryId);
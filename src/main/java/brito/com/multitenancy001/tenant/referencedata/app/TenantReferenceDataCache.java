@@ -0,0 +1,264 @@
+package brito.com.multitenancy001.tenant.referencedata.app;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.infrastructure.cache.CacheInvalidation;
+import brito.com.multitenancy001.infrastructure.cache.CacheInvalidationBus;
+import brito.com.multitenancy001.infrastructure.cache.InvalidatableCache;
+import brito.com.multitenancy001.shared.context.TenantContext;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.categories.domain.Category;
+import brito.com.multitenancy001.tenant.categories.domain.Subcategory;
+import brito.com.multitenancy001.tenant.categories.persistence.TenantCategoryRepository;
+import brito.com.multitenancy001.tenant.categories.persistence.TenantSubcategoryRepository;
+import brito.com.multitenancy001.tenant.referencedata.app.TenantReferenceDataSnapshot.CategoryRef;
+import brito.com.multitenancy001.tenant.referencedata.app.TenantReferenceDataSnapshot.SubcategoryRef;
+import brito.com.multitenancy001.tenant.referencedata.app.TenantReferenceDataSnapshot.SupplierRef;
+import brito.com.multitenancy001.tenant.suppliers.domain.Supplier;
+import brito.com.multitenancy001.tenant.suppliers.persistence.TenantSupplierRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache em memória, por tenant, dos dados de referência do catálogo
+ * (categorias, subcategorias e fornecedores).
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Servir ao write path de produtos a existência e a coerência
+ *       categoria/subcategoria sem consultar o schema do tenant a cada escrita.</li>
+ *   <li>Invalidar o snapshot após commit das mutações de categoria,
+ *       subcategoria e fornecedor, neste e nos demais nós
+ *       ({@link CacheInvalidationBus}).</li>
+ * </ul>
+ *
+ * <p>Regras de frescor:</p>
+ * <ul>
+ *   <li>Cada tenant tem um contador de versão, incrementado após commit de
+ *       qualquer mutação de dados de referência.</li>
+ *   <li>O snapshot é válido enquanto a versão não mudou e a idade não passou
+ *       de {@code app.reference-data.max-age} (rede de segurança caso uma
+ *       invalidação de outro nó se perca).</li>
+ *   <li>Recarga single-flight por tenant: quem não obtém o lock usa o snapshot
+ *       anterior. Como o write path trata ausência no snapshot com fallback ao
+ *       banco, um snapshot atrasado nunca rejeita um id válido.</li>
+ *   <li>Limite de {@code app.reference-data.max-tenants} tenants; ao atingir,
+ *       o tenant acessado há mais tempo é descartado (LRU).</li>
+ * </ul>
+ *
+ * <p>Sem tenant bindado, o snapshot é carregado direto (sem cache).</p>
+ */
+@Slf4j
+@Component
+public class TenantReferenceDataCache implements InvalidatableCache {
+
+    public static final String CACHE_NAME = "tenant-reference-data";
+
+    private final TenantCategoryRepository tenantCategoryRepository;
+    private final TenantSubcategoryRepository tenantSubcategoryRepository;
+    private final TenantSupplierRepository tenantSupplierRepository;
+    private final AppClock clock;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final Duration maxAge;
+    private final int maxTenants;
+
+    private final Map<String, TenantEntry> entries = new ConcurrentHashMap<>();
+
+    public TenantReferenceDataCache(
+            TenantCategoryRepository tenantCategoryRepository,
+            TenantSubcategoryRepository tenantSubcategoryRepository,
+            TenantSupplierRepository tenantSupplierRepository,
+            AppClock clock,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${app.reference-data.max-age:PT10M}") Duration maxAge,
+            @Value("${app.reference-data.max-tenants:2000}") int maxTenants
+    ) {
+        this.tenantCategoryRepository = tenantCategoryRepository;
+        this.tenantSubcategoryRepository = tenantSubcategoryRepository;
+        this.tenantSupplierRepository = tenantSupplierRepository;
+        this.clock = clock;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.maxAge = maxAge;
+        this.maxTenants = Math.max(1, maxTenants);
+    }
+
+    @PostConstruct
+    void registerForInvalidation() {
+        cacheInvalidationBus.register(this);
+    }
+
+    /**
+     * Retorna o snapshot do tenant atual, recarregando quando inválido.
+     *
+     * <p>A carga roda na TX do chamador.</p>
+     *
+     * @return snapshot vigente
+     */
+    public TenantReferenceDataSnapshot current() {
+        String tenantSchema = TenantContext.getOrNull();
+        if (tenantSchema == null) {
+            return load(-1L);
+        }
+
+        TenantEntry entry = entries.get(tenantSchema);
+        if (entry == null) {
+            evictIfFull();
+            entry = entries.computeIfAbsent(tenantSchema, key -> new TenantEntry());
+        }
+        entry.lastAccessNanos = System.nanoTime();
+
+        TenantReferenceDataSnapshot current = entry.snapshot;
+        if (current != null && isFresh(current, entry.version.get())) {
+            return current;
+        }
+
+        if (current != null && !entry.refreshLock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            entry.refreshLock.lock();
+        }
+
+        try {
+            TenantReferenceDataSnapshot latest = entry.snapshot;
+            long latestVersion = entry.version.get();
+            if (latest != null && isFresh(latest, latestVersion)) {
+                return latest;
+            }
+
+            TenantReferenceDataSnapshot loaded = load(latestVersion);
+            entry.snapshot = loaded;
+
+            log.debug("REFERENCE_DATA_LOADED | tenantSchema={} | version={} | categories={} | subcategories={} | suppliers={}",
+                    tenantSchema, latestVersion, loaded.categories().size(),
+                    loaded.subcategories().size(), loaded.suppliers().size());
+            return loaded;
+        } finally {
+            entry.refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Marca os dados de referência do tenant atual como inválidos após o commit da TX,
+     * em todos os nós.
+     *
+     * <p>Chamado pelas mutações de categoria, subcategoria e fornecedor.</p>
+     */
+    public void invalidateCurrentTenantAfterCommit() {
+        String tenantSchema = TenantContext.getOrNull();
+        if (tenantSchema == null) {
+            return;
+        }
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidation.tenant(tenantSchema, CACHE_NAME));
+    }
+
+    /**
+     * Invalida imediatamente os dados de referência do tenant atual.
+     *
+     * <p>Usado quando um id ausente do snapshot foi encontrado no banco
+     * (escrita ainda não refletida no snapshot, ex.: feita por outro nó).</p>
+     */
+    public void invalidateCurrentTenant() {
+        String tenantSchema = TenantContext.getOrNull();
+        if (tenantSchema != null) {
+            invalidate(tenantSchema);
+        }
+    }
+
+    /**
+     * Invalida imediatamente os dados de referência de um tenant.
+     *
+     * @param tenantSchema schema do tenant
+     */
+    public void invalidate(String tenantSchema) {
+        TenantEntry entry = entries.get(tenantSchema);
+        if (entry != null) {
+            entry.version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(CacheInvalidation invalidation) {
+        if (invalidation.tenantSchema() == null) {
+            invalidateAll();
+        } else {
+            invalidate(invalidation.tenantSchema());
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (TenantEntry entry : entries.values()) {
+            entry.version.incrementAndGet();
+        }
+    }
+
+    private boolean isFresh(TenantReferenceDataSnapshot snapshot, long version) {
+        if (snapshot.version() != version) {
+            return false;
+        }
+        return snapshot.loadedAt().plus(maxAge).isAfter(clock.instant());
+    }
+
+    private TenantReferenceDataSnapshot load(long version) {
+        Map<Long, CategoryRef> categories = new HashMap<>();
+        for (Category c : tenantCategoryRepository.findAll()) {
+            categories.put(c.getId(), new CategoryRef(c.getId(), c.getName(), c.isActive(), c.isDeleted()));
+        }
+
+        Map<Long, SubcategoryRef> subcategories = new HashMap<>();
+        for (Subcategory s : tenantSubcategoryRepository.findAll()) {
+            Long categoryId = s.getCategory() != null ? s.getCategory().getId() : null;
+            subcategories.put(s.getId(), new SubcategoryRef(s.getId(), categoryId, s.getName(), s.isActive(), s.isDeleted()));
+        }
+
+        Map<UUID, SupplierRef> suppliers = new HashMap<>();
+        for (Supplier s : tenantSupplierRepository.findAll()) {
+            suppliers.put(s.getId(), new SupplierRef(s.getId(), s.getName(), s.isActive(), s.isDeleted()));
+        }
+
+        return new TenantReferenceDataSnapshot(version, clock.instant(), categories, subcategories, suppliers);
+    }
+
+    private void evictIfFull() {
+        if (entries.size() < maxTenants) {
+            return;
+        }
+
+        String coldest = null;
+        long coldestAt = Long.MAX_VALUE;
+        for (Map.Entry<String, TenantEntry> e : entries.entrySet()) {
+            long at = e.getValue().lastAccessNanos;
+            if (coldest == null || at - coldestAt < 0) {
+                coldestAt = at;
+                coldest = e.getKey();
+            }
+        }
+        if (coldest != null) {
+            entries.remove(coldest);
+            log.debug("REFERENCE_DATA_EVICTED | tenantSchema={}", coldest);
+        }
+    }
+
+    private static final class TenantEntry {
+        private final AtomicLong version = new AtomicLong();
+        private final ReentrantLock refreshLock = new ReentrantLock();
+        private volatile TenantReferenceDataSnapshot snapshot;
+        private volatile long lastAccessNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,80 @@
+package brito.com.multitenancy001.tenant.referencedata.app;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Snapshot imutável dos dados de referência de um tenant
+ * (árvore categoria/subcategoria e fornecedores).
+ *
+ * <p>Inclui registros inativos e soft-deletados com as respectivas flags:
+ * o write path de produtos historicamente aceita qualquer id existente, e o
+ * snapshot preserva essa regra.</p>
+ *
+ * @param version versão do tenant no momento da carga
+ * @param loadedAt instante da carga
+ * @param categories categorias por id
+ * @param subcategories subcategorias por id
+ * @param suppliers fornecedores por id
+ */
+public record TenantReferenceDataSnapshot(
+        long version,
+        Instant loadedAt,
+        Map<Long, CategoryRef> categories,
+        Map<Long, SubcategoryRef> subcategories,
+        Map<UUID, SupplierRef> suppliers
+) {
+
+    public TenantReferenceDataSnapshot {
+        categories = Map.copyOf(categories);
+        subcategories = Map.copyOf(subcategories);
+        suppliers = Map.copyOf(suppliers);
+    }
+
+    public CategoryRef category(Long id) {
+        return id != null ? categories.get(id) : null;
+    }
+
+    public SubcategoryRef subcategory(Long id) {
+        return id != null ? subcategories.get(id) : null;
+    }
+
+    public SupplierRef supplier(UUID id) {
+        return id != null ? suppliers.get(id) : null;
+    }
+
+    /**
+     * Categoria no snapshot.
+     *
+     * @param id id da categoria
+     * @param name nome
+     * @param active ativa
+     * @param deleted soft-deletada
+     */
+    public record CategoryRef(Long id, String name, boolean active, boolean deleted) {
+    }
+
+    /**
+     * Subcategoria no snapshot.
+     *
+     * @param id id da subcategoria
+     * @param categoryId categoria à qual pertence
+     * @param name nome
+     * @param active ativa
+     * @param deleted soft-deletada
+     */
+    public record SubcategoryRef(Long id, Long categoryId, String name, boolean active, boolean deleted) {
+    }
+
+    /**
+     * Fornecedor no snapshot.
+     *
+     * @param id id do fornecedor
+     * @param name nome
+     * @param active ativo
+     * @param deleted soft-deletado
+     */
+    public record SupplierRef(UUID id, String name, boolean active, boolean deleted) {
+    }
+}
@@ -0,0 +1,107 @@
+package brito.com.multitenancy001.tenant.sales.api;
+
+import brito.com.multitenancy001.integration.security.TenantRequestIdentityService;
+import brito.com.multitenancy001.tenant.sales.api.dto.ProductSalesRankingResponse;
+import brito.com.multitenancy001.tenant.sales.api.dto.SalesDailyReportResponse;
+import brito.com.multitenancy001.tenant.sales.api.dto.SalesRollupRebuildResponse;
+import brito.com.multitenancy001.tenant.sales.app.query.TenantSaleAnalyticsQueryService;
+import brito.com.multitenancy001.tenant.sales.app.rollup.TenantSaleRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Tenant Sales analytics endpoints.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Relatórios são servidos pelos rollups diários (datas UTC, intervalo inclusivo).</li>
+ *   <li>Leitura exige {@code TEN_REPORT_SALES_READ}.</li>
+ *   <li>Rebuild dos rollups exige {@code TEN_SALE_WRITE}.</li>
+ * </ul>
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tenant/sales/analytics")
+@Slf4j
+public class TenantSaleAnalyticsController {
+
+    private final TenantRequestIdentityService requestIdentity;
+    private final TenantSaleAnalyticsQueryService analyticsQueryService;
+    private final TenantSaleRollupService rollupService;
+
+    /**
+     * Faturamento por dia no intervalo.
+     *
+     * @param from primeiro dia (ISO yyyy-MM-dd)
+     * @param to último dia (ISO yyyy-MM-dd)
+     * @return totais e série diária
+     */
+    @GetMapping("/daily")
+    @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_REPORT_SALES_READ.asAuthority())")
+    public ResponseEntity<SalesDailyReportResponse> daily(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        String tenantSchema = requestIdentity.getCurrentTenantSchema();
+        Long accountId = requestIdentity.getCurrentAccountId();
+
+        log.info("➡️ GET /api/tenant/sales/analytics/daily | accountId={} tenantSchema={} from={} to={}",
+                accountId, tenantSchema, from, to);
+
+        return ResponseEntity.ok(analyticsQueryService.daily(accountId, tenantSchema, from, to));
+    }
+
+    /**
+     * Ranking de produtos por faturamento no intervalo.
+     *
+     * @param from primeiro dia (ISO yyyy-MM-dd)
+     * @param to último dia (ISO yyyy-MM-dd)
+     * @param limit quantidade máxima de produtos
+     * @return ranking por faturamento desc
+     */
+    @GetMapping("/top-products")
+    @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_REPORT_SALES_READ.asAuthority())")
+    public ResponseEntity<List<ProductSalesRankingResponse>> topProducts(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        String tenantSchema = requestIdentity.getCurrentTenantSchema();
+        Long accountId = requestIdentity.getCurrentAccountId();
+
+        log.info("➡️ GET /api/tenant/sales/analytics/top-products | accountId={} tenantSchema={} from={} to={} limit={}",
+                accountId, tenantSchema, from, to, limit);
+
+        return ResponseEntity.ok(analyticsQueryService.topProducts(accountId, tenantSchema, from, to, limit));
+    }
+
+    /**
+     * Reconstrói os rollups do intervalo a partir das vendas (backfill/reparo).
+     *
+     * @param from primeiro dia (ISO yyyy-MM-dd)
+     * @param to último dia (ISO yyyy-MM-dd)
+     * @return resumo do rebuild
+     */
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_SALE_WRITE.asAuthority())")
+    public ResponseEntity<SalesRollupRebuildResponse> rebuild(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        String tenantSchema = requestIdentity.getCurrentTenantSchema();
+        Long accountId = requestIdentity.getCurrentAccountId();
+
+        log.info("➡️ POST /api/tenant/sales/analytics/rollups/rebuild | accountId={} tenantSchema={} from={} to={}",
+                accountId, tenantSchema, from, to);
+
+        int days = rollupService.rebuild(tenantSchema, from, to);
+        return ResponseEntity.ok(new SalesRollupRebuildResponse(from, to, days));
+    }
+}
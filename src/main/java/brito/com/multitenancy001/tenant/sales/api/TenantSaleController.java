@@ -1,6 +1,7 @@
 package brito.com.multitenancy001.tenant.sales.api;
 
 import brito.com.multitenancy001.integration.security.TenantRequestIdentityService;
+import brito.com.multitenancy001.tenant.idempotency.app.TenantIdempotencyService;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleCreateRequest;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleResponse;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleUpdateRequest;
@@ -39,6 +40,13 @@ import java.util.UUID;
  * <ul>
  *   <li>O endpoint de listagem usa {@link Pageable} no mesmo padrão do restante do projeto.</li>
  * </ul>
+ *
+ * <p>Idempotência:</p>
+ * <ul>
+ *   <li>Create aceita o header {@code Idempotency-Key}: retries do mesmo usuário com a
+ *       mesma chave recebem a venda original. A chave é gravada na transação da venda
+ *       (ver {@link TenantIdempotencyService#executeInTransaction}).</li>
+ * </ul>
  */
 @RestController
 @RequiredArgsConstructor
@@ -49,23 +57,36 @@ public class TenantSaleController {
     private final TenantRequestIdentityService requestIdentity;
     private final TenantSaleCommandService commandService;
     private final TenantSaleQueryService queryService;
+    private final TenantIdempotencyService idempotencyService;
 
     /**
      * Cria uma nova venda.
      *
+     * @param idempotencyKey chave opcional de idempotência (header {@code Idempotency-Key})
      * @param req payload de criação
      * @return venda criada
      */
     @PostMapping
     @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_SALE_WRITE.asAuthority())")
-    public ResponseEntity<SaleResponse> create(@Valid @RequestBody SaleCreateRequest req) {
+    public ResponseEntity<SaleResponse> create(
+            @RequestHeader(value = TenantIdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody SaleCreateRequest req
+    ) {
         String tenantSchema = requestIdentity.getCurrentTenantSchema();
         Long accountId = requestIdentity.getCurrentAccountId();
 
-        log.info("➡️ POST /api/tenant/sales | accountId={} tenantSchema={} customerId={}",
-                accountId, tenantSchema, req.customerId());
-
-        SaleResponse out = commandService.create(accountId, tenantSchema, req);
+        log.info("➡️ POST /api/tenant/sales | accountId={} tenantSchema={} customerId={} idempotent={}",
+                accountId, tenantSchema, req.customerId(), idempotencyKey != null);
+
+        SaleResponse out = idempotencyService.executeInTransaction(
+                tenantSchema,
+                TenantIdempotencyService.userScope(requestIdentity.getCurrentUserId()),
+                "POST /api/tenant/sales",
+                idempotencyKey,
+                req,
+                SaleResponse.class,
+                claim -> commandService.create(accountId, tenantSchema, req, claim)
+        );
         return ResponseEntity.ok(out);
     }
 
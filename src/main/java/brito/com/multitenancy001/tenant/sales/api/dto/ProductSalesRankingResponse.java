@@ -0,0 +1,14 @@
+package brito.com.multitenancy001.tenant.sales.api.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Response de ranking de produtos por faturamento no período.
+ */
+public record ProductSalesRankingResponse(
+        UUID productId,
+        String productName,
+        BigDecimal quantity,
+        BigDecimal revenue
+) {}
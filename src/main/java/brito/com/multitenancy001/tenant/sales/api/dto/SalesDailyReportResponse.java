@@ -0,0 +1,19 @@
+package brito.com.multitenancy001.tenant.sales.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response do relatório diário de vendas (servido pelos rollups).
+ *
+ * <p>Dias sem venda não aparecem em {@code days}.</p>
+ */
+public record SalesDailyReportResponse(
+        LocalDate from,
+        LocalDate to,
+        long salesCount,
+        BigDecimal revenue,
+        BigDecimal itemsQuantity,
+        List<SalesDailyRollupResponse> days
+) {}
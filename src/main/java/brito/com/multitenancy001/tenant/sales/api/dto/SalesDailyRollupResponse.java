@@ -0,0 +1,14 @@
+package brito.com.multitenancy001.tenant.sales.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Response de um dia do rollup de vendas.
+ */
+public record SalesDailyRollupResponse(
+        LocalDate day,
+        long salesCount,
+        BigDecimal revenue,
+        BigDecimal itemsQuantity
+) {}
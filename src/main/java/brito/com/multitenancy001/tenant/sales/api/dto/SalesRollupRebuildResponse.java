@@ -0,0 +1,12 @@
+package brito.com.multitenancy001.tenant.sales.api.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Response do rebuild dos rollups de vendas.
+ */
+public record SalesRollupRebuildResponse(
+        LocalDate from,
+        LocalDate to,
+        int daysRebuilt
+) {}
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
+import brito.com.multitenancy001.tenant.idempotency.app.TenantIdempotencyClaim;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleCreateRequest;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleResponse;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleUpdateRequest;
@@ -59,6 +60,25 @@ public class TenantSaleCommandService {
         return createCommandService.create(accountId, tenantSchema, req);
     }
 
+    /**
+     * Cria uma nova venda registrando a Idempotency-Key na mesma transação.
+     *
+     * @param accountId account atual
+     * @param tenantSchema schema do tenant atual
+     * @param req payload de criação
+     * @param claim reserva de Idempotency-Key
+     * @return venda criada
+     */
+    public SaleResponse create(Long accountId, String tenantSchema, SaleCreateRequest req, TenantIdempotencyClaim claim) {
+        log.debug(
+                "SALE_COMMAND_FACADE_CREATE | accountId={} | tenantSchema={} | idempotent={}",
+                accountId,
+                tenantSchema,
+                claim != TenantIdempotencyClaim.NONE
+        );
+        return createCommandService.create(accountId, tenantSchema, req, claim);
+    }
+
     /**
      * Atualiza uma venda existente.
      *
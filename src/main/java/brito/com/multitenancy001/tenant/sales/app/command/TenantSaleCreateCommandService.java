@@ -8,6 +8,7 @@ import brito.com.multitenancy001.infrastructure.tenant.TenantSchemaUnitOfWork;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.idempotency.app.TenantIdempotencyClaim;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleCreateRequest;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleResponse;
 import brito.com.multitenancy001.tenant.sales.api.mapper.SaleApiMapper;
@@ -29,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>Construir e validar itens</li>
  *   <li>Persistir a venda</li>
  *   <li>Aplicar integração de estoque quando necessário</li>
+ *   <li>Atualizar os rollups diários de vendas</li>
  * </ul>
  */
 @Service
@@ -51,11 +53,26 @@ public class TenantSaleCreateCommandService {
      * @return venda criada
      */
     public SaleResponse create(Long accountId, String tenantSchema, SaleCreateRequest req) {
+        return create(accountId, tenantSchema, req, TenantIdempotencyClaim.NONE);
+    }
+
+    /**
+     * Cria uma nova venda; a Idempotency-Key é reservada e concluída na mesma
+     * transação da venda (commit ou rollback juntos).
+     *
+     * @param accountId account atual
+     * @param tenantSchema schema do tenant atual
+     * @param req payload de criação
+     * @param claim reserva de Idempotency-Key ({@link TenantIdempotencyClaim#NONE} sem header)
+     * @return venda criada
+     */
+    public SaleResponse create(Long accountId, String tenantSchema, SaleCreateRequest req, TenantIdempotencyClaim claim) {
         if (req == null) {
             throw new ApiException(ApiErrorCode.INVALID_REQUEST, "request is required", 400);
         }
 
         return uow.tx(tenantSchema, () -> {
+            claim.reserve();
             appClock.instant();
 
             SaleStatus resolvedStatus = tenanantSaleMutationHelper.resolveRequiredStatus(req.status(), "create");
@@ -104,6 +121,7 @@ public class TenantSaleCreateCommandService {
             );
 
             tenanantSaleMutationHelper.applyInventoryForSaleWrite(saved);
+            tenanantSaleMutationHelper.applyRollupsForSaleWrite(saved);
 
             log.info(
                     "SALE_CREATE_SUCCESS | saleId={} | totalAmount={} | customerId={} | status={} | affectInventory={}",
@@ -114,7 +132,9 @@ public class TenantSaleCreateCommandService {
                     tenanantSaleMutationHelper.shouldAffectInventory(saved.getStatus())
             );
 
-            return mapper.toResponse(saved);
+            SaleResponse response = mapper.toResponse(saved);
+            claim.complete(response);
+            return response;
         });
     }
 }
\ No newline at end of file
@@ -18,7 +18,8 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>Regra:</p>
  * restaura estoque dos itens ativos antes do soft delete,
- * desde que o status atual da venda afete inventory.
+ * desde que o status atual da venda afete inventory,
+ * e subtrai a venda dos rollups diários.
  */
 @Service
 @RequiredArgsConstructor
@@ -65,6 +66,7 @@ public class TenantSaleDeleteCommandService {
             );
 
             tenantSaleMutationHelper.restoreInventoryForCurrentActiveItems(sale);
+            tenantSaleMutationHelper.revertRollupsForCurrentState(sale);
 
             sale.softDelete();
             saleRepository.save(sale);
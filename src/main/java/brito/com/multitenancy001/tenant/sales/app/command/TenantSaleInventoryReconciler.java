@@ -0,0 +1,106 @@
+package brito.com.multitenancy001.tenant.sales.app.command;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import brito.com.multitenancy001.tenant.inventory.app.TenantInventoryService;
+import brito.com.multitenancy001.tenant.sales.domain.SaleItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reconciliação de inventory da venda por diferença líquida por produto.
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>O "footprint" de uma venda é o consumo por produto dos itens ativos
+ *       (linhas repetidas do mesmo produto são somadas); vazio quando o status
+ *       não afeta estoque.</li>
+ *   <li>A reconciliação compara footprint anterior e novo e aplica somente os
+ *       deltas não-zero: consumo líquido vira um OUTBOUND ({@code SALE}),
+ *       devolução líquida vira um RETURN ({@code SALE_CANCEL}).</li>
+ *   <li>Produtos são processados em ordem de UUID: duas vendas concorrentes com
+ *       produtos em comum travam {@code inventory_items} na mesma ordem (sem deadlock).</li>
+ *   <li>Resultado: uma movimentação e um lock por produto alterado, em vez de
+ *       restaurar tudo e consumir tudo de novo.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantSaleInventoryReconciler {
+
+    private final TenantInventoryService tenantInventoryService;
+
+    /**
+     * Consumo por produto dos itens ativos, em ordem de productId.
+     *
+     * @param items itens da venda
+     * @return mapa productId → quantidade total
+     */
+    public SortedMap<UUID, BigDecimal> quantitiesByProduct(List<SaleItem> items) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptySortedMap();
+        }
+
+        SortedMap<UUID, BigDecimal> out = new TreeMap<>();
+        for (SaleItem item : items) {
+            if (item == null || item.isDeleted() || item.getProductId() == null || item.getQuantity() == null) {
+                continue;
+            }
+            out.merge(item.getProductId(), item.getQuantity(), BigDecimal::add);
+        }
+        return out;
+    }
+
+    /**
+     * Aplica a diferença entre dois footprints.
+     *
+     * @param saleId id da venda
+     * @param before consumo já aplicado
+     * @param after consumo desejado
+     * @return quantidade de produtos efetivamente ajustados
+     */
+    public int reconcile(UUID saleId, Map<UUID, BigDecimal> before, Map<UUID, BigDecimal> after) {
+        TreeSet<UUID> productIds = new TreeSet<>(before.keySet());
+        productIds.addAll(after.keySet());
+
+        int changed = 0;
+        for (UUID productId : productIds) {
+            BigDecimal delta = after.getOrDefault(productId, BigDecimal.ZERO)
+                    .subtract(before.getOrDefault(productId, BigDecimal.ZERO));
+
+            int sign = delta.signum();
+            if (sign == 0) {
+                continue;
+            }
+
+            log.debug("SALE_INVENTORY_RECONCILE_ITEM | saleId={} | productId={} | delta={}", saleId, productId, delta);
+
+            if (sign > 0) {
+                tenantInventoryService.consumeStockForSale(saleId, productId, delta);
+            } else {
+                tenantInventoryService.restoreStockFromSale(saleId, productId, delta.negate());
+            }
+            changed++;
+        }
+
+        log.info(
+                "SALE_INVENTORY_RECONCILE_FINISH | saleId={} | productsBefore={} | productsAfter={} | productsAdjusted={}",
+                saleId,
+                before.size(),
+                after.size(),
+                changed
+        );
+
+        return changed;
+    }
+}
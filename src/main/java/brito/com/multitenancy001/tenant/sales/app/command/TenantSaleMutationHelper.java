@@ -3,6 +3,7 @@ package brito.com.multitenancy001.tenant.sales.app.command;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
@@ -11,9 +12,9 @@ import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import brito.com.multitenancy001.tenant.customers.domain.Customer;
 import brito.com.multitenancy001.tenant.customers.persistence.TenantCustomerRepository;
-import brito.com.multitenancy001.tenant.inventory.app.TenantInventoryService;
 import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
 import brito.com.multitenancy001.tenant.sales.api.dto.SaleItemRequest;
+import brito.com.multitenancy001.tenant.sales.app.rollup.TenantSaleRollupService;
 import brito.com.multitenancy001.tenant.sales.domain.Sale;
 import brito.com.multitenancy001.tenant.sales.domain.SaleItem;
 import brito.com.multitenancy001.tenant.sales.domain.SaleStatus;
@@ -28,7 +29,8 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>snapshot de customer</li>
  *   <li>construção e validação de itens</li>
  *   <li>cálculo de total</li>
- *   <li>integração com inventory</li>
+ *   <li>integração com inventory (via {@link TenantSaleInventoryReconciler})</li>
+ *   <li>manutenção dos rollups diários de vendas</li>
  *   <li>resolução de status</li>
  *   <li>helpers de observabilidade</li>
  * </ul>
@@ -47,7 +49,8 @@ public class TenantSaleMutationHelper {
 
     private final TenantCustomerRepository tenantCustomerRepository;
     private final TenantProductRepository tenantProductRepository;
-    private final TenantInventoryService tenantInventoryService;
+    private final TenantSaleInventoryReconciler tenantSaleInventoryReconciler;
+    private final TenantSaleRollupService tenantSaleRollupService;
 
     /**
      * Preenche snapshot de customer na venda.
@@ -171,6 +174,22 @@ public class TenantSaleMutationHelper {
         }
     }
 
+    /**
+     * Consumo de inventory que a venda representa no estado atual.
+     *
+     * <p>Deve ser capturado antes de alterar status/itens (update), para depois
+     * ser reconciliado com {@link #reconcileInventory(Sale, Map)}.</p>
+     *
+     * @param sale venda
+     * @return productId → quantidade; vazio quando o status não afeta estoque
+     */
+    public Map<UUID, BigDecimal> inventoryFootprint(Sale sale) {
+        if (sale == null || !shouldAffectInventory(sale.getStatus())) {
+            return Map.of();
+        }
+        return tenantSaleInventoryReconciler.quantitiesByProduct(sale.getItems());
+    }
+
     /**
      * Aplica consumo de inventory para todos os itens ativos da venda,
      * quando o status da venda afeta estoque.
@@ -183,58 +202,15 @@ public class TenantSaleMutationHelper {
             return;
         }
 
-        boolean affectInventory = shouldAffectInventory(sale.getStatus());
-
         log.info(
                 "SALE_INVENTORY_WRITE_DECISION | saleId={} | status={} | shouldAffectInventory={} | activeItems={}",
                 sale.getId(),
                 sale.getStatus(),
-                affectInventory,
-                describeActiveItems(sale.getItems())
-        );
-
-        if (!affectInventory) {
-            log.info(
-                    "SALE_INVENTORY_WRITE_SKIP | saleId={} | status={} | reason=status_does_not_affect_inventory",
-                    sale.getId(),
-                    sale.getStatus()
-            );
-            return;
-        }
-
-        log.info(
-                "SALE_INVENTORY_WRITE_START | saleId={} | status={} | itemsCount={} | activeItems={}",
-                sale.getId(),
-                sale.getStatus(),
-                sale.getItems().size(),
+                shouldAffectInventory(sale.getStatus()),
                 describeActiveItems(sale.getItems())
         );
 
-        for (SaleItem item : sale.getItems()) {
-            if (item == null || item.isDeleted()) {
-                continue;
-            }
-
-            log.debug(
-                    "SALE_INVENTORY_WRITE_ITEM | saleId={} | productId={} | quantity={} | deleted={}",
-                    sale.getId(),
-                    item.getProductId(),
-                    item.getQuantity(),
-                    item.isDeleted()
-            );
-
-            tenantInventoryService.consumeStockForSale(
-                    sale.getId(),
-                    item.getProductId(),
-                    item.getQuantity()
-            );
-        }
-
-        log.info(
-                "SALE_INVENTORY_WRITE_FINISH | saleId={} | status={}",
-                sale.getId(),
-                sale.getStatus()
-        );
+        tenantSaleInventoryReconciler.reconcile(sale.getId(), Map.of(), inventoryFootprint(sale));
     }
 
     /**
@@ -249,58 +225,70 @@ public class TenantSaleMutationHelper {
             return;
         }
 
-        boolean affectInventory = shouldAffectInventory(sale.getStatus());
-
         log.info(
                 "SALE_INVENTORY_RESTORE_DECISION | saleId={} | status={} | shouldAffectInventory={} | activeItems={}",
                 sale.getId(),
                 sale.getStatus(),
-                affectInventory,
+                shouldAffectInventory(sale.getStatus()),
                 describeActiveItems(sale.getItems())
         );
 
-        if (!affectInventory) {
-            log.info(
-                    "SALE_INVENTORY_RESTORE_SKIP | saleId={} | status={} | reason=status_does_not_affect_inventory",
-                    sale.getId(),
-                    sale.getStatus()
-            );
-            return;
-        }
+        tenantSaleInventoryReconciler.reconcile(sale.getId(), inventoryFootprint(sale), Map.of());
+    }
+
+    /**
+     * Leva o inventory do footprint anterior ao footprint atual da venda,
+     * aplicando apenas o delta líquido por produto (inclui transições de status
+     * que passam a afetar ou deixam de afetar estoque).
+     *
+     * @param sale venda salva
+     * @param previousFootprint footprint capturado antes da alteração
+     */
+    public void reconcileInventory(Sale sale, Map<UUID, BigDecimal> previousFootprint) {
+        Map<UUID, BigDecimal> currentFootprint = inventoryFootprint(sale);
 
         log.info(
-                "SALE_INVENTORY_RESTORE_START | saleId={} | status={} | itemsCount={} | activeItems={}",
+                "SALE_INVENTORY_RECONCILE_DECISION | saleId={} | status={} | shouldAffectInventory={} | previousProducts={} | currentProducts={}",
                 sale.getId(),
                 sale.getStatus(),
-                sale.getItems().size(),
-                describeActiveItems(sale.getItems())
+                shouldAffectInventory(sale.getStatus()),
+                previousFootprint.size(),
+                currentFootprint.size()
         );
 
-        for (SaleItem item : sale.getItems()) {
-            if (item == null || item.isDeleted()) {
-                continue;
-            }
-
-            log.debug(
-                    "SALE_INVENTORY_RESTORE_ITEM | saleId={} | productId={} | quantity={} | deleted={}",
-                    sale.getId(),
-                    item.getProductId(),
-                    item.getQuantity(),
-                    item.isDeleted()
-            );
+        tenantSaleInventoryReconciler.reconcile(sale.getId(), previousFootprint, currentFootprint);
+    }
 
-            tenantInventoryService.restoreStockFromSale(
-                    sale.getId(),
-                    item.getProductId(),
-                    item.getQuantity()
-            );
+    /**
+     * Soma a contribuição da venda nos rollups diários,
+     * quando a venda conta para faturamento.
+     *
+     * <p>Mesma regra do inventory: venda não deletada com status que afeta estoque.</p>
+     *
+     * @param sale venda salva
+     */
+    public void applyRollupsForSaleWrite(Sale sale) {
+        if (!countsForRollups(sale)) {
+            log.debug("SALE_ROLLUP_WRITE_SKIP | saleId={} | reason=sale_not_counted", sale != null ? sale.getId() : null);
+            return;
         }
+        tenantSaleRollupService.applySale(sale, 1);
+    }
 
-        log.info(
-                "SALE_INVENTORY_RESTORE_FINISH | saleId={} | status={}",
-                sale.getId(),
-                sale.getStatus()
-        );
+    /**
+     * Subtrai dos rollups diários a contribuição do estado atual da venda.
+     *
+     * <p>Deve ser chamado antes de alterar data/status/itens (update) ou antes
+     * do soft delete, espelhando {@link #restoreInventoryForCurrentActiveItems(Sale)}.</p>
+     *
+     * @param sale venda no estado atual
+     */
+    public void revertRollupsForCurrentState(Sale sale) {
+        if (!countsForRollups(sale)) {
+            log.debug("SALE_ROLLUP_REVERT_SKIP | saleId={} | reason=sale_not_counted", sale != null ? sale.getId() : null);
+            return;
+        }
+        tenantSaleRollupService.applySale(sale, -1);
     }
 
     /**
@@ -339,6 +327,16 @@ public class TenantSaleMutationHelper {
         };
     }
 
+    /**
+     * Define se a venda entra nos rollups de faturamento.
+     *
+     * @param sale venda
+     * @return true quando não deletada e com status que afeta estoque
+     */
+    public boolean countsForRollups(Sale sale) {
+        return sale != null && !sale.isDeleted() && shouldAffectInventory(sale.getStatus());
+    }
+
     /**
      * Soma o total de itens não deletados.
      *
@@ -20,7 +20,8 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>Regra:</p>
  * reativa a venda e reaplica consumo dos itens ativos
- * quando o status restaurado afeta inventory.
+ * quando o status restaurado afeta inventory,
+ * e devolve a venda aos rollups diários.
  */
 @Service
 @RequiredArgsConstructor
@@ -85,6 +86,7 @@ public class TenantSaleRestoreCommandService {
             );
 
             tenantSaleMutationHelper.applyInventoryForSaleWrite(saved);
+            tenantSaleMutationHelper.applyRollupsForSaleWrite(saved);
 
             log.info(
                     "SALE_RESTORE_SUCCESS | saleId={} | totalAmount={} | status={} | affectInventory={}",
@@ -1,7 +1,9 @@
 package brito.com.multitenancy001.tenant.sales.app.command;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -25,11 +27,12 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>Fluxo de inventory:</p>
  * <ol>
- *   <li>Carrega a venda atual</li>
- *   <li>Restaura estoque dos itens antigos ativos, quando necessário</li>
+ *   <li>Carrega a venda atual e captura o consumo por produto (footprint)</li>
  *   <li>Atualiza payload da venda</li>
- *   <li>Reaplica consumo dos novos itens, quando necessário</li>
+ *   <li>Aplica só a diferença líquida por produto entre o footprint antigo e o novo</li>
  * </ol>
+ *
+ * <p>Os rollups diários seguem o mesmo padrão: subtrai o estado antigo e soma o novo.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -91,7 +94,8 @@ public class TenantSaleUpdateCommandService {
                     tenantMutationHelper.describeItems(sale.getItems())
             );
 
-            tenantMutationHelper.restoreInventoryForCurrentActiveItems(sale);
+            Map<UUID, BigDecimal> previousFootprint = tenantMutationHelper.inventoryFootprint(sale);
+            tenantMutationHelper.revertRollupsForCurrentState(sale);
 
             sale.setSaleDate(req.saleDate());
             sale.setStatus(resolvedStatus);
@@ -136,7 +140,8 @@ public class TenantSaleUpdateCommandService {
                     tenantMutationHelper.describeActiveItems(saved.getItems())
             );
 
-            tenantMutationHelper.applyInventoryForSaleWrite(saved);
+            tenantMutationHelper.reconcileInventory(saved, previousFootprint);
+            tenantMutationHelper.applyRollupsForSaleWrite(saved);
 
             log.info(
                     "SALE_UPDATE_SUCCESS | saleId={} | totalAmount={} | customerId={} | status={} | affectInventory={}",
@@ -0,0 +1,20 @@
+package brito.com.multitenancy001.tenant.sales.app.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO de Application Layer: total agregado de um produto em um intervalo de rollups.
+ *
+ * @param productId id do produto
+ * @param productName último nome vendido
+ * @param quantity quantidade vendida
+ * @param revenue faturamento
+ */
+public record ProductSalesTotalData(
+        UUID productId,
+        String productName,
+        BigDecimal quantity,
+        BigDecimal revenue
+) {
+}
@@ -0,0 +1,121 @@
+package brito.com.multitenancy001.tenant.sales.app.query;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import brito.com.multitenancy001.infrastructure.tenant.TenantSchemaUnitOfWork;
+import brito.com.multitenancy001.tenant.sales.api.dto.ProductSalesRankingResponse;
+import brito.com.multitenancy001.tenant.sales.api.dto.SalesDailyReportResponse;
+import brito.com.multitenancy001.tenant.sales.api.dto.SalesDailyRollupResponse;
+import brito.com.multitenancy001.tenant.sales.app.rollup.TenantSaleRollupService;
+import brito.com.multitenancy001.tenant.sales.domain.SalesDailyRollup;
+import brito.com.multitenancy001.tenant.sales.persistence.ProductDailyRollupRepository;
+import brito.com.multitenancy001.tenant.sales.persistence.SalesDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Query use-cases de analytics de vendas (TENANT).
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Faturamento por dia em um intervalo.</li>
+ *   <li>Ranking de produtos por faturamento em um intervalo.</li>
+ * </ul>
+ *
+ * <p>Observações:</p>
+ * <ul>
+ *   <li>Leituras servidas apenas pelos rollups diários (nunca por sales/sale_items).</li>
+ *   <li>Dias são datas UTC da venda.</li>
+ *   <li>Intervalo máximo de {@value #MAX_RANGE_DAYS} dias por consulta.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenantSaleAnalyticsQueryService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+    public static final int DEFAULT_TOP_LIMIT = 10;
+    public static final int MAX_TOP_LIMIT = 100;
+
+    private final TenantSchemaUnitOfWork uow;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final ProductDailyRollupRepository productDailyRollupRepository;
+
+    /**
+     * Relatório diário de vendas do intervalo (inclusive).
+     *
+     * @param accountId account do tenant atual
+     * @param tenantSchema schema do tenant atual
+     * @param from primeiro dia
+     * @param to último dia
+     * @return totais do período e série diária
+     */
+    public SalesDailyReportResponse daily(Long accountId, String tenantSchema, LocalDate from, LocalDate to) {
+        TenantSaleRollupService.validateRange(from, to, MAX_RANGE_DAYS);
+
+        return uow.readOnly(tenantSchema, () -> {
+            log.info("📊 Relatório diário de vendas | accountId={} tenantSchema={} from={} to={}",
+                    accountId, tenantSchema, from, to);
+
+            List<SalesDailyRollup> rows = salesDailyRollupRepository.findByDayBetweenOrderByDayAsc(from, to);
+
+            long salesCount = 0L;
+            BigDecimal revenue = BigDecimal.ZERO;
+            BigDecimal itemsQuantity = BigDecimal.ZERO;
+
+            for (SalesDailyRollup row : rows) {
+                salesCount += row.getSalesCount();
+                revenue = revenue.add(row.getRevenue());
+                itemsQuantity = itemsQuantity.add(row.getItemsQuantity());
+            }
+
+            List<SalesDailyRollupResponse> days = rows.stream()
+                    .map(r -> new SalesDailyRollupResponse(r.getDay(), r.getSalesCount(), r.getRevenue(), r.getItemsQuantity()))
+                    .toList();
+
+            log.info("✅ Relatório diário gerado | days={} salesCount={} revenue={}", days.size(), salesCount, revenue);
+
+            return new SalesDailyReportResponse(from, to, salesCount, revenue, itemsQuantity, days);
+        });
+    }
+
+    /**
+     * Ranking de produtos por faturamento no intervalo (inclusive).
+     *
+     * @param accountId account do tenant atual
+     * @param tenantSchema schema do tenant atual
+     * @param from primeiro dia
+     * @param to último dia
+     * @param limit quantidade máxima de produtos (default 10, máx. 100)
+     * @return ranking ordenado por faturamento desc
+     */
+    public List<ProductSalesRankingResponse> topProducts(Long accountId,
+                                                         String tenantSchema,
+                                                         LocalDate from,
+                                                         LocalDate to,
+                                                         Integer limit) {
+        TenantSaleRollupService.validateRange(from, to, MAX_RANGE_DAYS);
+
+        int effectiveLimit = (limit == null || limit <= 0) ? DEFAULT_TOP_LIMIT : Math.min(limit, MAX_TOP_LIMIT);
+
+        return uow.readOnly(tenantSchema, () -> {
+            log.info("📊 Top produtos por faturamento | accountId={} tenantSchema={} from={} to={} limit={}",
+                    accountId, tenantSchema, from, to, effectiveLimit);
+
+            List<ProductSalesRankingResponse> out = productDailyRollupRepository
+                    .findTopProductsByRevenue(from, to, PageRequest.of(0, effectiveLimit))
+                    .stream()
+                    .map(t -> new ProductSalesRankingResponse(t.productId(), t.productName(), t.quantity(), t.revenue()))
+                    .toList();
+
+            log.info("✅ Top produtos gerado | returned={}", out.size());
+            return out;
+        });
+    }
+}
@@ -0,0 +1,211 @@
+package brito.com.multitenancy001.tenant.sales.app.rollup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import brito.com.multitenancy001.infrastructure.tenant.TenantSchemaUnitOfWork;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.sales.domain.Sale;
+import brito.com.multitenancy001.tenant.sales.domain.SaleItem;
+import brito.com.multitenancy001.tenant.sales.persistence.ProductDailyRollupRepository;
+import brito.com.multitenancy001.tenant.sales.persistence.SalesDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manutenção dos rollups diários de vendas ({@code sales_daily_rollups} e
+ * {@code product_daily_rollups}).
+ *
+ * <p>Responsabilidades:</p>
+ * <ul>
+ *   <li>Somar/subtrair a contribuição de uma venda no dia UTC da venda.</li>
+ *   <li>Reconstruir um intervalo de dias a partir de sales/sale_items (backfill/reparo).</li>
+ * </ul>
+ *
+ * <p>Regras:</p>
+ * <ul>
+ *   <li>Executa sempre na TX do fluxo de venda: rollup e venda commitam juntos.</li>
+ *   <li>A decisão de "venda conta ou não" (status/deleted) fica no
+ *       {@code TenantSaleMutationHelper}, igual ao inventory.</li>
+ *   <li>Upserts por produto em ordem de productId para evitar deadlock entre
+ *       vendas concorrentes do mesmo dia.</li>
+ *   <li>Incremental e rebuild se excluem por advisory lock do tenant
+ *       (compartilhado x exclusivo): o rebuild não corre contra upserts do
+ *       mesmo intervalo.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenantSaleRollupService {
+
+    /** Intervalo máximo aceito por rebuild (dias). */
+    public static final int MAX_REBUILD_DAYS = 366;
+
+    private final TenantSchemaUnitOfWork uow;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final ProductDailyRollupRepository productDailyRollupRepository;
+    private final AppClock appClock;
+
+    /**
+     * Aplica a contribuição da venda nos rollups.
+     *
+     * @param sale venda com itens carregados
+     * @param sign +1 para somar, -1 para subtrair
+     */
+    public void applySale(Sale sale, int sign) {
+        if (sale == null || sale.getSaleDate() == null) {
+            log.debug("SALE_ROLLUP_SKIP | reason=sale_or_date_missing");
+            return;
+        }
+        if (sign != 1 && sign != -1) {
+            throw new IllegalArgumentException("sign must be 1 or -1");
+        }
+
+        LocalDate day = dayOf(sale.getSaleDate());
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        Instant now = appClock.instant();
+
+        BigDecimal itemsQuantity = BigDecimal.ZERO;
+        Map<UUID, ProductDelta> perProduct = new TreeMap<>();
+
+        if (sale.getItems() != null) {
+            for (SaleItem item : sale.getItems()) {
+                if (item == null || item.isDeleted()) {
+                    continue;
+                }
+
+                BigDecimal quantity = item.getQuantity() != null ? item.getQuantity() : BigDecimal.ZERO;
+                BigDecimal revenue = item.getTotalPrice() != null ? item.getTotalPrice() : BigDecimal.ZERO;
+                itemsQuantity = itemsQuantity.add(quantity);
+
+                if (item.getProductId() != null) {
+                    perProduct.computeIfAbsent(item.getProductId(), id -> new ProductDelta())
+                            .add(item.getProductName(), quantity, revenue);
+                }
+            }
+        }
+
+        BigDecimal totalAmount = sale.getTotalAmount() != null ? sale.getTotalAmount() : BigDecimal.ZERO;
+
+        salesDailyRollupRepository.lockRollupsShared();
+        salesDailyRollupRepository.addDelta(
+                day,
+                sign,
+                totalAmount.multiply(factor),
+                itemsQuantity.multiply(factor),
+                now
+        );
+
+        for (Map.Entry<UUID, ProductDelta> entry : perProduct.entrySet()) {
+            ProductDelta delta = entry.getValue();
+            productDailyRollupRepository.addDelta(
+                    day,
+                    entry.getKey(),
+                    delta.productName,
+                    delta.quantity.multiply(factor),
+                    delta.revenue.multiply(factor),
+                    now
+            );
+        }
+
+        log.debug(
+                "SALE_ROLLUP_APPLIED | saleId={} | day={} | sign={} | totalAmount={} | itemsQuantity={} | products={}",
+                sale.getId(),
+                day,
+                sign,
+                totalAmount,
+                itemsQuantity,
+                perProduct.size()
+        );
+    }
+
+    /**
+     * Reconstrói os rollups de um intervalo de dias (inclusive).
+     *
+     * @param tenantSchema schema do tenant
+     * @param from primeiro dia
+     * @param to último dia
+     * @return quantidade de linhas diárias reconstruídas
+     */
+    public int rebuild(String tenantSchema, LocalDate from, LocalDate to) {
+        validateRange(from, to, MAX_REBUILD_DAYS);
+
+        return uow.tx(tenantSchema, () -> {
+            Instant now = appClock.instant();
+
+            log.info("SALE_ROLLUP_REBUILD_START | tenantSchema={} | from={} | to={}", tenantSchema, from, to);
+
+            salesDailyRollupRepository.lockRollupsExclusive();
+
+            salesDailyRollupRepository.deleteRange(from, to);
+            productDailyRollupRepository.deleteRange(from, to);
+
+            int days = salesDailyRollupRepository.rebuildRange(from, to, now);
+            int productRows = productDailyRollupRepository.rebuildRange(from, to, now);
+
+            log.info(
+                    "SALE_ROLLUP_REBUILD_FINISH | tenantSchema={} | from={} | to={} | days={} | productRows={}",
+                    tenantSchema,
+                    from,
+                    to,
+                    days,
+                    productRows
+            );
+
+            return days;
+        });
+    }
+
+    /**
+     * Dia (UTC) em que a venda é contabilizada.
+     *
+     * @param saleDate instante da venda
+     * @return data UTC
+     */
+    public static LocalDate dayOf(Instant saleDate) {
+        return LocalDate.ofInstant(saleDate, ZoneOffset.UTC);
+    }
+
+    /**
+     * Valida um intervalo de dias.
+     *
+     * @param from primeiro dia
+     * @param to último dia
+     * @param maxDays tamanho máximo do intervalo
+     */
+    public static void validateRange(LocalDate from, LocalDate to, int maxDays) {
+        if (from == null || to == null) {
+            throw new ApiException(ApiErrorCode.DATE_RANGE_REQUIRED, "from and to are required", 400);
+        }
+        if (to.isBefore(from)) {
+            throw new ApiException(ApiErrorCode.INVALID_DATE_RANGE, "to must not be before from", 400);
+        }
+        if (from.plusDays(maxDays).isBefore(to)) {
+            throw new ApiException(ApiErrorCode.RANGE_TOO_LARGE, "range must not exceed " + maxDays + " days", 400);
+        }
+    }
+
+    private static final class ProductDelta {
+        private String productName;
+        private BigDecimal quantity = BigDecimal.ZERO;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private void add(String name, BigDecimal qty, BigDecimal value) {
+            if (name != null) {
+                this.productName = name;
+            }
+            this.quantity = this.quantity.add(qty);
+            this.revenue = this.revenue.add(value);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package brito.com.multitenancy001.tenant.sales.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Rollup diário de vendas por produto (projeção de leitura).
+ *
+ * <p>Uma linha por (dia UTC, produto). {@code productName} guarda o último
+ * snapshot de nome vendido no dia.</p>
+ */
+@Entity
+@Table(name = "product_daily_rollups")
+@IdClass(ProductDailyRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class ProductDailyRollup {
+
+    @Id
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Id
+    @Column(name = "product_id", columnDefinition = "uuid", nullable = false)
+    private UUID productId;
+
+    @Column(name = "product_name", length = 255)
+    private String productName;
+
+    @Column(name = "quantity", nullable = false, precision = 19, scale = 3)
+    private BigDecimal quantity = BigDecimal.ZERO;
+
+    @Column(name = "revenue", nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "timestamptz")
+    private Instant updatedAt;
+
+    /**
+     * Chave composta (day, productId).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private UUID productId;
+    }
+}
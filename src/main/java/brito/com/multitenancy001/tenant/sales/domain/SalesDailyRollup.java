@@ -0,0 +1,45 @@
+package brito.com.multitenancy001.tenant.sales.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Rollup diário de vendas do tenant (projeção de leitura).
+ *
+ * <p>Uma linha por dia UTC. Mantido incrementalmente pelos fluxos de venda
+ * via {@code TenantSalesRollupService}; nunca editado pela API.</p>
+ */
+@Entity
+@Table(name = "sales_daily_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class SalesDailyRollup {
+
+    @Id
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "sales_count", nullable = false)
+    private long salesCount;
+
+    @Column(name = "revenue", nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "items_quantity", nullable = false, precision = 19, scale = 3)
+    private BigDecimal itemsQuantity = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "timestamptz")
+    private Instant updatedAt;
+}
@@ -0,0 +1,95 @@
+package brito.com.multitenancy001.tenant.sales.persistence;
+
+import brito.com.multitenancy001.tenant.sales.app.dto.ProductSalesTotalData;
+import brito.com.multitenancy001.tenant.sales.domain.ProductDailyRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório dos rollups diários por produto.
+ */
+public interface ProductDailyRollupRepository extends JpaRepository<ProductDailyRollup, ProductDailyRollup.Key> {
+
+    /**
+     * Ranking de produtos por faturamento no intervalo (inclusive).
+     */
+    @Query("""
+        SELECT new brito.com.multitenancy001.tenant.sales.app.dto.ProductSalesTotalData(
+            r.productId,
+            MAX(r.productName),
+            SUM(r.quantity),
+            SUM(r.revenue)
+        )
+        FROM ProductDailyRollup r
+        WHERE r.day BETWEEN :from AND :to
+        GROUP BY r.productId
+        ORDER BY SUM(r.revenue) DESC, r.productId ASC
+        """)
+    List<ProductSalesTotalData> findTopProductsByRevenue(@Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to,
+                                                      Pageable pageable);
+
+    /**
+     * Série diária de um produto no intervalo (inclusive).
+     */
+    List<ProductDailyRollup> findByProductIdAndDayBetweenOrderByDayAsc(UUID productId, LocalDate from, LocalDate to);
+
+    /**
+     * Soma um delta (positivo ou negativo) ao rollup (dia, produto), criando a linha se necessário.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO product_daily_rollups (day, product_id, product_name, quantity, revenue, updated_at)
+        VALUES (:day, :productId, :productName, :quantity, :revenue, :now)
+        ON CONFLICT (day, product_id) DO UPDATE SET
+            product_name = COALESCE(EXCLUDED.product_name, product_daily_rollups.product_name),
+            quantity = product_daily_rollups.quantity + EXCLUDED.quantity,
+            revenue = product_daily_rollups.revenue + EXCLUDED.revenue,
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int addDelta(@Param("day") LocalDate day,
+                 @Param("productId") UUID productId,
+                 @Param("productName") String productName,
+                 @Param("quantity") BigDecimal quantity,
+                 @Param("revenue") BigDecimal revenue,
+                 @Param("now") Instant now);
+
+    /**
+     * Remove os rollups de um intervalo (usado pelo rebuild).
+     */
+    @Modifying
+    @Query(value = "DELETE FROM product_daily_rollups WHERE day BETWEEN :from AND :to", nativeQuery = true)
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Recalcula os rollups por produto de um intervalo a partir de sales/sale_items.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO product_daily_rollups (day, product_id, product_name, quantity, revenue, updated_at)
+        SELECT CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE),
+               si.product_id,
+               MAX(si.product_name),
+               SUM(si.quantity),
+               SUM(si.total_price),
+               :now
+        FROM sale_items si
+        JOIN sales s ON s.id = si.sale_id
+        WHERE s.deleted = false
+          AND si.deleted = false
+          AND si.product_id IS NOT NULL
+          AND s.status IN ('OPEN', 'CONFIRMED', 'PAID')
+          AND CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE) BETWEEN :from AND :to
+        GROUP BY CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE), si.product_id
+        """, nativeQuery = true)
+    int rebuildRange(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("now") Instant now);
+}
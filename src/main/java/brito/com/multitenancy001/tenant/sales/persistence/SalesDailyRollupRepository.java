@@ -0,0 +1,105 @@
+package brito.com.multitenancy001.tenant.sales.persistence;
+
+import brito.com.multitenancy001.tenant.sales.domain.SalesDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repositório dos rollups diários de vendas.
+ */
+public interface SalesDailyRollupRepository extends JpaRepository<SalesDailyRollup, LocalDate> {
+
+    /** Segunda metade da chave do advisory lock dos rollups (a primeira é o schema). */
+    int ROLLUP_LOCK_CLASS = 7301;
+
+    /**
+     * Lista os rollups de um intervalo de dias (inclusive).
+     */
+    List<SalesDailyRollup> findByDayBetweenOrderByDayAsc(LocalDate from, LocalDate to);
+
+    /**
+     * Soma um delta (positivo ou negativo) ao rollup do dia, criando a linha se necessário.
+     *
+     * <p>Upsert atômico: concorrência entre vendas do mesmo dia é resolvida
+     * pelo lock de linha do próprio ON CONFLICT.</p>
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO sales_daily_rollups (day, sales_count, revenue, items_quantity, updated_at)
+        VALUES (:day, :salesCount, :revenue, :itemsQuantity, :now)
+        ON CONFLICT (day) DO UPDATE SET
+            sales_count = sales_daily_rollups.sales_count + EXCLUDED.sales_count,
+            revenue = sales_daily_rollups.revenue + EXCLUDED.revenue,
+            items_quantity = sales_daily_rollups.items_quantity + EXCLUDED.items_quantity,
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int addDelta(@Param("day") LocalDate day,
+                 @Param("salesCount") long salesCount,
+                 @Param("revenue") BigDecimal revenue,
+                 @Param("itemsQuantity") BigDecimal itemsQuantity,
+                 @Param("now") Instant now);
+
+    /**
+     * Lock compartilhado (advisory, escopo da TX) dos rollups do tenant.
+     *
+     * <p>Tomado pelo caminho incremental antes dos upserts: vendas concorrentes
+     * não se bloqueiam entre si, mas esperam um rebuild em andamento (e vice-versa).
+     * A chave é o schema corrente, então o lock é por tenant.</p>
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock_shared(hashtext(current_schema()), " + ROLLUP_LOCK_CLASS + ")",
+            nativeQuery = true)
+    Integer lockRollupsShared();
+
+    /**
+     * Lock exclusivo (advisory, escopo da TX) dos rollups do tenant.
+     *
+     * <p>Tomado pelo rebuild antes do delete: espera as vendas em voo commitarem
+     * e segura novas até o fim da reconstrução, evitando que um upsert
+     * concorrente recrie uma linha do intervalo (unique violation) ou seja
+     * apagado pelo delete.</p>
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(current_schema()), " + ROLLUP_LOCK_CLASS + ")",
+            nativeQuery = true)
+    Integer lockRollupsExclusive();
+
+    /**
+     * Remove os rollups de um intervalo (usado pelo rebuild).
+     */
+    @Modifying
+    @Query(value = "DELETE FROM sales_daily_rollups WHERE day BETWEEN :from AND :to", nativeQuery = true)
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Recalcula os rollups de um intervalo a partir de sales/sale_items.
+     *
+     * <p>Mesmas regras da migration V15 (dia UTC, status que impactam estoque).</p>
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO sales_daily_rollups (day, sales_count, revenue, items_quantity, updated_at)
+        SELECT CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE),
+               COUNT(*),
+               COALESCE(SUM(s.total_amount), 0),
+               COALESCE(SUM(q.items_quantity), 0),
+               :now
+        FROM sales s
+        LEFT JOIN (
+            SELECT si.sale_id, SUM(si.quantity) AS items_quantity
+            FROM sale_items si
+            WHERE si.deleted = false
+            GROUP BY si.sale_id
+        ) q ON q.sale_id = s.id
+        WHERE s.deleted = false
+          AND s.status IN ('OPEN', 'CONFIRMED', 'PAID')
+          AND CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE) BETWEEN :from AND :to
+        GROUP BY CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE)
+        """, nativeQuery = true)
+    int rebuildRange(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("now") Instant now);
+}
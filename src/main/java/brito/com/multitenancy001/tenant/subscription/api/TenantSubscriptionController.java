@@ -1,5 +1,8 @@
 package brito.com.multitenancy001.tenant.subscription.api;
 
+import brito.com.multitenancy001.integration.security.TenantRequestIdentityService;
+import brito.com.multitenancy001.tenant.dataversion.api.TenantConditionalGetSupport;
+import brito.com.multitenancy001.tenant.idempotency.app.TenantIdempotencyService;
 import brito.com.multitenancy001.tenant.subscription.api.dto.TenantPlanChangePreviewRequest;
 import brito.com.multitenancy001.tenant.subscription.api.dto.TenantPlanChangePreviewResponse;
 import brito.com.multitenancy001.tenant.subscription.api.dto.TenantPlanChangeRequest;
@@ -13,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Controller de assinatura/plano no contexto do Tenant.
@@ -32,17 +36,23 @@ public class TenantSubscriptionController {
 
     private final TenantSubscriptionQueryService queryService;
     private final TenantSubscriptionCommandService commandService;
+    private final TenantRequestIdentityService requestIdentity;
+    private final TenantIdempotencyService idempotencyService;
+    private final TenantConditionalGetSupport conditionalGet;
 
     /**
      * Consulta limites/uso da conta autenticada.
      *
+     * <p>Suporta {@code If-None-Match}: 304 enquanto conta, usuários e produtos não mudarem.</p>
+     *
+     * @param webRequest request atual (ETag)
      * @return visão consolidada
      */
     @GetMapping("/me/limits")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<TenantPlanLimitsResponse> getMyLimits() {
+    public ResponseEntity<TenantPlanLimitsResponse> getMyLimits(WebRequest webRequest) {
         log.info("HTTP GET /api/tenant/subscription/me/limits");
-        return ResponseEntity.ok(queryService.getMyLimits());
+        return conditionalGet.ifNoneMatch(webRequest, queryService.limitsVersionToken(), queryService::getMyLimits);
     }
 
     /**
@@ -66,12 +76,17 @@ public class TenantSubscriptionController {
     /**
      * Solicita mudança efetiva de plano da conta autenticada.
      *
+     * <p>Aceita o header {@code Idempotency-Key}: retries com a mesma chave recebem
+     * o resultado original sem repetir o pagamento.</p>
+     *
+     * @param idempotencyKey chave opcional de idempotência
      * @param request request validado
      * @return resultado final
      */
     @PostMapping("/me/change-plan")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<TenantPlanChangeResponse> changePlan(
+            @RequestHeader(value = TenantIdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TenantPlanChangeRequest request
     ) {
         log.info(
@@ -84,15 +99,23 @@ public class TenantSubscriptionController {
         );
 
         return ResponseEntity.ok(
-                commandService.changePlan(
-                        request.targetPlan(),
-                        request.billingCycle(),
-                        request.paymentMethod(),
-                        request.paymentGateway(),
-                        request.amount(),
-                        request.planPriceSnapshot(),
-                        request.currencyCode(),
-                        request.reason()
+                idempotencyService.execute(
+                        requestIdentity.getCurrentTenantSchema(),
+                        TenantIdempotencyService.userScope(requestIdentity.getCurrentUserId()),
+                        "POST /api/tenant/subscription/me/change-plan",
+                        idempotencyKey,
+                        request,
+                        TenantPlanChangeResponse.class,
+                        () -> commandService.changePlan(
+                                request.targetPlan(),
+                                request.billingCycle(),
+                                request.paymentMethod(),
+                                request.paymentGateway(),
+                                request.amount(),
+                                request.planPriceSnapshot(),
+                                request.currencyCode(),
+                                request.reason()
+                        )
                 )
         );
     }
@@ -1,5 +1,6 @@
 package brito.com.multitenancy001.tenant.subscription.app;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -18,6 +19,8 @@ import brito.com.multitenancy001.controlplane.accounts.domain.Account;
 import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.subscription.api.dto.TenantPlanChangePreviewResponse;
 import brito.com.multitenancy001.tenant.subscription.api.dto.TenantPlanLimitsResponse;
 import brito.com.multitenancy001.tenant.subscription.api.dto.TenantPlanViolationResponse;
@@ -57,6 +60,7 @@ public class TenantSubscriptionQueryService {
     private final TenantQuotaEnforcementService tenantQuotaEnforcementService;
     private final SubscriptionPlanCatalog subscriptionPlanCatalog;
     private final PlanChangePolicy planChangePolicy;
+    private final TenantDataVersionService tenantDataVersionService;
 
     /**
      * Retorna a visão consolidada dos limites e do uso atual da conta autenticada.
@@ -180,6 +184,27 @@ public class TenantSubscriptionQueryService {
         return response;
     }
 
+    /**
+     * Token de versão da visão de limites (ETag de {@code /me/limits}).
+     *
+     * <p>Combina a impressão da conta (plano, status e última alteração no
+     * Public Schema) com as versões de usuários e produtos do tenant, que
+     * determinam o uso. Custa uma leitura por PK da conta e uma dos contadores,
+     * em vez das contagens de uso.</p>
+     *
+     * @return token de versão
+     */
+    public String limitsVersionToken() {
+        Account account = tenantSubscriptionAccountResolver.resolveCurrentAccount();
+
+        Instant updatedAt = account.getAudit() != null ? account.getAudit().getUpdatedAt() : null;
+        return account.getId()
+                + ":" + account.getSubscriptionPlan()
+                + ":" + account.getStatus()
+                + ":" + updatedAt
+                + "|" + tenantDataVersionService.versionToken(TenantDataAggregate.PRODUCTS, TenantDataAggregate.USERS);
+    }
+
     /**
      * Alias semântico para consulta dos limites atuais.
      *
@@ -4,6 +4,7 @@ import brito.com.multitenancy001.infrastructure.persistence.tx.TenantReadOnlyTx;
 import brito.com.multitenancy001.infrastructure.persistence.tx.TenantTx;
 import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.referencedata.app.TenantReferenceDataCache;
 import brito.com.multitenancy001.tenant.suppliers.app.command.CreateSupplierCommand;
 import brito.com.multitenancy001.tenant.suppliers.app.command.UpdateSupplierCommand;
 import brito.com.multitenancy001.tenant.suppliers.domain.Supplier;
@@ -40,6 +41,7 @@ import java.util.UUID;
 public class TenantSupplierService {
 
     private final TenantSupplierRepository tenantSupplierRepository;
+    private final TenantReferenceDataCache tenantReferenceDataCache;
 
     // =========================================================
     // READ
@@ -133,6 +135,8 @@ public class TenantSupplierService {
         supplier.setDeleted(false);
         supplier.setActive(true);
 
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
+
         return tenantSupplierRepository.save(supplier);
     }
 
@@ -210,6 +214,8 @@ public class TenantSupplierService {
             existing.setRating(cmd.rating());
         }
 
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
+
         return tenantSupplierRepository.save(existing);
     }
 
@@ -230,6 +236,7 @@ public class TenantSupplierService {
         }
 
         s.setActive(!s.isActive());
+        tenantReferenceDataCache.invalidateCurrentTenantAfterCommit();
         return tenantSupplierRepository.save(s);
     }
 
@@ -6,6 +6,8 @@ import brito.com.multitenancy001.shared.contracts.UserSummaryData;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import brito.com.multitenancy001.shared.security.TenantRoleName;
 import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.security.TenantRole;
 import brito.com.multitenancy001.tenant.users.domain.TenantUser;
 import brito.com.multitenancy001.tenant.users.persistence.TenantUserRepository;
@@ -31,6 +33,7 @@ public class TenantUserAdminTxService {
     private final PublicTxExecutor transactionExecutor;
     private final TenantUserRepository tenantUserRepository;
     private final AppClock appClock;
+    private final TenantDataVersionService tenantDataVersionService;
 
     /**
      * ✅ (SAFE) Admin bulk: suspende todos MENOS TENANT_OWNER.
@@ -49,6 +52,7 @@ public class TenantUserAdminTxService {
                 );
             }
 
+            tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
             return tenantUserRepository.suspendAllByAccountExceptRole(accountId, TenantRole.TENANT_OWNER);
         });
     }
@@ -59,6 +63,7 @@ public class TenantUserAdminTxService {
     public int unsuspendAllUsersByAccount(Long accountId) {
         return transactionExecutor.inTenantRequiresNew(() -> {
             requireAccountId(accountId);
+            tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
             return tenantUserRepository.unsuspendAllByAccount(accountId);
         });
     }
@@ -82,6 +87,7 @@ public class TenantUserAdminTxService {
             }
 
             Instant now = appClock.instant();
+            tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
             return tenantUserRepository.softDeleteAllByAccountExceptRole(accountId, TenantRole.TENANT_OWNER, now);
         });
     }
@@ -89,6 +95,7 @@ public class TenantUserAdminTxService {
     public int restoreAllUsersByAccount(Long accountId) {
         return transactionExecutor.inTenantRequiresNew(() -> {
             requireAccountId(accountId);
+            tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
             return tenantUserRepository.restoreAllByAccount(accountId);
         });
     }
@@ -144,6 +151,7 @@ public class TenantUserAdminTxService {
             if (updated == 0) {
                 throw new ApiException(ApiErrorCode.USER_NOT_FOUND, "Usuário não encontrado ou removido", 404);
             }
+            tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
             return null;
         });
     }
@@ -21,6 +21,8 @@ import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import brito.com.multitenancy001.shared.security.PermissionScopeValidator;
 import brito.com.multitenancy001.shared.time.AppClock;
 import brito.com.multitenancy001.shared.validation.ValidationPatterns;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.security.TenantPermission;
 import brito.com.multitenancy001.tenant.security.TenantRole;
 import brito.com.multitenancy001.tenant.security.TenantRolePermissions;
@@ -48,6 +50,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TenantUserCreateCommandService {
 
     private final TenantUserRepository tenantUserRepository;
+    private final TenantDataVersionService tenantDataVersionService;
     private final PasswordEncoder passwordEncoder;
     private final AppClock appClock;
     private final TenantSchemaUnitOfWork tenantSchemaUnitOfWork;
@@ -180,6 +183,7 @@ public class TenantUserCreateCommandService {
                 user.setPermissions(finalPermissions);
 
                 TenantUser savedUser = tenantUserRepository.save(user);
+                tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
 
                 savedEmail.set(savedUser.getEmail());
                 savedUserId.set(savedUser.getId());
@@ -11,6 +11,8 @@ import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.domain.audit.SecurityAuditActionType;
 import brito.com.multitenancy001.shared.domain.service.LoginIdentityService;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.subscription.app.TenantUsageSnapshotAfterCommitService;
 import brito.com.multitenancy001.tenant.users.domain.TenantUser;
 import brito.com.multitenancy001.tenant.users.persistence.TenantUserRepository;
@@ -34,6 +36,7 @@ public class TenantUserRestoreCommandService {
 
     private final TenantSchemaUnitOfWork tenantSchemaUnitOfWork;
     private final TenantUserRepository tenantUserRepository;
+    private final TenantDataVersionService tenantDataVersionService;
     private final LoginIdentityService loginIdentityService;
     private final AfterTransactionCompletion afterTransactionCompletion;
     private final TenantUserAuditService tenantUserAuditService;
@@ -83,6 +86,7 @@ public class TenantUserRestoreCommandService {
                     null,
                     () -> {
                         user.restore();
+                        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
                         return tenantUserRepository.save(user);
                     }
             );
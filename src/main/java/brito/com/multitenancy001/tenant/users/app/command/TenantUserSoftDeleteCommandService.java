@@ -13,6 +13,8 @@ import brito.com.multitenancy001.shared.domain.audit.SecurityAuditActionType;
 import brito.com.multitenancy001.shared.domain.service.LoginIdentityService;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
 import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.subscription.app.TenantUsageSnapshotAfterCommitService;
 import brito.com.multitenancy001.tenant.users.domain.TenantUser;
 import brito.com.multitenancy001.tenant.users.persistence.TenantUserRepository;
@@ -37,6 +39,7 @@ public class TenantUserSoftDeleteCommandService {
 
     private final TenantSchemaUnitOfWork tenantSchemaUnitOfWork;
     private final TenantUserRepository tenantUserRepository;
+    private final TenantDataVersionService tenantDataVersionService;
     private final AppClock appClock;
     private final LoginIdentityService loginIdentityService;
     private final AfterTransactionCompletion afterTransactionCompletion;
@@ -113,6 +116,7 @@ public class TenantUserSoftDeleteCommandService {
                         Instant now = appClock.instant();
                         user.softDelete(now, appClock.epochMillis());
                         tenantUserRepository.save(user);
+                        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
                         return null;
                     }
             );
@@ -9,6 +9,8 @@ import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
 import brito.com.multitenancy001.shared.domain.audit.SecurityAuditActionType;
 import brito.com.multitenancy001.shared.domain.service.LoginIdentityService;
 import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.dataversion.app.TenantDataVersionService;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
 import brito.com.multitenancy001.tenant.subscription.app.TenantUsageSnapshotAfterCommitService;
 import brito.com.multitenancy001.tenant.users.domain.TenantUser;
 import brito.com.multitenancy001.tenant.users.persistence.TenantUserRepository;
@@ -32,6 +34,7 @@ public class TenantUserSuspensionCommandService {
 
     private final TenantSchemaUnitOfWork tenantSchemaUnitOfWork;
     private final TenantUserRepository tenantUserRepository;
+    private final TenantDataVersionService tenantDataVersionService;
     private final LoginIdentityService loginIdentityService;
     private final AfterTransactionCompletion afterTransactionCompletion;
     private final TenantUserAuditService tenantUserAuditService;
@@ -141,6 +144,7 @@ public class TenantUserSuspensionCommandService {
                         if (updated == 0) {
                             throw new ApiException(ApiErrorCode.USER_NOT_FOUND, "Usuario não encontrado", 404);
                         }
+                        tenantDataVersionService.bumpOnCommit(TenantDataAggregate.USERS);
                         return null;
                     }
             );
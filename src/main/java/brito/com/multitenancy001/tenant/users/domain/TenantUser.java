@@ -15,6 +15,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -171,6 +172,15 @@ public class TenantUser implements Auditable, SoftDeletable {
         return PermissionScopeValidator.validateTenantPermissionsStrict(permissions);
     }
 
+    /**
+     * Visão somente-leitura das permissões explícitas, sem revalidar nem copiar.
+     * O tipo já garante o escopo TEN_ e as escritas passam por validação;
+     * usado no caminho quente de montagem de authorities.
+     */
+    public Set<TenantPermission> permissionsView() {
+        return permissions == null ? Set.of() : Collections.unmodifiableSet(permissions);
+    }
+
     public void grantPermission(TenantPermission permission) {
         /* Concede permissão explícita ao usuário (fail-fast no escopo). */
         if (permission == null) return;
@@ -0,0 +1,13 @@
+-- V21__add_provisioning_id_to_account_provisioning_events.sql
+SET search_path TO public;
+
+-- Pipeline assíncrono de signup:
+--   provisioning_id: id opaco devolvido no 202 do signup (polling sem expor account_id sequencial)
+--   stage: etapa do pipeline a que o evento se refere (TENANT_SCHEMA, TENANT_OWNER, ...)
+ALTER TABLE public.account_provisioning_events
+    ADD COLUMN IF NOT EXISTS provisioning_id UUID,
+    ADD COLUMN IF NOT EXISTS stage VARCHAR(50);
+
+CREATE INDEX IF NOT EXISTS idx_account_prov_events_provisioning_id
+    ON public.account_provisioning_events (provisioning_id, created_at)
+    WHERE provisioning_id IS NOT NULL;
@@ -0,0 +1,73 @@
+-- ================================================================================
+-- Migration: V12__create_search_indexes.sql
+-- Descrição: Índices de busca (trigram + full-text) para products e customers.
+--
+-- Motivo:
+--   - LOWER(name) LIKE '%termo%' não usa índice btree (idx_products_name_lower)
+--     e sempre faz seq-scan.
+--   - Índices GIN com gin_trgm_ops atendem LIKE/ILIKE com curinga inicial e o
+--     operador de similaridade (%).
+--   - Colunas tsvector geradas (STORED) permitem ranking (ts_rank_cd) e
+--     highlight (ts_headline) sem recalcular o documento a cada consulta.
+--
+-- Observações:
+--   - A extensão pg_trgm é instalada no schema public (mesmo padrão de
+--     pgcrypto/citext); o search_path do tenant já inclui public.
+--   - Config 'simple' (sem stemming) para não quebrar sku/barcode/documentos.
+-- ================================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+-- ================================================================================
+-- PRODUCTS
+-- ================================================================================
+
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(sku, '') || ' ' || coalesce(barcode, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(brand, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_products_search_vector
+    ON products USING gin (search_vector);
+
+-- Atende também a busca legada LOWER(name) LIKE '%termo%' (searchProducts)
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm
+    ON products USING gin (LOWER(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_products_brand_trgm
+    ON products USING gin (LOWER(brand) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_products_sku_trgm
+    ON products USING gin (LOWER(sku) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_products_barcode_trgm
+    ON products USING gin (barcode gin_trgm_ops);
+
+-- ================================================================================
+-- CUSTOMERS
+-- ================================================================================
+
+ALTER TABLE customers
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(document, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(email::text, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_customers_search_vector
+    ON customers USING gin (search_vector);
+
+-- Atende também a busca legada LOWER(name) LIKE '%termo%' (searchNotDeletedByName)
+CREATE INDEX IF NOT EXISTS idx_customers_name_trgm
+    ON customers USING gin (LOWER(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_customers_document_trgm
+    ON customers USING gin (document gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_customers_email_trgm
+    ON customers USING gin (LOWER(email::text) gin_trgm_ops);
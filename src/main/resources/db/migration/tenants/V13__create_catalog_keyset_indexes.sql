@@ -0,0 +1,41 @@
+-- ================================================================================
+-- Migration: V13__create_catalog_keyset_indexes.sql
+-- Descrição: Índices compostos para paginação keyset (cursor) do catálogo.
+--
+-- Motivo:
+--   - Os finders de catálogo por categoria/subcategoria/fornecedor/marca
+--     devolviam List<Product> sem limite (com 3 JOIN FETCH).
+--   - A API de catálogo paginada por cursor ordena por (name, id) ou
+--     (created_at, id) e filtra sempre "catálogo" (active = true AND deleted = false).
+--
+-- Estratégia:
+--   - Índices parciais no predicado de catálogo (equivalem a
+--     (category_id, active, deleted, name) mas menores e sem colunas constantes).
+--   - A última coluna (id) desempata a ordenação e permite a comparação de
+--     tupla (name, id) > (:name, :id) como condição de índice, então o custo
+--     da página 10.000 é o mesmo da página 1.
+-- ================================================================================
+
+CREATE INDEX IF NOT EXISTS idx_products_catalog_name_id
+    ON products (name, id)
+    WHERE active = true AND deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_products_catalog_created_id
+    ON products (created_at DESC, id DESC)
+    WHERE active = true AND deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_products_catalog_category_name_id
+    ON products (category_id, name, id)
+    WHERE active = true AND deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_products_catalog_subcategory_name_id
+    ON products (subcategory_id, name, id)
+    WHERE active = true AND deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_products_catalog_supplier_name_id
+    ON products (supplier_id, name, id)
+    WHERE active = true AND deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_products_catalog_brand_name_id
+    ON products (LOWER(brand), name, id)
+    WHERE active = true AND deleted = false;
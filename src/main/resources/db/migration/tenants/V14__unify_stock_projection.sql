@@ -0,0 +1,51 @@
+-- ================================================================================
+-- Migration: V14__unify_stock_projection.sql
+-- Descrição: Unifica o estoque em inventory_items (fonte de verdade) e mantém
+--            products.stock_quantity apenas como projeção derivada.
+--
+-- Motivo:
+--   - O estoque vivia em dois lugares: products.stock_quantity (escrito pelo
+--     CRUD de produto) e inventory_items.quantity_available (escrito por vendas
+--     e ajustes). Os dois divergiam.
+--   - A partir desta versão toda escrita passa por
+--     TenantInventoryAdjustmentService, que atualiza a projeção na mesma
+--     transação.
+--
+-- Passos:
+--   1. Cria inventory_items para produtos que ainda não têm registro,
+--      semeando com o stock_quantity atual.
+--   2. Reprojeta products.stock_quantity a partir de inventory_items.
+--   3. Índices parciais para low-stock e valor de inventário sobre a projeção.
+-- ================================================================================
+
+-- 1) Backfill de inventory_items
+INSERT INTO inventory_items (product_id, quantity_available, quantity_reserved, min_stock, version, created_at, updated_at)
+SELECT p.id,
+       GREATEST(p.stock_quantity, 0),
+       0,
+       GREATEST(COALESCE(p.min_stock, 0), 0),
+       0,
+       now(),
+       now()
+FROM products p
+WHERE NOT EXISTS (
+    SELECT 1 FROM inventory_items i WHERE i.product_id = p.id
+);
+
+-- 2) Reprojeção (inventory_items é a fonte de verdade)
+UPDATE products p
+SET stock_quantity = CAST(FLOOR(GREATEST(i.quantity_available, 0)) AS INT)
+FROM inventory_items i
+WHERE i.product_id = p.id
+  AND p.stock_quantity <> CAST(FLOOR(GREATEST(i.quantity_available, 0)) AS INT);
+
+-- 3) Índices da projeção
+-- countLowStock: stock_quantity <= :threshold (apenas não deletados)
+CREATE INDEX IF NOT EXISTS idx_products_stock_projection
+    ON products (stock_quantity)
+    WHERE deleted = false;
+
+-- calculateTotalInventoryValue: SUM(stock_quantity * price) via index-only scan
+CREATE INDEX IF NOT EXISTS idx_products_inventory_value_projection
+    ON products (stock_quantity, price)
+    WHERE deleted = false;
@@ -0,0 +1,77 @@
+-- ================================================================================
+-- Migration: V15__create_sales_rollups.sql
+-- Descrição: Rollups diários de vendas (por dia e por produto/dia).
+--
+-- Motivo:
+--   - Relatórios de faturamento por dia / top produtos precisavam paginar
+--     todas as vendas com itens. Os rollups reduzem um relatório mensal a
+--     ~30 linhas.
+--
+-- Regras:
+--   - Dia = data UTC de sales.sale_date.
+--   - Entram apenas vendas não deletadas com status OPEN/CONFIRMED/PAID
+--     (mesma regra de impacto em estoque) e itens não deletados.
+--   - Mantidos incrementalmente por create/update/delete/restore de venda
+--     (TenantSaleMutationHelper). O backfill abaixo cobre o histórico.
+-- ================================================================================
+
+CREATE TABLE IF NOT EXISTS sales_daily_rollups (
+    day DATE PRIMARY KEY,
+    sales_count BIGINT NOT NULL DEFAULT 0,
+    revenue NUMERIC(19,2) NOT NULL DEFAULT 0,
+    items_quantity NUMERIC(19,3) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS product_daily_rollups (
+    day DATE NOT NULL,
+    product_id UUID NOT NULL,
+    product_name VARCHAR(255),
+    quantity NUMERIC(19,3) NOT NULL DEFAULT 0,
+    revenue NUMERIC(19,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_product_daily_rollups PRIMARY KEY (day, product_id)
+);
+
+-- Histórico de um produto (product_id + range de dias)
+CREATE INDEX IF NOT EXISTS idx_product_daily_rollups_product_day
+    ON product_daily_rollups (product_id, day);
+
+-- ================================================================================
+-- BACKFILL
+-- ================================================================================
+
+INSERT INTO sales_daily_rollups (day, sales_count, revenue, items_quantity, updated_at)
+SELECT CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE),
+       COUNT(*),
+       COALESCE(SUM(s.total_amount), 0),
+       COALESCE(SUM(q.items_quantity), 0),
+       now()
+FROM sales s
+LEFT JOIN (
+    SELECT si.sale_id, SUM(si.quantity) AS items_quantity
+    FROM sale_items si
+    WHERE si.deleted = false
+    GROUP BY si.sale_id
+) q ON q.sale_id = s.id
+WHERE s.deleted = false
+  AND s.status IN ('OPEN', 'CONFIRMED', 'PAID')
+GROUP BY CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE)
+ON CONFLICT (day) DO NOTHING;
+
+INSERT INTO product_daily_rollups (day, product_id, product_name, quantity, revenue, updated_at)
+SELECT CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE),
+       si.product_id,
+       MAX(si.product_name),
+       SUM(si.quantity),
+       SUM(si.total_price),
+       now()
+FROM sale_items si
+JOIN sales s ON s.id = si.sale_id
+WHERE s.deleted = false
+  AND si.deleted = false
+  AND si.product_id IS NOT NULL
+  AND s.status IN ('OPEN', 'CONFIRMED', 'PAID')
+GROUP BY CAST(s.sale_date AT TIME ZONE 'UTC' AS DATE), si.product_id
+ON CONFLICT (day, product_id) DO NOTHING;
@@ -0,0 +1,32 @@
+-- ================================================================================
+-- Migration: V16__create_table_idempotency_keys.sql
+-- Descrição: Registro de Idempotency-Key das rotas de escrita do tenant.
+--
+-- Motivo:
+--   - Clientes de PDV reenviam POST /api/tenant/sales em timeout e criavam
+--     vendas duplicadas (com consumo de estoque em dobro).
+--
+-- Regras:
+--   - Uma linha por (route, idempotency_key); o tenant é o próprio schema.
+--   - PENDING = execução em andamento (reservada); COMPLETED = resposta gravada.
+--   - request_hash = SHA-256 do payload; mesma chave com payload diferente é recusada.
+--   - Linhas expiradas (expires_at) são reaproveitadas/removidas pela aplicação.
+-- ================================================================================
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    route VARCHAR(120) NOT NULL,
+    idempotency_key VARCHAR(160) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    response_body TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    expires_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (route, idempotency_key),
+    CONSTRAINT chk_idempotency_keys_status CHECK (status IN ('PENDING', 'COMPLETED'))
+);
+
+-- Limpeza de expirados
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
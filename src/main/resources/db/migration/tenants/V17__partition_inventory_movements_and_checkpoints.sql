@@ -0,0 +1,138 @@
+-- ================================================================================
+-- Migration: V17__partition_inventory_movements_and_checkpoints.sql
+-- Descrição: Ledger de estoque particionado por mês + checkpoints de saldo.
+--
+-- Motivo:
+--   - inventory_movements crescia sem limite e o histórico de um produto era
+--     lido inteiro (findByProductIdOrderByCreatedAtDesc sem paginação).
+--   - Saldo em um instante exigia somar todo o histórico do produto.
+--
+-- Estratégia:
+--   1. inventory_movements vira tabela particionada por RANGE (created_at),
+--      uma partição por mês (inventory_movements_pYYYYMM) + partição DEFAULT
+--      de segurança. A sequence de id é preservada.
+--   2. ensure_inventory_movement_partition(mês) cria a partição do mês de forma
+--      idempotente, movendo para ela linhas que tenham caído na DEFAULT.
+--      A manutenção da aplicação cria os meses seguintes antecipadamente.
+--   3. Índice (product_id, created_at DESC, id DESC) atende a paginação keyset
+--      do histórico e a soma da cauda após um checkpoint.
+--   4. inventory_balance_checkpoints guarda saldo acumulado do ledger por
+--      produto em um instante; saldo em T = checkpoint mais próximo <= T +
+--      movimentos em (checkpoint_at, T]. inventory_checkpoint_runs registra
+--      cada execução (o último cutoff limita a varredura da próxima).
+-- ================================================================================
+
+-- ================================================================================
+-- 1) Tabela particionada
+-- ================================================================================
+
+ALTER TABLE inventory_movements RENAME TO inventory_movements_legacy;
+ALTER SEQUENCE inventory_movements_id_seq OWNED BY NONE;
+
+CREATE TABLE inventory_movements (
+    id BIGINT NOT NULL DEFAULT nextval('inventory_movements_id_seq'),
+    product_id UUID NOT NULL,
+    quantity NUMERIC(19, 4) NOT NULL,
+    movement_type VARCHAR(40) NOT NULL,
+    reference_type VARCHAR(40),
+    reference_id VARCHAR(100),
+    notes VARCHAR(500),
+    created_at TIMESTAMP NOT NULL
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE inventory_movements_default PARTITION OF inventory_movements DEFAULT;
+
+-- ================================================================================
+-- 2) Partições mensais
+-- ================================================================================
+
+CREATE OR REPLACE FUNCTION ensure_inventory_movement_partition(p_month DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_from TIMESTAMP := date_trunc('month', p_month)::timestamp;
+    v_to TIMESTAMP := (date_trunc('month', p_month) + INTERVAL '1 month')::timestamp;
+    v_name TEXT := 'inventory_movements_p' || to_char(date_trunc('month', p_month), 'YYYYMM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE inventory_movements INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+
+    -- linhas do mês gravadas na DEFAULT antes da partição existir
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM inventory_movements_default WHERE created_at >= %L AND created_at < %L RETURNING *) '
+            || 'INSERT INTO %I SELECT * FROM moved',
+        v_from, v_to, v_name
+    );
+
+    EXECUTE format(
+        'ALTER TABLE inventory_movements ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        v_name, v_from, v_to
+    );
+
+    RETURN TRUE;
+END;
+$$;
+
+DO $$
+DECLARE
+    v_month DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM inventory_movements_legacy), now()))::date;
+    v_last DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE v_month <= v_last LOOP
+        PERFORM ensure_inventory_movement_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+-- ================================================================================
+-- 3) Cópia do histórico + índices
+-- ================================================================================
+
+INSERT INTO inventory_movements (id, product_id, quantity, movement_type, reference_type, reference_id, notes, created_at)
+SELECT id, product_id, quantity, movement_type, reference_type, reference_id, notes, created_at
+FROM inventory_movements_legacy;
+
+DROP TABLE inventory_movements_legacy;
+
+ALTER SEQUENCE inventory_movements_id_seq OWNED BY inventory_movements.id;
+
+ALTER TABLE inventory_movements
+    ADD CONSTRAINT pk_inventory_movements PRIMARY KEY (id, created_at);
+
+-- Histórico keyset por produto e cauda após checkpoint
+CREATE INDEX IF NOT EXISTS idx_inventory_movements_product_created_id
+    ON inventory_movements (product_id, created_at DESC, id DESC);
+
+-- Candidatos a checkpoint (janela desde o último cutoff)
+CREATE INDEX IF NOT EXISTS idx_inventory_movements_created_at
+    ON inventory_movements (created_at);
+
+-- ================================================================================
+-- 4) Checkpoints de saldo
+-- ================================================================================
+
+CREATE TABLE IF NOT EXISTS inventory_balance_checkpoints (
+    product_id UUID NOT NULL,
+    checkpoint_at TIMESTAMP NOT NULL,
+    quantity_available NUMERIC(19, 4) NOT NULL,
+    quantity_reserved NUMERIC(19, 4) NOT NULL,
+    movement_count BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT pk_inventory_balance_checkpoints PRIMARY KEY (product_id, checkpoint_at)
+);
+
+CREATE TABLE IF NOT EXISTS inventory_checkpoint_runs (
+    id BIGSERIAL PRIMARY KEY,
+    cutoff TIMESTAMP NOT NULL,
+    checkpoints_created INT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_checkpoint_runs_cutoff
+    ON inventory_checkpoint_runs (cutoff DESC);
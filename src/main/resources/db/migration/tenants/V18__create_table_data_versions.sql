@@ -0,0 +1,21 @@
+-- ================================================================================
+-- Migration: V18__create_table_data_versions.sql
+-- Descrição: Contadores de versão por agregado do tenant (ETag / If-None-Match).
+--
+-- Motivo:
+--   - Frontends fazem polling de listagens (produtos, categorias, clientes,
+--     limites do plano) e o servidor recalculava e reserializava tudo a cada
+--     chamada, mesmo sem alteração.
+--
+-- Regras:
+--   - Uma linha por agregado (PRODUCTS, CATEGORIES, CUSTOMERS, USERS).
+--   - version é incrementado no commit de toda escrita que altera o agregado
+--     (na mesma transação da escrita).
+--   - Linha ausente equivale a version = 0.
+-- ================================================================================
+
+CREATE TABLE IF NOT EXISTS data_versions (
+    aggregate VARCHAR(40) PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
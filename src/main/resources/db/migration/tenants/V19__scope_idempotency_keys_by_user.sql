@@ -0,0 +1,22 @@
+-- ================================================================================
+-- Migration: V19__scope_idempotency_keys_by_user.sql
+-- Descrição: Escopo das Idempotency-Keys por usuário.
+--
+-- Motivo:
+--   - A chave era única por (route, idempotency_key) dentro do tenant: dois usuários
+--     do mesmo tenant gerando a mesma chave recebiam a resposta um do outro (ou 422).
+--
+-- Regras:
+--   - scope identifica quem gerou a chave (ex.: 'user:42'); linhas antigas ficam em 'tenant'.
+--   - PK passa a ser (scope, route, idempotency_key).
+-- ================================================================================
+
+ALTER TABLE idempotency_keys
+    ADD COLUMN IF NOT EXISTS scope VARCHAR(80) NOT NULL DEFAULT 'tenant';
+
+ALTER TABLE idempotency_keys ALTER COLUMN scope DROP DEFAULT;
+
+ALTER TABLE idempotency_keys DROP CONSTRAINT IF EXISTS pk_idempotency_keys;
+
+ALTER TABLE idempotency_keys
+    ADD CONSTRAINT pk_idempotency_keys PRIMARY KEY (scope, route, idempotency_key);
@@ -0,0 +1,54 @@
+-- ================================================================================
+-- Migration: V20__lock_default_partition_when_creating_movement_month.sql
+-- Descrição: ensure_inventory_movement_partition trava a partição DEFAULT antes
+--            de mover as linhas do mês.
+--
+-- Motivo:
+--   - A versão da V17 movia as linhas do mês para fora da DEFAULT e só depois
+--     fazia o ATTACH. Um INSERT concorrente do mesmo mês caía na DEFAULT nesse
+--     intervalo e o ATTACH falhava (linha da DEFAULT dentro da faixa nova).
+--
+-- Regras:
+--   - LOCK ... IN SHARE ROW EXCLUSIVE MODE na DEFAULT antes de checar/criar:
+--     bloqueia INSERT/UPDATE/DELETE até o fim da transação, leituras seguem.
+--   - A checagem de existência roda depois do lock: duas chamadas concorrentes
+--     para o mesmo mês se serializam e a segunda devolve FALSE.
+-- ================================================================================
+
+CREATE OR REPLACE FUNCTION ensure_inventory_movement_partition(p_month DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_from TIMESTAMP := date_trunc('month', p_month)::timestamp;
+    v_to TIMESTAMP := (date_trunc('month', p_month) + INTERVAL '1 month')::timestamp;
+    v_name TEXT := 'inventory_movements_p' || to_char(date_trunc('month', p_month), 'YYYYMM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    LOCK TABLE inventory_movements_default IN SHARE ROW EXCLUSIVE MODE;
+
+    -- outra chamada pode ter criado o mês enquanto esperávamos o lock
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE inventory_movements INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+
+    -- linhas do mês gravadas na DEFAULT antes da partição existir
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM inventory_movements_default WHERE created_at >= %L AND created_at < %L RETURNING *) '
+            || 'INSERT INTO %I SELECT * FROM moved',
+        v_from, v_to, v_name
+    );
+
+    EXECUTE format(
+        'ALTER TABLE inventory_movements ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        v_name, v_from, v_to
+    );
+
+    RETURN TRUE;
+END;
+$$;
@@ -0,0 +1,18 @@
+-- ================================================================================
+-- Migration: V21__abandon_expired_pending_idempotency_keys.sql
+-- Descrição: Status terminal ABANDONED para Idempotency-Keys PENDING expiradas.
+--
+-- Motivo:
+--   - Uma chave PENDING cuja resposta nunca foi gravada (queda do nó, falha ao
+--     liberar ou ao concluir) respondia 409 para sempre e nunca era removida.
+--
+-- Regras:
+--   - PENDING com expires_at vencido vira ABANDONED (resultado desconhecido; não
+--     reexecuta) e ganha uma nova janela de retenção.
+--   - ABANDONED e COMPLETED expiradas são removidas/reaproveitadas pela aplicação.
+-- ================================================================================
+
+ALTER TABLE idempotency_keys DROP CONSTRAINT IF EXISTS chk_idempotency_keys_status;
+
+ALTER TABLE idempotency_keys
+    ADD CONSTRAINT chk_idempotency_keys_status CHECK (status IN ('PENDING', 'COMPLETED', 'ABANDONED'));
@@ -0,0 +1,240 @@
+package brito.com.multitenancy001.controlplane.signup.app;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.Account;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningFailureCode;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStage;
+import brito.com.multitenancy001.controlplane.accounts.domain.ProvisioningStatus;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+
+/**
+ * Testes do pipeline assíncrono de provisioning de signup.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Falha técnica numa etapa é reexecutada (RETRYING) e o pipeline conclui.</li>
+ *   <li>{@link ApiException} não é reexecutada e encerra o pipeline em FAILED.</li>
+ *   <li>Admissão por semáforo recusa além de workers + fila e devolve a vaga
+ *       ao final do job.</li>
+ * </ul>
+ */
+public class AccountProvisioningPipelineTest {
+
+    private static final long WAIT_MS = 5_000L;
+
+    private final AccountTenantProvisioningService tenantProvisioning = mock(AccountTenantProvisioningService.class);
+    private final AccountProvisioningLifecycleService lifecycle = mock(AccountProvisioningLifecycleService.class);
+    private final AccountOnboardingAuditService audit = mock(AccountOnboardingAuditService.class);
+    private final AccountOnboardingHelper helper = mock(AccountOnboardingHelper.class);
+
+    private final AccountOnboardingHelper.SignupData signupData = new AccountOnboardingHelper.SignupData(
+            "Acme", "owner@acme.local", "BR", null, "12345678000199", "secret");
+
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Falha técnica na etapa é reexecutada e o provisioning termina em SUCCESS.
+     */
+    @Test
+    void retryableStageFailure_mustRetryAndComplete() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AccountProvisioningPipeline sut = pipeline(1, 1, 3);
+        Account account = account();
+        UUID provisioningId = UUID.randomUUID();
+
+        doThrow(new IllegalStateException("connection reset"))
+                .doNothing()
+                .when(tenantProvisioning).provisionSchema(account);
+        when(lifecycle.finalizeProvisioning(account.getId())).thenReturn(account);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        assertTrue(sut.tryReserve());
+        sut.submit(provisioningId, account, signupData);
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        verify(audit, timeout(WAIT_MS)).recordPipelineEvent(
+                eq(account), eq(signupData), eq(provisioningId), isNull(), eq(ProvisioningStatus.SUCCESS), isNull(), isNull());
+
+        verify(tenantProvisioning, times(2)).provisionSchema(account);
+        verify(audit, times(1)).recordPipelineEvent(
+                eq(account), eq(signupData), eq(provisioningId), eq(ProvisioningStage.TENANT_SCHEMA),
+                eq(ProvisioningStatus.RETRYING), eq(ProvisioningFailureCode.UNKNOWN), any(IllegalStateException.class));
+        verify(audit, never()).recordPipelineEvent(
+                any(), any(), any(), any(), eq(ProvisioningStatus.FAILED), any(), any());
+    }
+
+    /**
+     * ApiException é falha funcional: sem retry, pipeline para em FAILED.
+     */
+    @Test
+    void apiException_mustFailStageWithoutRetry() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AccountProvisioningPipeline sut = pipeline(1, 1, 3);
+        Account account = account();
+        UUID provisioningId = UUID.randomUUID();
+
+        doNothing().when(tenantProvisioning).provisionSchema(account);
+        ApiException functional = new ApiException(ApiErrorCode.INVALID_REQUEST, "owner inválido");
+        when(tenantProvisioning.createOwner(account, signupData)).thenThrow(functional);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        assertTrue(sut.tryReserve());
+        sut.submit(provisioningId, account, signupData);
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        verify(audit, timeout(WAIT_MS)).recordPipelineEvent(
+                eq(account), eq(signupData), eq(provisioningId), eq(ProvisioningStage.TENANT_OWNER),
+                eq(ProvisioningStatus.FAILED), eq(ProvisioningFailureCode.UNKNOWN), eq(functional));
+
+        verify(tenantProvisioning, times(1)).createOwner(account, signupData);
+        verify(tenantProvisioning, never()).ensureLoginIdentity(any(), any());
+        verify(lifecycle, never()).finalizeProvisioning(any());
+        verify(audit, never()).recordPipelineEvent(
+                any(), any(), any(), any(), eq(ProvisioningStatus.RETRYING), any(), any());
+        verify(audit, never()).recordPipelineEvent(
+                any(), any(), any(), any(), eq(ProvisioningStatus.SUCCESS), any(), any());
+    }
+
+    /**
+     * Sem vaga (workers + fila ocupados), tryReserve recusa; release devolve a vaga.
+     */
+    @Test
+    void tryReserve_mustRejectBeyondWorkersPlusQueue() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AccountProvisioningPipeline sut = pipeline(1, 1, 3);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        boolean first = sut.tryReserve();
+        boolean second = sut.tryReserve();
+        boolean third = sut.tryReserve();
+        sut.release();
+        boolean afterRelease = sut.tryReserve();
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertTrue(afterRelease);
+    }
+
+    /**
+     * A vaga reservada só volta ao semáforo quando o job termina.
+     */
+    @Test
+    void submit_mustHoldSlotUntilJobFinishes() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AccountProvisioningPipeline sut = pipeline(1, 0, 1);
+        Account account = account();
+        UUID provisioningId = UUID.randomUUID();
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        doAnswer(inv -> {
+            running.countDown();
+            proceed.await(WAIT_MS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(tenantProvisioning).provisionSchema(account);
+        when(lifecycle.finalizeProvisioning(account.getId())).thenReturn(account);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        assertTrue(sut.tryReserve());
+        sut.submit(provisioningId, account, signupData);
+        assertTrue(running.await(WAIT_MS, TimeUnit.MILLISECONDS));
+        boolean whileRunning = sut.tryReserve();
+
+        proceed.countDown();
+        verify(audit, timeout(WAIT_MS)).recordPipelineEvent(
+                eq(account), eq(signupData), eq(provisioningId), isNull(), eq(ProvisioningStatus.SUCCESS), isNull(), isNull());
+        boolean afterFinish = awaitReserve(sut);
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertFalse(whileRunning);
+        assertTrue(afterFinish);
+    }
+
+    private AccountProvisioningPipeline pipeline(int workers, int queueCapacity, int maxAttempts) {
+        executor = new AccountProvisioningExecutorConfig().signupProvisioningExecutor(workers, queueCapacity);
+
+        AccountProvisioningPipeline pipeline = new AccountProvisioningPipeline(
+                tenantProvisioning, lifecycle, audit, helper, executor);
+        ReflectionTestUtils.setField(pipeline, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(pipeline, "initialBackoff", Duration.ZERO);
+        pipeline.start();
+        return pipeline;
+    }
+
+    /** O release roda no finally do worker, logo após o último evento. */
+    private static boolean awaitReserve(AccountProvisioningPipeline sut) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WAIT_MS);
+        while (System.nanoTime() < deadline) {
+            if (sut.tryReserve()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private static Account account() {
+        return Account.builder()
+                .id(42L)
+                .tenantSchema("t_acme")
+                .build();
+    }
+}
@@ -0,0 +1,223 @@
+package brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
+import brito.com.multitenancy001.infrastructure.multitenancy.observability.TenantMetrics;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionBulkheadProperties.PlanPolicy;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes do bulkhead de conexões por tenant.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Release repassa a vaga a quem espera.</li>
+ *   <li>Fila esgotada falha com TENANT_DB_BUSY e não deixa vaga presa.</li>
+ *   <li>Tenant que volta a ter fila passa à frente do backlog de um tenant barulhento (WFQ).</li>
+ *   <li>Checkout aninhado usa a reserva própria: nunca passa de
+ *       {@code global-permits + nested-permits}.</li>
+ * </ul>
+ */
+public class TenantConnectionBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Vaga liberada vai para o próximo da fila.
+     */
+    @Test
+    void release_mustHandPermitToWaiter() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantConnectionBulkhead sut = bulkhead(1, 1, Duration.ofSeconds(5));
+        sut.acquire("t_a");
+
+        CountDownLatch granted = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            sut.acquire("t_b");
+            granted.countDown();
+            sut.release("t_b");
+        });
+        waiter.start();
+        awaitWaiting(1);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        sut.release("t_a");
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertTrue(granted.await(2, TimeUnit.SECONDS), "waiter não recebeu a vaga");
+        waiter.join(2000);
+        assertEquals(0.0, gauge("tenant.connection.bulkhead.in_use"));
+        assertEquals(0.0, gauge("tenant.connection.bulkhead.waiting"));
+    }
+
+    /**
+     * Sem vaga até o queue-timeout: 503 TENANT_DB_BUSY, sem vaga presa depois.
+     */
+    @Test
+    void queueTimeout_mustFailWithTenantDbBusy() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantConnectionBulkhead sut = bulkhead(1, 1, Duration.ofMillis(50));
+        sut.acquire("t_a");
+
+        // =========================================================
+        // Act
+        // =========================================================
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread contender = new Thread(() -> {
+            try {
+                sut.acquire("t_a");
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        contender.start();
+        contender.join(2000);
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertTrue(failure.get() instanceof ApiException, "esperava ApiException: " + failure.get());
+        assertEquals(ApiErrorCode.TENANT_DB_BUSY, ((ApiException) failure.get()).getCode());
+        assertEquals(0.0, gauge("tenant.connection.bulkhead.waiting"));
+
+        sut.release("t_a");
+        assertEquals(0.0, gauge("tenant.connection.bulkhead.in_use"));
+    }
+
+    /**
+     * Tenant barulhento com 3 na fila; tenant novo entra depois e é atendido primeiro.
+     */
+    @Test
+    void dispatch_mustServeIdleTenantBeforeNoisyBacklog() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantConnectionBulkhead sut = bulkhead(1, 1, Duration.ofSeconds(5));
+        sut.acquire("t_noisy");
+
+        List<String> order = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            threads.add(startWaiter(sut, "t_noisy", "noisy-" + i, order));
+            awaitWaiting(i);
+        }
+        threads.add(startWaiter(sut, "t_quiet", "quiet-1", order));
+        awaitWaiting(4);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        sut.release("t_noisy");
+        for (Thread thread : threads) {
+            thread.join(2000);
+        }
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(List.of("quiet-1", "noisy-1", "noisy-2", "noisy-3"), order);
+        assertEquals(0.0, gauge("tenant.connection.bulkhead.in_use"));
+    }
+
+    /**
+     * Aninhado usa a reserva; reserva cheia esgota o prazo em vez de estourar o pool.
+     */
+    @Test
+    void nestedCheckout_mustUseBoundedReserve() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantConnectionBulkhead sut = bulkhead(1, 1, Duration.ofMillis(50));
+        sut.acquire("t_a");
+
+        // =========================================================
+        // Act
+        // =========================================================
+        sut.acquire("t_a"); // REQUIRES_NEW: reserva aninhada
+        ApiException ex = assertThrows(ApiException.class, () -> sut.acquire("t_a"));
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(ApiErrorCode.TENANT_DB_BUSY, ex.getCode());
+        assertEquals(2.0, gauge("tenant.connection.bulkhead.in_use"));
+
+        sut.release("t_a");
+        sut.release("t_a");
+        assertEquals(0.0, gauge("tenant.connection.bulkhead.in_use"));
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private TenantConnectionBulkhead bulkhead(int globalPermits, int nestedPermits, Duration queueTimeout) {
+        PlanPolicy free = new PlanPolicy();
+        free.setMaxConnections(4);
+        free.setWeight(1);
+        free.setQueueTimeout(queueTimeout);
+
+        TenantConnectionBulkheadProperties properties = new TenantConnectionBulkheadProperties();
+        properties.setGlobalPermits(globalPermits);
+        properties.setNestedPermits(nestedPermits);
+        properties.getPlans().put("free", free);
+
+        TenantConnectionPlanDirectory planDirectory = new TenantConnectionPlanDirectory(null, properties, null) {
+            @Override
+            public SubscriptionPlan planOf(String tenantSchema) {
+                return SubscriptionPlan.FREE;
+            }
+        };
+
+        return new TenantConnectionBulkhead(
+                properties,
+                planDirectory,
+                new TenantMetrics(meterRegistry, 20, 1000),
+                meterRegistry
+        );
+    }
+
+    private static Thread startWaiter(TenantConnectionBulkhead sut, String tenantSchema, String name, List<String> order) {
+        Thread thread = new Thread(() -> {
+            sut.acquire(tenantSchema);
+            order.add(name);
+            sut.release(tenantSchema);
+        }, name);
+        thread.start();
+        return thread;
+    }
+
+    private void awaitWaiting(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (gauge("tenant.connection.bulkhead.waiting") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals((double) expected, gauge("tenant.connection.bulkhead.waiting"));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
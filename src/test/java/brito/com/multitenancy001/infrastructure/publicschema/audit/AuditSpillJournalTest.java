@@ -0,0 +1,285 @@
+package brito.com.multitenancy001.infrastructure.publicschema.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes do journal de spill da auditoria sobre um diretório temporário real.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Replay entrega os eventos em ordem e apaga os segmentos entregues.</li>
+ *   <li>Rotação quando o segmento enche, sem perder nem reordenar eventos.</li>
+ *   <li>Com o banco fora, os ciclos de replay não criam segmentos novos.</li>
+ *   <li>CRC inválido: entrega o que vem antes e põe o resto em quarentena.</li>
+ *   <li>Recuperação após reinício, retomando da posição já reenviada.</li>
+ * </ul>
+ */
+public class AuditSpillJournalTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FakeBatchWriter writer = new FakeBatchWriter();
+
+    /**
+     * Append + replay: entrega em ordem e não sobra segmento.
+     */
+    @Test
+    void replay_mustDeliverInOrderAndDeleteSegments(@TempDir Path dir) throws IOException {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AuditSpillJournal journal = journal(dir, 500);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(journal.append(row(i, 10)));
+        }
+
+        // =========================================================
+        // Act
+        // =========================================================
+        int replayed = journal.replay();
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(3, replayed);
+        assertEquals(List.of(0, 1, 2), writtenIds());
+        assertFalse(journal.hasPending());
+        assertEquals(0, segmentFiles(dir).size());
+    }
+
+    /**
+     * Eventos maiores que o espaço restante rotacionam o segmento; o replay cobre todos.
+     */
+    @Test
+    void rotation_mustKeepEveryEventInOrder(@TempDir Path dir) throws IOException {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AuditSpillJournal journal = journal(dir, 500);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(journal.append(row(i, 20_000)));
+        }
+        assertTrue(segmentFiles(dir).size() >= 3, "esperava rotação em vários segmentos");
+
+        // =========================================================
+        // Act
+        // =========================================================
+        int replayed = journal.replay();
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(8, replayed);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), writtenIds());
+        assertEquals(0, segmentFiles(dir).size());
+    }
+
+    /**
+     * Banco fora: ciclos repetidos não fecham o ativo nem criam segmentos; na volta, entrega tudo.
+     */
+    @Test
+    void replayWhileDatabaseDown_mustNotRotatePerCycle(@TempDir Path dir) throws IOException {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AuditSpillJournal journal = journal(dir, 500);
+        writer.available = false;
+
+        journal.append(row(0, 10));
+        assertEquals(0, journal.replay());
+        journal.append(row(1, 10));
+        int segmentsDuringOutage = segmentFiles(dir).size();
+
+        // =========================================================
+        // Act
+        // =========================================================
+        for (int cycle = 0; cycle < 5; cycle++) {
+            assertEquals(0, journal.replay());
+        }
+        int segmentsAfterCycles = segmentFiles(dir).size();
+
+        writer.available = true;
+        int replayed = journal.replay();
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(2, segmentsDuringOutage);
+        assertEquals(segmentsDuringOutage, segmentsAfterCycles);
+        assertEquals(2, replayed);
+        assertEquals(List.of(0, 1), writtenIds());
+        assertFalse(journal.hasPending());
+    }
+
+    /**
+     * Registro com CRC inválido: os anteriores são entregues, o resto vai para .corrupt.
+     */
+    @Test
+    void crcMismatch_mustQuarantineRestOfSegment(@TempDir Path dir) throws IOException {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AuditSpillJournal first = journal(dir, 500);
+        for (int i = 0; i < 3; i++) {
+            first.append(row(i, 10));
+        }
+        first.close();
+
+        Path segment = segmentFiles(dir).get(0);
+        flipPayloadByteOfSecondRecord(segment);
+
+        AuditSpillJournal reopened = journal(dir, 500);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        int replayed = reopened.replay();
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(1, replayed);
+        assertEquals(List.of(0), writtenIds());
+        assertTrue(Files.exists(segment.resolveSibling(segment.getFileName() + ".corrupt")));
+        assertEquals(1.0, meterRegistry.counter(AuditSpillJournal.RECORDS_METRIC, "outcome", "corrupt").count());
+        assertFalse(reopened.hasPending());
+    }
+
+    /**
+     * Reinício no meio do replay: retoma do .pos sem reenviar o que já foi gravado.
+     */
+    @Test
+    void recovery_mustResumeFromPersistedPosition(@TempDir Path dir) throws IOException {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AuditSpillJournal first = journal(dir, 1);
+        for (int i = 0; i < 3; i++) {
+            first.append(row(i, 10));
+        }
+        writer.acceptBatches = 1; // 1º lote grava, depois o banco cai
+        assertEquals(1, first.replay());
+        first.close();
+
+        writer.acceptBatches = Integer.MAX_VALUE;
+        AuditSpillJournal reopened = journal(dir, 1);
+        assertTrue(reopened.hasPending());
+
+        // =========================================================
+        // Act
+        // =========================================================
+        int replayed = reopened.replay();
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(2, replayed);
+        assertEquals(List.of(0, 1, 2), writtenIds());
+        assertEquals(0, segmentFiles(dir).size());
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private AuditSpillJournal journal(Path dir, int replayBatchSize) throws IOException {
+        AuditSpillJournal journal = new AuditSpillJournal(
+                writer, objectMapper, meterRegistry, dir.toString(), SEGMENT_BYTES, 1L << 30, replayBatchSize);
+        journal.open();
+        return journal;
+    }
+
+    private static AuditRow row(int id, int detailsPadding) {
+        return new AuditRow.AuthEventRow(
+                Instant.parse("2026-03-10T12:00:00Z"),
+                UUID.randomUUID(),
+                "POST",
+                "/api/tenant/auth/login",
+                "10.0.0.1",
+                "junit",
+                "TENANT",
+                "LOGIN_FAILURE",
+                "FAILURE",
+                "user" + id + "@test.local",
+                (long) id,
+                1L,
+                "t_tenant_x",
+                "{\"pad\":\"" + "x".repeat(detailsPadding) + "\"}"
+        );
+    }
+
+    private List<Integer> writtenIds() {
+        return writer.written.stream()
+                .map(r -> ((AuditRow.AuthEventRow) r).principalUserId().intValue())
+                .toList();
+    }
+
+    private static List<Path> segmentFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private static void flipPayloadByteOfSecondRecord(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer len = ByteBuffer.allocate(4);
+            channel.read(len, 8);
+            long second = 8 + 8 + len.getInt(0);
+
+            ByteBuffer b = ByteBuffer.allocate(1);
+            long target = second + 8 + 5;
+            channel.read(b, target);
+            b.put(0, (byte) (b.get(0) ^ 0x5A));
+            b.rewind();
+            channel.write(b, target);
+        }
+    }
+
+    /**
+     * Writer em memória: grava tudo, ou devolve o lote como indisponível.
+     */
+    private static final class FakeBatchWriter extends AuditBatchWriter {
+
+        private final List<AuditRow> written = new ArrayList<>();
+        private boolean available = true;
+        private int acceptBatches = Integer.MAX_VALUE;
+
+        private FakeBatchWriter() {
+            super(null);
+        }
+
+        @Override
+        public Result write(List<? extends AuditRow> rows) {
+            if (!available || acceptBatches <= 0) {
+                return new Result(new ArrayList<>(rows), new ArrayList<>());
+            }
+            acceptBatches--;
+            written.addAll(rows);
+            return new Result(new ArrayList<>(), new ArrayList<>());
+        }
+    }
+}
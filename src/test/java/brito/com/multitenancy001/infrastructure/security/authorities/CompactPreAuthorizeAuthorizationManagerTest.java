@@ -0,0 +1,234 @@
+package brito.com.multitenancy001.infrastructure.security.authorities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import brito.com.multitenancy001.controlplane.security.ControlPlanePermission;
+import brito.com.multitenancy001.infrastructure.security.AuthenticatedUserContext;
+import brito.com.multitenancy001.tenant.security.TenantPermission;
+
+/**
+ * Paridade allow/deny entre o teste de bits e o {@link PreAuthorizeAuthorizationManager} (SpEL).
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Para cada forma de expressão suportada (e algumas não suportadas, que
+ *       delegam), a decisão compacta deve ser igual à do SpEL para principais
+ *       compactos, principais com authorities em string e anônimos.</li>
+ *   <li>Um método de interface com {@code @PreAuthorize} diferente em cada
+ *       implementação não pode compartilhar a regra compilada.</li>
+ * </ul>
+ */
+public class CompactPreAuthorizeAuthorizationManagerTest {
+
+    private final PreAuthorizeAuthorizationManager spel = new PreAuthorizeAuthorizationManager();
+
+    // =========================================================
+    // Alvos anotados
+    // =========================================================
+
+    static class Samples {
+
+        @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_PRODUCT_READ.asAuthority())")
+        public void productRead() {
+        }
+
+        @PreAuthorize("hasAnyAuthority("
+                + "T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_SALE_READ.asAuthority(), "
+                + "T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_SALE_WRITE.asAuthority())")
+        public void saleAny() {
+        }
+
+        @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_USER_READ.asAuthority())"
+                + " and hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_USER_UPDATE.asAuthority())")
+        public void userReadAndUpdate() {
+        }
+
+        @PreAuthorize("hasAuthority('TEN_INVENTORY_WRITE')")
+        public void inventoryWriteLiteral() {
+        }
+
+        @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.controlplane.security.ControlPlanePermission).CP_TENANT_READ.asAuthority())")
+        public void controlPlaneTenantRead() {
+        }
+
+        @PreAuthorize("isAuthenticated()")
+        public void authenticated() {
+        }
+
+        @PreAuthorize("hasRole('TENANT_OWNER')")
+        public void roleOwner() {
+        }
+
+        @PreAuthorize("hasAuthority('TEN_PRODUCT_READ') or hasAuthority('TEN_PRODUCT_WRITE')")
+        public void productReadOrWrite() {
+        }
+    }
+
+    @PreAuthorize("hasAuthority(T(brito.com.multitenancy001.tenant.security.TenantPermission).TEN_BILLING_READ.asAuthority())")
+    static class ClassLevel {
+
+        public void billing() {
+        }
+    }
+
+    interface Operation {
+        void run();
+    }
+
+    static class ReadOperation implements Operation {
+
+        @Override
+        @PreAuthorize("hasAuthority('TEN_PRODUCT_READ')")
+        public void run() {
+        }
+    }
+
+    static class WriteOperation implements Operation {
+
+        @Override
+        @PreAuthorize("hasAuthority('TEN_PRODUCT_WRITE')")
+        public void run() {
+        }
+    }
+
+    // =========================================================
+    // Testes
+    // =========================================================
+
+    /**
+     * Toda combinação (método x principal) decide igual ao SpEL.
+     */
+    @Test
+    void compactDecision_mustMatchSpel_forEveryMethodAndPrincipal() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        List<MethodInvocation> invocations = new ArrayList<>();
+        for (Method method : Samples.class.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(PreAuthorize.class)) {
+                invocations.add(new SimpleMethodInvocation(new Samples(), method));
+            }
+        }
+        invocations.add(new SimpleMethodInvocation(new ClassLevel(), ClassLevel.class.getMethod("billing")));
+
+        Map<String, Authentication> principals = principals();
+
+        // =========================================================
+        // Act + Assert
+        // =========================================================
+        for (int round = 0; round < 2; round++) { // 2ª volta: regras já em cache
+            CompactPreAuthorizeAuthorizationManager sut = new CompactPreAuthorizeAuthorizationManager(spel);
+            for (MethodInvocation invocation : invocations) {
+                for (Map.Entry<String, Authentication> principal : principals.entrySet()) {
+                    boolean expected = granted(spel.authorize(principal::getValue, invocation));
+                    boolean actual = granted(sut.authorize(principal::getValue, invocation));
+                    assertEquals(expected, actual,
+                            "decisão divergente | method=" + invocation.getMethod().getName()
+                                    + " | principal=" + principal.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Mesmo método de interface, implementações com regras diferentes: sem cache compartilhado.
+     */
+    @Test
+    void interfaceMethod_mustResolveRulePerTargetClass() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        CompactPreAuthorizeAuthorizationManager sut = new CompactPreAuthorizeAuthorizationManager(spel);
+        Method run = Operation.class.getMethod("run");
+        Authentication readOnly = compact(CompactAuthorities.bit(TenantPermission.TEN_PRODUCT_READ), 0L);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        boolean readAllowed = granted(sut.authorize(() -> readOnly, new SimpleMethodInvocation(new ReadOperation(), run)));
+        boolean writeAllowed = granted(sut.authorize(() -> readOnly, new SimpleMethodInvocation(new WriteOperation(), run)));
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertTrue(readAllowed);
+        assertFalse(writeAllowed);
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private static Map<String, Authentication> principals() {
+        Map<String, Authentication> principals = new LinkedHashMap<>();
+
+        long productRead = CompactAuthorities.bit(TenantPermission.TEN_PRODUCT_READ);
+        long productWrite = CompactAuthorities.bit(TenantPermission.TEN_PRODUCT_WRITE);
+        long saleWrite = CompactAuthorities.bit(TenantPermission.TEN_SALE_WRITE);
+        long userRead = CompactAuthorities.bit(TenantPermission.TEN_USER_READ);
+        long userUpdate = CompactAuthorities.bit(TenantPermission.TEN_USER_UPDATE);
+        long inventoryWrite = CompactAuthorities.bit(TenantPermission.TEN_INVENTORY_WRITE);
+        long billingRead = CompactAuthorities.bit(TenantPermission.TEN_BILLING_READ);
+        long cpTenantRead = CompactAuthorities.bit(ControlPlanePermission.CP_TENANT_READ);
+
+        principals.put("compact:none", compact(0L, 0L));
+        principals.put("compact:productRead", compact(productRead, 0L));
+        principals.put("compact:productWrite", compact(productWrite, 0L));
+        principals.put("compact:saleWrite", compact(saleWrite, 0L));
+        principals.put("compact:userRead", compact(userRead, 0L));
+        principals.put("compact:userRead+userUpdate", compact(userRead | userUpdate, 0L));
+        principals.put("compact:inventoryWrite", compact(inventoryWrite, 0L));
+        principals.put("compact:billingRead", compact(billingRead, 0L));
+        principals.put("compact:cpTenantRead", compact(0L, cpTenantRead));
+        principals.put("compact:all", compact(-1L >>> (64 - TenantPermission.values().length),
+                -1L >>> (64 - ControlPlanePermission.values().length)));
+
+        principals.put("strings:productRead+owner", strings("TEN_PRODUCT_READ", "ROLE_TENANT_OWNER"));
+        principals.put("strings:userRead+userUpdate", strings("TEN_USER_READ", "TEN_USER_UPDATE"));
+        principals.put("strings:none", strings());
+
+        principals.put("anonymous", new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        return principals;
+    }
+
+    private static Authentication compact(long tenantBits, long controlPlaneBits) {
+        CompactAuthorities authorities = new CompactAuthorities(tenantBits, controlPlaneBits, null);
+        AuthenticatedUserContext principal =
+                AuthenticatedUserContext.fromControlPlaneClaims(1L, "user@test.local", null, null, authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+    }
+
+    private static Authentication strings(String... authorities) {
+        List<GrantedAuthority> list = AuthorityUtils.createAuthorityList(authorities);
+        AuthenticatedUserContext principal =
+                AuthenticatedUserContext.fromControlPlaneClaims(2L, "user@test.local", null, null, Set.copyOf(list));
+        return new UsernamePasswordAuthenticationToken(principal, null, list);
+    }
+
+    private static boolean granted(AuthorizationResult result) {
+        return result != null && result.isGranted();
+    }
+}
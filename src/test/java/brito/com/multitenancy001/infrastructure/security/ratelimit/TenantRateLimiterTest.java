@@ -0,0 +1,182 @@
+package brito.com.multitenancy001.infrastructure.security.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import brito.com.multitenancy001.controlplane.accounts.domain.SubscriptionPlan;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionBulkheadProperties;
+import brito.com.multitenancy001.infrastructure.persistence.multitenancy.bulkhead.TenantConnectionPlanDirectory;
+import brito.com.multitenancy001.infrastructure.security.ratelimit.RateLimitProperties.Limit;
+import brito.com.multitenancy001.infrastructure.security.ratelimit.RateLimitProperties.PlanLimits;
+import brito.com.multitenancy001.shared.time.AppClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes do rate limit por IP/tenant/usuário.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Com o mapa cheio, chave nova ganha bucket próprio (desaloja o mais
+ *       antigo), nunca um bucket compartilhado já esgotado.</li>
+ *   <li>Rajada de IPs novos não desaloja o bucket do tenant.</li>
+ *   <li>Token expirado ou recusado pelo JWT não consome mais o limite do tenant.</li>
+ * </ul>
+ */
+public class TenantRateLimiterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+    private final AppClock appClock = () -> Clock.fixed(now.get(), ZoneOffset.UTC);
+
+    /**
+     * IP esgotado + IP novo com o mapa cheio: o novo passa.
+     */
+    @Test
+    void fullIpMap_mustNotShareBucketBetweenIps() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantRateLimiter sut = limiter(1);
+
+        assertTrue(sut.check(null, "10.0.0.1").allowed());
+        assertFalse(sut.check(null, "10.0.0.1").allowed());
+
+        // =========================================================
+        // Act + Assert
+        // =========================================================
+        assertTrue(sut.check(null, "10.0.0.2").allowed());
+    }
+
+    /**
+     * Tenant esgotado continua barrado mesmo com uma rajada de IPs anônimos.
+     */
+    @Test
+    void ipFlood_mustNotEvictTenantBucket() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantRateLimiter sut = limiter(1);
+        sut.rememberVerified("token-a", "t_a", 1L, NOW.plusSeconds(3600));
+
+        assertTrue(sut.check("token-a", "10.0.0.1").allowed());
+        assertFalse(sut.check("token-a", "10.0.0.1").allowed());
+
+        // =========================================================
+        // Act
+        // =========================================================
+        for (int i = 0; i < 100; i++) {
+            sut.check(null, "192.168.0." + i);
+        }
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertFalse(sut.check("token-a", "10.0.0.1").allowed());
+    }
+
+    /**
+     * Depois do exp, o token volta ao bucket do IP e não esgota o do tenant.
+     */
+    @Test
+    void expiredToken_mustFallBackToIpBucket() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantRateLimiter sut = limiter(100);
+        sut.rememberVerified("token-old", "t_a", 1L, NOW.plusSeconds(60));
+        sut.rememberVerified("token-new", "t_a", 2L, NOW.plusSeconds(3600));
+        now.set(NOW.plusSeconds(61));
+
+        // =========================================================
+        // Act
+        // =========================================================
+        TenantRateLimiter.Decision replay = sut.check("token-old", "10.0.0.1");
+        sut.check("token-old", "10.0.0.1");
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertFalse(replay.identified());
+        assertTrue(sut.check("token-new", "10.0.0.2").allowed());
+    }
+
+    /**
+     * Token já expirado não é lembrado.
+     */
+    @Test
+    void rememberVerified_mustIgnoreExpiredToken() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantRateLimiter sut = limiter(100);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        sut.rememberVerified("token-a", "t_a", 1L, NOW.minusSeconds(1));
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertFalse(sut.check("token-a", "10.0.0.1").identified());
+    }
+
+    /**
+     * Token recusado pelo JWT perde a identidade: replay não esgota o tenant.
+     */
+    @Test
+    void forget_mustDropIdentity() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantRateLimiter sut = limiter(100);
+        sut.rememberVerified("token-revoked", "t_a", 1L, NOW.plusSeconds(3600));
+        sut.rememberVerified("token-ok", "t_a", 2L, NOW.plusSeconds(3600));
+
+        // =========================================================
+        // Act
+        // =========================================================
+        sut.forget("token-revoked");
+        TenantRateLimiter.Decision replay = sut.check("token-revoked", "10.0.0.1");
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertFalse(replay.identified());
+        assertTrue(sut.check("token-ok", "10.0.0.2").allowed());
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private TenantRateLimiter limiter(int maxIpBuckets) {
+        PlanLimits free = new PlanLimits();
+        free.setTenant(new Limit(0.001, 1));
+        free.setUser(new Limit(0.001, 1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setStripes(1);
+        properties.setMaxIpBuckets(maxIpBuckets);
+        properties.setAnonymous(new Limit(0.001, 1));
+        properties.getPlans().put("free", free);
+
+        TenantConnectionPlanDirectory planDirectory =
+                new TenantConnectionPlanDirectory(null, new TenantConnectionBulkheadProperties(), null) {
+                    @Override
+                    public SubscriptionPlan planOf(String tenantSchema) {
+                        return SubscriptionPlan.FREE;
+                    }
+                };
+
+        return new TenantRateLimiter(properties, planDirectory, appClock, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,120 @@
+package brito.com.multitenancy001.tenant.dataversion.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataAggregate;
+import brito.com.multitenancy001.tenant.dataversion.domain.TenantDataVersion;
+import brito.com.multitenancy001.tenant.dataversion.persistence.TenantDataVersionRepository;
+
+/**
+ * Testes dos contadores de versão por agregado.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Agregado listrado (STOCK) incrementa uma única linha {@code STOCK#n} por
+ *       transação, nunca a linha de PRODUCTS.</li>
+ *   <li>A versão lida de um agregado listrado é a soma das linhas.</li>
+ * </ul>
+ */
+public class TenantDataVersionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private final TenantDataVersionRepository repository = mock(TenantDataVersionRepository.class);
+    private final AppClock appClock = mock(AppClock.class);
+
+    private final TenantDataVersionService sut = new TenantDataVersionService(repository, appClock);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Vários ajustes de estoque na mesma TX: um único bump numa linha listrada.
+     */
+    @Test
+    void stockBump_mustTouchOneStripeOncePerTransaction() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        when(appClock.instant()).thenReturn(NOW);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // =========================================================
+        // Act
+        // =========================================================
+        sut.bumpOnCommit(TenantDataAggregate.STOCK);
+        sut.bumpOnCommit(TenantDataAggregate.STOCK);
+        sut.bumpOnCommit(TenantDataAggregate.STOCK);
+
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.beforeCommit(false);
+        }
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        ArgumentCaptor<String> row = ArgumentCaptor.forClass(String.class);
+        verify(repository, times(1)).bump(row.capture(), any());
+        assertTrue(row.getValue().startsWith("STOCK#"), "linha inesperada: " + row.getValue());
+    }
+
+    /**
+     * Versão de STOCK = soma das linhas; agregado de linha única lê a própria linha.
+     */
+    @Test
+    void currentVersions_mustSumStripes() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        when(repository.findAllById(any())).thenReturn(List.of(
+                row("PRODUCTS", 7L),
+                row("STOCK#0", 3L),
+                row("STOCK#9", 5L)
+        ));
+
+        // =========================================================
+        // Act
+        // =========================================================
+        Map<TenantDataAggregate, Long> versions =
+                sut.currentVersions(TenantDataAggregate.PRODUCTS, TenantDataAggregate.STOCK);
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(7L, (long) versions.get(TenantDataAggregate.PRODUCTS));
+        assertEquals(8L, (long) versions.get(TenantDataAggregate.STOCK));
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private static TenantDataVersion row(String aggregate, long version) {
+        TenantDataVersion row = new TenantDataVersion();
+        row.setAggregate(aggregate);
+        row.setVersion(version);
+        row.setUpdatedAt(NOW);
+        return row;
+    }
+}
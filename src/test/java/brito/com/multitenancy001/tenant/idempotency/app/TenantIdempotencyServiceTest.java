@@ -0,0 +1,404 @@
+package brito.com.multitenancy001.tenant.idempotency.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import brito.com.multitenancy001.infrastructure.tenant.TenantSchemaUnitOfWork;
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.idempotency.domain.IdempotencyStatus;
+import brito.com.multitenancy001.tenant.idempotency.domain.TenantIdempotencyRecord;
+import brito.com.multitenancy001.tenant.idempotency.persistence.TenantIdempotencyRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes do {@link TenantIdempotencyService}.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Duplicatas concorrentes com a mesma chave executam a ação uma vez só.</li>
+ *   <li>Chave reutilizada com payload diferente é recusada (memória e banco).</li>
+ *   <li>Falha na execução libera a chave e o retry executa de novo.</li>
+ *   <li>PENDING no banco nunca é reexecutada: 409.</li>
+ *   <li>PENDING vencida/ABANDONED: erro terminal, sem reexecutar; a limpeza abandona antes de remover.</li>
+ *   <li>Falha ao gravar a resposta: o nó não responde da memória (segue o banco).</li>
+ *   <li>Modo transacional: reserva e resposta pelo claim; chave já registrada devolve a resposta gravada.</li>
+ * </ul>
+ */
+public class TenantIdempotencyServiceTest {
+
+    private static final String TENANT = "t_tenant_x";
+    private static final String ROUTE = "POST /api/tenant/sales";
+    private static final String SCOPE = TenantIdempotencyService.userScope(7L);
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    record Payload(String value) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TenantSchemaUnitOfWork uow = mock(TenantSchemaUnitOfWork.class);
+    private final TenantIdempotencyRecordRepository repository = mock(TenantIdempotencyRecordRepository.class);
+    private final AppClock appClock = mock(AppClock.class);
+
+    private final TenantIdempotencyService sut = new TenantIdempotencyService(
+            uow, repository, objectMapper, appClock, new SimpleMeterRegistry(), 24, 5_000, 100, 600_000);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(appClock.instant()).thenReturn(NOW);
+        when(uow.tx(anyString(), any(Supplier.class)))
+                .thenAnswer(inv -> ((Supplier<Object>) inv.getArgument(1)).get());
+        doAnswer(inv -> {
+            ((Runnable) inv.getArgument(1)).run();
+            return null;
+        }).when(uow).tx(anyString(), any(Runnable.class));
+        when(repository.tryReserve(anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(1);
+        when(repository.complete(anyString(), anyString(), anyString(), anyString(), any())).thenReturn(1);
+    }
+
+    /**
+     * Duas requisições simultâneas com a mesma chave: a segunda espera e recebe a resposta da primeira.
+     */
+    @Test
+    void concurrentDuplicates_mustExecuteActionOnce() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Payload> slowAction = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new Payload("sale-1");
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            // =========================================================
+            // Act
+            // =========================================================
+            Future<Payload> first = pool.submit(() -> sut.execute(TENANT, SCOPE, ROUTE, "k-1", new Payload("req"), Payload.class, slowAction));
+            assertEquals(true, started.await(5, TimeUnit.SECONDS));
+            Future<Payload> second = pool.submit(() -> sut.execute(TENANT, SCOPE, ROUTE, "k-1", new Payload("req"), Payload.class, slowAction));
+            Thread.sleep(50);
+            release.countDown();
+
+            // =========================================================
+            // Assert
+            // =========================================================
+            assertEquals(new Payload("sale-1"), first.get(5, TimeUnit.SECONDS));
+            assertEquals(new Payload("sale-1"), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, executions.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Mesma chave, payload diferente: 422 sem executar de novo.
+     */
+    @Test
+    void reusedKeyWithDifferentPayload_mustBeRejected() {
+        AtomicInteger executions = new AtomicInteger();
+        sut.execute(TENANT, SCOPE, ROUTE, "k-2", new Payload("a"), Payload.class, () -> {
+            executions.incrementAndGet();
+            return new Payload("sale-a");
+        });
+
+        ApiException ex = assertThrows(ApiException.class, () ->
+                sut.execute(TENANT, SCOPE, ROUTE, "k-2", new Payload("b"), Payload.class, () -> {
+                    executions.incrementAndGet();
+                    return new Payload("sale-b");
+                }));
+
+        assertEquals(ApiErrorCode.IDEMPOTENCY_KEY_REUSED, ex.getCode());
+        assertEquals(1, executions.get());
+    }
+
+    /**
+     * Chave gravada por outro nó com outro payload: 422.
+     */
+    @Test
+    void reusedKeyWithDifferentPayloadInDatabase_mustBeRejected() throws Exception {
+        when(repository.tryReserve(anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(0);
+        when(repository.findByScopeAndRouteAndIdempotencyKey(SCOPE, ROUTE, "k-3"))
+                .thenReturn(Optional.of(record(IdempotencyStatus.COMPLETED, hash(new Payload("other")), "{\"value\":\"x\"}")));
+
+        ApiException ex = assertThrows(ApiException.class, () ->
+                sut.execute(TENANT, SCOPE, ROUTE, "k-3", new Payload("mine"), Payload.class, () -> new Payload("never")));
+
+        assertEquals(ApiErrorCode.IDEMPOTENCY_KEY_REUSED, ex.getCode());
+    }
+
+    /**
+     * Falha na ação: a reserva é liberada e o retry executa de novo.
+     */
+    @Test
+    void failedAction_mustReleaseKeyAndAllowRetry() {
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () ->
+                sut.execute(TENANT, SCOPE, ROUTE, "k-4", new Payload("req"), Payload.class, () -> {
+                    executions.incrementAndGet();
+                    throw new IllegalStateException("falhou");
+                }));
+        verify(repository).release(SCOPE, ROUTE, "k-4");
+
+        Payload retried = sut.execute(TENANT, SCOPE, ROUTE, "k-4", new Payload("req"), Payload.class, () -> {
+            executions.incrementAndGet();
+            return new Payload("sale-4");
+        });
+
+        assertEquals(new Payload("sale-4"), retried);
+        assertEquals(2, executions.get());
+    }
+
+    /**
+     * PENDING no banco (outro nó executando ou execução sem resposta gravada): 409, sem reexecutar.
+     */
+    @Test
+    void pendingKeyInDatabase_mustReturnConflictWithoutExecuting() throws Exception {
+        when(repository.tryReserve(anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(0);
+        when(repository.findByScopeAndRouteAndIdempotencyKey(SCOPE, ROUTE, "k-5"))
+                .thenReturn(Optional.of(record(IdempotencyStatus.PENDING, hash(new Payload("req")), null)));
+        AtomicInteger executions = new AtomicInteger();
+
+        ApiException ex = assertThrows(ApiException.class, () ->
+                sut.execute(TENANT, SCOPE, ROUTE, "k-5", new Payload("req"), Payload.class, () -> {
+                    executions.incrementAndGet();
+                    return new Payload("dup");
+                }));
+
+        assertEquals(ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, ex.getCode());
+        assertEquals(0, executions.get());
+        verify(repository, never()).release(anyString(), anyString(), anyString());
+    }
+
+    /**
+     * ABANDONED no banco: erro terminal, sem reexecutar.
+     */
+    @Test
+    void abandonedKeyInDatabase_mustReturnTerminalErrorWithoutExecuting() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        when(repository.tryReserve(anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(0);
+        when(repository.findByScopeAndRouteAndIdempotencyKey(SCOPE, ROUTE, "k-9"))
+                .thenReturn(Optional.of(record(IdempotencyStatus.ABANDONED, hash(new Payload("req")), null)));
+        AtomicInteger executions = new AtomicInteger();
+
+        // =========================================================
+        // Act
+        // =========================================================
+        ApiException ex = assertThrows(ApiException.class, () ->
+                sut.execute(TENANT, SCOPE, ROUTE, "k-9", new Payload("req"), Payload.class, () -> {
+                    executions.incrementAndGet();
+                    return new Payload("dup");
+                }));
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(ApiErrorCode.IDEMPOTENCY_KEY_ABANDONED, ex.getCode());
+        assertEquals(0, executions.get());
+    }
+
+    /**
+     * PENDING já vencida (limpeza ainda não rodou): tratada como abandonada, não como 409 eterno.
+     */
+    @Test
+    void expiredPendingKeyInDatabase_mustBeTreatedAsAbandoned() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        TenantIdempotencyRecord stale = record(IdempotencyStatus.PENDING, hash(new Payload("req")), null);
+        stale.setExpiresAt(NOW.minusSeconds(1));
+        when(repository.tryReserve(anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(0);
+        when(repository.findByScopeAndRouteAndIdempotencyKey(SCOPE, ROUTE, "k-10")).thenReturn(Optional.of(stale));
+
+        // =========================================================
+        // Act
+        // =========================================================
+        ApiException ex = assertThrows(ApiException.class, () ->
+                sut.execute(TENANT, SCOPE, ROUTE, "k-10", new Payload("req"), Payload.class, () -> new Payload("dup")));
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(ApiErrorCode.IDEMPOTENCY_KEY_ABANDONED, ex.getCode());
+    }
+
+    /**
+     * A limpeza do tenant marca PENDING vencidas como ABANDONED (com nova retenção) antes de remover expiradas.
+     */
+    @Test
+    void purge_mustAbandonExpiredPendingBeforeDeleting() {
+        // =========================================================
+        // Act
+        // =========================================================
+        sut.execute(TENANT, SCOPE, ROUTE, "k-11", new Payload("req"), Payload.class, () -> new Payload("sale-11"));
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        InOrder order = inOrder(repository);
+        order.verify(repository).abandonExpiredPending(NOW, NOW.plusSeconds(24 * 3600L));
+        order.verify(repository).deleteExpired(NOW);
+    }
+
+    /**
+     * Resposta não gravada: o chamador recebe o resultado, mas o retry neste nó segue o banco (409).
+     */
+    @Test
+    void failedComplete_mustNotReplayFromMemory() throws Exception {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        when(repository.complete(anyString(), anyString(), anyString(), anyString(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<Payload> action = () -> {
+            executions.incrementAndGet();
+            return new Payload("sale-12");
+        };
+
+        // =========================================================
+        // Act
+        // =========================================================
+        Payload first = sut.execute(TENANT, SCOPE, ROUTE, "k-12", new Payload("req"), Payload.class, action);
+
+        when(repository.tryReserve(anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(0);
+        when(repository.findByScopeAndRouteAndIdempotencyKey(SCOPE, ROUTE, "k-12"))
+                .thenReturn(Optional.of(record(IdempotencyStatus.PENDING, hash(new Payload("req")), null)));
+
+        ApiException retry = assertThrows(ApiException.class, () ->
+                sut.execute(TENANT, SCOPE, ROUTE, "k-12", new Payload("req"), Payload.class, action));
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(new Payload("sale-12"), first);
+        assertEquals(ApiErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, retry.getCode());
+        assertEquals(1, executions.get());
+    }
+
+    /**
+     * Modo transacional: o claim reserva e conclui; o retry é respondido da memória.
+     */
+    @Test
+    void executeInTransaction_mustCompleteThroughClaim() {
+        AtomicInteger executions = new AtomicInteger();
+
+        Payload out = sut.executeInTransaction(TENANT, SCOPE, ROUTE, "k-6", new Payload("req"), Payload.class, claim -> {
+            claim.reserve();
+            executions.incrementAndGet();
+            Payload response = new Payload("sale-6");
+            claim.complete(response);
+            return response;
+        });
+        Payload replay = sut.executeInTransaction(TENANT, SCOPE, ROUTE, "k-6", new Payload("req"), Payload.class, claim -> {
+            executions.incrementAndGet();
+            return new Payload("dup");
+        });
+
+        assertEquals(new Payload("sale-6"), out);
+        assertEquals(new Payload("sale-6"), replay);
+        assertEquals(1, executions.get());
+        verify(repository).complete(eq(SCOPE), eq(ROUTE), eq("k-6"), eq("{\"value\":\"sale-6\"}"), any());
+    }
+
+    /**
+     * Modo transacional: chave já concluída por outro nó devolve a resposta gravada.
+     */
+    @Test
+    void executeInTransaction_takenKey_mustReplayStoredResponse() throws Exception {
+        when(repository.tryReserve(anyString(), anyString(), anyString(), anyString(), any(), any())).thenReturn(0);
+        when(repository.findByScopeAndRouteAndIdempotencyKey(SCOPE, ROUTE, "k-7"))
+                .thenReturn(Optional.of(record(IdempotencyStatus.COMPLETED, hash(new Payload("req")), "{\"value\":\"sale-7\"}")));
+        AtomicInteger effects = new AtomicInteger();
+
+        Payload out = sut.executeInTransaction(TENANT, SCOPE, ROUTE, "k-7", new Payload("req"), Payload.class, claim -> {
+            claim.reserve();
+            effects.incrementAndGet();
+            return new Payload("dup");
+        });
+
+        assertEquals(new Payload("sale-7"), out);
+        assertEquals(0, effects.get());
+    }
+
+    /**
+     * Mesma chave de usuários diferentes: execuções independentes.
+     */
+    @Test
+    void sameKeyFromDifferentUsers_mustNotCollide() {
+        Payload a = sut.execute(TENANT, TenantIdempotencyService.userScope(1L), ROUTE, "k-8", new Payload("a"), Payload.class,
+                () -> new Payload("sale-a"));
+        Payload b = sut.execute(TENANT, TenantIdempotencyService.userScope(2L), ROUTE, "k-8", new Payload("b"), Payload.class,
+                () -> new Payload("sale-b"));
+
+        assertEquals(new Payload("sale-a"), a);
+        assertEquals(new Payload("sale-b"), b);
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private TenantIdempotencyRecord record(IdempotencyStatus status, String requestHash, String body) {
+        TenantIdempotencyRecord record = new TenantIdempotencyRecord();
+        record.setScope(SCOPE);
+        record.setRoute(ROUTE);
+        record.setRequestHash(requestHash);
+        record.setStatus(status);
+        record.setResponseBody(body);
+        record.setCreatedAt(NOW);
+        record.setUpdatedAt(NOW);
+        record.setExpiresAt(NOW.plusSeconds(3600));
+        return record;
+    }
+
+    private String hash(Object request) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package brito.com.multitenancy001.tenant.inventory.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryMovement;
+
+/**
+ * Testes do cursor keyset do histórico de movimentações.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>encode/decode preserva (createdAt, id) com precisão de nanossegundo.</li>
+ *   <li>Cursor vazio é a primeira página; cursor malformado é {@code INVALID_CURSOR}.</li>
+ *   <li>O texto é URL-safe (vai em query string).</li>
+ * </ul>
+ */
+public class InventoryMovementCursorTest {
+
+    /**
+     * Cursor do último item da página volta idêntico.
+     */
+    @Test
+    void afterMovement_mustRoundTrip() {
+        InventoryMovement last = new InventoryMovement();
+        last.setId(987_654_321L);
+        last.setCreatedAt(Instant.parse("2026-03-10T12:34:56.123456789Z"));
+
+        InventoryMovementCursor cursor = InventoryMovementCursor.after(last);
+        InventoryMovementCursor decoded = InventoryMovementCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        assertEquals(last.getCreatedAt(), decoded.createdAt());
+        assertEquals(last.getId(), decoded.id());
+    }
+
+    /**
+     * Instantes antes da época (segundos negativos) também fazem o round-trip.
+     */
+    @Test
+    void preEpochInstant_mustRoundTrip() {
+        InventoryMovementCursor cursor = new InventoryMovementCursor(Instant.parse("1969-12-31T23:59:59.500Z"), 1L);
+
+        assertEquals(cursor, InventoryMovementCursor.decode(cursor.encode()));
+    }
+
+    /**
+     * Sentinela da primeira página também faz o round-trip, e o texto é URL-safe sem padding.
+     */
+    @Test
+    void firstPage_mustRoundTripAndBeUrlSafe() {
+        InventoryMovementCursor first = InventoryMovementCursor.first();
+        String encoded = first.encode();
+
+        assertEquals(first, InventoryMovementCursor.decode(encoded));
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), "cursor não é URL-safe: " + encoded);
+    }
+
+    /**
+     * Sem cursor: primeira página.
+     */
+    @Test
+    void blankCursor_mustBeFirstPage() {
+        assertEquals(InventoryMovementCursor.first(), InventoryMovementCursor.decode(null));
+        assertEquals(InventoryMovementCursor.first(), InventoryMovementCursor.decode("  "));
+    }
+
+    /**
+     * Lixo, prefixo errado e números inválidos: INVALID_CURSOR.
+     */
+    @Test
+    void malformedCursor_mustBeRejected() {
+        for (String raw : new String[]{
+                "%%%",
+                encode("X|1|0.0"),
+                encode("M|abc|0.0"),
+                encode("M|1|notanumber"),
+                encode("M|1"),
+        }) {
+            ApiException ex = assertThrows(ApiException.class, () -> InventoryMovementCursor.decode(raw), raw);
+            assertEquals(ApiErrorCode.INVALID_CURSOR, ex.getCode());
+        }
+    }
+
+    private static String encode(String payload) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
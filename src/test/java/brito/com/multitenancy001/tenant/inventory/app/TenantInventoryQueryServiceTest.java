@@ -0,0 +1,150 @@
+package brito.com.multitenancy001.tenant.inventory.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import brito.com.multitenancy001.shared.api.error.ApiErrorCode;
+import brito.com.multitenancy001.shared.kernel.error.ApiException;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.inventory.app.dto.InventoryBalanceData;
+import brito.com.multitenancy001.tenant.inventory.domain.InventoryBalanceCheckpoint;
+import brito.com.multitenancy001.tenant.inventory.persistence.InventoryBalanceCheckpointRepository;
+import brito.com.multitenancy001.tenant.inventory.persistence.InventoryMovementRepository;
+import brito.com.multitenancy001.tenant.inventory.persistence.TenantInventoryRepository;
+import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
+
+/**
+ * Testes do saldo do ledger em um instante ({@link TenantInventoryQueryService#balanceAt}).
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Saldo = checkpoint mais próximo + cauda em (checkpointAt, at].</li>
+ *   <li>Sem checkpoint: soma desde o início do ledger.</li>
+ *   <li>{@code at} nulo é agora; {@code at} no futuro é recusado.</li>
+ * </ul>
+ */
+public class TenantInventoryQueryServiceTest {
+
+    private static final UUID PRODUCT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private final InventoryMovementRepository movementRepository = mock(InventoryMovementRepository.class);
+    private final InventoryBalanceCheckpointRepository checkpointRepository = mock(InventoryBalanceCheckpointRepository.class);
+    private final TenantProductRepository productRepository = mock(TenantProductRepository.class);
+    private final AppClock appClock = mock(AppClock.class);
+
+    private final TenantInventoryQueryService sut = new TenantInventoryQueryService(
+            mock(TenantInventoryRepository.class),
+            movementRepository,
+            checkpointRepository,
+            new TenantInventoryHelper(mock(TenantInventoryRepository.class), movementRepository, productRepository, appClock),
+            appClock
+    );
+
+    @BeforeEach
+    void setUp() {
+        when(appClock.instant()).thenReturn(NOW);
+        when(productRepository.existsById(PRODUCT)).thenReturn(true);
+    }
+
+    /**
+     * Checkpoint + cauda posterior até o instante pedido.
+     */
+    @Test
+    void balanceAt_mustAddTailAfterNearestCheckpoint() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        Instant at = NOW.minusSeconds(3600);
+        Instant checkpointAt = NOW.minusSeconds(86_400);
+
+        InventoryBalanceCheckpoint checkpoint = new InventoryBalanceCheckpoint();
+        checkpoint.setProductId(PRODUCT);
+        checkpoint.setCheckpointAt(checkpointAt);
+        checkpoint.setQuantityAvailable(new BigDecimal("100"));
+        checkpoint.setQuantityReserved(new BigDecimal("5"));
+
+        when(checkpointRepository.findTopByProductIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(PRODUCT, at))
+                .thenReturn(Optional.of(checkpoint));
+        when(movementRepository.sumTail(PRODUCT, checkpointAt, at)).thenReturn(tail("-30", "2", 7));
+
+        // =========================================================
+        // Act
+        // =========================================================
+        InventoryBalanceData balance = sut.balanceAt(PRODUCT, at);
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(at, balance.at());
+        assertEquals(0, new BigDecimal("70").compareTo(balance.quantityAvailable()));
+        assertEquals(0, new BigDecimal("7").compareTo(balance.quantityReserved()));
+        assertEquals(checkpointAt, balance.checkpointAt());
+        assertEquals(7, balance.tailMovements());
+    }
+
+    /**
+     * Sem checkpoint: cauda desde a época; {@code at} nulo vira agora.
+     */
+    @Test
+    void balanceAt_withoutCheckpoint_mustSumWholeLedgerUntilNow() {
+        when(checkpointRepository.findTopByProductIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(PRODUCT, NOW))
+                .thenReturn(Optional.empty());
+        when(movementRepository.sumTail(PRODUCT, Instant.EPOCH, NOW)).thenReturn(tail("12.5", null, 3));
+
+        InventoryBalanceData balance = sut.balanceAt(PRODUCT, null);
+
+        assertEquals(NOW, balance.at());
+        assertEquals(0, new BigDecimal("12.5").compareTo(balance.quantityAvailable()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(balance.quantityReserved()));
+        assertNull(balance.checkpointAt());
+    }
+
+    /**
+     * Instante no futuro: recusado sem consultar o ledger.
+     */
+    @Test
+    void balanceAt_inTheFuture_mustBeRejected() {
+        ApiException ex = assertThrows(ApiException.class, () -> sut.balanceAt(PRODUCT, NOW.plusSeconds(1)));
+
+        assertEquals(ApiErrorCode.INVALID_REQUEST, ex.getCode());
+        verify(movementRepository, never()).sumTail(any(), any(), any());
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private static InventoryMovementRepository.LedgerTail tail(String available, String reserved, long count) {
+        return new InventoryMovementRepository.LedgerTail() {
+            @Override
+            public BigDecimal getAvailableDelta() {
+                return new BigDecimal(available);
+            }
+
+            @Override
+            public BigDecimal getReservedDelta() {
+                return reserved != null ? new BigDecimal(reserved) : null;
+            }
+
+            @Override
+            public long getMovementCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,212 @@
+package brito.com.multitenancy001.tenant.sales.app.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import brito.com.multitenancy001.tenant.customers.persistence.TenantCustomerRepository;
+import brito.com.multitenancy001.tenant.inventory.app.TenantInventoryService;
+import brito.com.multitenancy001.tenant.products.persistence.TenantProductRepository;
+import brito.com.multitenancy001.tenant.sales.app.rollup.TenantSaleRollupService;
+import brito.com.multitenancy001.tenant.sales.domain.Sale;
+import brito.com.multitenancy001.tenant.sales.domain.SaleItem;
+import brito.com.multitenancy001.tenant.sales.domain.SaleStatus;
+
+/**
+ * Testes da reconciliação de estoque por diferença líquida na edição de vendas.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>Produto adicionado consome só o novo; produto removido devolve só o removido.</li>
+ *   <li>Mudança de quantidade movimenta só a diferença (consumo ou devolução).</li>
+ *   <li>Venda cancelada devolve todo o footprint anterior; venda reaberta consome de novo.</li>
+ *   <li>Produto sem alteração não gera movimentação nem lock.</li>
+ * </ul>
+ */
+public class TenantSaleInventoryReconcilerTest {
+
+    private static final UUID SALE_ID = UUID.fromString("00000000-0000-0000-0000-00000000aaaa");
+    private static final UUID PRODUCT_A = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID PRODUCT_B = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID PRODUCT_C = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    private final TenantInventoryService inventory = mock(TenantInventoryService.class);
+    private final TenantSaleInventoryReconciler sut = new TenantSaleInventoryReconciler(inventory);
+
+    /**
+     * Produto novo na venda: consome só ele.
+     */
+    @Test
+    void addedProduct_mustConsumeOnlyTheNewProduct() {
+        int changed = sut.reconcile(SALE_ID, Map.of(PRODUCT_A, qty("2")), Map.of(PRODUCT_A, qty("2"), PRODUCT_B, qty("3")));
+
+        assertEquals(1, changed);
+        verify(inventory).consumeStockForSale(SALE_ID, PRODUCT_B, qty("3"));
+        verifyNoMoreInteractions(inventory);
+    }
+
+    /**
+     * Produto retirado da venda: devolve só ele.
+     */
+    @Test
+    void removedProduct_mustRestoreOnlyTheRemovedProduct() {
+        int changed = sut.reconcile(SALE_ID, Map.of(PRODUCT_A, qty("2"), PRODUCT_B, qty("1")), Map.of(PRODUCT_A, qty("2")));
+
+        assertEquals(1, changed);
+        verify(inventory).restoreStockFromSale(SALE_ID, PRODUCT_B, qty("1"));
+        verifyNoMoreInteractions(inventory);
+    }
+
+    /**
+     * Quantidade maior consome a diferença; menor devolve a diferença.
+     */
+    @Test
+    void quantityChange_mustMoveOnlyTheDifference() {
+        int changed = sut.reconcile(
+                SALE_ID,
+                Map.of(PRODUCT_A, qty("2"), PRODUCT_B, qty("5")),
+                Map.of(PRODUCT_A, qty("5"), PRODUCT_B, qty("1"))
+        );
+
+        assertEquals(2, changed);
+        verify(inventory).consumeStockForSale(SALE_ID, PRODUCT_A, qty("3"));
+        verify(inventory).restoreStockFromSale(SALE_ID, PRODUCT_B, qty("4"));
+        verifyNoMoreInteractions(inventory);
+    }
+
+    /**
+     * Mesma quantidade com escala diferente (2 x 2.000) não é alteração.
+     */
+    @Test
+    void unchangedFootprint_mustNotTouchInventory() {
+        int changed = sut.reconcile(SALE_ID, Map.of(PRODUCT_A, qty("2")), Map.of(PRODUCT_A, qty("2.000")));
+
+        assertEquals(0, changed);
+        verifyNoInteractions(inventory);
+    }
+
+    /**
+     * Ajustes em ordem de productId (mesma ordem de lock entre vendas concorrentes).
+     */
+    @Test
+    void reconcile_mustAdjustProductsInIdOrder() {
+        sut.reconcile(
+                SALE_ID,
+                Map.of(PRODUCT_C, qty("1"), PRODUCT_A, qty("1")),
+                Map.of(PRODUCT_B, qty("1"))
+        );
+
+        InOrder order = inOrder(inventory);
+        order.verify(inventory).restoreStockFromSale(SALE_ID, PRODUCT_A, qty("1"));
+        order.verify(inventory).consumeStockForSale(SALE_ID, PRODUCT_B, qty("1"));
+        order.verify(inventory).restoreStockFromSale(SALE_ID, PRODUCT_C, qty("1"));
+    }
+
+    /**
+     * Linhas repetidas do mesmo produto somam; itens deletados e sem produto ficam de fora.
+     */
+    @Test
+    void quantitiesByProduct_mustSumDuplicateLinesAndSkipDeletedItems() {
+        SaleItem deleted = item(PRODUCT_B, "7");
+        deleted.setDeleted(true);
+
+        SortedMap<UUID, BigDecimal> footprint = sut.quantitiesByProduct(List.of(
+                item(PRODUCT_A, "1"),
+                item(PRODUCT_A, "2.5"),
+                deleted,
+                item(null, "4")
+        ));
+
+        assertEquals(1, footprint.size());
+        assertEquals(0, qty("3.5").compareTo(footprint.get(PRODUCT_A)));
+    }
+
+    /**
+     * Venda cancelada: footprint atual vazio, devolve tudo que estava consumido.
+     */
+    @Test
+    void cancelledSale_mustRestoreWholePreviousFootprint() {
+        TenantSaleMutationHelper helper = helper();
+
+        Sale sale = sale(SaleStatus.CONFIRMED, item(PRODUCT_A, "2"), item(PRODUCT_B, "1"));
+        Map<UUID, BigDecimal> previous = helper.inventoryFootprint(sale);
+
+        sale.setStatus(SaleStatus.CANCELLED);
+        assertTrue(helper.inventoryFootprint(sale).isEmpty());
+
+        helper.reconcileInventory(sale, previous);
+
+        verify(inventory).restoreStockFromSale(SALE_ID, PRODUCT_A, qty("2"));
+        verify(inventory).restoreStockFromSale(SALE_ID, PRODUCT_B, qty("1"));
+        verify(inventory, never()).consumeStockForSale(any(), any(), any());
+    }
+
+    /**
+     * Venda cancelada reaberta com itens editados: consome o footprint novo inteiro.
+     */
+    @Test
+    void reopenedCancelledSale_mustConsumeCurrentFootprint() {
+        TenantSaleMutationHelper helper = helper();
+
+        Sale sale = sale(SaleStatus.CANCELLED, item(PRODUCT_A, "2"));
+        Map<UUID, BigDecimal> previous = helper.inventoryFootprint(sale);
+
+        sale.setStatus(SaleStatus.OPEN);
+        sale.getItems().add(item(PRODUCT_B, "4"));
+
+        helper.reconcileInventory(sale, previous);
+
+        verify(inventory).consumeStockForSale(SALE_ID, PRODUCT_A, qty("2"));
+        verify(inventory).consumeStockForSale(SALE_ID, PRODUCT_B, qty("4"));
+        verify(inventory, never()).restoreStockFromSale(any(), any(), any());
+    }
+
+    // =========================================================
+    // Helpers
+    // =========================================================
+
+    private TenantSaleMutationHelper helper() {
+        return new TenantSaleMutationHelper(
+                mock(TenantCustomerRepository.class),
+                mock(TenantProductRepository.class),
+                sut,
+                mock(TenantSaleRollupService.class)
+        );
+    }
+
+    private static Sale sale(SaleStatus status, SaleItem... items) {
+        Sale sale = Sale.builder().id(SALE_ID).status(status).build();
+        for (SaleItem item : items) {
+            sale.addItem(item);
+        }
+        return sale;
+    }
+
+    private static SaleItem item(UUID productId, String quantity) {
+        return SaleItem.builder()
+                .productId(productId)
+                .productName("produto")
+                .quantity(qty(quantity))
+                .unitPrice(BigDecimal.ONE)
+                .build();
+    }
+
+    private static BigDecimal qty(String value) {
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,129 @@
+package brito.com.multitenancy001.tenant.sales.app.rollup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import brito.com.multitenancy001.infrastructure.tenant.TenantSchemaUnitOfWork;
+import brito.com.multitenancy001.shared.time.AppClock;
+import brito.com.multitenancy001.tenant.sales.domain.Sale;
+import brito.com.multitenancy001.tenant.sales.domain.SaleItem;
+import brito.com.multitenancy001.tenant.sales.persistence.ProductDailyRollupRepository;
+import brito.com.multitenancy001.tenant.sales.persistence.SalesDailyRollupRepository;
+
+/**
+ * Testes de regressão da exclusão entre rebuild e caminho incremental dos rollups.
+ *
+ * <p>Objetivo:</p>
+ * <ul>
+ *   <li>O rebuild toma o advisory lock exclusivo do tenant antes de apagar e
+ *       reinserir o intervalo (senão um upsert concorrente gera unique violation).</li>
+ *   <li>O incremental toma o lock compartilhado antes de qualquer upsert.</li>
+ * </ul>
+ */
+public class TenantSaleRollupServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    private final TenantSchemaUnitOfWork uow = mock(TenantSchemaUnitOfWork.class);
+    private final SalesDailyRollupRepository salesRepo = mock(SalesDailyRollupRepository.class);
+    private final ProductDailyRollupRepository productRepo = mock(ProductDailyRollupRepository.class);
+    private final AppClock appClock = mock(AppClock.class);
+
+    private final TenantSaleRollupService sut =
+            new TenantSaleRollupService(uow, salesRepo, productRepo, appClock);
+
+    /**
+     * Rebuild: lock exclusivo -> delete -> insert, nessa ordem.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_mustTakeExclusiveLockBeforeDeletingRange() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        when(appClock.instant()).thenReturn(NOW);
+        when(uow.tx(eq("t_tenant_x"), any(Supplier.class)))
+                .thenAnswer(inv -> ((Supplier<Object>) inv.getArgument(1)).get());
+        when(salesRepo.rebuildRange(any(), any(), any())).thenReturn(3);
+
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 10);
+
+        // =========================================================
+        // Act
+        // =========================================================
+        int days = sut.rebuild("t_tenant_x", from, to);
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        assertEquals(3, days);
+
+        InOrder order = inOrder(salesRepo, productRepo);
+        order.verify(salesRepo).lockRollupsExclusive();
+        order.verify(salesRepo).deleteRange(from, to);
+        order.verify(productRepo).deleteRange(from, to);
+        order.verify(salesRepo).rebuildRange(from, to, NOW);
+        order.verify(productRepo).rebuildRange(from, to, NOW);
+
+        verify(salesRepo, never()).lockRollupsShared();
+    }
+
+    /**
+     * Incremental: lock compartilhado antes dos upserts de dia e de produto.
+     */
+    @Test
+    void applySale_mustTakeSharedLockBeforeUpserts() {
+        // =========================================================
+        // Arrange
+        // =========================================================
+        when(appClock.instant()).thenReturn(NOW);
+
+        UUID productId = UUID.randomUUID();
+        Sale sale = Sale.builder()
+                .saleDate(NOW)
+                .totalAmount(new BigDecimal("30.00"))
+                .build();
+        sale.addItem(SaleItem.builder()
+                .productId(productId)
+                .productName("Produto A")
+                .quantity(new BigDecimal("3"))
+                .unitPrice(new BigDecimal("10.00"))
+                .totalPrice(new BigDecimal("30.00"))
+                .build());
+
+        // =========================================================
+        // Act
+        // =========================================================
+        sut.applySale(sale, 1);
+
+        // =========================================================
+        // Assert
+        // =========================================================
+        LocalDate day = LocalDate.of(2026, 3, 10);
+
+        InOrder order = inOrder(salesRepo, productRepo);
+        order.verify(salesRepo).lockRollupsShared();
+        order.verify(salesRepo).addDelta(eq(day), anyLong(), eq(new BigDecimal("30.00")), eq(new BigDecimal("3")), eq(NOW));
+        order.verify(productRepo).addDelta(eq(day), eq(productId), eq("Produto A"),
+                eq(new BigDecimal("3")), eq(new BigDecimal("30.00")), eq(NOW));
+
+        verify(salesRepo, never()).lockRollupsExclusive();
+    }
+}